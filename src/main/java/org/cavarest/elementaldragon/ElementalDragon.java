@@ -2,6 +2,8 @@ package org.cavarest.elementaldragon;
 
 import org.cavarest.elementaldragon.ability.AbilityManager;
 import org.cavarest.elementaldragon.achievement.AchievementManager;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.audit.AuditLog;
 import org.cavarest.elementaldragon.command.ChronicleCommand;
 import org.cavarest.elementaldragon.command.CraftCommand;
 import org.cavarest.elementaldragon.command.AgilityCommand;
@@ -11,15 +13,35 @@ import org.cavarest.elementaldragon.command.FireCommand;
 import org.cavarest.elementaldragon.command.ImmortalCommand;
 import org.cavarest.elementaldragon.command.LightningCommand;
 import org.cavarest.elementaldragon.command.WithdrawabilityCommand;
+import org.cavarest.elementaldragon.command.util.PlayerNameIndex;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityConfigManager;
+import org.cavarest.elementaldragon.message.Messages;
+import org.cavarest.elementaldragon.cooldown.ActionThrottle;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
 import org.cavarest.elementaldragon.crafting.CraftedCountManager;
 import org.cavarest.elementaldragon.crafting.CraftingListener;
 import org.cavarest.elementaldragon.crafting.CraftingManager;
+import org.cavarest.elementaldragon.fragment.CorruptedCoreFragment;
 import org.cavarest.elementaldragon.fragment.FragmentManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.hud.PlayerPreferenceManager;
 import org.cavarest.elementaldragon.hud.HudManager;
+import org.cavarest.elementaldragon.join.JoinPipeline;
+import org.cavarest.elementaldragon.join.JoinStep;
+import org.cavarest.elementaldragon.listener.ItemEventGate;
 import org.cavarest.elementaldragon.lore.ChronicleManager;
+import org.cavarest.elementaldragon.metrics.MetricsServer;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
+import org.cavarest.elementaldragon.permission.Permissions;
+import org.cavarest.elementaldragon.placeholder.ElementalDragonExpansion;
+import org.cavarest.elementaldragon.placeholder.PlaceholderCache;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.tracking.DragonEggTracker;
 import org.cavarest.elementaldragon.tracking.ElementalPlayerTracker;
+import org.cavarest.elementaldragon.visual.ParticleFX;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.Player;
@@ -33,6 +55,8 @@ import java.util.Date;
  */
 public class ElementalDragon extends JavaPlugin {
 
+  private TaskScheduler taskScheduler;
+  private Lifecycle lifecycle;
   private CooldownManager cooldownManager;
   private AbilityManager abilityManager;
   private FragmentManager fragmentManager;
@@ -44,9 +68,81 @@ public class ElementalDragon extends JavaPlugin {
   private ElementalPlayerTracker playerTracker;
   private WithdrawabilityCommand withdrawabilityCommand;
   private PlayerPreferenceManager playerPreferenceManager;
+  private PluginMetrics metrics;
+  private MetricsServer metricsServer;
+  private AbilityConfigManager abilityConfigManager;
+  private ActionThrottle actionThrottle;
+  private DragonEggTracker dragonEggTracker;
+  private JoinPipeline joinPipeline;
+  private PlayerSessions playerSessions;
+  private Permissions permissions;
+  private PlayerNameIndex playerNameIndex;
+  private AuditLog auditLog;
+  private ElementalStates elementalStates;
+  private PlaceholderCache placeholderCache;
 
   @Override
   public void onEnable() {
+    saveDefaultConfig();
+
+    // Region-aware scheduler (Paper + Folia) - every manager schedules through it
+    this.taskScheduler = new TaskScheduler(this);
+
+    // Owns listeners, shutdown hooks and timers - onDisable stops everything registered here
+    this.lifecycle = new Lifecycle(this, taskScheduler, getLogger());
+
+    // Telemetry - managers take it from the plugin, ParticleFX counts into it
+    this.metrics = new PluginMetrics();
+    ParticleFX.install(metrics);
+    lifecycle.onShutdown("particle-metrics", () -> ParticleFX.install(null));
+
+    // Per-player state - created before any manager that keeps state in a session
+    this.playerSessions = new PlayerSessions();
+    lifecycle.onShutdown("player-sessions", playerSessions::closeAll);
+
+    // Permission bits per player - every plugin permission check reads these
+    this.permissions = new Permissions(playerSessions, taskScheduler);
+    Permissions.install(permissions);
+    lifecycle.onShutdown("permissions", () -> Permissions.install(null));
+
+    // Sorted online player names for tab completion, kept current by join/quit
+    this.playerNameIndex = new PlayerNameIndex();
+    playerNameIndex.seed(getServer().getOnlinePlayers());
+    PlayerNameIndex.install(playerNameIndex);
+    lifecycle.onShutdown("player-name-index", () -> PlayerNameIndex.install(null));
+
+    // Immutable per-player state for other plugins, published by the managers below
+    this.elementalStates = new ElementalStates(getLogger());
+    elementalStates.seed(getServer().getOnlinePlayers());
+    ElementalStates.install(elementalStates);
+    lifecycle.onShutdown("elemental-states", () -> ElementalStates.install(null));
+
+    // Admin audit trail - bulk commands queue per-player detail, written off-thread
+    this.auditLog = new AuditLog(getDataFolder().toPath().resolve("audit.log"), getLogger());
+    auditLog.start(taskScheduler);
+    AuditLog.install(auditLog);
+    lifecycle.onShutdown("audit-log", () -> {
+      AuditLog.install(null);
+      auditLog.shutdown(taskScheduler);
+    });
+
+    // Compile ability tuning from config.yml before managers read their defaults
+    this.abilityConfigManager = new AbilityConfigManager(this);
+    abilityConfigManager.load();
+    lifecycle.onShutdown("ability-config", () -> AbilityConfig.install(AbilityConfig.defaults()));
+
+    // Pre-parse player-facing messages (bundled English plus any messages/<locale>.yml)
+    abilityConfigManager.loadMessages();
+    lifecycle.onShutdown("messages", () -> Messages.install(null));
+
+    // Spam guard for ability commands and equip clicks
+    this.actionThrottle = new ActionThrottle();
+    actionThrottle.configure(getConfig().getConfigurationSection("throttle"));
+
+    // Dragon egg presence cache - read by lightning, HUD and player tracker
+    this.dragonEggTracker = new DragonEggTracker(this);
+    lifecycle.onShutdown("dragon-egg-tracker", dragonEggTracker::shutdown);
+
     // Initialize CooldownManager FIRST - other managers depend on it
     this.cooldownManager = new CooldownManager(this);
 
@@ -57,12 +153,16 @@ public class ElementalDragon extends JavaPlugin {
     this.fragmentManager = new FragmentManager(this, cooldownManager);
     this.playerTracker = new ElementalPlayerTracker(this);
     this.hudManager = new HudManager(this, abilityManager, fragmentManager, cooldownManager);
+    lifecycle.onShutdown("hud", hudManager::shutdown);
     this.craftingManager = new CraftingManager(this);
     this.craftedCountManager = new CraftedCountManager(this);
-    this.playerPreferenceManager = new PlayerPreferenceManager();
+    this.playerPreferenceManager = new PlayerPreferenceManager(playerSessions);
+    lifecycle.onShutdown("player-preferences", playerPreferenceManager::clearCache);
 
     registerCommands();
     registerListeners();
+    registerPlaceholders();
+    startMetricsServer();
 
     getLogger().info("Elemental Dragon plugin enabled!");
     getLogger().info("Plugin version: " + getDescription().getVersion());
@@ -73,15 +173,42 @@ public class ElementalDragon extends JavaPlugin {
 
   @Override
   public void onDisable() {
-    if (hudManager != null) {
-      hudManager.shutdown();
-    }
-    if (playerPreferenceManager != null) {
-      playerPreferenceManager.clearCache();
+    if (lifecycle != null) {
+      lifecycle.close();
     }
     getLogger().info("Elemental Dragon plugin disabled!");
   }
 
+  /**
+   * Start the Prometheus metrics endpoint if enabled in config.yml.
+   */
+  private void startMetricsServer() {
+    if (!getConfig().getBoolean("metrics.enabled", false)) {
+      return;
+    }
+    metricsServer = new MetricsServer(getLogger(), metrics);
+    lifecycle.onShutdown("metrics-server", metricsServer::stop);
+    metricsServer.start(
+      getConfig().getString("metrics.host", "127.0.0.1"),
+      getConfig().getInt("metrics.port", 9464)
+    );
+  }
+
+  /**
+   * Register the PlaceholderAPI expansion if PlaceholderAPI is installed.
+   * PlaceholderAPI unregisters it when this plugin is disabled.
+   */
+  private void registerPlaceholders() {
+    if (getServer().getPluginManager().getPlugin("PlaceholderAPI") == null) {
+      return;
+    }
+    this.placeholderCache = new PlaceholderCache(elementalStates, cooldownManager);
+    lifecycle.onShutdown("placeholders", placeholderCache::close);
+    if (new ElementalDragonExpansion(this, placeholderCache).register()) {
+      getLogger().info("PlaceholderAPI expansion registered - use %elementaldragon_<name>%");
+    }
+  }
+
   /**
    * Register plugin commands.
    */
@@ -128,23 +255,115 @@ public class ElementalDragon extends JavaPlugin {
    * Register event listeners.
    */
   private void registerListeners() {
+    // Recompute permission bits on join, world change and op changes
+    lifecycle.registerEvents(permissions);
+
+    // Keep the tab-completion name index in step with joins and quits
+    lifecycle.registerEvents(playerNameIndex);
+
+    // Create state snapshots on join (before the managers that publish into them), drop on quit
+    lifecycle.registerEvents(elementalStates);
+
+    // Drop gauge entries of quitting players, whose expiry tasks never run
+    lifecycle.registerEvents(metrics);
+
+    // Drop throttle buckets on quit
+    lifecycle.registerEvents(actionThrottle);
+
+    lifecycle.registerEvents(dragonEggTracker);
+    dragonEggTracker.start();
+
     // Register player tracker
     if (playerTracker != null) {
-      getServer().getPluginManager().registerEvents(playerTracker, this);
+      lifecycle.registerEvents(playerTracker);
     }
 
+    // Staged join: async prepare, budgeted apply, HUD once the world is loaded
+    joinPipeline = new JoinPipeline(this);
+    registerJoinSteps(joinPipeline);
+    lifecycle.registerEvents(joinPipeline);
+    joinPipeline.start();
+    lifecycle.onShutdown("join-pipeline", joinPipeline::shutdown);
+
     // Register unified fragment item listener (handles equip, drop, container restrictions, protection)
     if (fragmentManager != null) {
       org.cavarest.elementaldragon.listener.FragmentItemListener fragmentItemListener =
         new org.cavarest.elementaldragon.listener.FragmentItemListener(this, fragmentManager);
-      getServer().getPluginManager().registerEvents(fragmentItemListener, this);
+      lifecycle.registerEvents(fragmentItemListener);
+
+      // Shared material prefilter for high-volume item events (equip clicks, dragon egg HUD)
+      lifecycle.registerEvents(new ItemEventGate(this, fragmentItemListener));
     }
 
     // Register crafting listener for Heavy Core validation in fragment recipes
     if (craftingManager != null) {
       CraftingListener craftingListener = new CraftingListener(this, craftingManager, craftedCountManager);
-      getServer().getPluginManager().registerEvents(craftingListener, this);
+      lifecycle.registerEvents(craftingListener);
+    }
+
+    // Register LAST: sessions close at MONITOR on quit, after every other quit handler has read them
+    lifecycle.registerEvents(playerSessions);
+  }
+
+  /**
+   * Register the per-player join work, in the order it is applied.
+   */
+  private void registerJoinSteps(JoinPipeline pipeline) {
+    pipeline.register(JoinStep.<Void>of("cooldowns",
+      (playerId, data) -> {
+        cooldownManager.pruneExpired(playerId);
+        return null;
+      },
+      (player, ignored) -> cooldownManager.publishSnapshot(player)));
+
+    pipeline.register(JoinStep.of("fragment",
+      (playerId, data) -> fragmentManager.readSavedFragment(data),
+      fragmentManager::restoreSavedFragment));
+
+    if (fragmentManager.getFragment(FragmentType.CORRUPTED) instanceof CorruptedCoreFragment corrupted) {
+      pipeline.register(JoinStep.of("dread-gaze-debuff",
+        (playerId, data) -> corrupted.readPersistedDebuff(data),
+        corrupted::restorePersistedDebuff));
     }
+
+    pipeline.register(JoinStep.<Void>of("player-tracker",
+      (playerId, data) -> null,
+      (player, ignored) -> playerTracker.refreshPlayerStatus(player)));
+
+    pipeline.register(JoinStep.<Void>of("progress-snapshot",
+      (playerId, data) -> null,
+      (player, ignored) -> {
+        chronicleManager.publishSnapshot(player);
+        achievementManager.publishSnapshot(player);
+      }));
+  }
+
+  public TaskScheduler getTaskScheduler() {
+    return taskScheduler;
+  }
+
+  public Lifecycle getLifecycle() {
+    return lifecycle;
+  }
+
+  public PluginMetrics getMetrics() {
+    return metrics;
+  }
+
+  public AbilityConfigManager getAbilityConfigManager() {
+    return abilityConfigManager;
+  }
+
+  public ActionThrottle getActionThrottle() {
+    return actionThrottle;
+  }
+
+  public PlayerSessions getPlayerSessions() {
+    return playerSessions;
+  }
+
+  public DragonEggTracker getDragonEggTracker() {
+    return dragonEggTracker;
   }
 
   public CooldownManager getCooldownManager() {
@@ -163,6 +382,10 @@ public class ElementalDragon extends JavaPlugin {
     return hudManager;
   }
 
+  public JoinPipeline getJoinPipeline() {
+    return joinPipeline;
+  }
+
   public CraftingManager getCraftingManager() {
     return craftingManager;
   }
@@ -187,6 +410,14 @@ public class ElementalDragon extends JavaPlugin {
     return playerPreferenceManager;
   }
 
+  /**
+   * Get the read-only player state registry for integrations.
+   * Same instance as {@link ElementalStates#get()} while the plugin is enabled.
+   */
+  public ElementalStates getElementalStates() {
+    return elementalStates;
+  }
+
   /**
    * Send plugin info to player
    */
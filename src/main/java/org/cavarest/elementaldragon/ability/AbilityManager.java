@@ -2,6 +2,8 @@ package org.cavarest.elementaldragon.ability;
 
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -21,12 +23,14 @@ public class AbilityManager implements Listener {
   private static final int DEFAULT_COOLDOWN_SECONDS = 60;
 
   private final ElementalDragon plugin;
+  private final PluginMetrics metrics;
   private final CooldownManager cooldownManager;
   private final Map<UUID, Ability> abilities;
   private int globalCooldownSeconds = DEFAULT_COOLDOWN_SECONDS;
 
   public AbilityManager(ElementalDragon plugin, CooldownManager cooldownManager) {
     this.plugin = plugin;
+    this.metrics = PluginMetrics.of(plugin);
     this.cooldownManager = cooldownManager;
     this.abilities = new HashMap<>();
 
@@ -49,9 +53,7 @@ public class AbilityManager implements Listener {
    * Only registers if plugin is not null (handles testing scenarios).
    */
   private void registerEventListeners() {
-    if (plugin != null && plugin.getServer() != null) {
-      plugin.getServer().getPluginManager().registerEvents(this, plugin);
-    }
+    Lifecycle.of(plugin).registerEvents(this);
   }
 
   /**
@@ -94,11 +96,18 @@ public class AbilityManager implements Listener {
    */
   public boolean useAbility(Player player, Ability ability) {
     if (!canUseAbility(player, ability)) {
+      if (player != null && cooldownManager.isOnCooldown(player, CooldownManager.LIGHTNING)) {
+        metrics.recordCooldownRejection(CooldownManager.LIGHTNING, 1);
+      }
       return false;
     }
 
+    long castStart = metrics.startTimer();
     boolean success = ability.execute(player);
+    metrics.recordTickTime(PluginMetrics.SUBSYSTEM_ABILITY, castStart);
     if (success) {
+      metrics.recordAbilityCast(CooldownManager.LIGHTNING, 1);
+
       // Check for global cooldown first, fall back to ability default
       int globalCooldown = cooldownManager.getGlobalCooldown(CooldownManager.LIGHTNING, 1);
       int cooldownSeconds;
@@ -0,0 +1,78 @@
+package org.cavarest.elementaldragon.ability;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Living-entity area query shared by all area-of-effect abilities.
+ *
+ * <p>This is not a cache: each call is one bounding-box query against the
+ * world, which already indexes entities by section, so N overlapping zones
+ * still cost N (cheap) queries. Zone pulses run on their own location timers
+ * - on Folia each on the region that owns it - so a cache shared between them
+ * would almost never be hit within a tick. What this class guarantees is that
+ * every AoE consumer does a single section walk per pulse, filtered to living
+ * entities in the query itself, and holds no entity references between
+ * ticks.</p>
+ *
+ * <p>Results match {@code World#getNearbyEntities(Location, x, y, z)} filtered
+ * to living entities: an entity is returned if its bounding box overlaps the
+ * query box.</p>
+ */
+public final class AreaEntityQuery {
+
+  private AreaEntityQuery() {
+    // Utility class - no instantiation
+  }
+
+  /**
+   * Find living entities whose bounding box overlaps a box around a center.
+   *
+   * @param center Center of the query box
+   * @param radiusX Half-width on X
+   * @param radiusY Half-height on Y
+   * @param radiusZ Half-depth on Z
+   * @return Matching living entities (new list, safe to modify)
+   */
+  public static List<LivingEntity> getNearbyLivingEntities(
+    Location center,
+    double radiusX,
+    double radiusY,
+    double radiusZ
+  ) {
+    World world = center.getWorld();
+    if (world == null) {
+      return new ArrayList<>();
+    }
+
+    BoundingBox query = new BoundingBox(
+      center.getX() - radiusX, center.getY() - radiusY, center.getZ() - radiusZ,
+      center.getX() + radiusX, center.getY() + radiusY, center.getZ() + radiusZ
+    );
+
+    List<LivingEntity> result = new ArrayList<>();
+    for (Entity entity : world.getNearbyEntities(query, e -> e instanceof LivingEntity)) {
+      if (entity.isValid()) {
+        result.add((LivingEntity) entity);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Find living entities within a cube of the given radius.
+   *
+   * @param center Center of the query cube
+   * @param radius Half-size on every axis
+   * @return Matching living entities (new list, safe to modify)
+   */
+  public static List<LivingEntity> getNearbyLivingEntities(Location center, double radius) {
+    return getNearbyLivingEntities(center, radius, radius, radius);
+  }
+}
@@ -1,6 +1,10 @@
 package org.cavarest.elementaldragon.ability;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityParam;
+import org.cavarest.elementaldragon.item.ElementalItems;
+import org.cavarest.elementaldragon.tracking.DragonEggTracker;
 import org.cavarest.elementaldragon.visual.ParticleFX;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -11,7 +15,6 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
 
@@ -24,11 +27,11 @@ import java.util.function.Predicate;
  */
 public class LightningAbility implements Ability {
 
+  // Spec defaults - live values come from AbilityConfig (abilities.lightning.lightning_strike)
   private static final int STRIKE_COUNT = 3;
   private static final long STRIKE_INTERVAL_TICKS = 10L; // 0.5 seconds
   private static final double DAMAGE_PER_STRIKE = 4.0; // 2.0 hearts (bypasses armor)
   private static final long COOLDOWN_MILLIS = 60000L; // 60 seconds
-  private static final double MAX_RANGE = 50.0;
   private static final String ABILITY_NAME = "Lightning Strike";
 
   private final ElementalDragon plugin;
@@ -79,8 +82,12 @@ public class LightningAbility implements Ability {
     if (player == null) {
       return false;
     }
-    // Check if player has dragon egg anywhere in inventory (not just offhand)
-    return player.getInventory().contains(Material.DRAGON_EGG);
+    // Check if player has dragon egg anywhere in inventory or offhand (cached per player)
+    DragonEggTracker eggTracker = plugin != null ? plugin.getDragonEggTracker() : null;
+    if (eggTracker != null) {
+      return eggTracker.hasDragonEgg(player);
+    }
+    return ElementalItems.hasMaterialInInventory(player, Material.DRAGON_EGG);
   }
 
   @Override
@@ -130,7 +137,7 @@ public class LightningAbility implements Ability {
     RayTraceResult result = player.getWorld().rayTraceEntities(
       eyeLocation,
       direction,
-      MAX_RANGE,
+      AbilityConfig.current().get(AbilityParam.LIGHTNING_RANGE),
       entity -> entity instanceof LivingEntity &&
         entity != player &&
         !entity.isDead()
@@ -158,7 +165,7 @@ public class LightningAbility implements Ability {
     Vector direction
   ) {
     return EntityTargeter.findInViewingCone(
-      player, MAX_RANGE, 0.9, null, null
+      player, AbilityConfig.current().get(AbilityParam.LIGHTNING_RANGE), 0.9, null, null
     );
   }
 
@@ -175,7 +182,7 @@ public class LightningAbility implements Ability {
     }
 
     return EntityTargeter.findInViewingCone(
-      player, MAX_RANGE, 0.9, null, currentTarget
+      player, AbilityConfig.current().get(AbilityParam.LIGHTNING_RANGE), 0.9, null, currentTarget
     );
   }
 
@@ -198,7 +205,7 @@ public class LightningAbility implements Ability {
     Entity excludedEntity
   ) {
     return EntityTargeter.findInViewingCone(
-      player, MAX_RANGE, 0.9, null, excludedEntity
+      player, AbilityConfig.current().get(AbilityParam.LIGHTNING_RANGE), 0.9, null, excludedEntity
     );
   }
 
@@ -216,61 +223,70 @@ public class LightningAbility implements Ability {
     final AtomicReference<Integer> strikesOnCurrentTargetRef = new AtomicReference<>(0);
     final Player finalPlayer = player;
 
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        // Check if player still has dragon egg (can be switched mid-cast)
-        if (!hasRequiredItem(finalPlayer)) {
+    // Read tuning once so a reload mid-cast doesn't change this cast
+    AbilityConfig config = AbilityConfig.current();
+    final int strikeCount = config.getInt(AbilityParam.LIGHTNING_STRIKE_COUNT);
+    final double damagePerStrike = config.get(AbilityParam.LIGHTNING_DAMAGE_PER_STRIKE);
+    final boolean cosmeticBolt = config.isEnabled(AbilityParam.LIGHTNING_COSMETIC_BOLT);
+
+    plugin.getTaskScheduler().runAtEntityTimer(finalPlayer, task -> {
+      // Check if player still has dragon egg (can be switched mid-cast)
+      if (!hasRequiredItem(finalPlayer)) {
+        finalPlayer.sendMessage(
+          Component.text(
+            "The dragon's lightning fades as the Dragon Egg is removed! 🥚❌",
+            NamedTextColor.RED
+          )
+        );
+        task.cancel();
+        return;
+      }
+
+      LivingEntity currentTarget = currentTargetRef.get();
+
+      // If no valid target, try to find a new one
+      if (currentTarget == null || currentTarget.isDead() || !currentTarget.isValid()) {
+        LivingEntity newTarget = findNextTarget(finalPlayer, currentTarget);
+        if (newTarget == null) {
           finalPlayer.sendMessage(
-            Component.text(
-              "The dragon's lightning fades as the Dragon Egg is removed! 🥚❌",
-              NamedTextColor.RED
-            )
+            Component.text("The ancient dragon's wrath is complete! No more targets! 🥚✨", NamedTextColor.GOLD)
           );
-          cancel();
+          task.cancel();
           return;
+        } else {
+          // Switched to new target
+          currentTargetRef.set(newTarget);
+          currentTargetNameRef.set(getTargetName(newTarget));
+          strikesOnCurrentTargetRef.set(0);
+          finalPlayer.sendMessage(
+            Component.text("The dragon's fury shifts to " + currentTargetNameRef.get() + "! ⚡🎯", NamedTextColor.GOLD)
+          );
         }
+      }
 
-        LivingEntity currentTarget = currentTargetRef.get();
-
-        // If no valid target, try to find a new one
-        if (currentTarget == null || currentTarget.isDead() || !currentTarget.isValid()) {
-          LivingEntity newTarget = findNextTarget(finalPlayer, currentTarget);
-          if (newTarget == null) {
-            finalPlayer.sendMessage(
-              Component.text("The ancient dragon's wrath is complete! No more targets! 🥚✨", NamedTextColor.GOLD)
-            );
-            cancel();
-            return;
-          } else {
-            // Switched to new target
-            currentTargetRef.set(newTarget);
-            currentTargetNameRef.set(getTargetName(newTarget));
-            strikesOnCurrentTargetRef.set(0);
-            finalPlayer.sendMessage(
-              Component.text("The dragon's fury shifts to " + currentTargetNameRef.get() + "! ⚡🎯", NamedTextColor.GOLD)
-            );
-          }
-        }
-
-        // Strike the current target
-        strikeLightning(currentTargetRef.get(), finalPlayer, currentTargetNameRef.get());
-        totalStrikesRef.set(totalStrikesRef.get() + 1);
-        strikesOnCurrentTargetRef.set(strikesOnCurrentTargetRef.get() + 1);
-
-        // Send strike message with target information
-        finalPlayer.sendMessage(
-          Component.text("⚡ Strike " + totalStrikesRef.get() + "/" + STRIKE_COUNT +
-                        " cascades upon " + currentTargetNameRef.get() + "!" + getThunderEmoji(totalStrikesRef.get()),
-                        NamedTextColor.LIGHT_PURPLE)
-        );
+      // Strike the current target - this task runs on the caster's region,
+      // so the bolt and damage are dispatched to the region that owns the target
+      LivingEntity strikeTarget = currentTargetRef.get();
+      String strikeTargetName = currentTargetNameRef.get();
+      boolean firstStrike = totalStrikesRef.get() == 0;
+      plugin.getTaskScheduler().executeAtEntity(strikeTarget,
+        () -> strikeLightning(strikeTarget, finalPlayer, strikeTargetName, damagePerStrike,
+          cosmeticBolt, firstStrike));
+      totalStrikesRef.set(totalStrikesRef.get() + 1);
+      strikesOnCurrentTargetRef.set(strikesOnCurrentTargetRef.get() + 1);
+
+      // Send strike message with target information
+      finalPlayer.sendMessage(
+        Component.text("⚡ Strike " + totalStrikesRef.get() + "/" + strikeCount +
+                      " cascades upon " + currentTargetNameRef.get() + "!" + getThunderEmoji(totalStrikesRef.get(), strikeCount),
+                      NamedTextColor.LIGHT_PURPLE)
+      );
 
-        // Check if all strikes are done
-        if (totalStrikesRef.get() >= STRIKE_COUNT) {
-          cancel();
-        }
+      // Check if all strikes are done
+      if (totalStrikesRef.get() >= strikeCount) {
+        task.cancel();
       }
-    }.runTaskTimer(plugin, 0L, STRIKE_INTERVAL_TICKS);
+    }, 0L, config.getInt(AbilityParam.LIGHTNING_STRIKE_INTERVAL_TICKS));
   }
 
   /**
@@ -279,27 +295,43 @@ public class LightningAbility implements Ability {
    * @param target The target entity
    * @param player The casting player (for feedback)
    * @param targetName The name of the target for messages
+   * @param damage Armor-bypassing damage to deal
+   * @param cosmeticBolt Render a visual-only bolt instead of a real lightning entity
+   * @param firstStrike Whether this is the first strike of the cast (plays the thunder)
    */
-  private void strikeLightning(LivingEntity target, Player player, String targetName) {
+  private void strikeLightning(
+    LivingEntity target,
+    Player player,
+    String targetName,
+    double damage,
+    boolean cosmeticBolt,
+    boolean firstStrike
+  ) {
     Location targetLocation = target.getLocation();
 
-    // Create actual lightning strike (use correct entity type)
-    LightningStrike lightning = (LightningStrike) target.getWorld()
-      .spawnEntity(targetLocation, EntityType.LIGHTNING_BOLT);
+    if (cosmeticBolt) {
+      // Visual-only bolt: no fire, no entity conversion, no vanilla lightning damage
+      target.getWorld().strikeLightningEffect(targetLocation);
+    } else {
+      // Create actual lightning strike (use correct entity type)
+      target.getWorld().spawnEntity(targetLocation, EntityType.LIGHTNING_BOLT);
+    }
 
-    // Make it visually purple with particles
+    // Make it visually purple with particles, detail scaled to the nearest viewer
     createPurpleLightningEffect(targetLocation);
 
     // Deal armor-bypassing damage directly to health
-    dealDirectDamage(target, DAMAGE_PER_STRIKE);
-
-    // Play proper thunder sound
-    target.getWorld().playSound(
-      targetLocation,
-      Sound.ENTITY_LIGHTNING_BOLT_THUNDER,
-      3.0f,
-      1.0f
-    );
+    dealDirectDamage(target, damage);
+
+    // Thunder once per cast; every strike still gets its impact sound
+    if (firstStrike) {
+      target.getWorld().playSound(
+        targetLocation,
+        Sound.ENTITY_LIGHTNING_BOLT_THUNDER,
+        3.0f,
+        1.0f
+      );
+    }
 
     // Play explosion sound for impact
     target.getWorld().playSound(
@@ -341,10 +373,11 @@ public class LightningAbility implements Ability {
    * Final strike gets a special emoji.
    *
    * @param strikeNumber The current strike number
+   * @param strikeCount Total strikes in this cast
    * @return Thunder emoji
    */
-  private String getThunderEmoji(int strikeNumber) {
-    if (strikeNumber == STRIKE_COUNT) {
+  private String getThunderEmoji(int strikeNumber, int strikeCount) {
+    if (strikeNumber == strikeCount) {
       return " 🌩💥"; // Final strike with explosion
     } else if (strikeNumber == 2) {
       return " 🌩"; // Middle strike
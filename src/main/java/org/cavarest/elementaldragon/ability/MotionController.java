@@ -0,0 +1,178 @@
+package org.cavarest.elementaldragon.ability;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
+
+/**
+ * Drives an entity along a straight, constant-speed trajectory while sending
+ * as few velocity updates as possible.
+ *
+ * <p>Every {@code setVelocity} call becomes a packet to each client tracking
+ * the entity. Re-sending the same velocity every tick (as dashes and Wing
+ * Burst used to) is wasted bandwidth while the entity is already on course.
+ * The controller plans the path up front - {@code origin + velocity * ticks}
+ * - and on each {@link #tick} compares the entity's actual position with
+ * the plan. Velocity is sent only when:</p>
+ * <ul>
+ *   <li>the motion starts (phase change)</li>
+ *   <li>the entity has drifted more than the tolerance from the plan
+ *       (friction, drag or gravity caught up); the update steers it back</li>
+ *   <li>the entity covered less than {@value #MIN_SPEED_FRACTION} of the
+ *       planned speed last tick; on the ground friction removes about half
+ *       the velocity every tick, so there the update is sent each tick and
+ *       the entity keeps its full speed, while in the air it is sent every
+ *       few ticks</li>
+ *   <li>the entity was blocked or displaced too far to catch up; the plan
+ *       is restarted from where it is now</li>
+ * </ul>
+ *
+ * <p>A horizontal controller leaves the vertical axis to gravity and keeps
+ * the entity's current Y velocity when it does send an update.</p>
+ *
+ * <p>Not thread-safe; tick it from the entity's own scheduler.</p>
+ */
+public final class MotionController {
+
+  // Fraction of the position error folded into a corrective update
+  private static final double CORRECTION_GAIN = 0.5;
+
+  // Drift beyond this many tolerances means the entity was blocked - re-plan instead of yanking it back
+  private static final double REPLAN_FACTOR = 4.0;
+
+  // Resend once the entity's last-tick progress along the path falls below this share of the planned speed
+  private static final double MIN_SPEED_FRACTION = 0.8;
+
+  private final double velocityX;
+  private final double velocityY;
+  private final double velocityZ;
+  private final boolean controlY;
+  private final double toleranceSquared;
+  private final double replanSquared;
+  private final double minProgress;
+
+  private boolean started;
+  private double originX;
+  private double originY;
+  private double originZ;
+  private double lastX;
+  private double lastY;
+  private double lastZ;
+  private int ticks;
+  private int velocityUpdates;
+
+  private MotionController(Vector velocity, boolean controlY, double tolerance) {
+    this.velocityX = velocity.getX();
+    this.velocityY = controlY ? velocity.getY() : 0.0;
+    this.velocityZ = velocity.getZ();
+    this.controlY = controlY;
+    this.toleranceSquared = tolerance * tolerance;
+    this.replanSquared = toleranceSquared * REPLAN_FACTOR * REPLAN_FACTOR;
+    // Compared against the dot product of the last move with the velocity (speed * progress)
+    this.minProgress = (velocityX * velocityX + velocityY * velocityY + velocityZ * velocityZ) * MIN_SPEED_FRACTION;
+  }
+
+  /**
+   * Create a controller for full 3D motion (e.g. a dash toward where the player looks).
+   *
+   * @param velocityPerTick Intended velocity in blocks per tick
+   * @param tolerance Allowed distance from the planned path before correcting, in blocks
+   * @return A new controller
+   */
+  public static MotionController of(Vector velocityPerTick, double tolerance) {
+    return new MotionController(velocityPerTick, true, tolerance);
+  }
+
+  /**
+   * Create a controller for horizontal motion only (e.g. knockback); gravity keeps Y.
+   *
+   * @param velocityPerTick Intended velocity in blocks per tick (Y is ignored)
+   * @param tolerance Allowed horizontal distance from the planned path before correcting, in blocks
+   * @return A new controller
+   */
+  public static MotionController horizontal(Vector velocityPerTick, double tolerance) {
+    return new MotionController(velocityPerTick, false, tolerance);
+  }
+
+  /**
+   * Advance one tick and send a velocity update only if the entity needs one.
+   *
+   * @param entity The entity being moved
+   * @return true if a velocity update was sent this tick
+   */
+  public boolean tick(Entity entity) {
+    Location position = entity.getLocation();
+    if (!started) {
+      started = true;
+      replan(position, 0);
+      remember(position);
+      apply(entity, velocityX, velocityY, velocityZ);
+      return true;
+    }
+
+    ticks++;
+    double progress = velocityX * (position.getX() - lastX)
+      + velocityY * (position.getY() - lastY)
+      + velocityZ * (position.getZ() - lastZ);
+    remember(position);
+
+    double errorX = originX + velocityX * ticks - position.getX();
+    double errorY = controlY ? originY + velocityY * ticks - position.getY() : 0.0;
+    double errorZ = originZ + velocityZ * ticks - position.getZ();
+    double errorSquared = errorX * errorX + errorY * errorY + errorZ * errorZ;
+
+    if (errorSquared <= toleranceSquared && progress >= minProgress) {
+      return false;
+    }
+
+    if (errorSquared > replanSquared) {
+      // Blocked by a wall or pushed by something else - continue from here
+      replan(position, ticks);
+      apply(entity, velocityX, velocityY, velocityZ);
+      return true;
+    }
+
+    apply(entity,
+      velocityX + errorX * CORRECTION_GAIN,
+      velocityY + errorY * CORRECTION_GAIN,
+      velocityZ + errorZ * CORRECTION_GAIN);
+    return true;
+  }
+
+  /**
+   * Number of velocity updates sent so far.
+   *
+   * @return The update count
+   */
+  public int getVelocityUpdates() {
+    return velocityUpdates;
+  }
+
+  /**
+   * Ticks elapsed since the motion started.
+   *
+   * @return The tick count
+   */
+  public int getTicks() {
+    return ticks;
+  }
+
+  private void replan(Location position, int elapsedTicks) {
+    // Shift the origin so the plan passes through the current position now
+    originX = position.getX() - velocityX * elapsedTicks;
+    originY = position.getY() - velocityY * elapsedTicks;
+    originZ = position.getZ() - velocityZ * elapsedTicks;
+  }
+
+  private void remember(Location position) {
+    lastX = position.getX();
+    lastY = position.getY();
+    lastZ = position.getZ();
+  }
+
+  private void apply(Entity entity, double x, double y, double z) {
+    double appliedY = controlY ? y : entity.getVelocity().getY();
+    entity.setVelocity(new Vector(x, appliedY, z));
+    velocityUpdates++;
+  }
+}
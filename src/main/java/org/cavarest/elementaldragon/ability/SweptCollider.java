@@ -0,0 +1,208 @@
+package org.cavarest.elementaldragon.ability;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Swept-volume collision for fast movement abilities such as Draconic Surge.
+ *
+ * <p>A dash moves about a block per tick, so sampling a box around the player
+ * once per tick can skip entities that sit between two samples. Instead, each
+ * {@link #advance} tests the segment travelled since the previous tick against
+ * every candidate's bounding box grown by the collision radius (a slab test on
+ * primitives), using one {@link AreaEntityQuery} query that covers the whole
+ * segment.</p>
+ *
+ * <p>Entities already hit are remembered by entity id in a small int array,
+ * so one collider can be kept per player and {@link #reset} for each dash
+ * without reallocating. A collider is used only from its owner's thread.</p>
+ */
+public final class SweptCollider {
+
+  private static final int INITIAL_HIT_CAPACITY = 8;
+
+  private int[] hitIds = new int[INITIAL_HIT_CAPACITY];
+  private int hitCount;
+
+  private World world;
+  private double lastX;
+  private double lastY;
+  private double lastZ;
+
+  /**
+   * Start a new sweep: forget previous hits and set the starting point.
+   *
+   * @param start Where the movement begins
+   */
+  public void reset(Location start) {
+    hitCount = 0;
+    world = start.getWorld();
+    lastX = start.getX();
+    lastY = start.getY();
+    lastZ = start.getZ();
+  }
+
+  /**
+   * Move to a new position and collect entities touched along the way.
+   * Each entity is returned at most once per sweep.
+   *
+   * @param position Current position of the moving entity
+   * @param radius Collision radius around the swept path
+   * @param self The moving entity, never reported as a hit
+   * @return Entities newly hit since the last call (new list, possibly empty)
+   */
+  public List<LivingEntity> advance(Location position, double radius, Entity self) {
+    double x = position.getX();
+    double y = position.getY();
+    double z = position.getZ();
+    if (world == null || position.getWorld() != world) {
+      // Teleported across worlds - restart the segment here
+      world = position.getWorld();
+      lastX = x;
+      lastY = y;
+      lastZ = z;
+    }
+
+    double dx = x - lastX;
+    double dy = y - lastY;
+    double dz = z - lastZ;
+
+    // One query box enclosing the whole segment plus the radius
+    Location mid = new Location(world, lastX + dx / 2, lastY + dy / 2, lastZ + dz / 2);
+    List<LivingEntity> candidates = AreaEntityQuery.getNearbyLivingEntities(
+      mid,
+      Math.abs(dx) / 2 + radius,
+      Math.abs(dy) / 2 + radius,
+      Math.abs(dz) / 2 + radius
+    );
+
+    List<LivingEntity> hits = new ArrayList<>();
+    for (LivingEntity candidate : candidates) {
+      if (candidate == self || hasHit(candidate.getEntityId())) {
+        continue;
+      }
+      BoundingBox box = candidate.getBoundingBox();
+      if (segmentIntersectsBox(lastX, lastY, lastZ, dx, dy, dz,
+          box.getMinX() - radius, box.getMinY() - radius, box.getMinZ() - radius,
+          box.getMaxX() + radius, box.getMaxY() + radius, box.getMaxZ() + radius)) {
+        addHit(candidate.getEntityId());
+        hits.add(candidate);
+      }
+    }
+
+    lastX = x;
+    lastY = y;
+    lastZ = z;
+    return hits;
+  }
+
+  /**
+   * Check whether an entity has been hit during the current sweep.
+   *
+   * @param entityId The entity id
+   * @return true if already hit
+   */
+  public boolean hasHit(int entityId) {
+    for (int i = 0; i < hitCount; i++) {
+      if (hitIds[i] == entityId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Number of entities hit during the current sweep.
+   *
+   * @return The hit count
+   */
+  public int getHitCount() {
+    return hitCount;
+  }
+
+  private void addHit(int entityId) {
+    if (hitCount == hitIds.length) {
+      hitIds = Arrays.copyOf(hitIds, hitIds.length * 2);
+    }
+    hitIds[hitCount++] = entityId;
+  }
+
+  /**
+   * Slab test: does the segment from (x, y, z) to (x + dx, y + dy, z + dz)
+   * touch the axis-aligned box? A zero-length segment is a point test.
+   *
+   * @return true if any point of the segment lies inside or on the box
+   */
+  public static boolean segmentIntersectsBox(
+    double x, double y, double z,
+    double dx, double dy, double dz,
+    double minX, double minY, double minZ,
+    double maxX, double maxY, double maxZ
+  ) {
+    return segmentEntry(x, y, z, dx, dy, dz, minX, minY, minZ, maxX, maxY, maxZ) >= 0.0;
+  }
+
+  /**
+   * Slab test returning where the segment first touches the box, as a
+   * fraction of the segment (0 = start, 1 = end). Used to pick the nearest
+   * of several hits along one step.
+   *
+   * @return The entry fraction in [0, 1], or -1 if the segment misses the box
+   */
+  public static double segmentEntry(
+    double x, double y, double z,
+    double dx, double dy, double dz,
+    double minX, double minY, double minZ,
+    double maxX, double maxY, double maxZ
+  ) {
+    double tMin = 0.0;
+    double tMax = 1.0;
+
+    // X slab
+    if (dx == 0.0) {
+      if (x < minX || x > maxX) {
+        return -1.0;
+      }
+    } else {
+      double t1 = (minX - x) / dx;
+      double t2 = (maxX - x) / dx;
+      tMin = Math.max(tMin, Math.min(t1, t2));
+      tMax = Math.min(tMax, Math.max(t1, t2));
+      if (tMin > tMax) {
+        return -1.0;
+      }
+    }
+
+    // Y slab
+    if (dy == 0.0) {
+      if (y < minY || y > maxY) {
+        return -1.0;
+      }
+    } else {
+      double t1 = (minY - y) / dy;
+      double t2 = (maxY - y) / dy;
+      tMin = Math.max(tMin, Math.min(t1, t2));
+      tMax = Math.min(tMax, Math.max(t1, t2));
+      if (tMin > tMax) {
+        return -1.0;
+      }
+    }
+
+    // Z slab
+    if (dz == 0.0) {
+      return z >= minZ && z <= maxZ ? tMin : -1.0;
+    }
+    double t1 = (minZ - z) / dz;
+    double t2 = (maxZ - z) / dz;
+    tMin = Math.max(tMin, Math.min(t1, t2));
+    tMax = Math.min(tMax, Math.max(t1, t2));
+    return tMin <= tMax ? tMin : -1.0;
+  }
+}
@@ -0,0 +1,178 @@
+package org.cavarest.elementaldragon.ability;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+
+import java.util.List;
+
+/**
+ * A projectile simulated by the plugin instead of spawned as an entity.
+ *
+ * <p>The projectile is a point moving at constant speed. Each {@link #step}
+ * marches it one tick forward and tests the segment travelled against
+ * blocks ({@code World#rayTraceBlocks}) and against the living entities
+ * around the segment (one {@link AreaEntityQuery} query, slab test against
+ * each bounding box grown by {@link #HIT_RADIUS}). The nearest hit along the
+ * segment wins, so impact is decided by this class alone - no server entity,
+ * no projectile events, no persistent data.</p>
+ *
+ * <p>Homing is done by the caller through {@link #steerToward}. A projectile
+ * is stepped from one thread at a time.</p>
+ */
+public final class VirtualProjectile {
+
+  /**
+   * Collision radius, matching a vanilla fireball's 1x1 bounding box.
+   */
+  public static final double HIT_RADIUS = 0.5;
+
+  private final World world;
+  private final int shooterId;
+  private final double speed;
+
+  private double x;
+  private double y;
+  private double z;
+  private double vx;
+  private double vy;
+  private double vz;
+  private int age;
+
+  /**
+   * Create a projectile.
+   *
+   * @param start Starting point (must have a world)
+   * @param direction Initial direction (need not be normalized)
+   * @param speed Speed in blocks per tick
+   * @param shooter Entity never hit by this projectile (may be null)
+   */
+  public VirtualProjectile(Location start, Vector direction, double speed, Entity shooter) {
+    this.world = start.getWorld();
+    this.shooterId = shooter != null ? shooter.getEntityId() : -1;
+    this.speed = speed;
+    this.x = start.getX();
+    this.y = start.getY();
+    this.z = start.getZ();
+    setDirection(direction.getX(), direction.getY(), direction.getZ());
+  }
+
+  /**
+   * Turn the projectile toward a point, keeping its speed.
+   *
+   * @param target The point to head for
+   */
+  public void steerToward(Location target) {
+    setDirection(target.getX() - x, target.getY() - y, target.getZ() - z);
+  }
+
+  /**
+   * Advance one tick.
+   *
+   * @return The impact if the projectile hit a block or entity during this
+   *         tick, or null if it is still flying
+   */
+  public Impact step() {
+    age++;
+
+    // Block collision along the segment
+    double blockT = Double.MAX_VALUE;
+    Block block = null;
+    Location start = new Location(world, x, y, z);
+    RayTraceResult blockHit = world.rayTraceBlocks(
+      start, new Vector(vx, vy, vz), speed, FluidCollisionMode.NEVER, true);
+    if (blockHit != null && blockHit.getHitBlock() != null) {
+      blockT = blockHit.getHitPosition().distance(start.toVector()) / speed;
+      block = blockHit.getHitBlock();
+    }
+
+    // Entity collision: one box query covering the segment, then the nearest entry
+    double dx = vx * speed;
+    double dy = vy * speed;
+    double dz = vz * speed;
+    List<LivingEntity> candidates = AreaEntityQuery.getNearbyLivingEntities(
+      new Location(world, x + dx / 2, y + dy / 2, z + dz / 2),
+      Math.abs(dx) / 2 + HIT_RADIUS,
+      Math.abs(dy) / 2 + HIT_RADIUS,
+      Math.abs(dz) / 2 + HIT_RADIUS
+    );
+    double entityT = Double.MAX_VALUE;
+    LivingEntity entity = null;
+    for (LivingEntity candidate : candidates) {
+      if (candidate.getEntityId() == shooterId) {
+        continue;
+      }
+      BoundingBox box = candidate.getBoundingBox();
+      double t = SweptCollider.segmentEntry(x, y, z, dx, dy, dz,
+        box.getMinX() - HIT_RADIUS, box.getMinY() - HIT_RADIUS, box.getMinZ() - HIT_RADIUS,
+        box.getMaxX() + HIT_RADIUS, box.getMaxY() + HIT_RADIUS, box.getMaxZ() + HIT_RADIUS);
+      if (t >= 0.0 && t < entityT) {
+        entityT = t;
+        entity = candidate;
+      }
+    }
+
+    if (entity != null && entityT <= blockT) {
+      return impactAt(entityT, dx, dy, dz, entity, null);
+    }
+    if (block != null) {
+      return impactAt(blockT, dx, dy, dz, null, block);
+    }
+
+    x += dx;
+    y += dy;
+    z += dz;
+    return null;
+  }
+
+  /**
+   * Get the current position.
+   *
+   * @return A new location
+   */
+  public Location getLocation() {
+    return new Location(world, x, y, z);
+  }
+
+  /**
+   * Number of ticks stepped so far.
+   *
+   * @return The age in ticks
+   */
+  public int getAge() {
+    return age;
+  }
+
+  private Impact impactAt(double t, double dx, double dy, double dz, LivingEntity entity, Block block) {
+    x += dx * t;
+    y += dy * t;
+    z += dz * t;
+    return new Impact(getLocation(), entity, block);
+  }
+
+  private void setDirection(double dx, double dy, double dz) {
+    double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+    if (length < 1.0E-9) {
+      return; // Keep the current heading
+    }
+    vx = dx / length;
+    vy = dy / length;
+    vz = dz / length;
+  }
+
+  /**
+   * Where and what a projectile hit.
+   *
+   * @param location The impact point
+   * @param entity The entity hit, or null for a block hit
+   * @param block The block hit, or null for an entity hit
+   */
+  public record Impact(Location location, LivingEntity entity, Block block) {
+  }
+}
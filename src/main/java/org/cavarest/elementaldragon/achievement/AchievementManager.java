@@ -1,13 +1,15 @@
 package org.cavarest.elementaldragon.achievement;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
 import org.cavarest.elementaldragon.audio.SoundManager;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.lore.ChronicleManager;
 import org.cavarest.elementaldragon.lore.LorePage;
+import org.cavarest.elementaldragon.message.MessageKey;
+import org.cavarest.elementaldragon.message.Messages;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.entity.Player;
 
 import java.util.EnumMap;
@@ -351,6 +353,7 @@ public class AchievementManager {
 
     // Unlock the achievement
     unlockedAchievements.get(playerUuid).add(achievement);
+    publishSnapshot(player);
 
     // Initialize progress tracking if needed
     achievementProgress.putIfAbsent(playerUuid, new EnumMap<>(Achievement.class));
@@ -374,22 +377,8 @@ public class AchievementManager {
    * @param achievement The achievement that was unlocked
    */
   private void notifyAchievementUnlock(Player player, Achievement achievement) {
-    player.sendMessage(
-      Component.text("━━━━━━━━━━━━━━━━━━━━━━━━━━━━", NamedTextColor.GOLD)
-    );
-    player.sendMessage(
-      Component.text("🏆 Achievement Unlocked!", NamedTextColor.YELLOW)
-        .decoration(TextDecoration.BOLD, true)
-    );
-    player.sendMessage(
-      Component.text(achievement.getDisplayName(), NamedTextColor.GOLD)
-    );
-    player.sendMessage(
-      Component.text(achievement.getDescription(), NamedTextColor.WHITE)
-    );
-    player.sendMessage(
-      Component.text("━━━━━━━━━━━━━━━━━━━━━━━━━━━━", NamedTextColor.GOLD)
-    );
+    Messages.get().send(player, MessageKey.ACHIEVEMENT_UNLOCKED,
+      achievement.getDisplayName(), achievement.getDescription());
   }
 
   /**
@@ -524,6 +513,18 @@ public class AchievementManager {
     return getUnlockedAchievements(player).size();
   }
 
+  /**
+   * Publish the player's unlocked achievement count to {@link ElementalStates}.
+   * Called on unlock and reset, and by the join pipeline.
+   *
+   * @param player The player
+   */
+  public void publishSnapshot(Player player) {
+    if (player != null) {
+      ElementalStates.get().setAchievements(player.getUniqueId(), getUnlockedCount(player));
+    }
+  }
+
   /**
    * Get the total number of available achievements.
    *
@@ -566,6 +567,7 @@ public class AchievementManager {
     lightningUsageCount.remove(playerUuid);
     fragmentAbilityUsage.remove(playerUuid);
     equippedFragments.remove(playerUuid);
+    publishSnapshot(player);
 
     player.sendMessage(
       Component.text("Achievement progress has been reset.", NamedTextColor.YELLOW)
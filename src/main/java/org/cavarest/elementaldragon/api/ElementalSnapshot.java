@@ -0,0 +1,173 @@
+package org.cavarest.elementaldragon.api;
+
+import org.cavarest.elementaldragon.fragment.FragmentType;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable view of one online player's elemental state, published by
+ * {@link ElementalStates}.
+ *
+ * Safe to hold and read from any thread. A snapshot never changes; a newer
+ * one replaces it in the registry when the player's state changes.
+ *
+ * Ability keys use the cooldown format {@code "element:ability"} with
+ * canonical element names (e.g. {@code "fire:1"}, {@code "lightning:1"}).
+ *
+ * @param playerId The player's UUID
+ * @param equippedFragment The equipped fragment, or null
+ * @param hasDragonEgg Whether the player carries a Dragon Egg
+ * @param cooldownDeadlines Ability key to cooldown end (epoch millis). A
+ *        deadline may already be in the past; use {@link #isOnCooldown}
+ * @param activeAbilities Keys of timed abilities currently running
+ *        (e.g. Life Devourer, Essence Rebirth)
+ * @param chroniclePages Chronicle pages discovered
+ * @param achievements Achievements unlocked
+ */
+public record ElementalSnapshot(
+  UUID playerId,
+  FragmentType equippedFragment,
+  boolean hasDragonEgg,
+  Map<String, Long> cooldownDeadlines,
+  Set<String> activeAbilities,
+  int chroniclePages,
+  int achievements
+) {
+
+  public ElementalSnapshot {
+    Objects.requireNonNull(playerId, "playerId");
+    cooldownDeadlines = cooldownDeadlines == null ? Map.of() : Map.copyOf(cooldownDeadlines);
+    activeAbilities = activeAbilities == null ? Set.of() : Set.copyOf(activeAbilities);
+  }
+
+  /**
+   * Create the snapshot of a player with no elemental state.
+   *
+   * @param playerId The player's UUID
+   * @return The empty snapshot
+   */
+  public static ElementalSnapshot empty(UUID playerId) {
+    return new ElementalSnapshot(playerId, null, false, Map.of(), Set.of(), 0, 0);
+  }
+
+  /**
+   * Make the ability key used in this snapshot.
+   *
+   * @param element Canonical element name
+   * @param abilityNum The ability number
+   * @return The key, e.g. "fire:1"
+   */
+  public static String abilityKey(String element, int abilityNum) {
+    return element.toLowerCase() + ":" + abilityNum;
+  }
+
+  /**
+   * Check whether an ability was on cooldown when read.
+   *
+   * @param element Canonical element name
+   * @param abilityNum The ability number
+   * @return true if the cooldown deadline is in the future
+   */
+  public boolean isOnCooldown(String element, int abilityNum) {
+    return getRemainingMillis(element, abilityNum) > 0;
+  }
+
+  /**
+   * Get the time left on an ability's cooldown.
+   *
+   * @param element Canonical element name
+   * @param abilityNum The ability number
+   * @return Remaining milliseconds, or 0 if not on cooldown
+   */
+  public long getRemainingMillis(String element, int abilityNum) {
+    Long deadline = cooldownDeadlines.get(abilityKey(element, abilityNum));
+    return deadline == null ? 0L : Math.max(0L, deadline - System.currentTimeMillis());
+  }
+
+  /**
+   * Check whether a timed ability is running.
+   *
+   * @param element Canonical element name
+   * @param abilityNum The ability number
+   * @return true if active
+   */
+  public boolean isAbilityActive(String element, int abilityNum) {
+    return activeAbilities.contains(abilityKey(element, abilityNum));
+  }
+
+  /**
+   * Copy with a different equipped fragment.
+   *
+   * @param fragment The fragment, or null
+   * @return The new snapshot, or this one if unchanged
+   */
+  public ElementalSnapshot withEquippedFragment(FragmentType fragment) {
+    return fragment == equippedFragment ? this
+      : new ElementalSnapshot(playerId, fragment, hasDragonEgg, cooldownDeadlines, activeAbilities,
+        chroniclePages, achievements);
+  }
+
+  /**
+   * Copy with a different Dragon Egg presence.
+   *
+   * @param present Whether the player carries a Dragon Egg
+   * @return The new snapshot, or this one if unchanged
+   */
+  public ElementalSnapshot withDragonEgg(boolean present) {
+    return present == hasDragonEgg ? this
+      : new ElementalSnapshot(playerId, equippedFragment, present, cooldownDeadlines, activeAbilities,
+        chroniclePages, achievements);
+  }
+
+  /**
+   * Copy with different cooldown deadlines.
+   *
+   * @param deadlines Ability key to cooldown end (epoch millis), may be null
+   * @return The new snapshot, or this one if unchanged
+   */
+  public ElementalSnapshot withCooldownDeadlines(Map<String, Long> deadlines) {
+    Map<String, Long> copy = deadlines == null ? Map.of() : new HashMap<>(deadlines);
+    return copy.equals(cooldownDeadlines) ? this
+      : new ElementalSnapshot(playerId, equippedFragment, hasDragonEgg, copy, activeAbilities,
+        chroniclePages, achievements);
+  }
+
+  /**
+   * Copy with a timed ability started or ended.
+   *
+   * @param key The ability key
+   * @param active true when the ability starts, false when it ends
+   * @return The new snapshot, or this one if unchanged
+   */
+  public ElementalSnapshot withAbilityActive(String key, boolean active) {
+    if (activeAbilities.contains(key) == active) {
+      return this;
+    }
+    Set<String> abilities = new HashSet<>(activeAbilities);
+    if (active) {
+      abilities.add(key);
+    } else {
+      abilities.remove(key);
+    }
+    return new ElementalSnapshot(playerId, equippedFragment, hasDragonEgg, cooldownDeadlines, abilities,
+      chroniclePages, achievements);
+  }
+
+  /**
+   * Copy with different chronicle and achievement counts.
+   *
+   * @param pages Chronicle pages discovered
+   * @param unlocked Achievements unlocked
+   * @return The new snapshot, or this one if unchanged
+   */
+  public ElementalSnapshot withProgress(int pages, int unlocked) {
+    return pages == chroniclePages && unlocked == achievements ? this
+      : new ElementalSnapshot(playerId, equippedFragment, hasDragonEgg, cooldownDeadlines, activeAbilities,
+        pages, unlocked);
+  }
+}
@@ -0,0 +1,20 @@
+package org.cavarest.elementaldragon.api;
+
+/**
+ * Callback for changes to a player's published {@link ElementalSnapshot}.
+ *
+ * Called synchronously on the thread that made the change - on Folia that
+ * is the player's region thread, or an async thread. Implementations must be
+ * thread-safe and quick; hand anything slow (network, disk) to an executor.
+ */
+@FunctionalInterface
+public interface ElementalStateListener {
+
+  /**
+   * A player's snapshot changed.
+   *
+   * @param previous The previous snapshot, or null when the player joined
+   * @param current The new snapshot, or null when the player quit
+   */
+  void onStateChange(ElementalSnapshot previous, ElementalSnapshot current);
+}
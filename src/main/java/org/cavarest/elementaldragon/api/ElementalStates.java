@@ -0,0 +1,296 @@
+package org.cavarest.elementaldragon.api;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of immutable per-player {@link ElementalSnapshot}s for other
+ * plugins (chat bridges, web maps, tab lists).
+ *
+ * Reads never lock and are safe from any thread. Managers publish a new
+ * snapshot only when a player's state actually changes (fragment equipped,
+ * Dragon Egg picked up, cooldown set, timed ability started or ended,
+ * chronicle page or achievement unlocked), and
+ * {@link #snapshots()} rebuilds its map only after a change.
+ *
+ * Only online players have a snapshot: one is created on join and removed
+ * on quit.
+ *
+ * Usage from another plugin:
+ * <pre>
+ * ElementalStates states = ElementalStates.get();
+ * ElementalSnapshot snapshot = states.snapshot(player.getUniqueId());
+ * if (snapshot != null &amp;&amp; snapshot.equippedFragment() == FragmentType.BURNING) { ... }
+ *
+ * states.addListener((previous, current) -&gt; bridge.publish(current));
+ * </pre>
+ */
+public final class ElementalStates implements Listener {
+
+  private static final ElementalStates DISABLED = new ElementalStates(null, false);
+  private static volatile ElementalStates current;
+
+  private final Map<UUID, ElementalSnapshot> snapshots = new ConcurrentHashMap<>();
+  private final List<ElementalStateListener> listeners = new CopyOnWriteArrayList<>();
+  private final Logger logger;
+  private final boolean enabled;
+
+  // Read-only copy handed out by snapshots(), valid while its version is current
+  private final AtomicLong version = new AtomicLong();
+  private volatile View view;
+
+  /**
+   * Create a registry.
+   *
+   * @param logger Logger for listener failures (may be null)
+   */
+  public ElementalStates(Logger logger) {
+    this(logger, true);
+  }
+
+  private ElementalStates(Logger logger, boolean enabled) {
+    this.logger = logger;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Get the plugin's registry. Before the plugin is enabled this returns an
+   * empty registry that ignores updates.
+   *
+   * @return The registry
+   */
+  public static ElementalStates get() {
+    ElementalStates states = current;
+    return states != null ? states : DISABLED;
+  }
+
+  /**
+   * Install the registry returned by {@link #get()} ({@code null} restores
+   * the empty one). Called by the plugin on enable and disable.
+   *
+   * @param states The registry
+   */
+  public static void install(ElementalStates states) {
+    current = states;
+  }
+
+  // ==================== Reading ====================
+
+  /**
+   * Get a player's current snapshot.
+   *
+   * @param playerId The player's UUID
+   * @return The snapshot, or null if the player is not online
+   */
+  public ElementalSnapshot snapshot(UUID playerId) {
+    return playerId == null ? null : snapshots.get(playerId);
+  }
+
+  /**
+   * Get every online player's snapshot.
+   *
+   * @return Read-only map of player UUID to snapshot, consistent as of the
+   *         last change
+   */
+  public Map<UUID, ElementalSnapshot> snapshots() {
+    long currentVersion = version.get();
+    View cached = view;
+    if (cached == null || cached.version() != currentVersion) {
+      cached = new View(currentVersion, Map.copyOf(snapshots));
+      view = cached;
+    }
+    return cached.snapshots();
+  }
+
+  /**
+   * Register a change listener. See {@link ElementalStateListener} for the
+   * threading contract.
+   *
+   * @param listener The listener
+   */
+  public void addListener(ElementalStateListener listener) {
+    if (listener != null) {
+      listeners.add(listener);
+    }
+  }
+
+  /**
+   * Unregister a change listener.
+   *
+   * @param listener The listener
+   */
+  public void removeListener(ElementalStateListener listener) {
+    listeners.remove(listener);
+  }
+
+  // ==================== Publishing (plugin managers) ====================
+
+  /**
+   * Start publishing a player's state (on join, or for players already
+   * online when the plugin is enabled).
+   *
+   * @param playerId The player's UUID
+   */
+  public void track(UUID playerId) {
+    if (!enabled || playerId == null) {
+      return;
+    }
+    ElementalSnapshot created = ElementalSnapshot.empty(playerId);
+    if (snapshots.putIfAbsent(playerId, created) == null) {
+      changed(null, created);
+    }
+  }
+
+  /**
+   * Stop publishing a player's state (on quit).
+   *
+   * @param playerId The player's UUID
+   */
+  public void untrack(UUID playerId) {
+    ElementalSnapshot removed = playerId == null ? null : snapshots.remove(playerId);
+    if (removed != null) {
+      changed(removed, null);
+    }
+  }
+
+  /**
+   * Replace a tracked player's snapshot. Does nothing for untracked players
+   * or if the change returns an equal snapshot.
+   *
+   * @param playerId The player's UUID
+   * @param change Derives the new snapshot from the current one
+   */
+  public void update(UUID playerId, UnaryOperator<ElementalSnapshot> change) {
+    if (!enabled || playerId == null) {
+      return;
+    }
+    ElementalSnapshot[] previous = new ElementalSnapshot[1];
+    ElementalSnapshot next = snapshots.computeIfPresent(playerId, (id, old) -> {
+      previous[0] = old;
+      return change.apply(old);
+    });
+    if (next != null && !next.equals(previous[0])) {
+      changed(previous[0], next);
+    }
+  }
+
+  /**
+   * Publish the player's equipped fragment.
+   *
+   * @param playerId The player's UUID
+   * @param fragment The fragment, or null when unequipped
+   */
+  public void setEquippedFragment(UUID playerId, FragmentType fragment) {
+    update(playerId, snapshot -> snapshot.withEquippedFragment(fragment));
+  }
+
+  /**
+   * Publish whether the player carries a Dragon Egg.
+   *
+   * @param playerId The player's UUID
+   * @param present true if a Dragon Egg is carried
+   */
+  public void setDragonEgg(UUID playerId, boolean present) {
+    update(playerId, snapshot -> snapshot.withDragonEgg(present));
+  }
+
+  /**
+   * Publish the player's cooldown deadlines.
+   *
+   * @param playerId The player's UUID
+   * @param deadlines Ability key to cooldown end (epoch millis), may be null
+   */
+  public void setCooldownDeadlines(UUID playerId, Map<String, Long> deadlines) {
+    update(playerId, snapshot -> snapshot.withCooldownDeadlines(deadlines));
+  }
+
+  /**
+   * Publish that a timed ability started or ended.
+   *
+   * @param playerId The player's UUID
+   * @param element Canonical element name
+   * @param abilityNum The ability number
+   * @param active true when started, false when ended
+   */
+  public void setAbilityActive(UUID playerId, String element, int abilityNum, boolean active) {
+    if (!enabled) {
+      return;
+    }
+    String key = ElementalSnapshot.abilityKey(element, abilityNum);
+    update(playerId, snapshot -> snapshot.withAbilityActive(key, active));
+  }
+
+  /**
+   * Publish the player's chronicle pages discovered.
+   *
+   * @param playerId The player's UUID
+   * @param pages Pages discovered
+   */
+  public void setChroniclePages(UUID playerId, int pages) {
+    update(playerId, snapshot -> snapshot.withProgress(pages, snapshot.achievements()));
+  }
+
+  /**
+   * Publish the player's achievements unlocked.
+   *
+   * @param playerId The player's UUID
+   * @param unlocked Achievements unlocked
+   */
+  public void setAchievements(UUID playerId, int unlocked) {
+    update(playerId, snapshot -> snapshot.withProgress(snapshot.chroniclePages(), unlocked));
+  }
+
+  /**
+   * Track players already online (after a reload).
+   *
+   * @param players The online players
+   */
+  public void seed(Collection<? extends Player> players) {
+    for (Player player : players) {
+      track(player.getUniqueId());
+    }
+  }
+
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    track(event.getPlayer().getUniqueId());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    untrack(event.getPlayer().getUniqueId());
+  }
+
+  private void changed(ElementalSnapshot previous, ElementalSnapshot next) {
+    version.incrementAndGet();
+    for (ElementalStateListener listener : listeners) {
+      try {
+        listener.onStateChange(previous, next);
+      } catch (RuntimeException e) {
+        // One broken integration must not break ability casts
+        if (logger != null) {
+          logger.log(Level.WARNING, "Elemental state listener failed", e);
+        }
+      }
+    }
+  }
+
+  private record View(long version, Map<UUID, ElementalSnapshot> snapshots) {
+  }
+}
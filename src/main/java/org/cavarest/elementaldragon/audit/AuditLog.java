@@ -0,0 +1,205 @@
+package org.cavarest.elementaldragon.audit;
+
+import com.tcoded.folialib.wrapper.task.WrappedTask;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Append-only audit trail for admin changes to player state (cooldowns,
+ * fragments).
+ *
+ * Recording only offers a line to a bounded queue, so admin commands that
+ * touch hundreds of players never wait on disk or flood the console. A
+ * drain task writes the queue to {@code audit.log} off the server threads,
+ * at most {@link #MAX_LINES_PER_DRAIN} lines per run. When the queue is full
+ * new lines are dropped and counted, and the count is written as one line on
+ * the next drain.
+ *
+ * The plugin installs the log on enable; until then {@link #get()} returns a
+ * log that discards everything, so managers built in tests need no setup.
+ */
+public final class AuditLog {
+
+  /** Lines held in memory before new lines are dropped. */
+  public static final int QUEUE_CAPACITY = 4096;
+
+  /** Most lines written by one drain run. */
+  public static final int MAX_LINES_PER_DRAIN = 256;
+
+  /** Ticks between drain runs. */
+  public static final long DRAIN_PERIOD_TICKS = 20L;
+
+  private static final AuditLog DISCARD = new AuditLog(null, null);
+  private static volatile AuditLog current;
+
+  private final Path file;
+  private final Logger logger;
+  private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private boolean writeFailed;
+  private WrappedTask drainTask;
+
+  /**
+   * Create an audit log.
+   *
+   * @param file The file lines are appended to ({@code null} discards them)
+   * @param logger Logger for write failures (may be null)
+   */
+  public AuditLog(Path file, Logger logger) {
+    this.file = file;
+    this.logger = logger;
+  }
+
+  /**
+   * Get the installed audit log, or one that discards everything.
+   *
+   * @return The audit log
+   */
+  public static AuditLog get() {
+    AuditLog log = current;
+    return log != null ? log : DISCARD;
+  }
+
+  /**
+   * Install the audit log returned by {@link #get()} ({@code null} restores
+   * the discarding log).
+   *
+   * @param log The audit log
+   */
+  public static void install(AuditLog log) {
+    current = log;
+  }
+
+  /**
+   * Queue an audit line. Never blocks; drops the line if the queue is full.
+   *
+   * @param action Short action name (e.g. "cooldown.set")
+   * @param detail What changed and for whom
+   */
+  public void record(String action, String detail) {
+    if (file == null) {
+      return;
+    }
+    if (!queue.offer(new Entry(System.currentTimeMillis(), action, detail))) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  /**
+   * Start the periodic drain. Each run hops to an async thread and writes up
+   * to {@link #MAX_LINES_PER_DRAIN} lines; a run is skipped while the
+   * previous one is still writing.
+   *
+   * @param scheduler The plugin scheduler
+   */
+  public void start(TaskScheduler scheduler) {
+    if (file == null || drainTask != null) {
+      return;
+    }
+    drainTask = scheduler.own("audit-log", scheduler.runGlobalTimer(task -> {
+      if (queue.isEmpty() && dropped.get() == 0) {
+        return;
+      }
+      if (draining.compareAndSet(false, true)) {
+        scheduler.runAsync(() -> {
+          try {
+            drain(MAX_LINES_PER_DRAIN);
+          } finally {
+            draining.set(false);
+          }
+        });
+      }
+    }, DRAIN_PERIOD_TICKS, DRAIN_PERIOD_TICKS));
+  }
+
+  /**
+   * Stop the drain task and write everything still queued.
+   * Called from onDisable, where blocking on the write is acceptable.
+   *
+   * @param scheduler The plugin scheduler
+   */
+  public void shutdown(TaskScheduler scheduler) {
+    if (scheduler != null) {
+      scheduler.cancel(drainTask);
+    }
+    drainTask = null;
+    drain(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Write up to {@code maxLines} queued lines to the audit file, preceded by
+   * a line counting any entries dropped since the last drain.
+   *
+   * @param maxLines Most queued lines to write
+   * @return The number of queued lines written
+   */
+  public synchronized int drain(int maxLines) {
+    long lost = dropped.getAndSet(0);
+    if (file == null || (queue.isEmpty() && lost == 0)) {
+      return 0;
+    }
+
+    int written = 0;
+    try {
+      Path parent = file.getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        if (lost > 0) {
+          writer.write(Instant.now() + " audit.dropped " + lost + " entries (queue full)");
+          writer.newLine();
+        }
+        Entry entry;
+        while (written < maxLines && (entry = queue.poll()) != null) {
+          writer.write(Instant.ofEpochMilli(entry.time()) + " " + entry.action() + " " + entry.detail());
+          writer.newLine();
+          written++;
+        }
+      }
+      writeFailed = false;
+    } catch (IOException e) {
+      // Warn once per failure streak rather than once per drain
+      if (!writeFailed && logger != null) {
+        logger.warning("Could not write audit log " + file + ": " + e.getMessage());
+      }
+      writeFailed = true;
+    }
+    return written;
+  }
+
+  /**
+   * Get the number of lines waiting to be written.
+   *
+   * @return The queue size
+   */
+  public int getPending() {
+    return queue.size();
+  }
+
+  /**
+   * Get the number of lines dropped since the last drain.
+   *
+   * @return The dropped count
+   */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  private record Entry(long time, String action, String detail) {
+  }
+}
@@ -9,6 +9,8 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
+import org.cavarest.elementaldragon.cooldown.ActionThrottle;
 import org.cavarest.elementaldragon.fragment.AbilityDefinition;
 import org.cavarest.elementaldragon.fragment.Fragment;
 import org.cavarest.elementaldragon.fragment.FragmentManager;
@@ -16,6 +18,10 @@ import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.hud.PlayerPreferenceManager;
 import org.cavarest.elementaldragon.item.ElementalItems;
 import org.cavarest.elementaldragon.lore.ChronicleManager;
+import org.cavarest.elementaldragon.message.MessageKey;
+import org.cavarest.elementaldragon.message.Messages;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +47,7 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
   protected final ChronicleManager chronicleManager;
   protected final PlayerPreferenceManager playerPreferenceManager;
   protected final Fragment fragment; // Single Source of Truth!
+  private PrefixIndex completions;
 
   /**
    * Create a new fragment command.
@@ -70,21 +77,15 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
   ) {
     // Check if sender is a player
     if (!(sender instanceof Player)) {
-      sender.sendMessage(
-        Component.text("This command can only be used by players!",
-          NamedTextColor.RED)
-      );
+      Messages.get().send(sender, MessageKey.COMMAND_PLAYERS_ONLY);
       return true;
     }
 
     Player player = (Player) sender;
 
     // Check permission (query fragment)
-    if (!player.hasPermission(fragment.getPermissionNode())) {
-      player.sendMessage(
-        Component.text("You do not have permission to use " + fragment.getName() + " abilities!",
-          NamedTextColor.RED)
-      );
+    if (!Permissions.get().has(player, fragment.getPermissionNode())) {
+      Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_NO_PERMISSION, fragment.getName());
       return true;
     }
 
@@ -125,14 +126,23 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
    * @return true if successful
    */
   protected final boolean handleAbility(Player player, int abilityNumber) {
-    // Check if player has correct fragment equipped
+    // Drop macro spam silently before doing any real work
+    ActionThrottle throttle = plugin.getActionThrottle();
+    if (throttle != null && !throttle.tryAcquire(player, ActionThrottle.Channel.ABILITY)) {
+      return true;
+    }
+
+    // Check if player has correct fragment equipped - "equip first" wins over "on cooldown"
     FragmentType equipped = fragmentManager.getEquippedFragment(player);
 
     if (equipped != fragment.getType()) {
-      player.sendMessage(
-        Component.text("Equip the " + fragment.getName() + " first with /" + fragment.getCommandName() + " equip!",
-          NamedTextColor.RED)
-      );
+      Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_EQUIP_FIRST,
+        fragment.getName(), fragment.getCommandName());
+      return true;
+    }
+
+    // Handled - the player was told about the cooldown, so no usage line
+    if (fragmentManager.rejectIfOnCooldown(player, fragment.getType(), abilityNumber)) {
       return true;
     }
 
@@ -149,12 +159,9 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
         AbilityDefinition ability = fragment.getAbility(abilityNumber);
         if (ability != null) {
           player.sendMessage(
-            Component.text("Used " + ability.getName() + "!",
-              fragment.getThemeColor())
-          );
-          player.sendMessage(
-            Component.text(ability.getSuccessMessage(),
-              NamedTextColor.GRAY)
+            Messages.get().render(player, MessageKey.COMMAND_FRAGMENT_ABILITY_USED,
+              ability.getName(), ability.getSuccessMessage())
+              .colorIfAbsent(fragment.getThemeColor())
           );
         }
       }
@@ -174,22 +181,15 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
     // Check if player already has this fragment
     FragmentType currentEquipped = fragmentManager.getEquippedFragment(player);
     if (currentEquipped == fragment.getType()) {
-      player.sendMessage(
-        Component.text(fragment.getName() + " is already equipped!", NamedTextColor.YELLOW)
-      );
+      Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_ALREADY_EQUIPPED, fragment.getName());
       return true;
     }
 
     // Check if player has a DIFFERENT fragment equipped (one-fragment limit check)
     // Do this BEFORE giving items to admins to avoid adding items that can't be equipped
     if (currentEquipped != null) {
-      player.sendMessage(
-        Component.text("You can only carry one fragment at a time!", NamedTextColor.RED)
-      );
-      player.sendMessage(
-        Component.text("Drop your " + currentEquipped.getDisplayName() + " before equipping the " +
-          fragment.getType().getDisplayName() + ".", NamedTextColor.GRAY)
-      );
+      Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_ONE_LIMIT_EQUIPPED,
+        currentEquipped.getDisplayName(), fragment.getType().getDisplayName());
       return false;
     }
 
@@ -201,33 +201,21 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
       // This prevents admins from getting duplicate fragments via /equip command
       FragmentType existingFragment = ElementalItems.getAnyFragmentExcept(player, fragment.getType());
       if (existingFragment != null) {
-        player.sendMessage(
-          Component.text("You can only carry one fragment at a time!", NamedTextColor.RED)
-        );
-        player.sendMessage(
-          Component.text("You already have: " + existingFragment.getDisplayName() +
-            ". Drop it before equipping the " + fragment.getType().getDisplayName() + ".", NamedTextColor.GRAY)
-        );
+        Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_ONE_LIMIT_INVENTORY,
+          existingFragment.getDisplayName(), fragment.getType().getDisplayName());
         return false;
       }
 
       // Player doesn't have any fragments - check if admin (auto-give)
-      if (player.hasPermission("elementaldragon.fragment.admin")) {
+      if (Permissions.get().has(player, Capability.FRAGMENT_ADMIN)) {
         // Give the fragment item to player
         ItemStack fragmentItem = createFragmentItem(fragment.getType());
         player.getInventory().addItem(fragmentItem);
-        player.sendMessage(
-          Component.text("✨ Admin granted: " + fragment.getName(), NamedTextColor.LIGHT_PURPLE)
-        );
+        Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_ADMIN_GRANTED, fragment.getName());
       } else {
         // Regular player - tell them how to get it
-        player.sendMessage(
-          Component.text("You don't have the " + fragment.getName() + "!", NamedTextColor.RED)
-        );
-        player.sendMessage(
-          Component.text("Craft it with /craft " + fragment.getCommandName() +
-            " or ask an admin for help.", NamedTextColor.GRAY)
-        );
+        Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_MISSING_ITEM,
+          fragment.getName(), fragment.getCommandName());
         return false;
       }
     }
@@ -239,25 +227,19 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
       // Register fragment equip for chronicle tracking
       chronicleManager.registerFragmentEquip(player, fragment.getType());
 
-      player.sendMessage(
-        Component.text("Equipped " + fragment.getName() + "!", NamedTextColor.GOLD)
-      );
-      player.sendMessage(
-        Component.text("Passive: " + fragment.getPassiveBonus(), NamedTextColor.GRAY)
-      );
+      Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_EQUIPPED,
+        fragment.getName(), fragment.getPassiveBonus());
 
       // Auto-generate ability help from fragment
       for (AbilityDefinition ability : fragment.getAbilities()) {
         player.sendMessage(
-          Component.text("Use /" + fragment.getCommandName() + " " + ability.getNumber() +
-            " for " + ability.getName() + " (" + ability.getDescription() + ")",
-            fragment.getThemeColor())
+          Messages.get().render(player, MessageKey.COMMAND_FRAGMENT_ABILITY_HINT,
+            fragment.getCommandName(), ability.getNumber(), ability.getName(), ability.getDescription())
+            .colorIfAbsent(fragment.getThemeColor())
         );
       }
     } else {
-      player.sendMessage(
-        Component.text("Failed to equip fragment!", NamedTextColor.RED)
-      );
+      Messages.get().send(player, MessageKey.COMMAND_FRAGMENT_EQUIP_FAILED);
     }
 
     return success;
@@ -382,22 +364,31 @@ public abstract class AbstractFragmentCommand implements CommandExecutor, TabCom
     String alias,
     String[] args
   ) {
-    List<String> completions = new ArrayList<>();
-
     if (args.length == 1) {
-      completions.addAll(List.of(
-        "1", "2", "equip", "status", "help"
-      ));
+      return new ArrayList<>(completions().complete(args[0]));
+    }
+
+    return new ArrayList<>();
+  }
+
+  /**
+   * First-argument completions, indexed on first use.
+   *
+   * @return The completion index
+   */
+  private PrefixIndex completions() {
+    PrefixIndex index = completions;
+    if (index == null) {
+      List<String> values = new ArrayList<>(List.of("1", "2", "equip", "status", "help"));
 
       // Auto-generate aliases from fragment
       for (AbilityDefinition ability : fragment.getAbilities()) {
-        completions.addAll(ability.getAliases());
+        values.addAll(ability.getAliases());
       }
 
-      String partial = args[0].toLowerCase();
-      completions.removeIf(comp -> !comp.toLowerCase().startsWith(partial));
+      index = PrefixIndex.of(values);
+      completions = index;
     }
-
-    return completions;
+    return index;
   }
 }
\ No newline at end of file
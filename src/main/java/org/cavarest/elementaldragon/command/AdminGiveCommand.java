@@ -1,32 +1,34 @@
 package org.cavarest.elementaldragon.command;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.audit.AuditLog;
+import org.cavarest.elementaldragon.command.util.PlayerResolver;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.item.ElementalItems;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 
 /**
  * Handles the /elementaldragon give subcommand.
  * Gives ingredients or equipment to players for elemental dragon crafting.
- * Supports player selectors: @p (nearest), @a (all), @s (self), or exact player name.
+ * Supports player selectors (@p, @r, @a, @s, with arguments such as @a[r=20]) or exact player name.
  */
 public class AdminGiveCommand {
 
   private final ElementalDragon plugin;
+  private final PlayerResolver playerResolver;
 
   public AdminGiveCommand(ElementalDragon plugin) {
     this.plugin = plugin;
+    this.playerResolver = new PlayerResolver(plugin.getFragmentManager(),
+      plugin.getTaskScheduler() != null && plugin.getTaskScheduler().isFolia());
   }
 
   /**
@@ -169,113 +171,16 @@ public class AdminGiveCommand {
     return true;
   }
 
-  /**
-   * Resolve a single player from a player reference.
-   * Supports @p (nearest), @s (self), @a (all - returns first), or exact player name.
-   *
-   * @param sender The command sender
-   * @param playerRef The player reference
-   * @return The resolved player, or null if not found
-   */
-  private Player resolvePlayer(CommandSender sender, String playerRef) {
-    String ref = playerRef.toLowerCase();
-
-    switch (ref) {
-      case "@p":
-        if (sender instanceof Player) {
-          return (Player) sender;
-        }
-        Collection<? extends Player> players = Bukkit.getOnlinePlayers();
-        if (!players.isEmpty()) {
-          return players.iterator().next();
-        }
-        sender.sendMessage(Component.text("No players online!", NamedTextColor.RED));
-        return null;
-
-      case "@s":
-        if (sender instanceof Player) {
-          return (Player) sender;
-        }
-        sender.sendMessage(Component.text("Cannot use @s from console.", NamedTextColor.RED));
-        return null;
-
-      case "@a":
-        // @a returns all players, but resolvePlayer returns single - return first online
-        Collection<? extends Player> allPlayers = Bukkit.getOnlinePlayers();
-        if (!allPlayers.isEmpty()) {
-          return allPlayers.iterator().next();
-        }
-        sender.sendMessage(Component.text("No players online!", NamedTextColor.RED));
-        return null;
-
-      default:
-        Player target = Bukkit.getPlayer(playerRef);
-        if (target == null) {
-          sender.sendMessage(Component.text(
-            "Player '" + playerRef + "' not found!",
-            NamedTextColor.RED
-          ));
-          return null;
-        }
-        return target;
-    }
-  }
-
   /**
    * Resolve multiple players from a player reference.
-   * Supports @p (nearest), @s (self), @a (all), or exact player name.
+   * Supports selectors with arguments (e.g. @a[r=20]) or an exact player name.
    *
    * @param sender The command sender
-   * @param playerRef The player reference (@p, @a, @s, or player name)
+   * @param playerRef The player reference (selector or player name)
    * @return List of players, empty list if no players found
    */
   public List<Player> resolvePlayers(CommandSender sender, String playerRef) {
-    List<Player> players = new ArrayList<>();
-    String ref = playerRef.toLowerCase();
-
-    switch (ref) {
-      case "@p":
-        if (sender instanceof Player) {
-          players.add((Player) sender);
-        } else {
-          Collection<? extends Player> onlinePlayers = Bukkit.getOnlinePlayers();
-          if (!onlinePlayers.isEmpty()) {
-            players.add(onlinePlayers.iterator().next());
-          }
-        }
-        break;
-
-      case "@s":
-        if (sender instanceof Player) {
-          players.add((Player) sender);
-        } else {
-          sender.sendMessage(Component.text("Cannot use @s from console.", NamedTextColor.RED));
-        }
-        break;
-
-      case "@a":
-        // Return all online players
-        players.addAll(Bukkit.getOnlinePlayers());
-        if (players.isEmpty()) {
-          sender.sendMessage(Component.text("No players online!", NamedTextColor.RED));
-        }
-        break;
-
-      default:
-        // Try to find player by name
-        Player target = Bukkit.getPlayer(playerRef);
-        if (target != null) {
-          players.add(target);
-        } else {
-          sender.sendMessage(Component.text(
-            "Player '" + playerRef + "' not found!",
-            NamedTextColor.RED
-          ));
-        }
-        break;
-    }
-
-    return players;
+    return playerResolver.resolvePlayers(sender, playerRef);
   }
 
   /**
@@ -293,7 +198,10 @@ public class AdminGiveCommand {
 
     int successCount = 0;
     String action = giveIngredients ? "ingredients" : "equipment";
+    String detail = sender.getName() + ": " + fragmentType.name() + " " + action + " to ";
+    AuditLog audit = AuditLog.get();
 
+    // One summary for the sender; per-player detail goes to the audit log
     for (Player target : players) {
       boolean success;
       if (giveIngredients) {
@@ -303,6 +211,7 @@ public class AdminGiveCommand {
       }
       if (success) {
         successCount++;
+        audit.record("fragment.give", detail + target.getName() + " (" + target.getUniqueId() + ")");
       }
     }
 
@@ -1,9 +1,12 @@
 package org.cavarest.elementaldragon.command;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.lore.ChronicleManager;
 import org.cavarest.elementaldragon.lore.LorePage;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 import org.bukkit.Material;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -16,10 +19,8 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Command handler for the Chronicle of the Fallen Dragons lore system.
@@ -27,6 +28,10 @@ import java.util.stream.Collectors;
  */
 public class ChronicleCommand implements CommandExecutor, TabCompleter {
 
+  private static final PrefixIndex SUBCOMMAND_COMPLETIONS =
+    PrefixIndex.of("status", "progress", "page", "get", "help");
+  private static final PrefixIndex PAGE_COMPLETIONS = PrefixIndex.of("1", "2", "3", "4", "5", "6", "7");
+
   private final ElementalDragon plugin;
   private final ChronicleManager chronicleManager;
   private final MiniMessage miniMessage = MiniMessage.miniMessage();
@@ -56,7 +61,7 @@ public class ChronicleCommand implements CommandExecutor, TabCompleter {
     Player player = (Player) sender;
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.chronicle")) {
+    if (!Permissions.get().has(player, Capability.CHRONICLE)) {
       player.sendMessage(
         miniMessage.deserialize("<red>You do not have permission to use this command!</red>")
       );
@@ -335,7 +340,7 @@ public class ChronicleCommand implements CommandExecutor, TabCompleter {
    * @param player The player
    */
   private void giveChronicleBook(Player player) {
-    if (!player.hasPermission("elementaldragon.chronicle.get")) {
+    if (!Permissions.get().has(player, Capability.CHRONICLE_GET)) {
       player.sendMessage(
         miniMessage.deserialize("<red>You do not have permission to get a chronicle book!</red>")
       );
@@ -395,18 +400,12 @@ public class ChronicleCommand implements CommandExecutor, TabCompleter {
 
     if (args.length == 1) {
       // Subcommand suggestions
-      return Arrays.asList("status", "progress", "page", "get", "help")
-        .stream()
-        .filter(sub -> sub.startsWith(args[0].toLowerCase()))
-        .collect(Collectors.toList());
+      return new ArrayList<>(SUBCOMMAND_COMPLETIONS.complete(args[0]));
     }
 
     if (args.length == 2 && args[0].equalsIgnoreCase("page")) {
       // Page number suggestions
-      return Arrays.asList("1", "2", "3", "4", "5", "6", "7")
-        .stream()
-        .filter(num -> num.startsWith(args[1]))
-        .collect(Collectors.toList());
+      return new ArrayList<>(PAGE_COMPLETIONS.complete(args[1]));
     }
 
     return new ArrayList<>();
@@ -8,10 +8,13 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.crafting.CraftedCountManager;
 import org.cavarest.elementaldragon.crafting.CraftingManager;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.item.ElementalItems;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +39,7 @@ public class CraftCommand implements CommandExecutor, TabCompleter {
     "immortal",
     "corrupt"
   };
+  private static final PrefixIndex CRAFT_COMPLETIONS = PrefixIndex.of(CRAFT_TYPES);
 
   /**
    * Find a Dragon Egg in player's inventory.
@@ -80,7 +84,7 @@ public class CraftCommand implements CommandExecutor, TabCompleter {
     Player player = (Player) sender;
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.craft")) {
+    if (!Permissions.get().has(player, Capability.CRAFT)) {
       player.sendMessage(
         net.kyori.adventure.text.Component.text(
           "You don't have permission to use this command!",
@@ -360,7 +364,7 @@ public class CraftCommand implements CommandExecutor, TabCompleter {
       )
     );
 
-    if (!player.hasPermission("elementaldragon.craft")) {
+    if (!Permissions.get().has(player, Capability.CRAFT)) {
       player.sendMessage(
         net.kyori.adventure.text.Component.text(
           "You don't have permission to craft items!",
@@ -377,16 +381,7 @@ public class CraftCommand implements CommandExecutor, TabCompleter {
     }
 
     if (args.length == 1) {
-      List<String> completions = new ArrayList<>();
-      String partial = args[0].toLowerCase();
-
-      for (String type : CRAFT_TYPES) {
-        if (type.startsWith(partial)) {
-          completions.add(type);
-        }
-      }
-
-      return completions;
+      return new ArrayList<>(CRAFT_COMPLETIONS.complete(args[0]));
     }
 
     return new ArrayList<>();
@@ -9,10 +9,14 @@ import org.cavarest.elementaldragon.command.subcommands.CooldownSubcommand;
 import org.cavarest.elementaldragon.command.subcommands.GiveSubcommand;
 import org.cavarest.elementaldragon.command.subcommands.GlobalCooldownSubcommand;
 import org.cavarest.elementaldragon.command.subcommands.InfoSubcommand;
+import org.cavarest.elementaldragon.command.subcommands.ReloadSubcommand;
 import org.cavarest.elementaldragon.command.subcommands.SetGlobalCountdownSymbolSubcommand;
 import org.cavarest.elementaldragon.command.util.ElementValidator;
 import org.cavarest.elementaldragon.command.util.PlayerResolver;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.command.Command;
@@ -37,6 +41,11 @@ import java.util.List;
  */
 public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
 
+    private static final PrefixIndex SUBCOMMAND_COMPLETIONS = PrefixIndex.of(
+        "give", "info", "setcooldown", "clearcooldown", "getcooldown",
+        "setglobalcooldown", "getglobalcooldown", "setcountdownsym", "reload", "help"
+    );
+
     private final ElementalDragon plugin;
     private final AbilityManager abilityManager;
     private final CooldownManager cooldownManager;
@@ -47,6 +56,7 @@ public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
     private final CooldownSubcommand cooldownSubcommand;
     private final GlobalCooldownSubcommand globalCooldownSubcommand;
     private final SetGlobalCountdownSymbolSubcommand setCountdownSymbolSubcommand;
+    private final ReloadSubcommand reloadSubcommand;
 
     /**
      * Creates a new ElementalDragonCommand.
@@ -60,7 +70,8 @@ public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
         this.cooldownManager = plugin.getCooldownManager();
 
         // Initialize utilities
-        PlayerResolver playerResolver = new PlayerResolver();
+        PlayerResolver playerResolver = new PlayerResolver(plugin.getFragmentManager(),
+            plugin.getTaskScheduler() != null && plugin.getTaskScheduler().isFolia());
         ElementValidator elementValidator = new ElementValidator();
 
         // Initialize formatters
@@ -84,12 +95,13 @@ public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
             plugin
         );
         this.setCountdownSymbolSubcommand = new SetGlobalCountdownSymbolSubcommand(plugin);
+        this.reloadSubcommand = new ReloadSubcommand(plugin.getAbilityConfigManager());
     }
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         // Check permission
-        if (!sender.hasPermission("elementaldragon.admin")) {
+        if (!Permissions.get().has(sender, Capability.ADMIN)) {
             sender.sendMessage(Component.text("You don't have permission to use this command!", NamedTextColor.RED));
             return true;
         }
@@ -127,6 +139,9 @@ public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
             case "setcountdownsym":
                 return setCountdownSymbolSubcommand.execute(sender, subArgs);
 
+            case "reload":
+                return reloadSubcommand.execute(sender, subArgs);
+
             case "help":
             default:
                 showHelp(sender);
@@ -138,18 +153,13 @@ public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         List<String> completions = new ArrayList<>();
 
-        if (!sender.hasPermission("elementaldragon.admin")) {
+        if (!Permissions.get().has(sender, Capability.ADMIN)) {
             return completions;
         }
 
         if (args.length == 1) {
             // First level: subcommand names
-            completions.addAll(Arrays.asList(
-                "give", "info", "setcooldown", "clearcooldown", "getcooldown",
-                "setglobalcooldown", "getglobalcooldown", "setcountdownsym", "help"
-            ));
-            String partial = args[0].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
+            return new ArrayList<>(SUBCOMMAND_COMPLETIONS.complete(args[0]));
         } else if (args.length > 1) {
             // Delegate to subcommand
             String subCommand = args[0].toLowerCase();
@@ -214,6 +224,8 @@ public class ElementalDragonCommand implements CommandExecutor, TabCompleter {
             .append(Component.text(" - Get global cooldowns", NamedTextColor.GRAY)));
         sender.sendMessage(Component.text("/ed setcountdownsym <style> [width]", NamedTextColor.YELLOW)
             .append(Component.text(" - Set countdown progress bar style", NamedTextColor.GRAY)));
+        sender.sendMessage(Component.text("/ed reload", NamedTextColor.YELLOW)
+            .append(Component.text(" - Reload ability configuration and messages", NamedTextColor.GRAY)));
 
         sender.sendMessage(Component.text("", NamedTextColor.WHITE));
         sender.sendMessage(Component.text("Player Selectors: @p (you), @a (all), @s (self), or player name", NamedTextColor.DARK_GRAY));
@@ -3,6 +3,8 @@ package org.cavarest.elementaldragon.command;
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.ability.Ability;
 import org.cavarest.elementaldragon.ability.AbilityManager;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
+import org.cavarest.elementaldragon.cooldown.ActionThrottle;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.command.Command;
@@ -18,6 +20,9 @@ import java.util.List;
  */
 public class LightningCommand implements CommandExecutor, TabCompleter {
 
+  // Only show supported commands: lightning ability, version info, help text
+  private static final PrefixIndex COMPLETIONS = PrefixIndex.of("1", "version", "help");
+
   private final ElementalDragon plugin;
   private final AbilityManager abilityManager;
 
@@ -107,6 +112,12 @@ public class LightningCommand implements CommandExecutor, TabCompleter {
       return true;
     }
 
+    // Drop macro spam silently before doing any real work
+    ActionThrottle throttle = plugin.getActionThrottle();
+    if (throttle != null && !throttle.tryAcquire(player, ActionThrottle.Channel.ABILITY)) {
+      return true;
+    }
+
     // Get ability
     Ability ability = abilityManager.getAbility(abilityId);
     if (ability == null) {
@@ -116,23 +127,25 @@ public class LightningCommand implements CommandExecutor, TabCompleter {
       return true;
     }
 
-    // Check if player has required item
-    if (!ability.hasRequiredItem(player)) {
-      player.sendMessage(
-        Component.text(
-          "You must have a Dragon Egg in your inventory to use this ability!",
-          NamedTextColor.RED
-        )
-      );
+    // Check cooldown before the inventory scan (message at most once per second)
+    if (abilityManager.isOnCooldown(player)) {
+      if (throttle == null || throttle.tryAcquire(player, ActionThrottle.Channel.COOLDOWN_MESSAGE)) {
+        int remaining = abilityManager.getRemainingCooldown(player);
+        player.sendMessage(
+          Component.text(
+            "Ability on cooldown! " + remaining + " seconds remaining.",
+            NamedTextColor.RED
+          )
+        );
+      }
       return true;
     }
 
-    // Check cooldown
-    if (abilityManager.isOnCooldown(player)) {
-      int remaining = abilityManager.getRemainingCooldown(player);
+    // Check if player has required item
+    if (!ability.hasRequiredItem(player)) {
       player.sendMessage(
         Component.text(
-          "Ability on cooldown! " + remaining + " seconds remaining.",
+          "You must have a Dragon Egg in your inventory to use this ability!",
           NamedTextColor.RED
         )
       );
@@ -160,19 +173,11 @@ public class LightningCommand implements CommandExecutor, TabCompleter {
     String alias,
     String[] args
   ) {
-    List<String> completions = new ArrayList<>();
-
     if (args.length == 1) {
-      // Only show supported commands
-      completions.add("1");      // Lightning ability
-      completions.add("version"); // Version info
-      completions.add("help");    // Help text
-
       // Filter completions based on what the player has typed
-      String partial = args[0].toLowerCase();
-      completions.removeIf(comp -> !comp.toLowerCase().startsWith(partial));
+      return new ArrayList<>(COMPLETIONS.complete(args[0]));
     }
 
-    return completions;
+    return new ArrayList<>();
   }
 }
@@ -1,6 +1,7 @@
 package org.cavarest.elementaldragon.command.base;
 
 import org.bukkit.command.CommandSender;
+import org.cavarest.elementaldragon.permission.Permissions;
 
 import java.util.List;
 
@@ -117,6 +118,6 @@ public interface Subcommand {
      */
     default boolean hasPermission(CommandSender sender) {
         String permission = getPermission();
-        return permission == null || sender.hasPermission(permission);
+        return permission == null || Permissions.get().has(sender, permission);
     }
 }
\ No newline at end of file
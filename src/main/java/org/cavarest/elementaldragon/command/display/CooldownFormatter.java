@@ -64,6 +64,16 @@ public class CooldownFormatter {
         }
     }
 
+    /**
+     * Formats a remaining cooldown the way cooldown listings show it.
+     *
+     * @param seconds the remaining cooldown in seconds
+     * @return e.g. {@code "12s"}, or {@code "ready"} when not on cooldown
+     */
+    public static String formatRemaining(int seconds) {
+        return seconds > 0 ? seconds + "s" : "ready";
+    }
+
     /**
      * Displays a single element's cooldown status.
      * Shows the element name with either remaining time (if on cooldown) or ready state.
@@ -75,12 +85,12 @@ public class CooldownFormatter {
     private void displayElementCooldown(CommandSender sender, String elementName, Integer seconds) {
         if (seconds != null && seconds > 0) {
             sender.sendMessage(Component.text(
-                "  " + elementName + ": " + seconds + "s",
+                "  " + elementName + ": " + formatRemaining(seconds),
                 NamedTextColor.RED
             ));
         } else {
             sender.sendMessage(Component.text(
-                "  " + elementName + ": ready",
+                "  " + elementName + ": " + formatRemaining(0),
                 NamedTextColor.GREEN
             ));
         }
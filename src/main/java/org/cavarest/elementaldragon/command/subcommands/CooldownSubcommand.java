@@ -1,16 +1,18 @@
 package org.cavarest.elementaldragon.command.subcommands;
 
-import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.audit.AuditLog;
 import org.cavarest.elementaldragon.command.base.AbstractSubcommand;
 import org.cavarest.elementaldragon.command.display.CooldownFormatter;
 import org.cavarest.elementaldragon.command.util.ElementValidator;
+import org.cavarest.elementaldragon.command.util.PlayerNameIndex;
 import org.cavarest.elementaldragon.command.util.PlayerResolver;
+import org.cavarest.elementaldragon.command.util.PlayerSelector;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -24,14 +26,22 @@ import java.util.List;
  *   <li>{@code getcooldown <player>} - View all cooldowns for a player</li>
  * </ul>
  *
+ * <p>Set and clear accept selectors matching many players ({@code @a}); the
+ * change is applied in one pass and the sender gets a single summary.</p>
+ *
  * @since 1.0.3
  */
 public class CooldownSubcommand extends AbstractSubcommand {
 
+    private static final PrefixIndex ABILITY_COMPLETIONS = PrefixIndex.of("1", "2", "all");
+    private static final PrefixIndex SECONDS_COMPLETIONS =
+        PrefixIndex.of("0", "10", "30", "60", "90", "120", "300");
+
     private final CooldownManager cooldownManager;
     private final CooldownFormatter formatter;
     private final PlayerResolver playerResolver;
     private final ElementValidator elementValidator;
+    private PrefixIndex elementCompletions;
 
     /**
      * Creates a new cooldown subcommand.
@@ -88,10 +98,11 @@ public class CooldownSubcommand extends AbstractSubcommand {
         String abilityArg = args[2];
         String cooldownArg = args[3];
 
-        Player target = playerResolver.resolvePlayer(sender, playerRef);
-        if (target == null) {
+        List<Player> targets = resolveTargets(sender, playerRef);
+        if (targets.isEmpty()) {
             return true;
         }
+        String who = describe(targets);
 
         // Validate element name
         if (!elementValidator.isValidElement(element)) {
@@ -122,13 +133,13 @@ public class CooldownSubcommand extends AbstractSubcommand {
         if (isReset) {
             // Reset to global default - clear the per-player override
             if (setAll) {
-                cooldownManager.clearCooldown(target, element, 1);
-                cooldownManager.clearCooldown(target, element, 2);
-                sendSuccess(sender, "Reset " + element + " abilities 1 & 2 for " + target.getName() + " to global defaults.");
+                clear(targets, element, null);
+                sendSuccess(sender, "Reset " + element + " abilities 1 & 2 for " + who + " to global defaults.");
             } else {
-                cooldownManager.clearCooldown(target, element, abilityNum);
-                sendSuccess(sender, "Reset " + element + " ability " + abilityNum + " for " + target.getName() + " to global default.");
+                clear(targets, element, abilityNum);
+                sendSuccess(sender, "Reset " + element + " ability " + abilityNum + " for " + who + " to global default.");
             }
+            audit(sender, "reset " + element + ":" + (setAll ? "all" : abilityNum), targets);
             return true;
         }
 
@@ -146,21 +157,21 @@ public class CooldownSubcommand extends AbstractSubcommand {
 
         // Apply cooldown
         if (setAll) {
-            cooldownManager.setCooldown(target, element, 1, seconds);
-            cooldownManager.setCooldown(target, element, 2, seconds);
+            set(targets, element, null, seconds);
             if (seconds == 0) {
-                sendSuccess(sender, "Disabled cooldown for " + element + " abilities 1 & 2 for " + target.getName() + ".");
+                sendSuccess(sender, "Disabled cooldown for " + element + " abilities 1 & 2 for " + who + ".");
             } else {
-                sendSuccess(sender, "Set " + element + " abilities 1 & 2 cooldown for " + target.getName() + " to " + seconds + "s.");
+                sendSuccess(sender, "Set " + element + " abilities 1 & 2 cooldown for " + who + " to " + seconds + "s.");
             }
         } else {
-            cooldownManager.setCooldown(target, element, abilityNum, seconds);
+            set(targets, element, abilityNum, seconds);
             if (seconds == 0) {
-                sendSuccess(sender, "Disabled cooldown for " + element + " ability " + abilityNum + " for " + target.getName() + ".");
+                sendSuccess(sender, "Disabled cooldown for " + element + " ability " + abilityNum + " for " + who + ".");
             } else {
-                sendSuccess(sender, "Set " + element + " ability " + abilityNum + " cooldown for " + target.getName() + " to " + seconds + "s.");
+                sendSuccess(sender, "Set " + element + " ability " + abilityNum + " cooldown for " + who + " to " + seconds + "s.");
             }
         }
+        audit(sender, "set " + element + ":" + (setAll ? "all" : abilityNum) + "=" + seconds + "s", targets);
 
         return true;
     }
@@ -180,10 +191,11 @@ public class CooldownSubcommand extends AbstractSubcommand {
         }
 
         String playerRef = args[0];
-        Player target = playerResolver.resolvePlayer(sender, playerRef);
-        if (target == null) {
+        List<Player> targets = resolveTargets(sender, playerRef);
+        if (targets.isEmpty()) {
             return true;
         }
+        String who = describe(targets);
 
         // Check if element is specified
         if (args.length >= 2) {
@@ -196,12 +208,14 @@ public class CooldownSubcommand extends AbstractSubcommand {
             }
 
             // Clear specific element
-            cooldownManager.clearCooldown(target, element);
-            sendSuccess(sender, "Cleared " + element + " cooldown for " + target.getName() + ".");
+            cooldownManager.clearCooldowns(targets, element);
+            sendSuccess(sender, "Cleared " + element + " cooldown for " + who + ".");
+            audit(sender, "clear " + element, targets);
         } else {
             // Clear all cooldowns
-            cooldownManager.clearAllCooldowns(target);
-            sendSuccess(sender, "Cleared ALL cooldowns for " + target.getName() + ".");
+            cooldownManager.clearAllCooldowns(targets);
+            sendSuccess(sender, "Cleared ALL cooldowns for " + who + ".");
+            audit(sender, "clear all", targets);
         }
 
         return true;
@@ -245,32 +259,20 @@ public class CooldownSubcommand extends AbstractSubcommand {
      * @return list of completions
      */
     public List<String> tabCompleteSetCooldown(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
             // First arg: player selectors and names
-            completions.addAll(Arrays.asList("@p", "@s", "@a"));
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                completions.add(player.getName());
-            }
+            return PlayerNameIndex.get().completeTargets(args[0]);
         } else if (args.length == 2) {
             // Second arg: element names
-            completions.addAll(elementValidator.getValidElements());
+            return new ArrayList<>(elements().complete(args[1]));
         } else if (args.length == 3) {
             // Third arg: ability numbers
-            completions.addAll(Arrays.asList("1", "2", "all"));
+            return new ArrayList<>(ABILITY_COMPLETIONS.complete(args[2]));
         } else if (args.length == 4) {
             // Fourth arg: seconds suggestions
-            completions.addAll(Arrays.asList("0", "10", "30", "60", "90", "120", "300"));
-        }
-
-        // Filter by partial input
-        if (args.length > 0) {
-            String partial = args[args.length - 1].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
+            return new ArrayList<>(SECONDS_COMPLETIONS.complete(args[3]));
         }
-
-        return completions;
+        return new ArrayList<>();
     }
 
     /**
@@ -281,26 +283,14 @@ public class CooldownSubcommand extends AbstractSubcommand {
      * @return list of completions
      */
     public List<String> tabCompleteClearCooldown(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
             // First arg: player selectors and names
-            completions.addAll(Arrays.asList("@p", "@s", "@a"));
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                completions.add(player.getName());
-            }
+            return PlayerNameIndex.get().completeTargets(args[0]);
         } else if (args.length == 2) {
             // Second arg: element names (optional)
-            completions.addAll(elementValidator.getValidElements());
-        }
-
-        // Filter by partial input
-        if (args.length > 0) {
-            String partial = args[args.length - 1].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
+            return new ArrayList<>(elements().complete(args[1]));
         }
-
-        return completions;
+        return new ArrayList<>();
     }
 
     /**
@@ -311,20 +301,74 @@ public class CooldownSubcommand extends AbstractSubcommand {
      * @return list of completions
      */
     public List<String> tabCompleteGetCooldown(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
             // First arg: player selectors and names
-            completions.addAll(Arrays.asList("@p", "@s", "@a"));
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                completions.add(player.getName());
-            }
+            return PlayerNameIndex.get().completeTargets(args[0]);
+        }
+        return new ArrayList<>();
+    }
 
-            // Filter by partial input
-            String partial = args[0].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
+    /**
+     * Resolves the targets of set/clear: every player a selector matches, or
+     * the single named player.
+     *
+     * @param sender the command sender
+     * @param playerRef the player reference
+     * @return the targets (empty if none; the sender has been told why)
+     */
+    private List<Player> resolveTargets(CommandSender sender, String playerRef) {
+        if (PlayerSelector.isSelector(playerRef)) {
+            return playerResolver.resolvePlayers(sender, playerRef);
         }
+        Player target = playerResolver.resolvePlayer(sender, playerRef);
+        return target == null ? List.of() : List.of(target);
+    }
 
-        return completions;
+    /**
+     * Sets a cooldown for the targets in one pass.
+     *
+     * @param abilityNum the ability number, or {@code null} for both
+     */
+    private void set(List<Player> targets, String element, Integer abilityNum, int seconds) {
+        if (abilityNum == null) {
+            cooldownManager.setCooldowns(targets, element, seconds);
+        } else {
+            cooldownManager.setCooldowns(targets, element, abilityNum, seconds);
+        }
+    }
+
+    /**
+     * Clears a cooldown for the targets in one pass.
+     *
+     * @param abilityNum the ability number, or {@code null} for both
+     */
+    private void clear(List<Player> targets, String element, Integer abilityNum) {
+        if (abilityNum == null) {
+            cooldownManager.clearCooldowns(targets, element);
+        } else {
+            cooldownManager.clearCooldowns(targets, element, abilityNum);
+        }
+    }
+
+    private static String describe(List<Player> targets) {
+        return targets.size() == 1 ? targets.get(0).getName() : targets.size() + " players";
+    }
+
+    private static void audit(CommandSender sender, String change, List<Player> targets) {
+        AuditLog.get().record("command.cooldown", sender.getName() + ": " + change + " for " + describe(targets));
+    }
+
+    /**
+     * Element name completions, indexed on first use.
+     *
+     * @return the element index
+     */
+    private PrefixIndex elements() {
+        PrefixIndex index = elementCompletions;
+        if (index == null) {
+            index = PrefixIndex.of(elementValidator.getValidElements());
+            elementCompletions = index;
+        }
+        return index;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,13 @@
 package org.cavarest.elementaldragon.command.subcommands;
 
-import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
 import org.cavarest.elementaldragon.command.AdminGiveCommand;
 import org.cavarest.elementaldragon.command.base.AbstractSubcommand;
+import org.cavarest.elementaldragon.command.util.PlayerNameIndex;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -24,6 +23,9 @@ import java.util.List;
  */
 public class GiveSubcommand extends AbstractSubcommand {
 
+    private static final PrefixIndex KIND_COMPLETIONS = PrefixIndex.of("ingredients", "equipment");
+    private static final PrefixIndex FRAGMENT_COMPLETIONS = PrefixIndex.of(FragmentType.getCanonicalNames());
+
     private final AdminGiveCommand giveCommand;
 
     /**
@@ -48,28 +50,16 @@ public class GiveSubcommand extends AbstractSubcommand {
 
     @Override
     public List<String> tabComplete(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
             // First arg: player selectors and names
-            completions.addAll(Arrays.asList("@p", "@s", "@a"));
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                completions.add(player.getName());
-            }
+            return PlayerNameIndex.get().completeTargets(args[0]);
         } else if (args.length == 2) {
             // Second arg: ingredients or equipment
-            completions.addAll(Arrays.asList("ingredients", "equipment"));
+            return new ArrayList<>(KIND_COMPLETIONS.complete(args[1]));
         } else if (args.length == 3) {
             // Third arg: fragment canonical names
-            completions.addAll(Arrays.asList(FragmentType.getCanonicalNames()));
+            return new ArrayList<>(FRAGMENT_COMPLETIONS.complete(args[2]));
         }
-
-        // Filter by partial input
-        if (args.length > 0) {
-            String partial = args[args.length - 1].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
-        }
-
-        return completions;
+        return new ArrayList<>();
     }
 }
\ No newline at end of file
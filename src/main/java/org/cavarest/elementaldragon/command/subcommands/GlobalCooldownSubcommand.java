@@ -4,13 +4,14 @@ import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.audit.AuditLog;
 import org.cavarest.elementaldragon.command.base.AbstractSubcommand;
 import org.cavarest.elementaldragon.command.display.GlobalCooldownFormatter;
 import org.cavarest.elementaldragon.command.util.ElementValidator;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -27,9 +28,14 @@ import java.util.List;
  */
 public class GlobalCooldownSubcommand extends AbstractSubcommand {
 
+    private static final PrefixIndex ABILITY_COMPLETIONS = PrefixIndex.of("1", "2");
+    private static final PrefixIndex SECONDS_COMPLETIONS =
+        PrefixIndex.of("10", "25", "30", "45", "60", "90", "120", "300");
+
     private final CooldownManager cooldownManager;
     private final GlobalCooldownFormatter formatter;
     private final ElementValidator elementValidator;
+    private PrefixIndex elementCompletions;
     private final ElementalDragon plugin;
 
     /**
@@ -111,6 +117,8 @@ public class GlobalCooldownSubcommand extends AbstractSubcommand {
             // Reset to fragment default - remove from global config
             // This makes it fall back to fragment constant
             cooldownManager.removeGlobalCooldown(element, abilityNum);
+            AuditLog.get().record("command.globalcooldown",
+                sender.getName() + ": reset " + element + ":" + abilityNum + " to default");
             sendSuccess(sender, "Reset global " + element + " ability " + abilityNum +
                 " to fragment default (e.g., 40s for fire:1).");
             return true;
@@ -132,7 +140,10 @@ public class GlobalCooldownSubcommand extends AbstractSubcommand {
         cooldownManager.setGlobalCooldown(element, abilityNum, seconds);
 
         // Adjust active player cooldowns (including clearing when seconds=0)
-        cooldownManager.adjustActiveCooldowns(element, abilityNum, seconds);
+        // in one pass; per-player detail goes to the audit log
+        int adjusted = cooldownManager.adjustActiveCooldowns(element, abilityNum, seconds);
+        AuditLog.get().record("command.globalcooldown", sender.getName() + ": set " + element + ":" +
+            abilityNum + "=" + seconds + "s, adjusted " + adjusted + " player(s)");
 
         // Update all player HUDs to show new duration display
         if (plugin.getHudManager() != null) {
@@ -142,11 +153,11 @@ public class GlobalCooldownSubcommand extends AbstractSubcommand {
         if (seconds == 0) {
             sendSuccess(sender, "DISABLED global cooldown for " + element + " ability " +
                 abilityNum + " - ALWAYS READY (no cooldown, can spam).");
-            sendInfo(sender, "All active player cooldowns have been cleared.");
+            sendInfo(sender, "Cleared active cooldowns for " + adjusted + " player(s).");
         } else {
             sendSuccess(sender, "Set global " + element + " ability " + abilityNum +
                 " cooldown to " + seconds + "s.");
-            sendInfo(sender, "Active player cooldowns have been adjusted accordingly.");
+            sendInfo(sender, "Capped active cooldowns for " + adjusted + " player(s).");
         }
 
         return true;
@@ -179,26 +190,17 @@ public class GlobalCooldownSubcommand extends AbstractSubcommand {
      * @return list of completions
      */
     public List<String> tabCompleteSetGlobalCooldown(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
             // First arg: element names
-            completions.addAll(elementValidator.getValidElements());
+            return new ArrayList<>(elements().complete(args[0]));
         } else if (args.length == 2) {
             // Second arg: ability numbers
-            completions.addAll(Arrays.asList("1", "2"));
+            return new ArrayList<>(ABILITY_COMPLETIONS.complete(args[1]));
         } else if (args.length == 3) {
             // Third arg: seconds suggestions
-            completions.addAll(Arrays.asList("10", "25", "30", "45", "60", "90", "120", "300"));
-        }
-
-        // Filter by partial input
-        if (args.length > 0) {
-            String partial = args[args.length - 1].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
+            return new ArrayList<>(SECONDS_COMPLETIONS.complete(args[2]));
         }
-
-        return completions;
+        return new ArrayList<>();
     }
 
     /**
@@ -212,4 +214,18 @@ public class GlobalCooldownSubcommand extends AbstractSubcommand {
     public List<String> tabCompleteGetGlobalCooldown(CommandSender sender, String[] args) {
         return new ArrayList<>();
     }
-}
\ No newline at end of file
+
+    /**
+     * Element name completions, indexed on first use.
+     *
+     * @return the element index
+     */
+    private PrefixIndex elements() {
+        PrefixIndex index = elementCompletions;
+        if (index == null) {
+            index = PrefixIndex.of(elementValidator.getValidElements());
+            elementCompletions = index;
+        }
+        return index;
+    }
+}
@@ -1,14 +1,14 @@
 package org.cavarest.elementaldragon.command.subcommands;
 
-import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.cavarest.elementaldragon.command.base.AbstractSubcommand;
 import org.cavarest.elementaldragon.command.display.PlayerInfoFormatter;
+import org.cavarest.elementaldragon.command.util.PlayerNameIndex;
 import org.cavarest.elementaldragon.command.util.PlayerResolver;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -25,6 +25,8 @@ import java.util.List;
  */
 public class InfoSubcommand extends AbstractSubcommand {
 
+    private static final PrefixIndex MODE_COMPLETIONS = PrefixIndex.of("player", "list");
+
     private final PlayerInfoFormatter formatter;
     private final PlayerResolver playerResolver;
 
@@ -109,23 +111,13 @@ public class InfoSubcommand extends AbstractSubcommand {
 
     @Override
     public List<String> tabComplete(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
             // First argument: player or list
-            completions.addAll(Arrays.asList("player", "list"));
-            String partial = args[0].toLowerCase();
-            completions.removeIf(c -> !c.startsWith(partial));
+            return new ArrayList<>(MODE_COMPLETIONS.complete(args[0]));
         } else if (args.length == 2 && (args[0].equalsIgnoreCase("player") || args[0].equalsIgnoreCase("p"))) {
             // Second argument for "info player": player selectors and names
-            completions.addAll(Arrays.asList("@p", "@s", "@a"));
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                completions.add(player.getName());
-            }
-            String partial = args[1].toLowerCase();
-            completions.removeIf(c -> !c.toLowerCase().startsWith(partial));
+            return PlayerNameIndex.get().completeTargets(args[1]);
         }
-
-        return completions;
+        return new ArrayList<>();
     }
 }
\ No newline at end of file
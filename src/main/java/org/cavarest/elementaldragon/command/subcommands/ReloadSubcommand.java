@@ -0,0 +1,64 @@
+package org.cavarest.elementaldragon.command.subcommands;
+
+import org.bukkit.command.CommandSender;
+import org.cavarest.elementaldragon.command.base.AbstractSubcommand;
+import org.cavarest.elementaldragon.config.AbilityConfigManager;
+import org.cavarest.elementaldragon.permission.Permissions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Subcommand for reloading ability tuning from config.yml without a restart.
+ *
+ * <p>The file is parsed and validated off the main thread; the new values
+ * take effect for the next cast once the reload completes. Global cooldowns
+ * are reset to the configured values. Message catalogs in
+ * {@code messages/} are re-parsed by the same reload, and cached player
+ * permissions are resolved again on their next check.</p>
+ *
+ * <p>Usage:</p>
+ * <ul>
+ *   <li>{@code /ed reload} - Reload ability configuration</li>
+ * </ul>
+ */
+public class ReloadSubcommand extends AbstractSubcommand {
+
+    private final AbilityConfigManager abilityConfigManager;
+
+    /**
+     * Creates a new reload subcommand.
+     *
+     * @param abilityConfigManager the ability config manager
+     */
+    public ReloadSubcommand(AbilityConfigManager abilityConfigManager) {
+        super(
+            "reload",
+            "Reload ability configuration and messages",
+            "/ed reload",
+            "elementaldragon.admin"
+        );
+        this.abilityConfigManager = abilityConfigManager;
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        if (abilityConfigManager == null) {
+            sendError(sender, "Ability configuration is not available.");
+            return true;
+        }
+
+        Permissions.get().invalidateAll();
+        if (abilityConfigManager.reloadAsync(sender)) {
+            sendInfo(sender, "Reloading ability configuration...");
+        } else {
+            sendError(sender, "A reload is already in progress.");
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String[] args) {
+        return Collections.emptyList();
+    }
+}
@@ -3,6 +3,7 @@ package org.cavarest.elementaldragon.command.subcommands;
 import org.bukkit.command.CommandSender;
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.command.base.AbstractSubcommand;
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
 import org.cavarest.elementaldragon.hud.ProgressBarRenderer;
 import org.cavarest.elementaldragon.hud.ProgressBarRenderer.ProgressVariant;
 import org.cavarest.elementaldragon.hud.ProgressBarRenderer.VariantType;
@@ -11,6 +12,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Subcommand for setting the global countdown progress bar style.
@@ -25,6 +28,19 @@ import java.util.stream.Collectors;
  */
 public class SetGlobalCountdownSymbolSubcommand extends AbstractSubcommand {
 
+    // Auto-generated from VariantType enum (exclude CUSTOM) - Single Source of Truth
+    private static final PrefixIndex STYLE_COMPLETIONS = PrefixIndex.of(Stream.concat(
+        Arrays.stream(VariantType.values())
+            .filter(type -> type != VariantType.CUSTOM)
+            .map(Enum::name),
+        Stream.of("HELP")
+    ).collect(Collectors.toList()));
+
+    // Width suggestions (1-10)
+    private static final PrefixIndex WIDTH_COMPLETIONS = PrefixIndex.of(
+        IntStream.rangeClosed(1, 10).mapToObj(String::valueOf).collect(Collectors.toList())
+    );
+
     private final ElementalDragon plugin;
 
     /**
@@ -255,28 +271,11 @@ public class SetGlobalCountdownSymbolSubcommand extends AbstractSubcommand {
 
     @Override
     public List<String> tabComplete(CommandSender sender, String[] args) {
-        List<String> completions = new ArrayList<>();
-
         if (args.length == 1) {
-            // Auto-generate from VariantType enum (exclude CUSTOM) - Single Source of Truth
-            Arrays.stream(VariantType.values())
-                .filter(type -> type != VariantType.CUSTOM)
-                .map(Enum::name)
-                .forEach(completions::add);
-            completions.add("HELP");
+            return new ArrayList<>(STYLE_COMPLETIONS.complete(args[0]));
         } else if (args.length == 2) {
-            // Width suggestions (1-10)
-            for (int i = 1; i <= 10; i++) {
-                completions.add(String.valueOf(i));
-            }
-        }
-
-        // Filter by partial input
-        if (args.length > 0) {
-            String partial = args[args.length - 1].toUpperCase();
-            completions.removeIf(c -> !c.startsWith(partial));
+            return new ArrayList<>(WIDTH_COMPLETIONS.complete(args[1]));
         }
-
-        return completions;
+        return new ArrayList<>();
     }
 }
@@ -0,0 +1,158 @@
+package org.cavarest.elementaldragon.command.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted, case-folded index of online player names for tab completion.
+ *
+ * <p>Completing a player argument used to copy every online name into a new
+ * list and filter it on each keystroke. This index is updated once per join
+ * and quit instead, and a lookup walks only the names that start with the
+ * typed prefix, stopping after {@link #MAX_NAME_RESULTS}.</p>
+ *
+ * <p>The plugin installs the index on enable; until then {@link #get()}
+ * returns a pass-through that scans the online players, so commands built
+ * outside the plugin (and their tests) complete the same way.</p>
+ */
+public final class PlayerNameIndex implements Listener {
+
+    /**
+     * Most player names returned for one completion request.
+     */
+    public static final int MAX_NAME_RESULTS = 64;
+
+    /**
+     * Player selectors understood by {@link PlayerResolver}.
+     */
+    public static final PrefixIndex SELECTORS = PrefixIndex.of("@p", "@r", "@s", "@a");
+
+    private static final PlayerNameIndex LIVE = new PlayerNameIndex(false);
+    private static volatile PlayerNameIndex current;
+
+    // Folded name -> display name; joins and quits can arrive on different region threads
+    private final NavigableMap<String, String> names = new ConcurrentSkipListMap<>();
+    private final boolean indexed;
+
+    /**
+     * Creates an empty index; call {@link #seed} with the players already online.
+     */
+    public PlayerNameIndex() {
+        this(true);
+    }
+
+    private PlayerNameIndex(boolean indexed) {
+        this.indexed = indexed;
+    }
+
+    /**
+     * Gets the installed index, or a live scan if none is installed.
+     *
+     * @return the player name index
+     */
+    public static PlayerNameIndex get() {
+        PlayerNameIndex index = current;
+        return index != null ? index : LIVE;
+    }
+
+    /**
+     * Installs the index used by {@link #get()} ({@code null} restores live scans).
+     *
+     * @param index the index
+     */
+    public static void install(PlayerNameIndex index) {
+        current = index;
+    }
+
+    /**
+     * Adds players that joined before the index was registered (e.g. after a reload).
+     *
+     * @param players the online players
+     */
+    public void seed(Collection<? extends Player> players) {
+        for (Player player : players) {
+            add(player.getName());
+        }
+    }
+
+    /**
+     * Gets online player names starting with a prefix, ignoring case.
+     *
+     * @param prefix the partial argument typed so far
+     * @return up to {@link #MAX_NAME_RESULTS} names, in case-insensitive order
+     */
+    public List<String> complete(String prefix) {
+        String key = prefix == null ? "" : PrefixIndex.fold(prefix);
+        List<String> completions = new ArrayList<>();
+        if (!indexed) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                if (completions.size() >= MAX_NAME_RESULTS) {
+                    break;
+                }
+                if (PrefixIndex.fold(player.getName()).startsWith(key)) {
+                    completions.add(player.getName());
+                }
+            }
+            return completions;
+        }
+        for (String name : names.tailMap(key, true).values()) {
+            if (completions.size() >= MAX_NAME_RESULTS || !PrefixIndex.fold(name).startsWith(key)) {
+                break;
+            }
+            completions.add(name);
+        }
+        return completions;
+    }
+
+    /**
+     * Completes a player argument: selectors followed by matching player names.
+     *
+     * @param prefix the partial argument typed so far
+     * @return the matching selectors and names (new list, safe to modify)
+     */
+    public List<String> completeTargets(String prefix) {
+        List<String> selectors = SELECTORS.complete(prefix);
+        if (prefix != null && prefix.startsWith("@")) {
+            return new ArrayList<>(selectors);
+        }
+        List<String> completions = new ArrayList<>(selectors);
+        completions.addAll(complete(prefix));
+        return completions;
+    }
+
+    /**
+     * Gets the number of indexed names.
+     *
+     * @return the index size
+     */
+    public int size() {
+        return names.size();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        add(event.getPlayer().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        names.remove(PrefixIndex.fold(event.getPlayer().getName()));
+    }
+
+    private void add(String name) {
+        if (indexed) {
+            names.put(PrefixIndex.fold(name), name);
+        }
+    }
+}
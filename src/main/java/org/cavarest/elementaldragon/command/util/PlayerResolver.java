@@ -5,20 +5,22 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.fragment.FragmentManager;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
  * Utility class for resolving player references to actual Player objects.
- * Supports Minecraft player selectors (@p, @s, @a) and player names.
+ * Supports Minecraft player selectors and player names.
  *
- * <p>Selector support:</p>
+ * <p>Selector support (see {@link PlayerSelector} for the arguments):</p>
  * <ul>
- *   <li>{@code @p} - Nearest player (self if sender is player, otherwise first online)</li>
+ *   <li>{@code @p} - Nearest player (self if sender is player, nearest to spawn from console)</li>
+ *   <li>{@code @r} - Random player</li>
  *   <li>{@code @s} - Self (sender must be a player)</li>
  *   <li>{@code @a} - All online players</li>
+ *   <li>{@code @a[r=20]}, {@code @a[limit=5,sort=nearest]}, {@code @a[fragment=corrupted]} - filtered</li>
  *   <li>Player name - Exact player name match</li>
  * </ul>
  *
@@ -26,112 +28,130 @@ import java.util.List;
  */
 public class PlayerResolver {
 
+    private final FragmentManager fragmentManager;
+    private final boolean regionThreaded;
+
+    /**
+     * Creates a resolver without fragment filters.
+     */
+    public PlayerResolver() {
+        this(null);
+    }
+
+    /**
+     * Creates a resolver whose selectors can filter by equipped fragment.
+     *
+     * @param fragmentManager the fragment manager, or {@code null} to disable fragment filters
+     */
+    public PlayerResolver(FragmentManager fragmentManager) {
+        this(fragmentManager, false);
+    }
+
+    /**
+     * Creates a resolver for a server that may be region-threaded.
+     *
+     * @param fragmentManager the fragment manager, or {@code null} to disable fragment filters
+     * @param regionThreaded {@code true} on Folia, where selectors that measure
+     *     distance to other players are refused
+     */
+    public PlayerResolver(FragmentManager fragmentManager, boolean regionThreaded) {
+        this.fragmentManager = fragmentManager;
+        this.regionThreaded = regionThreaded;
+    }
+
     /**
      * Resolves a single player from a player reference.
-     * For {@code @a}, returns the first online player.
+     * For selectors matching several players (e.g. {@code @a}), returns the first.
      *
      * @param sender the command sender (for context and error messaging)
-     * @param playerRef the player reference (@p, @s, @a, or player name)
+     * @param playerRef the player reference (selector or player name)
      * @return the resolved player, or {@code null} if not found
      */
     public Player resolvePlayer(CommandSender sender, String playerRef) {
-        String ref = playerRef.toLowerCase();
-
-        switch (ref) {
-            case "@p":
-                if (sender instanceof Player) {
-                    return (Player) sender;
-                }
-                Collection<? extends Player> players = Bukkit.getOnlinePlayers();
-                if (!players.isEmpty()) {
-                    return players.iterator().next();
-                }
-                sender.sendMessage(Component.text("No players online!", NamedTextColor.RED));
-                return null;
-
-            case "@s":
-                if (sender instanceof Player) {
-                    return (Player) sender;
-                }
-                sender.sendMessage(Component.text("Cannot use @s from console.", NamedTextColor.RED));
-                return null;
-
-            case "@a":
-                // @a returns all players, but resolvePlayer returns single - return first online
-                Collection<? extends Player> allPlayers = Bukkit.getOnlinePlayers();
-                if (!allPlayers.isEmpty()) {
-                    return allPlayers.iterator().next();
-                }
-                sender.sendMessage(Component.text("No players online!", NamedTextColor.RED));
-                return null;
-
-            default:
-                Player target = Bukkit.getPlayer(playerRef);
-                if (target == null) {
-                    sender.sendMessage(Component.text(
-                        "Player '" + playerRef + "' not found!",
-                        NamedTextColor.RED
-                    ));
-                    return null;
-                }
-                return target;
+        if (!PlayerSelector.isSelector(playerRef)) {
+            Player target = Bukkit.getPlayer(playerRef);
+            if (target == null) {
+                sender.sendMessage(Component.text(
+                    "Player '" + playerRef + "' not found!",
+                    NamedTextColor.RED
+                ));
+            }
+            return target;
         }
+
+        List<Player> players = select(sender, playerRef);
+        return players.isEmpty() ? null : players.get(0);
     }
 
     /**
      * Resolves multiple players from a player reference.
-     * Supports @p (nearest), @s (self), @a (all), or exact player name.
+     * Supports selectors with arguments, or an exact player name.
      *
      * @param sender the command sender (for context and error messaging)
-     * @param playerRef the player reference (@p, @s, @a, or player name)
+     * @param playerRef the player reference (selector or player name)
      * @return a list of resolved players (empty list if no players found)
      */
     public List<Player> resolvePlayers(CommandSender sender, String playerRef) {
-        List<Player> players = new ArrayList<>();
-        String ref = playerRef.toLowerCase();
+        if (!PlayerSelector.isSelector(playerRef)) {
+            // Try to find player by name
+            List<Player> players = new ArrayList<>();
+            Player target = Bukkit.getPlayer(playerRef);
+            if (target != null) {
+                players.add(target);
+            } else {
+                sender.sendMessage(Component.text(
+                    "Player '" + playerRef + "' not found!",
+                    NamedTextColor.RED
+                ));
+            }
+            return players;
+        }
 
-        switch (ref) {
-            case "@p":
-                if (sender instanceof Player) {
-                    players.add((Player) sender);
-                } else {
-                    Collection<? extends Player> onlinePlayers = Bukkit.getOnlinePlayers();
-                    if (!onlinePlayers.isEmpty()) {
-                        players.add(onlinePlayers.iterator().next());
-                    }
-                }
-                break;
+        return select(sender, playerRef);
+    }
 
-            case "@s":
-                if (sender instanceof Player) {
-                    players.add((Player) sender);
-                } else {
-                    sender.sendMessage(Component.text("Cannot use @s from console.", NamedTextColor.RED));
-                }
-                break;
+    /**
+     * Runs a selector, reporting invalid selectors and empty results to the sender.
+     *
+     * @param sender the command sender
+     * @param selectorRef the selector string
+     * @return the selected players (never {@code null})
+     */
+    private List<Player> select(CommandSender sender, String selectorRef) {
+        PlayerSelector selector;
+        try {
+            selector = PlayerSelector.compile(selectorRef);
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(Component.text("Invalid selector: " + e.getMessage(), NamedTextColor.RED));
+            return new ArrayList<>();
+        }
 
-            case "@a":
-                // Return all online players
-                players.addAll(Bukkit.getOnlinePlayers());
-                if (players.isEmpty()) {
-                    sender.sendMessage(Component.text("No players online!", NamedTextColor.RED));
-                }
-                break;
+        if (selector.getKind() == 's' && !(sender instanceof Player)) {
+            sender.sendMessage(Component.text("Cannot use @s from console.", NamedTextColor.RED));
+            return new ArrayList<>();
+        }
+        if (selector.filtersFragment() && fragmentManager == null) {
+            sender.sendMessage(Component.text("Fragment filters are not available here.", NamedTextColor.RED));
+            return new ArrayList<>();
+        }
 
-            default:
-                // Try to find player by name
-                Player target = Bukkit.getPlayer(playerRef);
-                if (target != null) {
-                    players.add(target);
-                } else {
-                    sender.sendMessage(Component.text(
-                        "Player '" + playerRef + "' not found!",
-                        NamedTextColor.RED
-                    ));
-                }
-                break;
+        if (regionThreaded && !selector.isRegionSafe(sender, fragmentManager)) {
+            // Other players' positions can only be read on their own region thread
+            sender.sendMessage(Component.text(
+                "Selectors that measure distance (@p, r=, rm=, distance=, sort=nearest/furthest) "
+                    + "are not supported on Folia - use a player name, @a, @r or @s.",
+                NamedTextColor.RED
+            ));
+            return new ArrayList<>();
         }
 
+        List<Player> players = selector.select(sender, fragmentManager);
+        if (players.isEmpty()) {
+            sender.sendMessage(Component.text(
+                selectorRef.indexOf('[') < 0 ? "No players online!" : "No players matched " + selectorRef + "!",
+                NamedTextColor.RED
+            ));
+        }
         return players;
     }
-}
\ No newline at end of file
+}
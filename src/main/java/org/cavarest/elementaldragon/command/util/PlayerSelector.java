@@ -0,0 +1,476 @@
+package org.cavarest.elementaldragon.command.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.fragment.FragmentManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A compiled player selector such as {@code @p}, {@code @a[r=20]} or
+ * {@code @a[limit=5,sort=nearest,fragment=corrupted]}.
+ *
+ * <p>Selector strings are parsed once by {@link #compile(String)} into an
+ * immutable query plan and cached, so a command block or event script that
+ * runs the same selector every tick pays only for the query. Queries with a
+ * distance bound go through the world's spatial lookup
+ * ({@code World#getNearbyPlayers}), nearest/furthest queries only consider
+ * the players of the origin's world, and only unpositioned queries (plain
+ * {@code @a}, {@code @r}, name or fragment filters) walk every online
+ * player. The origin is the sender's position, or the main world's spawn
+ * for the console.</p>
+ *
+ * <p>Positioned queries read other players' locations from the calling
+ * thread. On Folia those players may belong to other regions, so callers
+ * check {@link #isRegionSafe} first and refuse selectors that are not.</p>
+ *
+ * <p>Supported selectors: {@code @p} (nearest), {@code @r} (random),
+ * {@code @a} (all) and {@code @s} (self). Supported arguments:</p>
+ * <ul>
+ *   <li>{@code r=<max>}, {@code rm=<min>} - distance bounds in blocks</li>
+ *   <li>{@code distance=<min>..<max>} - either bound may be omitted</li>
+ *   <li>{@code limit=<n>} - at most n players</li>
+ *   <li>{@code sort=nearest|furthest|random|arbitrary}</li>
+ *   <li>{@code name=[!]<player>} - exact name, or not that name</li>
+ *   <li>{@code fragment=[!]<fragment>|none|any} - equipped fragment</li>
+ * </ul>
+ */
+public final class PlayerSelector {
+
+    /**
+     * Most compiled plans kept; the cache is dropped when it grows past this.
+     */
+    static final int MAX_CACHED_PLANS = 256;
+
+    private static final Map<String, PlayerSelector> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Order in which matching players are returned.
+     */
+    public enum Sort {
+        NEAREST, FURTHEST, RANDOM, ARBITRARY
+    }
+
+    private final char kind;
+    private final double minDistanceSquared;
+    private final double maxDistance;
+    private final int limit;
+    private final Sort sort;
+    private final String name;
+    private final boolean nameNegated;
+    private final FragmentType fragment;
+    private final boolean anyFragment;
+    private final boolean fragmentNegated;
+    private final boolean filtersFragment;
+
+    private PlayerSelector(Builder builder) {
+        this.kind = builder.kind;
+        this.minDistanceSquared = builder.minDistance * builder.minDistance;
+        this.maxDistance = builder.maxDistance;
+        this.limit = builder.limit;
+        this.sort = builder.sort;
+        this.name = builder.name;
+        this.nameNegated = builder.nameNegated;
+        this.fragment = builder.fragment;
+        this.anyFragment = builder.anyFragment;
+        this.fragmentNegated = builder.fragmentNegated;
+        this.filtersFragment = builder.filtersFragment;
+    }
+
+    /**
+     * Checks whether a player reference is a selector rather than a name.
+     *
+     * @param reference the player reference
+     * @return {@code true} if the reference starts with {@code @}
+     */
+    public static boolean isSelector(String reference) {
+        return reference != null && reference.startsWith("@");
+    }
+
+    /**
+     * Compiles a selector, reusing the cached plan for a string seen before.
+     *
+     * @param selector the selector string, e.g. {@code @a[r=20]}
+     * @return the compiled selector
+     * @throws IllegalArgumentException if the selector is malformed
+     */
+    public static PlayerSelector compile(String selector) {
+        PlayerSelector plan = PLANS.get(selector);
+        if (plan != null) {
+            return plan;
+        }
+        plan = parse(selector);
+        if (PLANS.size() >= MAX_CACHED_PLANS) {
+            PLANS.clear();
+        }
+        PLANS.put(selector, plan);
+        return plan;
+    }
+
+    /**
+     * Gets the selector kind.
+     *
+     * @return {@code 'p'}, {@code 'r'}, {@code 'a'} or {@code 's'}
+     */
+    public char getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the maximum number of players selected.
+     *
+     * @return the limit ({@link Integer#MAX_VALUE} if unbounded)
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the order of the selected players.
+     *
+     * @return the sort
+     */
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * Whether this selector filters by equipped fragment.
+     *
+     * @return {@code true} if a fragment argument was given
+     */
+    public boolean filtersFragment() {
+        return filtersFragment;
+    }
+
+    /**
+     * Whether this selector can run without reading any other player's
+     * position: it has no distance bounds and no nearest/furthest order, or
+     * it is an {@code @p}-style query the sender answers itself.
+     *
+     * @param sender the sender running the selector
+     * @param fragments used for fragment filters (may be {@code null} if unused)
+     * @return {@code true} if {@link #select} touches no other player's location
+     */
+    public boolean isRegionSafe(CommandSender sender, FragmentManager fragments) {
+        return !needsPosition() || selectsSelf(sender, fragments);
+    }
+
+    /**
+     * Selects the matching players.
+     *
+     * @param sender the sender running the selector (its position is the origin)
+     * @param fragments used for fragment filters (may be {@code null} if unused)
+     * @return the selected players, in selector order
+     */
+    public List<Player> select(CommandSender sender, FragmentManager fragments) {
+        if (kind == 's') {
+            return sender instanceof Player self && matches(self, 0.0, fragments)
+                ? List.of(self) : Collections.emptyList();
+        }
+
+        // The sender is at distance zero, so it is the nearest match whenever it qualifies
+        if (selectsSelf(sender, fragments)) {
+            return List.of((Player) sender);
+        }
+
+        Location origin = originOf(sender);
+        if (origin == null && needsPosition()) {
+            origin = defaultOrigin();
+        }
+        boolean measure = origin != null && needsPosition();
+        if (!measure && hasDistanceBounds()) {
+            return Collections.emptyList();
+        }
+
+        List<Match> matched = new ArrayList<>();
+        for (Player candidate : candidates(measure ? origin : null)) {
+            double distanceSquared = measure ? candidate.getLocation().distanceSquared(origin) : -1.0;
+            if (matches(candidate, distanceSquared, fragments)) {
+                matched.add(new Match(candidate, distanceSquared));
+            }
+        }
+        return order(matched, measure);
+    }
+
+    private boolean selectsSelf(CommandSender sender, FragmentManager fragments) {
+        return sort == Sort.NEAREST && limit == 1 && sender instanceof Player self
+            && matches(self, 0.0, fragments);
+    }
+
+    private boolean hasDistanceBounds() {
+        return minDistanceSquared > 0.0 || !Double.isNaN(maxDistance);
+    }
+
+    private boolean needsPosition() {
+        return hasDistanceBounds() || sort == Sort.NEAREST || sort == Sort.FURTHEST;
+    }
+
+    private Collection<? extends Player> candidates(Location origin) {
+        if (origin == null) {
+            return Bukkit.getOnlinePlayers();
+        }
+        // Distances only make sense within the origin's world
+        World world = origin.getWorld();
+        if (!Double.isNaN(maxDistance)) {
+            return world.getNearbyPlayers(origin, maxDistance);
+        }
+        return world.getPlayers();
+    }
+
+    private boolean matches(Player player, double distanceSquared, FragmentManager fragments) {
+        if (name != null && player.getName().equals(name) == nameNegated) {
+            return false;
+        }
+        if (filtersFragment) {
+            boolean hit;
+            if (fragments == null) {
+                hit = false;
+            } else if (anyFragment) {
+                hit = fragments.hasFragmentEquipped(player);
+            } else {
+                hit = fragments.isEquipped(player.getUniqueId(), fragment);
+            }
+            if (hit == fragmentNegated) {
+                return false;
+            }
+        }
+        if (hasDistanceBounds()) {
+            if (distanceSquared < minDistanceSquared) {
+                return false;
+            }
+            if (!Double.isNaN(maxDistance) && distanceSquared > maxDistance * maxDistance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Player> order(List<Match> matched, boolean measured) {
+        Sort effective = !measured && (sort == Sort.NEAREST || sort == Sort.FURTHEST)
+            ? Sort.ARBITRARY : sort;
+        if (matched.size() > 1) {
+            Comparator<Match> byDistance = Comparator.comparingDouble(Match::distanceSquared);
+            switch (effective) {
+                case NEAREST:
+                case FURTHEST:
+                    if (limit == 1) {
+                        // Single pass instead of a full sort for @p-style queries
+                        Match best = effective == Sort.NEAREST
+                            ? Collections.min(matched, byDistance) : Collections.max(matched, byDistance);
+                        return List.of(best.player());
+                    }
+                    matched.sort(effective == Sort.NEAREST ? byDistance : byDistance.reversed());
+                    break;
+                case RANDOM:
+                    Collections.shuffle(matched, ThreadLocalRandom.current());
+                    break;
+                default:
+                    break;
+            }
+        }
+        int count = Math.min(limit, matched.size());
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(matched.get(i).player());
+        }
+        return players;
+    }
+
+    // Where console selectors are measured from, like vanilla: the main world's spawn
+    private static Location defaultOrigin() {
+        List<World> worlds = Bukkit.getWorlds();
+        return worlds == null || worlds.isEmpty() ? null : worlds.get(0).getSpawnLocation();
+    }
+
+    private static Location originOf(CommandSender sender) {
+        Location origin = null;
+        if (sender instanceof Entity entity) {
+            origin = entity.getLocation();
+        } else if (sender instanceof BlockCommandSender block) {
+            origin = block.getBlock().getLocation().add(0.5, 0.5, 0.5);
+        }
+        return origin != null && origin.getWorld() != null ? origin : null;
+    }
+
+    private record Match(Player player, double distanceSquared) {
+    }
+
+    private static int defaultLimit(char kind) {
+        return kind == 'a' ? Integer.MAX_VALUE : 1;
+    }
+
+    private static Sort defaultSort(char kind) {
+        switch (kind) {
+            case 'p':
+                return Sort.NEAREST;
+            case 'r':
+                return Sort.RANDOM;
+            default:
+                return Sort.ARBITRARY;
+        }
+    }
+
+    private static PlayerSelector parse(String selector) {
+        if (!isSelector(selector) || selector.length() < 2) {
+            throw new IllegalArgumentException("Not a selector: " + selector);
+        }
+        char kind = Character.toLowerCase(selector.charAt(1));
+        if (kind != 'p' && kind != 'r' && kind != 'a' && kind != 's') {
+            throw new IllegalArgumentException("Unknown selector @" + selector.charAt(1));
+        }
+        Builder builder = new Builder(kind);
+
+        String rest = selector.substring(2);
+        if (rest.isEmpty()) {
+            return new PlayerSelector(builder);
+        }
+        if (!rest.startsWith("[") || !rest.endsWith("]")) {
+            throw new IllegalArgumentException("Expected [arguments] after @" + kind);
+        }
+        String body = rest.substring(1, rest.length() - 1).trim();
+        if (body.isEmpty()) {
+            return new PlayerSelector(builder);
+        }
+        for (String argument : body.split(",")) {
+            int equals = argument.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected key=value in '" + argument.trim() + "'");
+            }
+            String key = argument.substring(0, equals).trim().toLowerCase(Locale.ROOT);
+            String value = argument.substring(equals + 1).trim();
+            builder.apply(key, value);
+        }
+        return new PlayerSelector(builder);
+    }
+
+    /**
+     * Mutable parse state, frozen into a {@link PlayerSelector}.
+     */
+    private static final class Builder {
+        private final char kind;
+        private double minDistance;
+        private double maxDistance = Double.NaN;
+        private int limit;
+        private Sort sort;
+        private String name;
+        private boolean nameNegated;
+        private FragmentType fragment;
+        private boolean anyFragment;
+        private boolean fragmentNegated;
+        private boolean filtersFragment;
+
+        private Builder(char kind) {
+            this.kind = kind;
+            this.limit = defaultLimit(kind);
+            this.sort = defaultSort(kind);
+        }
+
+        private void apply(String key, String value) {
+            switch (key) {
+                case "r":
+                    maxDistance = parseDistance(key, value);
+                    break;
+                case "rm":
+                    minDistance = parseDistance(key, value);
+                    break;
+                case "distance":
+                    applyRange(value);
+                    break;
+                case "limit":
+                    limit = parseLimit(value);
+                    break;
+                case "sort":
+                    sort = parseSort(value);
+                    break;
+                case "name":
+                    nameNegated = value.startsWith("!");
+                    name = nameNegated ? value.substring(1) : value;
+                    break;
+                case "fragment":
+                    applyFragment(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown selector argument '" + key + "'");
+            }
+        }
+
+        private void applyRange(String value) {
+            int dots = value.indexOf("..");
+            if (dots < 0) {
+                double exact = parseDistance("distance", value);
+                minDistance = exact;
+                maxDistance = exact;
+                return;
+            }
+            String low = value.substring(0, dots);
+            String high = value.substring(dots + 2);
+            minDistance = low.isEmpty() ? 0.0 : parseDistance("distance", low);
+            maxDistance = high.isEmpty() ? Double.NaN : parseDistance("distance", high);
+        }
+
+        private void applyFragment(String value) {
+            fragmentNegated = value.startsWith("!");
+            String type = (fragmentNegated ? value.substring(1) : value).toLowerCase(Locale.ROOT);
+            filtersFragment = true;
+            if (type.equals("any") || type.equals("none")) {
+                anyFragment = true;
+                // "none" is "not any"
+                fragmentNegated ^= type.equals("none");
+                fragment = null;
+                return;
+            }
+            anyFragment = false;
+            fragment = FragmentType.fromElementKind(type);
+            if (fragment == null) {
+                throw new IllegalArgumentException("Unknown fragment '" + type + "'");
+            }
+        }
+
+        private static double parseDistance(String key, String value) {
+            try {
+                double distance = Double.parseDouble(value);
+                if (distance < 0.0 || Double.isNaN(distance) || Double.isInfinite(distance)) {
+                    throw new NumberFormatException();
+                }
+                return distance;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + " '" + value + "'");
+            }
+        }
+
+        private static int parseLimit(String value) {
+            try {
+                int limit = Integer.parseInt(value);
+                if (limit < 1) {
+                    throw new NumberFormatException();
+                }
+                return limit;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid limit '" + value + "'");
+            }
+        }
+
+        private static Sort parseSort(String value) {
+            try {
+                return Sort.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid sort '" + value + "'");
+            }
+        }
+    }
+}
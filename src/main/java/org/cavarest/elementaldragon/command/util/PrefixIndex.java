@@ -0,0 +1,120 @@
+package org.cavarest.elementaldragon.command.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable, case-insensitive prefix index over a fixed set of
+ * completions (element names, ability numbers, subcommands...).
+ *
+ * <p>The values are case-folded and sorted once when the index is built, so
+ * a lookup is a binary search for the first match followed by a scan of the
+ * contiguous run of matches. Results are read-only views over the index and
+ * are never copied here; callers returning them from {@code onTabComplete}
+ * copy them, since Bukkit and other plugins may modify the list.</p>
+ */
+public final class PrefixIndex {
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new String[0]);
+
+    private final String[] folded;
+    private final List<String> values;
+
+    private PrefixIndex(String[] folded, String[] values) {
+        this.folded = folded;
+        this.values = Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * Builds an index over the given completions.
+     *
+     * @param values the completions, in their display case
+     * @return the index
+     */
+    public static PrefixIndex of(String... values) {
+        return of(Arrays.asList(values));
+    }
+
+    /**
+     * Builds an index over the given completions.
+     *
+     * @param values the completions, in their display case
+     * @return the index
+     */
+    public static PrefixIndex of(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+        String[] sorted = values.toArray(new String[0]);
+        Arrays.sort(sorted, Comparator.comparing(PrefixIndex::fold));
+        String[] folded = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            folded[i] = fold(sorted[i]);
+        }
+        return new PrefixIndex(folded, sorted);
+    }
+
+    /**
+     * Case-folds a completion or partial argument for matching.
+     *
+     * @param value the value
+     * @return the lower-case value
+     */
+    public static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets every completion starting with a prefix, ignoring case.
+     *
+     * @param prefix the partial argument typed so far
+     * @return a read-only view of the matching completions, in sorted order
+     */
+    public List<String> complete(String prefix) {
+        return complete(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets at most {@code limit} completions starting with a prefix, ignoring case.
+     *
+     * @param prefix the partial argument typed so far
+     * @param limit the maximum number of completions returned
+     * @return a read-only view of the matching completions, in sorted order
+     */
+    public List<String> complete(String prefix, int limit) {
+        String key = prefix == null ? "" : fold(prefix);
+        int from = lowerBound(key);
+        int to = from;
+        while (to < folded.length && to - from < limit && folded[to].startsWith(key)) {
+            to++;
+        }
+        return values.subList(from, to);
+    }
+
+    /**
+     * Gets every completion in the index.
+     *
+     * @return a read-only view of all completions, in sorted order
+     */
+    public List<String> values() {
+        return values;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = folded.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (folded[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
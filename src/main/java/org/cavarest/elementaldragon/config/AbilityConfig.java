@@ -0,0 +1,229 @@
+package org.cavarest.elementaldragon.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of all ability tuning values.
+ *
+ * Values are stored in flat arrays indexed by {@link AbilityId} and
+ * {@link AbilityParam} ordinals, so a lookup on a hot path is one volatile
+ * read plus an array access. The live snapshot is swapped atomically by
+ * {@link #install} (see {@link AbilityConfigManager}); callers should read
+ * {@link #current()} once per operation so a cast never sees a mix of old
+ * and new values.
+ *
+ * Usage:
+ * <pre>
+ * AbilityConfig config = AbilityConfig.current();
+ * double damage = config.get(AbilityParam.DRAGONS_WRATH_DAMAGE);
+ * int cooldown = config.getCooldownSeconds(AbilityId.FIRE_1);
+ * </pre>
+ */
+public final class AbilityConfig {
+
+  private static final AbilityId[] ABILITIES = AbilityId.values();
+  private static final AbilityParam[] PARAMS = AbilityParam.values();
+
+  // Upper bounds for per-ability values (1 day cooldown, 1 hour duration)
+  private static final int MAX_COOLDOWN_SECONDS = 86400;
+  private static final int MAX_DURATION_TICKS = 72000;
+
+  private static final AbilityConfig DEFAULTS = createDefaults();
+
+  private static volatile AbilityConfig current = DEFAULTS;
+
+  private final int[] cooldownSeconds;
+  private final int[] durationTicks;
+  private final double[] params;
+
+  private AbilityConfig(int[] cooldownSeconds, int[] durationTicks, double[] params) {
+    this.cooldownSeconds = cooldownSeconds;
+    this.durationTicks = durationTicks;
+    this.params = params;
+  }
+
+  /**
+   * Get the live configuration snapshot.
+   *
+   * @return The current snapshot (never null)
+   */
+  public static AbilityConfig current() {
+    return current;
+  }
+
+  /**
+   * Replace the live configuration snapshot.
+   *
+   * @param config The new snapshot
+   */
+  public static void install(AbilityConfig config) {
+    if (config != null) {
+      current = config;
+    }
+  }
+
+  /**
+   * Get the built-in defaults (original ability specification).
+   *
+   * @return The default snapshot
+   */
+  public static AbilityConfig defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Compile a snapshot from a configuration.
+   * Missing values fall back to defaults; invalid or out-of-range values fall
+   * back to defaults and are reported in {@code problems}.
+   *
+   * @param root The root configuration (containing the "abilities" section)
+   * @param problems Receives one human-readable message per rejected value
+   * @return The compiled snapshot
+   */
+  public static AbilityConfig parse(ConfigurationSection root, List<String> problems) {
+    int[] cooldowns = new int[ABILITIES.length];
+    int[] durations = new int[ABILITIES.length];
+    double[] values = new double[PARAMS.length];
+
+    for (AbilityId id : ABILITIES) {
+      cooldowns[id.ordinal()] = (int) read(root, id.getConfigPath() + ".cooldown",
+        id.getDefaultCooldownSeconds(), 0, MAX_COOLDOWN_SECONDS, true, problems);
+
+      // Instant abilities have no duration to configure
+      durations[id.ordinal()] = id.getDefaultDurationTicks() == 0
+        ? 0
+        : (int) read(root, id.getConfigPath() + ".duration_ticks",
+            id.getDefaultDurationTicks(), 1, MAX_DURATION_TICKS, true, problems);
+    }
+
+    for (AbilityParam param : PARAMS) {
+      values[param.ordinal()] = read(root, param.getConfigPath(),
+        param.getDefaultValue(), param.getMin(), param.getMax(), false, problems);
+    }
+
+    return new AbilityConfig(cooldowns, durations, values);
+  }
+
+  // ==================== Lookups ====================
+
+  /**
+   * Get the cooldown for an ability.
+   *
+   * @param id The ability
+   * @return Cooldown in seconds
+   */
+  public int getCooldownSeconds(AbilityId id) {
+    return cooldownSeconds[id.ordinal()];
+  }
+
+  /**
+   * Get the active duration for an ability.
+   *
+   * @param id The ability
+   * @return Duration in ticks (0 for instant abilities)
+   */
+  public int getDurationTicks(AbilityId id) {
+    return durationTicks[id.ordinal()];
+  }
+
+  /**
+   * Get the active duration for an ability in whole seconds, for display.
+   *
+   * @param id The ability
+   * @return Duration in seconds (0 for instant abilities)
+   */
+  public int getDurationSeconds(AbilityId id) {
+    return durationTicks[id.ordinal()] / 20;
+  }
+
+  /**
+   * Get a tuning value.
+   *
+   * @param param The parameter
+   * @return The value
+   */
+  public double get(AbilityParam param) {
+    return params[param.ordinal()];
+  }
+
+  /**
+   * Get a tuning value as an int (tick counts, strike counts).
+   *
+   * @param param The parameter
+   * @return The value, rounded to the nearest int
+   */
+  public int getInt(AbilityParam param) {
+    return (int) Math.round(params[param.ordinal()]);
+  }
+
+  /**
+   * Get an on/off flag.
+   *
+   * @param param The parameter (a 0..1 flag)
+   * @return true if the flag is set
+   */
+  public boolean isEnabled(AbilityParam param) {
+    return params[param.ordinal()] != 0.0;
+  }
+
+  // ==================== Internals ====================
+
+  private static AbilityConfig createDefaults() {
+    int[] cooldowns = new int[ABILITIES.length];
+    int[] durations = new int[ABILITIES.length];
+    double[] values = new double[PARAMS.length];
+
+    for (AbilityId id : ABILITIES) {
+      cooldowns[id.ordinal()] = id.getDefaultCooldownSeconds();
+      durations[id.ordinal()] = id.getDefaultDurationTicks();
+    }
+    for (AbilityParam param : PARAMS) {
+      values[param.ordinal()] = param.getDefaultValue();
+    }
+
+    return new AbilityConfig(cooldowns, durations, values);
+  }
+
+  private static double read(
+    ConfigurationSection root,
+    String path,
+    double defaultValue,
+    double min,
+    double max,
+    boolean wholeNumber,
+    List<String> problems
+  ) {
+    if (root == null || !root.contains(path)) {
+      return defaultValue;
+    }
+
+    Object raw = root.get(path);
+    if (raw instanceof Boolean flag) {
+      // Flags may be written as true/false
+      raw = flag ? 1 : 0;
+    }
+    if (!(raw instanceof Number)) {
+      problems.add(path + ": '" + raw + "' is not a number, using " + format(defaultValue));
+      return defaultValue;
+    }
+
+    double value = ((Number) raw).doubleValue();
+    if (Double.isNaN(value) || value < min || value > max) {
+      problems.add(path + ": " + raw + " is outside " + format(min) + ".." + format(max)
+        + ", using " + format(defaultValue));
+      return defaultValue;
+    }
+    if (wholeNumber && value != Math.rint(value)) {
+      problems.add(path + ": " + raw + " must be a whole number, using " + format(defaultValue));
+      return defaultValue;
+    }
+
+    return value;
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+  }
+}
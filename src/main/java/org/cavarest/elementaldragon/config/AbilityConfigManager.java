@@ -0,0 +1,144 @@
+package org.cavarest.elementaldragon.config;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.message.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads the "abilities" section of config.yml into {@link AbilityConfig}.
+ *
+ * On startup the config is compiled synchronously. On {@code /ed reload} the
+ * file is read, parsed and validated on an async thread; if it is valid the
+ * new snapshot is installed in one step and the derived state (global
+ * cooldowns, HUD) is refreshed on the global region. A YAML syntax error
+ * keeps the previous snapshot.
+ *
+ * The message catalogs ({@code messages/<locale>.yml}) are re-parsed by the
+ * same reload, off the main thread, and swapped in together with the config.
+ *
+ * Global cooldowns set with {@code /ed setglobalcooldown} survive a reload;
+ * the reload logs how many were kept over the config.yml values.
+ */
+public class AbilityConfigManager {
+
+  private final ElementalDragon plugin;
+  private final AtomicBoolean reloading = new AtomicBoolean(false);
+
+  /**
+   * Create a new AbilityConfigManager.
+   *
+   * @param plugin The plugin instance
+   */
+  public AbilityConfigManager(ElementalDragon plugin) {
+    this.plugin = plugin;
+  }
+
+  /**
+   * Compile and install the ability config from the plugin's loaded config.yml.
+   * Called once during enable, before managers read their defaults.
+   */
+  public void load() {
+    List<String> problems = new ArrayList<>();
+    AbilityConfig config = AbilityConfig.parse(plugin.getConfig(), problems);
+    logProblems(problems);
+    AbilityConfig.install(config);
+  }
+
+  /**
+   * Parse and install the message catalogs from the data folder's messages directory,
+   * refreshing the example copy of the bundled catalog there.
+   * Called once during enable.
+   */
+  public void loadMessages() {
+    List<String> problems = new ArrayList<>();
+    File directory = new File(plugin.getDataFolder(), "messages");
+    Messages.writeExample(directory, problems);
+    Messages.install(Messages.load(directory, problems));
+    logProblems(problems);
+  }
+
+  /**
+   * Re-read config.yml off the main thread and swap in the new ability config.
+   *
+   * @param sender Receives the result (may be null)
+   * @return false if a reload is already in progress
+   */
+  public boolean reloadAsync(CommandSender sender) {
+    if (!reloading.compareAndSet(false, true)) {
+      return false;
+    }
+
+    File file = new File(plugin.getDataFolder(), "config.yml");
+    plugin.getTaskScheduler().runAsync(() -> {
+      try {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.load(file);
+
+        List<String> problems = new ArrayList<>();
+        AbilityConfig config = AbilityConfig.parse(yaml, problems);
+        Messages messages = Messages.load(new File(plugin.getDataFolder(), "messages"), problems);
+
+        plugin.getTaskScheduler().runGlobal(() -> {
+          Messages.install(messages);
+          apply(config);
+          logProblems(problems);
+          notify(sender, Component.text(
+            "Ability config reloaded" + (problems.isEmpty() ? "." : " with " + problems.size()
+              + " invalid value(s) - see console."),
+            problems.isEmpty() ? NamedTextColor.GREEN : NamedTextColor.YELLOW
+          ));
+        });
+      } catch (IOException | InvalidConfigurationException e) {
+        plugin.getLogger().warning("Failed to reload config.yml: " + e.getMessage());
+        // Reply from the global region, like the success path - never from the async thread
+        Component failure = Component.text(
+          "Failed to reload config.yml, keeping current values: " + e.getMessage(), NamedTextColor.RED
+        );
+        plugin.getTaskScheduler().runGlobal(() -> notify(sender, failure));
+      } finally {
+        reloading.set(false);
+      }
+    });
+    return true;
+  }
+
+  /**
+   * Install a snapshot and refresh state derived from it.
+   */
+  private void apply(AbilityConfig config) {
+    AbilityConfig.install(config);
+
+    if (plugin.getCooldownManager() != null) {
+      int kept = plugin.getCooldownManager().applyAbilityConfig(config);
+      if (kept > 0) {
+        plugin.getLogger().info("[Config] Kept " + kept
+          + " global cooldown(s) set with /ed setglobalcooldown (reset with 'default')");
+      }
+    }
+    if (plugin.getHudManager() != null) {
+      plugin.getHudManager().updateAllPlayerHuds();
+    }
+  }
+
+  private void logProblems(List<String> problems) {
+    for (String problem : problems) {
+      plugin.getLogger().warning("[Config] " + problem);
+    }
+  }
+
+  private void notify(CommandSender sender, Component message) {
+    if (sender != null) {
+      sender.sendMessage(message);
+    }
+  }
+}
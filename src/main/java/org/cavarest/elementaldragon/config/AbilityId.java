@@ -0,0 +1,96 @@
+package org.cavarest.elementaldragon.config;
+
+import org.cavarest.elementaldragon.cooldown.CooldownManager;
+
+/**
+ * Every castable ability, in a fixed order used to index {@link AbilityConfig} arrays.
+ *
+ * Each entry carries the default cooldown (seconds) and active duration (ticks)
+ * used when config.yml does not override them. A duration of 0 means the
+ * ability is instant.
+ */
+public enum AbilityId {
+  LIGHTNING(CooldownManager.LIGHTNING, 1, "lightning_strike", 60, 0),
+  FIRE_1(CooldownManager.FIRE, 1, "dragons_wrath", 40, 0),
+  FIRE_2(CooldownManager.FIRE, 2, "infernal_dominion", 60, 200),
+  AGILE_1(CooldownManager.AGILE, 1, "draconic_surge", 30, 20),
+  AGILE_2(CooldownManager.AGILE, 2, "wing_burst", 45, 40),
+  IMMORTAL_1(CooldownManager.IMMORTAL, 1, "draconic_reflex", 90, 300),
+  IMMORTAL_2(CooldownManager.IMMORTAL, 2, "essence_rebirth", 300, 600),
+  CORRUPT_1(CooldownManager.CORRUPT, 1, "dread_gaze", 60, 80),
+  CORRUPT_2(CooldownManager.CORRUPT, 2, "life_devourer", 90, 400);
+
+  private static final AbilityId[] VALUES = values();
+
+  private final String element;
+  private final int number;
+  private final String configName;
+  private final int defaultCooldownSeconds;
+  private final int defaultDurationTicks;
+
+  AbilityId(String element, int number, String configName, int defaultCooldownSeconds, int defaultDurationTicks) {
+    this.element = element;
+    this.number = number;
+    this.configName = configName;
+    this.defaultCooldownSeconds = defaultCooldownSeconds;
+    this.defaultDurationTicks = defaultDurationTicks;
+  }
+
+  /**
+   * Get the canonical element name (fire, agile, immortal, corrupt, lightning).
+   *
+   * @return The element name
+   */
+  public String getElement() {
+    return element;
+  }
+
+  /**
+   * Get the ability number within its element.
+   *
+   * @return The ability number (1 or 2)
+   */
+  public int getNumber() {
+    return number;
+  }
+
+  /**
+   * Get the config.yml section path, e.g. "abilities.fire.dragons_wrath".
+   *
+   * @return The config path
+   */
+  public String getConfigPath() {
+    return "abilities." + element + "." + configName;
+  }
+
+  public int getDefaultCooldownSeconds() {
+    return defaultCooldownSeconds;
+  }
+
+  public int getDefaultDurationTicks() {
+    return defaultDurationTicks;
+  }
+
+  /**
+   * Look up an ability by element and number.
+   * Lightning accepts ability number 0 (as used by the HUD) or 1.
+   *
+   * @param element Canonical element name
+   * @param number The ability number
+   * @return The ability, or null if unknown
+   */
+  public static AbilityId of(String element, int number) {
+    if (element == null) {
+      return null;
+    }
+    if (CooldownManager.LIGHTNING.equals(element)) {
+      return number <= 1 ? LIGHTNING : null;
+    }
+    for (AbilityId id : VALUES) {
+      if (id.number == number && id.element.equals(element)) {
+        return id;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,87 @@
+package org.cavarest.elementaldragon.config;
+
+/**
+ * Numeric ability tuning values, in a fixed order used to index {@link AbilityConfig}.
+ *
+ * Each parameter lives under its ability's config section
+ * (e.g. {@code abilities.fire.dragons_wrath.damage}) and is validated
+ * against an inclusive [min, max] range when the config is parsed.
+ * Tick-based values are stored as doubles and read with {@link AbilityConfig#getInt};
+ * on/off flags are 0..1 ranges read with {@link AbilityConfig#isEnabled}.
+ */
+public enum AbilityParam {
+  // Lightning Strike
+  LIGHTNING_DAMAGE_PER_STRIKE(AbilityId.LIGHTNING, "damage_per_strike", 4.0, 0.0, 1000.0),
+  LIGHTNING_STRIKE_COUNT(AbilityId.LIGHTNING, "strike_count", 3, 1, 20),
+  LIGHTNING_STRIKE_INTERVAL_TICKS(AbilityId.LIGHTNING, "strike_interval_ticks", 10, 1, 200),
+  LIGHTNING_RANGE(AbilityId.LIGHTNING, "range", 50.0, 1.0, 128.0),
+  LIGHTNING_COSMETIC_BOLT(AbilityId.LIGHTNING, "cosmetic_bolt", 0, 0, 1),
+
+  // Dragon's Wrath
+  DRAGONS_WRATH_DAMAGE(AbilityId.FIRE_1, "damage", 8.0, 0.0, 1000.0),
+  DRAGONS_WRATH_AOE_RADIUS(AbilityId.FIRE_1, "aoe_radius", 5.0, 0.0, 32.0),
+  DRAGONS_WRATH_HOMING_TICKS(AbilityId.FIRE_1, "homing_ticks", 10, 0, 200),
+  DRAGONS_WRATH_TARGET_RANGE(AbilityId.FIRE_1, "target_range", 50.0, 1.0, 128.0),
+  DRAGONS_WRATH_VELOCITY(AbilityId.FIRE_1, "velocity", 1.5, 0.1, 10.0),
+  DRAGONS_WRATH_VIRTUAL_PROJECTILE(AbilityId.FIRE_1, "virtual_projectile", 0, 0, 1),
+
+  // Infernal Dominion
+  INFERNAL_DOMINION_RADIUS(AbilityId.FIRE_2, "radius", 10.0, 1.0, 32.0),
+  INFERNAL_DOMINION_DAMAGE_PER_PULSE(AbilityId.FIRE_2, "damage_per_pulse", 1.0, 0.0, 1000.0),
+
+  // Draconic Surge
+  DRACONIC_SURGE_DISTANCE(AbilityId.AGILE_1, "distance", 20.0, 1.0, 100.0),
+  DRACONIC_SURGE_FALL_PROTECTION(AbilityId.AGILE_1, "fall_protection_ticks", 200, 0, 6000),
+  DRACONIC_SURGE_COLLISION_DAMAGE(AbilityId.AGILE_1, "collision_damage", 6.0, 0.0, 1000.0),
+  DRACONIC_SURGE_COLLISION_RADIUS(AbilityId.AGILE_1, "collision_radius", 2.0, 0.5, 8.0),
+
+  // Wing Burst
+  WING_BURST_RADIUS(AbilityId.AGILE_2, "radius", 8.0, 1.0, 32.0),
+  WING_BURST_DISTANCE(AbilityId.AGILE_2, "distance", 20.0, 1.0, 100.0),
+  WING_BURST_FALL_SLOW_DURATION(AbilityId.AGILE_2, "fall_slow_ticks", 200, 0, 6000),
+
+  // Draconic Reflex
+  DRACONIC_REFLEX_DODGE_CHANCE(AbilityId.IMMORTAL_1, "dodge_chance", 0.2, 0.0, 1.0),
+
+  // Life Devourer
+  LIFE_DEVOURER_STEAL_PERCENT(AbilityId.CORRUPT_2, "steal_percent", 0.25, 0.0, 1.0);
+
+  private final AbilityId ability;
+  private final String key;
+  private final double defaultValue;
+  private final double min;
+  private final double max;
+
+  AbilityParam(AbilityId ability, String key, double defaultValue, double min, double max) {
+    this.ability = ability;
+    this.key = key;
+    this.defaultValue = defaultValue;
+    this.min = min;
+    this.max = max;
+  }
+
+  public AbilityId getAbility() {
+    return ability;
+  }
+
+  /**
+   * Get the full config.yml path, e.g. "abilities.fire.dragons_wrath.damage".
+   *
+   * @return The config path
+   */
+  public String getConfigPath() {
+    return ability.getConfigPath() + "." + key;
+  }
+
+  public double getDefaultValue() {
+    return defaultValue;
+  }
+
+  public double getMin() {
+    return min;
+  }
+
+  public double getMax() {
+    return max;
+  }
+}
@@ -0,0 +1,289 @@
+package org.cavarest.elementaldragon.cooldown;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-player token buckets that cap how often a player can trigger expensive
+ * work (ability commands, equip clicks) and how often they are told about it.
+ *
+ * Unlike CooldownManager, which enforces gameplay cooldowns, this only guards
+ * the server against spam: a throttled action is dropped silently before any
+ * inventory scan, permission check or message building happens.
+ *
+ * Buckets live in an open-addressed table keyed by the two halves of the
+ * player's UUID, with token counts and refill timestamps in flat primitive
+ * arrays, so a check allocates nothing. Entries are removed on quit.
+ * Methods are synchronized because on Folia players are ticked on different
+ * region threads; the lock is uncontended in practice.
+ */
+public class ActionThrottle implements Listener {
+
+  /**
+   * Throttled action kinds, each with its own bucket per player.
+   */
+  public enum Channel {
+    // /fire 1, /lightning 1, ... - short bursts allowed, then 2 per second
+    ABILITY("ability", 4, 2.0),
+    // Right-click equip - one every 500ms
+    EQUIP("equip", 1, 2.0),
+    // "Ability on cooldown!" feedback - at most once per second
+    COOLDOWN_MESSAGE("cooldown_message", 1, 1.0);
+
+    private final String configKey;
+    private final int defaultBurst;
+    private final double defaultPerSecond;
+
+    Channel(String configKey, int defaultBurst, double defaultPerSecond) {
+      this.configKey = configKey;
+      this.defaultBurst = defaultBurst;
+      this.defaultPerSecond = defaultPerSecond;
+    }
+  }
+
+  private static final Channel[] CHANNELS = Channel.values();
+  private static final int CHANNEL_COUNT = CHANNELS.length;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final LongSupplier nanoClock;
+
+  // Per-channel settings
+  private final double[] burst = new double[CHANNEL_COUNT];
+  private final double[] tokensPerNano = new double[CHANNEL_COUNT];
+
+  // Open-addressed table (linear probing, capacity is a power of two)
+  private long[] keyMost;
+  private long[] keyLeast;
+  private boolean[] used;
+  private double[] tokens;       // [slot * CHANNEL_COUNT + channel]
+  private long[] lastRefill;     // [slot * CHANNEL_COUNT + channel], nanos
+  private int size;
+
+  /**
+   * Create a throttle using the system clock and default limits.
+   */
+  public ActionThrottle() {
+    this(System::nanoTime);
+  }
+
+  /**
+   * Create a throttle with a custom clock (for testing).
+   *
+   * @param nanoClock Monotonic time source in nanoseconds
+   */
+  public ActionThrottle(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    for (Channel channel : CHANNELS) {
+      setLimit(channel, channel.defaultBurst, channel.defaultPerSecond);
+    }
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Read limits from the "throttle" section of config.yml.
+   * Missing or invalid values keep the defaults.
+   *
+   * @param section The throttle section (may be null)
+   */
+  public void configure(ConfigurationSection section) {
+    if (section == null) {
+      return;
+    }
+    for (Channel channel : CHANNELS) {
+      int channelBurst = section.getInt(channel.configKey + ".burst", channel.defaultBurst);
+      double perSecond = section.getDouble(channel.configKey + ".per_second", channel.defaultPerSecond);
+      if (channelBurst >= 1 && perSecond > 0) {
+        setLimit(channel, channelBurst, perSecond);
+      }
+    }
+  }
+
+  /**
+   * Set the burst size and refill rate for a channel.
+   *
+   * @param channel The channel
+   * @param burstSize Maximum actions allowed back-to-back (at least 1)
+   * @param perSecond Sustained actions per second
+   */
+  public synchronized void setLimit(Channel channel, int burstSize, double perSecond) {
+    burst[channel.ordinal()] = Math.max(1, burstSize);
+    tokensPerNano[channel.ordinal()] = perSecond / 1_000_000_000.0;
+  }
+
+  /**
+   * Take one token from the player's bucket for a channel.
+   *
+   * @param player The player
+   * @param channel The channel
+   * @return true if the action may proceed, false if it should be dropped
+   */
+  public boolean tryAcquire(Player player, Channel channel) {
+    return player == null || tryAcquire(player.getUniqueId(), channel);
+  }
+
+  /**
+   * Take one token from the player's bucket for a channel.
+   *
+   * @param playerId The player's UUID
+   * @param channel The channel
+   * @return true if the action may proceed, false if it should be dropped
+   */
+  public synchronized boolean tryAcquire(UUID playerId, Channel channel) {
+    int c = channel.ordinal();
+    int index = findOrInsert(playerId) * CHANNEL_COUNT + c;
+    long now = nanoClock.getAsLong();
+
+    double available = Math.min(burst[c], tokens[index] + (now - lastRefill[index]) * tokensPerNano[c]);
+    lastRefill[index] = now;
+
+    if (available < 1.0) {
+      tokens[index] = available;
+      return false;
+    }
+    tokens[index] = available - 1.0;
+    return true;
+  }
+
+  /**
+   * Drop all buckets for a player.
+   *
+   * @param playerId The player's UUID
+   */
+  public synchronized void remove(UUID playerId) {
+    int slot = find(playerId);
+    if (slot < 0) {
+      return;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones
+    int mask = keyMost.length - 1;
+    int hole = slot;
+    int next = (hole + 1) & mask;
+    while (used[next]) {
+      int home = hash(keyMost[next], keyLeast[next]) & mask;
+      // Move the entry into the hole if its home is not within (hole, next]
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        moveSlot(next, hole);
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    used[hole] = false;
+    size--;
+  }
+
+  /**
+   * Number of players currently tracked.
+   *
+   * @return The number of players with buckets
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    remove(event.getPlayer().getUniqueId());
+  }
+
+  // ==================== Table ====================
+
+  private int find(UUID playerId) {
+    long most = playerId.getMostSignificantBits();
+    long least = playerId.getLeastSignificantBits();
+    int mask = keyMost.length - 1;
+    int slot = hash(most, least) & mask;
+    while (used[slot]) {
+      if (keyMost[slot] == most && keyLeast[slot] == least) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private int findOrInsert(UUID playerId) {
+    long most = playerId.getMostSignificantBits();
+    long least = playerId.getLeastSignificantBits();
+    int mask = keyMost.length - 1;
+    int slot = hash(most, least) & mask;
+    while (used[slot]) {
+      if (keyMost[slot] == most && keyLeast[slot] == least) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    // New player - start with full buckets
+    if ((size + 1) * 2 > keyMost.length) {
+      grow();
+      return findOrInsert(playerId);
+    }
+    used[slot] = true;
+    keyMost[slot] = most;
+    keyLeast[slot] = least;
+    long now = nanoClock.getAsLong();
+    for (int c = 0; c < CHANNEL_COUNT; c++) {
+      tokens[slot * CHANNEL_COUNT + c] = burst[c];
+      lastRefill[slot * CHANNEL_COUNT + c] = now;
+    }
+    size++;
+    return slot;
+  }
+
+  private void moveSlot(int from, int to) {
+    keyMost[to] = keyMost[from];
+    keyLeast[to] = keyLeast[from];
+    used[to] = true;
+    System.arraycopy(tokens, from * CHANNEL_COUNT, tokens, to * CHANNEL_COUNT, CHANNEL_COUNT);
+    System.arraycopy(lastRefill, from * CHANNEL_COUNT, lastRefill, to * CHANNEL_COUNT, CHANNEL_COUNT);
+  }
+
+  private void grow() {
+    long[] oldMost = keyMost;
+    long[] oldLeast = keyLeast;
+    boolean[] oldUsed = used;
+    double[] oldTokens = tokens;
+    long[] oldRefill = lastRefill;
+
+    allocate(oldMost.length * 2);
+    int mask = keyMost.length - 1;
+    for (int i = 0; i < oldMost.length; i++) {
+      if (!oldUsed[i]) {
+        continue;
+      }
+      int slot = hash(oldMost[i], oldLeast[i]) & mask;
+      while (used[slot]) {
+        slot = (slot + 1) & mask;
+      }
+      used[slot] = true;
+      keyMost[slot] = oldMost[i];
+      keyLeast[slot] = oldLeast[i];
+      System.arraycopy(oldTokens, i * CHANNEL_COUNT, tokens, slot * CHANNEL_COUNT, CHANNEL_COUNT);
+      System.arraycopy(oldRefill, i * CHANNEL_COUNT, lastRefill, slot * CHANNEL_COUNT, CHANNEL_COUNT);
+    }
+  }
+
+  private void allocate(int capacity) {
+    keyMost = new long[capacity];
+    keyLeast = new long[capacity];
+    used = new boolean[capacity];
+    tokens = new double[capacity * CHANNEL_COUNT];
+    lastRefill = new long[capacity * CHANNEL_COUNT];
+  }
+
+  private static int hash(long most, long least) {
+    long h = most ^ least;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+}
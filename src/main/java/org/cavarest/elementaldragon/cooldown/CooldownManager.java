@@ -1,15 +1,21 @@
 package org.cavarest.elementaldragon.cooldown;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.audit.AuditLog;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerJoinEvent;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Centralized cooldown management for ALL elemental abilities.
@@ -34,6 +40,9 @@ public class CooldownManager implements Listener {
   // Global cooldown configuration: Element:Ability -> Default Duration (seconds)
   private final Map<String, Integer> globalCooldowns;
 
+  // Runtime /ed setglobalcooldown values, re-applied over config.yml on reload
+  private final Map<String, Integer> globalOverrides = new ConcurrentHashMap<>();
+
   /**
    * Create a new CooldownManager.
    *
@@ -41,34 +50,36 @@ public class CooldownManager implements Listener {
    */
   public CooldownManager(ElementalDragon plugin) {
     this.plugin = plugin;
-    this.cooldowns = new HashMap<>();
-    this.globalCooldowns = new HashMap<>();
+    // Concurrent: on Folia, abilities are cast from multiple region threads
+    this.cooldowns = new ConcurrentHashMap<>();
+    this.globalCooldowns = new ConcurrentHashMap<>();
     initializeDefaultCooldowns();
     registerEventListeners();
   }
 
   /**
-   * Initialize default global cooldowns for all elements and abilities.
+   * Initialize default global cooldowns for all elements and abilities
+   * from the live ability config (config.yml, falling back to built-in defaults).
    */
   private void initializeDefaultCooldowns() {
-    // Lightning ability (only has ability 1)
-    globalCooldowns.put(makeKey(LIGHTNING, 1), 60);
-
-    // Fire fragment abilities (match BurningFragment constants)
-    globalCooldowns.put(makeKey(FIRE, 1), 40);  // Dragon's Wrath (40s)
-    globalCooldowns.put(makeKey(FIRE, 2), 60);  // Infernal Dominion (60s)
-
-    // Agility fragment abilities (match AgilityFragment constants)
-    globalCooldowns.put(makeKey(AGILE, 1), 30);  // Draconic Surge (30s)
-    globalCooldowns.put(makeKey(AGILE, 2), 45);  // Wing Burst (45s)
-
-    // Immortal fragment abilities (match ImmortalFragment constants)
-    globalCooldowns.put(makeKey(IMMORTAL, 1), 90);   // Draconic Reflex (90s)
-    globalCooldowns.put(makeKey(IMMORTAL, 2), 300);  // Essence Rebirth (5 min)
+    applyAbilityConfig(AbilityConfig.current());
+  }
 
-    // Corrupted Core abilities (match CorruptedCoreFragment constants)
-    globalCooldowns.put(makeKey(CORRUPT, 1), 60);  // Dread Gaze (60s)
-    globalCooldowns.put(makeKey(CORRUPT, 2), 90);  // Life Devourer (90s)
+  /**
+   * Reset global cooldowns to the values in an ability config snapshot.
+   * Called on startup and after {@code /ed reload}. Global cooldowns set at
+   * runtime with {@code /ed setglobalcooldown} are kept on top of the new
+   * values until reset with {@code default}.
+   *
+   * @param config The ability config snapshot
+   * @return The number of runtime overrides kept
+   */
+  public int applyAbilityConfig(AbilityConfig config) {
+    for (AbilityId id : AbilityId.values()) {
+      globalCooldowns.put(makeKey(id.getElement(), id.getNumber()), config.getCooldownSeconds(id));
+    }
+    globalCooldowns.putAll(globalOverrides);
+    return globalOverrides.size();
   }
 
   /**
@@ -82,9 +93,7 @@ public class CooldownManager implements Listener {
    * Register event listeners for cooldown management.
    */
   private void registerEventListeners() {
-    if (plugin != null && plugin.getServer() != null) {
-      plugin.getServer().getPluginManager().registerEvents(this, plugin);
-    }
+    Lifecycle.of(plugin).registerEvents(this);
   }
 
   /**
@@ -105,10 +114,11 @@ public class CooldownManager implements Listener {
 
     Map<String, Long> playerCooldowns = cooldowns.computeIfAbsent(
       playerUuid,
-      k -> new HashMap<>()
+      k -> new ConcurrentHashMap<>()
     );
 
     playerCooldowns.put(makeKey(element, abilityNum), cooldownEnd);
+    publish(playerUuid);
   }
 
   /**
@@ -202,6 +212,7 @@ public class CooldownManager implements Listener {
       if (playerCooldowns.isEmpty()) {
         cooldowns.remove(player.getUniqueId());
       }
+      publish(player.getUniqueId());
     }
   }
 
@@ -217,8 +228,8 @@ public class CooldownManager implements Listener {
    * Clear all cooldowns for a player.
    */
   public void clearAllCooldowns(Player player) {
-    if (player != null) {
-      cooldowns.remove(player.getUniqueId());
+    if (player != null && cooldowns.remove(player.getUniqueId()) != null) {
+      publish(player.getUniqueId());
     }
   }
 
@@ -251,12 +262,15 @@ public class CooldownManager implements Listener {
 
   /**
    * Set global cooldown duration for a specific element and ability.
+   * The value outlives {@code /ed reload} until removed.
    */
   public void setGlobalCooldown(String element, int abilityNum, int seconds) {
     if (element == null) {
       return;
     }
-    globalCooldowns.put(makeKey(element, abilityNum), seconds);
+    String key = makeKey(element, abilityNum);
+    globalOverrides.put(key, seconds);
+    globalCooldowns.put(key, seconds);
   }
 
   /**
@@ -277,7 +291,171 @@ public class CooldownManager implements Listener {
     if (element == null) {
       return;
     }
-    globalCooldowns.remove(makeKey(element, abilityNum));
+    String key = makeKey(element, abilityNum);
+    globalOverrides.remove(key);
+    globalCooldowns.remove(key);
+  }
+
+  /**
+   * Set a cooldown for several players in one pass.
+   * Per-player detail goes to the {@link AuditLog}, not the console.
+   *
+   * @param players The players
+   * @param element The element name
+   * @param abilityNum The ability number (1 or 2)
+   * @param seconds Cooldown duration in seconds
+   * @return The number of players updated
+   */
+  public int setCooldowns(Collection<? extends Player> players, String element, int abilityNum, int seconds) {
+    if (element == null) {
+      return 0;
+    }
+    return putAll(players, new String[]{makeKey(element, abilityNum)}, seconds);
+  }
+
+  /**
+   * Set cooldowns for both abilities of an element for several players in one pass.
+   *
+   * @param players The players
+   * @param element The element name
+   * @param seconds Cooldown duration in seconds
+   * @return The number of players updated
+   */
+  public int setCooldowns(Collection<? extends Player> players, String element, int seconds) {
+    if (element == null) {
+      return 0;
+    }
+    return putAll(players, new String[]{makeKey(element, 1), makeKey(element, 2)}, seconds);
+  }
+
+  /**
+   * Clear a cooldown for several players in one pass.
+   *
+   * @param players The players
+   * @param element The element name
+   * @param abilityNum The ability number
+   * @return The number of players that had the cooldown
+   */
+  public int clearCooldowns(Collection<? extends Player> players, String element, int abilityNum) {
+    if (element == null) {
+      return 0;
+    }
+    return removeAll(players, new String[]{makeKey(element, abilityNum)});
+  }
+
+  /**
+   * Clear cooldowns for both abilities of an element for several players in one pass.
+   *
+   * @param players The players
+   * @param element The element name
+   * @return The number of players that had a cooldown
+   */
+  public int clearCooldowns(Collection<? extends Player> players, String element) {
+    if (element == null) {
+      return 0;
+    }
+    return removeAll(players, new String[]{makeKey(element, 1), makeKey(element, 2)});
+  }
+
+  /**
+   * Clear every cooldown for several players.
+   *
+   * @param players The players
+   * @return The number of players that had any cooldown
+   */
+  public int clearAllCooldowns(Collection<? extends Player> players) {
+    if (players == null) {
+      return 0;
+    }
+    AuditLog audit = AuditLog.get();
+    int cleared = 0;
+    for (Player player : players) {
+      if (player != null && cooldowns.remove(player.getUniqueId()) != null) {
+        publish(player.getUniqueId());
+        cleared++;
+        audit.record("cooldown.clear", "all for " + describe(player));
+      }
+    }
+    return cleared;
+  }
+
+  private int putAll(Collection<? extends Player> players, String[] keys, int seconds) {
+    if (players == null) {
+      return 0;
+    }
+    long cooldownEnd = System.currentTimeMillis() + (seconds * 1000L);
+    String detail = String.join(",", keys) + "=" + seconds + "s for ";
+    AuditLog audit = AuditLog.get();
+    int updated = 0;
+    for (Player player : players) {
+      if (player == null) {
+        continue;
+      }
+      Map<String, Long> playerCooldowns = cooldowns.computeIfAbsent(
+        player.getUniqueId(),
+        k -> new ConcurrentHashMap<>()
+      );
+      for (String key : keys) {
+        playerCooldowns.put(key, cooldownEnd);
+      }
+      publish(player.getUniqueId());
+      updated++;
+      audit.record("cooldown.set", detail + describe(player));
+    }
+    return updated;
+  }
+
+  private int removeAll(Collection<? extends Player> players, String[] keys) {
+    if (players == null) {
+      return 0;
+    }
+    String detail = String.join(",", keys) + " for ";
+    AuditLog audit = AuditLog.get();
+    int cleared = 0;
+    for (Player player : players) {
+      if (player == null) {
+        continue;
+      }
+      UUID playerUuid = player.getUniqueId();
+      Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
+      if (playerCooldowns == null) {
+        continue;
+      }
+      boolean removed = false;
+      for (String key : keys) {
+        removed |= playerCooldowns.remove(key) != null;
+      }
+      cooldowns.computeIfPresent(playerUuid, (id, remaining) -> remaining.isEmpty() ? null : remaining);
+      if (removed) {
+        publish(playerUuid);
+        cleared++;
+        audit.record("cooldown.clear", detail + describe(player));
+      }
+    }
+    return cleared;
+  }
+
+  /**
+   * Publish a player's cooldown deadlines to {@link ElementalStates}.
+   * Called after every change, and by the join pipeline once the player is
+   * online (cooldowns outlive a reconnect). Expired entries dropped lazily by
+   * {@link #getRemainingCooldown} are not republished; readers compare the
+   * deadlines with the clock.
+   *
+   * @param player The player
+   */
+  public void publishSnapshot(Player player) {
+    if (player != null) {
+      publish(player.getUniqueId());
+    }
+  }
+
+  private void publish(UUID playerUuid) {
+    ElementalStates.get().setCooldownDeadlines(playerUuid, cooldowns.get(playerUuid));
+  }
+
+  private static String describe(Player player) {
+    return player.getName() + " (" + player.getUniqueId() + ")";
   }
 
   /**
@@ -286,82 +464,70 @@ public class CooldownManager implements Listener {
    * - If newMaxSeconds is 0 (cooldown disabled), clears all active cooldowns
    * - Otherwise, caps cooldowns to min(currentRemaining, newMaxSeconds)
    *
+   * One pass over the cooldown map; per-player changes go to the
+   * {@link AuditLog} and only the total is logged to the console.
+   *
    * @param element The element name
    * @param abilityNum The ability number
    * @param newMaxSeconds The new maximum cooldown in seconds (0 = disabled)
+   * @return The number of players whose cooldown changed
    */
-  public void adjustActiveCooldowns(String element, int abilityNum, int newMaxSeconds) {
+  public int adjustActiveCooldowns(String element, int abilityNum, int newMaxSeconds) {
     if (element == null || newMaxSeconds < 0) {
-      return;
+      return 0;
     }
 
     String key = makeKey(element, abilityNum);
+    long now = System.currentTimeMillis();
+    long newMaxEnd = now + (newMaxSeconds * 1000L);
+    AuditLog audit = AuditLog.get();
     int adjustedPlayers = 0;
 
-    // If cooldown is disabled (0), clear all active cooldowns
-    if (newMaxSeconds == 0) {
-      for (Map.Entry<UUID, Map<String, Long>> entry : cooldowns.entrySet()) {
-        Map<String, Long> playerCooldowns = entry.getValue();
+    for (Map.Entry<UUID, Map<String, Long>> entry : cooldowns.entrySet()) {
+      Map<String, Long> playerCooldowns = entry.getValue();
+      Long cooldownEnd = playerCooldowns.get(key);
+      if (cooldownEnd == null) {
+        continue;
+      }
+
+      // If cooldown is disabled (0), clear every active cooldown
+      if (newMaxSeconds == 0) {
         if (playerCooldowns.remove(key) != null) {
+          publish(entry.getKey());
           adjustedPlayers++;
-          if (plugin != null) {
-            plugin.getLogger().info(
-              "Cleared " + element + ":" + abilityNum + " cooldown for player UUID: " +
-              entry.getKey() + " (cooldown disabled)"
-            );
-          }
+          audit.record("cooldown.adjust", key + " cleared for " + entry.getKey() + " (cooldown disabled)");
         }
+        continue;
       }
-      // Clean up empty maps
-      cooldowns.entrySet().removeIf(e -> e.getValue().isEmpty());
-      
-      if (plugin != null && adjustedPlayers > 0) {
-        plugin.getLogger().info(
-          "Cleared active cooldowns for " + adjustedPlayers + " player(s) on " +
-          element + ":" + abilityNum + " (cooldown disabled)"
-        );
-      }
-      return;
-    }
 
-    // Otherwise, cap cooldowns to new maximum using min()
-    for (Map.Entry<UUID, Map<String, Long>> entry : cooldowns.entrySet()) {
-      Map<String, Long> playerCooldowns = entry.getValue();
-      Long cooldownEnd = playerCooldowns.get(key);
+      long remaining = cooldownEnd - now;
+      if (remaining <= 0) {
+        continue;
+      }
 
-      if (cooldownEnd != null) {
-        // Calculate current remaining time
-        long remaining = cooldownEnd - System.currentTimeMillis();
-        if (remaining > 0) {
-          int currentRemainingSeconds = (int) Math.ceil(remaining / 1000.0);
-
-          // Apply min(currentRemaining, newMaxSeconds) to cap at new maximum
-          int adjustedSeconds = Math.min(currentRemainingSeconds, newMaxSeconds);
-
-          // Only update if there's an actual change
-          if (adjustedSeconds != currentRemainingSeconds) {
-            long newCooldownEnd = System.currentTimeMillis() + (adjustedSeconds * 1000L);
-            playerCooldowns.put(key, newCooldownEnd);
-            adjustedPlayers++;
-
-            if (plugin != null) {
-              plugin.getLogger().info(
-                "Adjusted " + element + ":" + abilityNum + " cooldown from " +
-                currentRemainingSeconds + "s to " + adjustedSeconds + "s for player UUID: " +
-                entry.getKey() + " (capped to new max)"
-              );
-            }
-          }
-        }
+      // Apply min(currentRemaining, newMaxSeconds) to cap at new maximum
+      int currentRemainingSeconds = (int) Math.ceil(remaining / 1000.0);
+      if (currentRemainingSeconds > newMaxSeconds) {
+        playerCooldowns.put(key, newMaxEnd);
+        publish(entry.getKey());
+        adjustedPlayers++;
+        audit.record("cooldown.adjust", key + " " + currentRemainingSeconds + "s -> " +
+          newMaxSeconds + "s for " + entry.getKey() + " (capped to new max)");
       }
     }
 
-    if (plugin != null && adjustedPlayers > 0) {
+    if (newMaxSeconds == 0) {
+      // Clean up empty maps
+      cooldowns.entrySet().removeIf(e -> e.getValue().isEmpty());
+    }
+
+    if (plugin != null && plugin.getLogger() != null && adjustedPlayers > 0) {
       plugin.getLogger().info(
-        "Adjusted active cooldowns for " + adjustedPlayers + " player(s) on " +
-        element + ":" + abilityNum + " to new maximum of " + newMaxSeconds + "s"
+        (newMaxSeconds == 0 ? "Cleared" : "Adjusted") + " active cooldowns for " + adjustedPlayers +
+        " player(s) on " + key + (newMaxSeconds == 0 ? " (cooldown disabled)" : " to new maximum of " + newMaxSeconds + "s")
       );
     }
+    return adjustedPlayers;
   }
 
   /**
@@ -408,29 +574,27 @@ public class CooldownManager implements Listener {
   }
 
   /**
-   * Event handler for player join - cleans up expired cooldowns.
+   * Clean up a joining player's expired cooldowns.
+   * Touches only the in-memory map, so the join pipeline runs it during
+   * AsyncPlayerPreLoginEvent.
+   *
+   * @param playerId The joining player's UUID
    */
-  @EventHandler
-  public void onPlayerJoin(PlayerJoinEvent event) {
-    Player player = event.getPlayer();
-    if (player == null) {
+  public void pruneExpired(UUID playerId) {
+    if (playerId == null) {
       return;
     }
 
-    Map<String, Long> playerCooldowns = cooldowns.get(player.getUniqueId());
+    Map<String, Long> playerCooldowns = cooldowns.get(playerId);
     if (playerCooldowns == null) {
       return;
     }
 
     // Remove expired cooldowns
-    playerCooldowns.entrySet().removeIf(entry -> {
-      long remaining = entry.getValue() - System.currentTimeMillis();
-      return remaining <= 0;
-    });
+    long now = System.currentTimeMillis();
+    playerCooldowns.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
 
     // Clean up empty map
-    if (playerCooldowns.isEmpty()) {
-      cooldowns.remove(player.getUniqueId());
-    }
+    cooldowns.computeIfPresent(playerId, (id, remaining) -> remaining.isEmpty() ? null : remaining);
   }
-}
\ No newline at end of file
+}
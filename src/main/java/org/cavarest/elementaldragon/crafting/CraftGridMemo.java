@@ -0,0 +1,96 @@
+package org.cavarest.elementaldragon.crafting;
+
+import org.bukkit.inventory.ItemStack;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the last fragment-recipe validation per player.
+ *
+ * <p>The server fires {@code PrepareItemCraftEvent} on every change to a
+ * crafting grid, so a player shuffling items around a fragment recipe
+ * triggers the same Heavy Core and craft-limit checks again and again. The
+ * memo keys the verdict on a fingerprint of the grid's materials, the
+ * fragment being crafted and the player's crafted-count version; any change
+ * to one of them is a miss and the checks run again.</p>
+ */
+public final class CraftGridMemo {
+
+  /**
+   * Outcome of validating a fragment recipe grid.
+   */
+  public enum Verdict {
+    /** The craft may proceed. */
+    ALLOW,
+    /** The player has crafted the maximum number of this fragment. */
+    LIMIT_REACHED,
+    /** The center ingredient is not a vanilla Heavy Core. */
+    INVALID_CORE
+  }
+
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Compute a cheap fingerprint of a crafting grid from its slot materials.
+   * Amounts and item meta are ignored; the checks only look at materials.
+   *
+   * @param matrix The crafting matrix
+   * @return Fingerprint of the grid
+   */
+  public static long fingerprint(ItemStack[] matrix) {
+    long hash = matrix.length;
+    for (ItemStack item : matrix) {
+      int material = item == null ? 0 : item.getType().ordinal() + 1;
+      hash = hash * 0x9E3779B97F4A7C15L + material;
+    }
+    return hash;
+  }
+
+  /**
+   * Look up a remembered verdict.
+   *
+   * @param playerId The crafting player
+   * @param fragmentType The fragment the recipe crafts
+   * @param fingerprint Fingerprint of the current grid
+   * @param countVersion The player's current crafted-count version
+   * @return The remembered verdict, or null if the grid or counts changed
+   */
+  public Verdict get(UUID playerId, FragmentType fragmentType, long fingerprint, int countVersion) {
+    Entry entry = entries.get(playerId);
+    if (entry == null
+        || entry.fragmentType != fragmentType
+        || entry.fingerprint != fingerprint
+        || entry.countVersion != countVersion) {
+      return null;
+    }
+    return entry.verdict;
+  }
+
+  /**
+   * Remember a verdict, replacing the player's previous one.
+   *
+   * @param playerId The crafting player
+   * @param fragmentType The fragment the recipe crafts
+   * @param fingerprint Fingerprint of the validated grid
+   * @param countVersion The crafted-count version the verdict was based on
+   * @param verdict The verdict
+   */
+  public void put(UUID playerId, FragmentType fragmentType, long fingerprint, int countVersion, Verdict verdict) {
+    entries.put(playerId, new Entry(fragmentType, fingerprint, countVersion, verdict));
+  }
+
+  /**
+   * Forget a player's remembered verdict (e.g. on quit).
+   *
+   * @param playerId The player
+   */
+  public void forget(UUID playerId) {
+    entries.remove(playerId);
+  }
+
+  private record Entry(FragmentType fragmentType, long fingerprint, int countVersion, Verdict verdict) {
+  }
+}
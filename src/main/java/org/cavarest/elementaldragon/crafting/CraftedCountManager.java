@@ -7,6 +7,10 @@ import org.bukkit.persistence.PersistentDataType;
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Manages persistent tracking of crafted fragment quantities per player.
  *
@@ -17,6 +21,8 @@ import org.cavarest.elementaldragon.fragment.FragmentType;
  * - Corrupted Core: Craftable Quantity = 1
  *
  * Uses Player PersistentDataContainer for storage (survives server restarts).
+ * Each change bumps a per-player version so callers can cache results that
+ * depend on the counts without re-reading the PDC.
  */
 public class CraftedCountManager {
 
@@ -34,6 +40,9 @@ public class CraftedCountManager {
   private static final int IMMORTAL_MAX_CRAFTABLE = 2;
   private static final int CORRUPTED_MAX_CRAFTABLE = 1;
 
+  // Bumped whenever a player's counts change (in memory only)
+  private final Map<UUID, Integer> countVersions = new ConcurrentHashMap<>();
+
   /**
    * Create a new CraftedCountManager.
    *
@@ -91,6 +100,39 @@ public class CraftedCountManager {
 
     int currentCount = getCraftedCount(player, fragmentType);
     pdc.set(key, PersistentDataType.INTEGER, currentCount + 1);
+    countChanged(player);
+  }
+
+  /**
+   * Get the version of a player's crafted counts. The version changes every
+   * time one of the player's counts is incremented or reset.
+   *
+   * @param player The player
+   * @return The current count version
+   */
+  public int getCountVersion(Player player) {
+    UUID playerId = player != null ? player.getUniqueId() : null;
+    if (playerId == null) {
+      return 0;
+    }
+    return countVersions.getOrDefault(playerId, 0);
+  }
+
+  /**
+   * Forget a player's count version (e.g. on quit). Anything cached against
+   * the old version must be forgotten with it.
+   *
+   * @param playerId The player
+   */
+  public void forget(UUID playerId) {
+    countVersions.remove(playerId);
+  }
+
+  private void countChanged(Player player) {
+    UUID playerId = player.getUniqueId();
+    if (playerId != null) {
+      countVersions.merge(playerId, 1, Integer::sum);
+    }
   }
 
   /**
@@ -180,6 +222,7 @@ public class CraftedCountManager {
     }
 
     pdc.set(key, PersistentDataType.INTEGER, 0);
+    countChanged(player);
   }
 
   /**
@@ -1,14 +1,18 @@
 package org.cavarest.elementaldragon.crafting;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.event.inventory.PrepareItemCraftEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.CraftingInventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.Recipe;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.entity.Player;
 import net.kyori.adventure.text.Component;
@@ -16,12 +20,20 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.cavarest.elementaldragon.crafting.CraftGridMemo.Verdict;
 import org.cavarest.elementaldragon.item.ElementalItems;
 
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Listener for crafting events to validate Heavy Core usage in fragment recipes.
  * Since Heavy Core is now a vanilla Minecraft item (Material.HEAVY_CORE),
  * we validate that the center ingredient is the vanilla Heavy Core.
+ *
+ * Grid changes for any other recipe are rejected by a lookup of the recipe key
+ * in the precomputed fragment recipe set; results for fragment recipes are
+ * memoized per player in a {@link CraftGridMemo}.
  */
 public class CraftingListener implements Listener {
 
@@ -30,10 +42,15 @@ public class CraftingListener implements Listener {
   private final CraftedCountManager craftedCountManager;
   private final MiniMessage miniMessage = MiniMessage.miniMessage();
 
+  // Fragment recipe keys, fixed at construction
+  private final Map<NamespacedKey, FragmentType> fragmentRecipes;
+  private final CraftGridMemo gridMemo = new CraftGridMemo();
+
   public CraftingListener(ElementalDragon plugin, CraftingManager craftingManager, CraftedCountManager craftedCountManager) {
     this.plugin = plugin;
     this.craftingManager = craftingManager;
     this.craftedCountManager = craftedCountManager;
+    this.fragmentRecipes = craftingManager.getFragmentRecipeKeys();
   }
 
   /**
@@ -48,13 +65,8 @@ public class CraftingListener implements Listener {
       return;
     }
 
-    ItemStack result = event.getRecipe().getResult();
-    if (result == null) {
-      return;
-    }
-
-    // Check if this is a fragment
-    FragmentType fragmentType = getFragmentType(result);
+    // Check if this is a fragment recipe
+    FragmentType fragmentType = getRecipeFragmentType(event.getRecipe());
     if (fragmentType == null) {
       return;
     }
@@ -117,20 +129,14 @@ public class CraftingListener implements Listener {
    */
   @EventHandler(priority = EventPriority.HIGH)
   public void onPrepareItemCraft(PrepareItemCraftEvent event) {
-    if (event.getRecipe() == null) {
+    // Fast reject: only our fragment recipes need validation
+    FragmentType resultFragmentType = getRecipeFragmentType(event.getRecipe());
+    if (resultFragmentType == null) {
       return;
     }
 
     CraftingInventory inventory = event.getInventory();
-    ItemStack result = event.getInventory().getResult();
-
-    if (result == null) {
-      return;
-    }
-
-    // Check if this is a fragment recipe
-    FragmentType resultFragmentType = getFragmentType(result);
-    if (resultFragmentType == null) {
+    if (inventory.getResult() == null) {
       return;
     }
 
@@ -140,33 +146,75 @@ public class CraftingListener implements Listener {
     }
     Player player = (Player) event.getView().getPlayer();
 
+    // Reuse the verdict while the grid materials and the player's counts are unchanged
+    ItemStack[] matrix = inventory.getMatrix();
+    long fingerprint = CraftGridMemo.fingerprint(matrix);
+    int countVersion = craftedCountManager.getCountVersion(player);
+    Verdict verdict = gridMemo.get(player.getUniqueId(), resultFragmentType, fingerprint, countVersion);
+    if (verdict == null) {
+      verdict = validateGrid(player, resultFragmentType, matrix);
+      gridMemo.put(player.getUniqueId(), resultFragmentType, fingerprint, countVersion, verdict);
+      sendRejection(player, resultFragmentType, verdict);
+    }
+
+    if (verdict != Verdict.ALLOW) {
+      inventory.setResult(null);
+    }
+  }
+
+  /**
+   * Drop the player's memoized grid verdict and the count version it was keyed on.
+   */
+  @EventHandler
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    UUID playerId = event.getPlayer().getUniqueId();
+    gridMemo.forget(playerId);
+    craftedCountManager.forget(playerId);
+  }
+
+  /**
+   * Run the crafting-limit and Heavy Core checks for a fragment recipe grid.
+   *
+   * @param player The crafting player
+   * @param fragmentType The fragment the recipe crafts
+   * @param matrix The crafting matrix
+   * @return The verdict
+   */
+  private Verdict validateGrid(Player player, FragmentType fragmentType, ItemStack[] matrix) {
     // Check if player has reached the crafting limit for this fragment type (ORIGINAL SPECIFICATION)
     // Burning Fragment: 2 max, Agility Fragment: 2 max, Immortal Fragment: 2 max, Corrupted Core: 1 max
-    if (!craftedCountManager.canCraft(player, resultFragmentType)) {
-      event.getInventory().setResult(null);
-      int current = craftedCountManager.getCraftedCount(player, resultFragmentType);
-      int max = craftedCountManager.getMaxCraftableCount(resultFragmentType);
-      player.sendMessage(miniMessage.deserialize(
-        "<red>⚠ Crafting limit reached for " + resultFragmentType.getDisplayName() + "!</red>"
-      ));
-      player.sendMessage(miniMessage.deserialize(
-        "<gray>You have crafted " + current + "/" + max + " maximum.</gray>"
-      ));
-      return;
+    if (!craftedCountManager.canCraft(player, fragmentType)) {
+      return Verdict.LIMIT_REACHED;
     }
 
     // Validate vanilla Heavy Core for all fragments (including Corrupted Core now)
-    ItemStack[] matrix = inventory.getMatrix();
     if (matrix.length < 9) {
-      return;
+      return Verdict.ALLOW;
     }
 
-    ItemStack centerItem = matrix[4];  // Center slot
-
     // Validate center item is vanilla Heavy Core
-    if (!ElementalItems.isHeavyCore(centerItem)) {
-      // Center item is not a Heavy Core - cancel the craft
-      event.getInventory().setResult(null);
+    return ElementalItems.isHeavyCore(matrix[4]) ? Verdict.ALLOW : Verdict.INVALID_CORE;
+  }
+
+  /**
+   * Tell the player why a fragment craft was blocked.
+   * Only sent when the verdict is computed, not for every repeated grid event.
+   *
+   * @param player The crafting player
+   * @param fragmentType The fragment the recipe crafts
+   * @param verdict The verdict
+   */
+  private void sendRejection(Player player, FragmentType fragmentType, Verdict verdict) {
+    if (verdict == Verdict.LIMIT_REACHED) {
+      int current = craftedCountManager.getCraftedCount(player, fragmentType);
+      int max = craftedCountManager.getMaxCraftableCount(fragmentType);
+      player.sendMessage(miniMessage.deserialize(
+        "<red>⚠ Crafting limit reached for " + fragmentType.getDisplayName() + "!</red>"
+      ));
+      player.sendMessage(miniMessage.deserialize(
+        "<gray>You have crafted " + current + "/" + max + " maximum.</gray>"
+      ));
+    } else if (verdict == Verdict.INVALID_CORE) {
       player.sendMessage(miniMessage.deserialize(
         "<red>⚠ Invalid recipe! Center item must be a vanilla Heavy Core.</red>"
       ));
@@ -176,6 +224,19 @@ public class CraftingListener implements Listener {
     }
   }
 
+  /**
+   * Get the fragment a recipe crafts, by recipe key.
+   *
+   * @param recipe The recipe (may be null)
+   * @return FragmentType or null if not one of our fragment recipes
+   */
+  private FragmentType getRecipeFragmentType(Recipe recipe) {
+    if (!(recipe instanceof Keyed keyed)) {
+      return null;
+    }
+    return fragmentRecipes.get(keyed.getKey());
+  }
+
   /**
    * Check if player has a specific fragment type in their inventory.
    *
@@ -8,6 +8,7 @@ import org.bukkit.inventory.RecipeChoice;
 import org.bukkit.inventory.ShapedRecipe;
 import org.bukkit.inventory.ShapelessRecipe;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.item.ElementalItems;
 
 /**
@@ -260,6 +261,20 @@ public class CraftingManager {
     return corruptedCoreKey;
   }
 
+  /**
+   * Get the recipe keys of all fragment recipes and the fragment each one crafts.
+   *
+   * @return Unmodifiable map of recipe key to fragment type
+   */
+  public java.util.Map<NamespacedKey, FragmentType> getFragmentRecipeKeys() {
+    return java.util.Map.of(
+      burningFragmentKey, FragmentType.BURNING,
+      agilityFragmentKey, FragmentType.AGILITY,
+      immortalFragmentKey, FragmentType.IMMORTAL,
+      corruptedCoreKey, FragmentType.CORRUPTED
+    );
+  }
+
   /**
    * Unregister all recipes managed by this CraftingManager.
    * Useful for plugin reload functionality.
@@ -1,6 +1,8 @@
 package org.cavarest.elementaldragon.fragment;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.visual.ParticleFX;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -26,6 +28,7 @@ import java.util.List;
 public abstract class AbstractFragment implements Fragment, Listener {
 
   protected final ElementalDragon plugin;
+  protected final PluginMetrics metrics;
   private final FragmentType type;
   private final long cooldownMillis;
   private final List<String> lore;
@@ -45,6 +48,7 @@ public abstract class AbstractFragment implements Fragment, Listener {
     List<String> loreLines
   ) {
     this.plugin = plugin;
+    this.metrics = PluginMetrics.of(plugin);
     this.type = type;
     this.cooldownMillis = cooldownMillis;
     this.lore = loreLines;
@@ -221,7 +225,8 @@ public abstract class AbstractFragment implements Fragment, Listener {
     Color color = type.getColor();
 
     // Always use DUST particle when using DustOptions
-    player.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      player.getWorld(),
       Particle.DUST,
       location,
       20,
@@ -243,7 +248,8 @@ public abstract class AbstractFragment implements Fragment, Listener {
     Color color = type.getColor();
 
     // Always use DUST particle when using DustOptions
-    player.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      player.getWorld(),
       Particle.DUST,
       location,
       10,
@@ -268,7 +274,8 @@ public abstract class AbstractFragment implements Fragment, Listener {
     Color color = type.getColor();
 
     // Always use DUST particle when using DustOptions
-    location.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      location.getWorld(),
       Particle.DUST,
       location,
       count,
@@ -1,7 +1,18 @@
 package org.cavarest.elementaldragon.fragment;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.ability.AreaEntityQuery;
+import org.cavarest.elementaldragon.ability.MotionController;
+import org.cavarest.elementaldragon.ability.SweptCollider;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
+import org.cavarest.elementaldragon.config.AbilityParam;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
 import org.cavarest.elementaldragon.visual.ParticleFX;
+import com.tcoded.folialib.wrapper.task.WrappedTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Color;
@@ -9,23 +20,25 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.bukkit.damage.DamageSource;
 import org.bukkit.damage.DamageType;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Agility Fragment implementation providing wind-based movement abilities.
@@ -39,27 +52,27 @@ import java.util.List;
 public class AgilityFragment extends AbstractFragment implements Listener {
 
   // Draconic Surge constants (ORIGINAL SPECIFICATION)
+  // Live tuning values come from AbilityConfig (config.yml); these are the spec defaults
   private static final long DRACONIC_SURGE_COOLDOWN = 45000L; // 45 seconds (original spec)
   private static final double DRACONIC_SURGE_DISTANCE = 20.0; // 20 blocks (original spec)
-  private static final int DRACONIC_SURGE_DURATION = 20; // 1 second = 20 ticks (user spec)
-  private static final double DRACONIC_SURGE_VELOCITY = DRACONIC_SURGE_DISTANCE / DRACONIC_SURGE_DURATION; // 1.0 blocks/tick
   private static final int DRACONIC_SURGE_FALL_PROTECTION = 200; // 10 seconds (200 ticks) of fall damage protection
-  private static final double DRACONIC_SURGE_COLLISION_DAMAGE = 6.0; // 3 hearts damage on collision (Issue #28, ignores armor)
-  private static final double DRACONIC_SURGE_COLLISION_RADIUS = 2.0; // Radius for collision detection
 
   // Metadata keys for tracking Draconic Surge state
   private static final String DRACONIC_SURGE_ACTIVE_KEY = "agile_draconic_surge_active";
   private static final String DRACONIC_SURGE_START_TIME_KEY = "agile_draconic_surge_start_time";
-  private static final String DRACONIC_SURGE_TASK_KEY = "agile_draconic_surge_task"; // Store task for cancellation
+  // Store task for cancellation; FragmentManager reads it for the /agile 1 toggle
+  static final String DRACONIC_SURGE_TASK_KEY = "agile_draconic_surge_task";
 
-  // Wing Burst constants (ORIGINAL SPECIFICATION)
-  private static final long WING_BURST_COOLDOWN = 120000L; // 2 minutes (original spec)
-  private static final double WING_BURST_RADIUS = 8.0; // 8 blocks (original spec)
-  private static final double WING_BURST_DISTANCE = 20.0; // 20 blocks (original spec)
-  private static final int WING_BURST_PUSH_DURATION = 40; // 2 seconds = 40 ticks (original spec)
-  // Velocity multiplier: higher value needed to compensate for friction (2.0 instead of 0.5)
-  private static final double WING_BURST_VELOCITY = (WING_BURST_DISTANCE / WING_BURST_PUSH_DURATION) * 4.0; // 2.0 blocks/tick (4x to overcome friction)
-  private static final int WING_BURST_FALL_SLOW_DURATION = 200; // 10 seconds (200 ticks)
+  // Dash and Wing Burst motion: distance from the planned path (blocks) tolerated
+  // before another velocity packet is sent; MotionController corrects for friction
+  private static final double MOTION_TOLERANCE = 0.5;
+
+  // Wing Burst velocity multiplier: higher value needed to compensate for friction
+  // (20 blocks over 40 ticks = 0.5 blocks/tick, x4 = 2.0 blocks/tick)
+  private static final double WING_BURST_FRICTION_MULTIPLIER = 4.0;
+
+  // Cosmetic trails are spawned every few ticks rather than every motion tick
+  private static final int TRAIL_PERIOD_TICKS = 3;
 
   // Visual constants
   private static final Color TEAL_COLOR = Color.fromRGB(100, 255, 200);
@@ -83,6 +96,13 @@ public class AgilityFragment extends AbstractFragment implements Listener {
 
   private final ElementalDragon plugin;
 
+  // Wind Walker: Agility wielders currently standing on soul sand/soul soil/honey
+  private final Set<UUID> windWalkersOnSlowGround = ConcurrentHashMap.newKeySet();
+
+  // Draconic Surge: one collider per player (kept in their session), reset at the start of each dash
+  private static final SessionKey<SweptCollider> DASH_COLLIDER = SessionKey.of("dash_collider");
+  private final PlayerSessions sessions = PlayerSessions.of(plugin);
+
   /**
    * Create a new Agility Fragment.
    *
@@ -142,7 +162,7 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.agility")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_AGILITY)) {
       player.sendMessage(
         Component.text("You do not have permission to use the Agility Fragment!",
           NamedTextColor.RED)
@@ -201,7 +221,7 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.agility")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_AGILITY)) {
       player.sendMessage(
         Component.text("You do not have permission to use Agility Fragment abilities!",
           NamedTextColor.RED)
@@ -245,11 +265,17 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     // No cooldown check needed - FragmentManager.useFragmentAbility() already checked
     // Toggle behavior is also handled by FragmentManager (before cooldown check)
 
+    AbilityConfig config = AbilityConfig.current();
+    int dashDuration = config.getDurationTicks(AbilityId.AGILE_1);
+    double collisionRadius = config.get(AbilityParam.DRACONIC_SURGE_COLLISION_RADIUS);
+    double collisionDamage = config.get(AbilityParam.DRACONIC_SURGE_COLLISION_DAMAGE);
+
     Location playerLocation = player.getLocation();
 
     // Calculate dash direction (3D - dashes in the direction player is looking)
+    // Velocity spreads the configured distance evenly over the dash (20 blocks / 20 ticks = 1.0 blocks/tick)
     Vector direction = playerLocation.getDirection().normalize();
-    Vector dashVelocity = direction.multiply(DRACONIC_SURGE_VELOCITY);
+    Vector dashVelocity = direction.multiply(config.get(AbilityParam.DRACONIC_SURGE_DISTANCE) / dashDuration);
 
     // Mark player as having fall damage protection (10 seconds)
     // This prevents fall damage even if player disconnects and reconnects
@@ -264,120 +290,102 @@ public class AgilityFragment extends AbstractFragment implements Listener {
       1.5f
     );
 
-    // Track entities we've already hit this dash (to avoid multiple hits on same entity)
-    java.util.Set<java.util.UUID> hitEntities = new java.util.HashSet<>();
-
-    // Apply continuous velocity over DRACONIC_SURGE_DURATION ticks (1 second)
-    BukkitRunnable dashTask = new BukkitRunnable() {
-      private int ticks = 0;
-
-      @Override
-      public void run() {
-        // Check if task was cancelled (toggle behavior)
-        if (!player.hasMetadata(DRACONIC_SURGE_TASK_KEY)) {
-          cancel();
-          return;
-        }
-
-        if (ticks >= DRACONIC_SURGE_DURATION) {
-          // Dash complete - fall damage protection continues separately
-          player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
-          cancel();
-          return;
-        }
-
-        if (player.isDead() || !player.isValid()) {
-          player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
-          cancel();
-          return;
-        }
-
-        // Apply velocity each tick for smooth dash
-        player.setVelocity(dashVelocity);
-
-        // Check for entity collisions (Issue #28)
-        for (Entity entity : player.getWorld().getNearbyEntities(
-            player.getLocation(), DRACONIC_SURGE_COLLISION_RADIUS, DRACONIC_SURGE_COLLISION_RADIUS, DRACONIC_SURGE_COLLISION_RADIUS)) {
-          // Skip non-living entities
-          if (!(entity instanceof LivingEntity)) {
-            continue;
-          }
-
-          LivingEntity target = (LivingEntity) entity;
+    // Sweeps the path travelled each tick so fast dashes cannot skip past targets,
+    // and remembers who was hit this dash (to avoid multiple hits on same entity)
+    SweptCollider collider = sessions.session(player).computeIfAbsent(DASH_COLLIDER, SweptCollider::new);
+    collider.reset(playerLocation);
+
+    // Steer the player along the dash over its duration (default 20 ticks = 1 second),
+    // sending velocity only when they drift off the planned path
+    // Runs on the player's entity scheduler so it follows them across region borders
+    MotionController motion = MotionController.of(dashVelocity, MOTION_TOLERANCE);
+    AtomicInteger ticks = new AtomicInteger();
+    WrappedTask dashTask = plugin.getTaskScheduler().runAtEntityTimer(player, task -> {
+      // Check if task was cancelled (toggle behavior)
+      if (!player.hasMetadata(DRACONIC_SURGE_TASK_KEY)) {
+        task.cancel();
+        return;
+      }
 
-          // Skip the dashing player
-          if (target.getUniqueId().equals(player.getUniqueId())) {
-            continue;
-          }
+      if (ticks.get() >= dashDuration) {
+        // Dash complete - fall damage protection continues separately
+        player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
+        task.cancel();
+        return;
+      }
 
-          // Skip entities we've already hit this dash
-          if (hitEntities.contains(target.getUniqueId())) {
-            continue;
-          }
+      if (player.isDead() || !player.isValid()) {
+        player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
+        task.cancel();
+        return;
+      }
 
-          // Deal damage that ignores armor (Issue #28)
-          DamageSource damageSource = DamageSource.builder(DamageType.MAGIC)
-              .withDirectEntity(player)
-              .build();
-          target.damage(DRACONIC_SURGE_COLLISION_DAMAGE, damageSource);
-
-          // Mark as hit so we don't hit them again
-          hitEntities.add(target.getUniqueId());
-
-          // Play impact sound
-          target.getWorld().playSound(
-              target.getLocation(),
-              Sound.ENTITY_PLAYER_HURT,
-              1.0f,  // volume
-              1.0f   // pitch
-          );
+      // Keep the dash on course
+      motion.tick(player);
+
+      // Check for entity collisions along the path since last tick (Issue #28)
+      // The collider skips the dashing player and entities already hit this dash
+      for (LivingEntity target : collider.advance(player.getLocation(), collisionRadius, player)) {
+        // Deal damage that ignores armor (Issue #28)
+        DamageSource damageSource = DamageSource.builder(DamageType.MAGIC)
+            .withDirectEntity(player)
+            .build();
+        target.damage(collisionDamage, damageSource);
+
+        // Play impact sound
+        target.getWorld().playSound(
+            target.getLocation(),
+            Sound.ENTITY_PLAYER_HURT,
+            1.0f,  // volume
+            1.0f   // pitch
+        );
 
-          // Show heart particles indicating damage (Issue #28)
-          target.getWorld().spawnParticle(
-              Particle.HEART,
-              target.getLocation().add(0, 1, 0),  // Slightly above entity
-              10,    // number of particles
-              0.3,   // offset X
-              0.5,   // offset Y (spread upward)
-              0.3,   // offset Z
-              0.02   // speed
-          );
-        }
+        // Show heart particles indicating damage (Issue #28)
+        ParticleFX.spawn(
+            target.getWorld(),
+            Particle.HEART,
+            target.getLocation().add(0, 1, 0),  // Slightly above entity
+            10,    // number of particles
+            0.3,   // offset X
+            0.5,   // offset Y (spread upward)
+            0.3,   // offset Z
+            0.02   // speed
+        );
+      }
 
-        // Show wind trail particles
-        player.getWorld().spawnParticle(
+      // Show wind trail particles
+      if (ticks.get() % TRAIL_PERIOD_TICKS == 0) {
+        ParticleFX.spawn(
+          player.getWorld(),
           Particle.CLOUD,
           player.getLocation().add(0, 0.5, 0),
-          3,
-          0.2,
-          0.2,
+          6,
+          0.3,
           0.2,
+          0.3,
           0.02
         );
-
-        ticks++;
       }
-    };
+
+      ticks.incrementAndGet();
+    }, 0L, 1L);
 
     // Store task reference for cancellation (toggle behavior)
     player.setMetadata(DRACONIC_SURGE_TASK_KEY, new org.bukkit.metadata.FixedMetadataValue(plugin, dashTask));
 
     // Schedule removal of fall damage protection after 10 seconds
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (player.hasMetadata(DRACONIC_SURGE_ACTIVE_KEY)) {
-          player.removeMetadata(DRACONIC_SURGE_ACTIVE_KEY, plugin);
-        }
-        if (player.hasMetadata(DRACONIC_SURGE_START_TIME_KEY)) {
-          player.removeMetadata(DRACONIC_SURGE_START_TIME_KEY, plugin);
-        }
-        // Also clean up task metadata in case it wasn't cleaned up
-        if (player.hasMetadata(DRACONIC_SURGE_TASK_KEY)) {
-          player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
-        }
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> {
+      if (player.hasMetadata(DRACONIC_SURGE_ACTIVE_KEY)) {
+        player.removeMetadata(DRACONIC_SURGE_ACTIVE_KEY, plugin);
+      }
+      if (player.hasMetadata(DRACONIC_SURGE_START_TIME_KEY)) {
+        player.removeMetadata(DRACONIC_SURGE_START_TIME_KEY, plugin);
       }
-    }.runTaskLater(plugin, DRACONIC_SURGE_FALL_PROTECTION);
+      // Also clean up task metadata in case it wasn't cleaned up
+      if (player.hasMetadata(DRACONIC_SURGE_TASK_KEY)) {
+        player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
+      }
+    }, config.getInt(AbilityParam.DRACONIC_SURGE_FALL_PROTECTION));
 
     // Cooldown is set by FragmentManager.useFragmentAbility()
 
@@ -387,7 +395,8 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     );
 
     // Show initial burst particles
-    player.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      player.getWorld(),
       Particle.CLOUD,
       playerLocation.add(0, 1, 0),
       20,
@@ -396,9 +405,6 @@ public class AgilityFragment extends AbstractFragment implements Listener {
       0.5,
       0.1
     );
-
-    // Start the dash task
-    dashTask.runTaskTimer(plugin, 0L, 1L);
   }
 
   /**
@@ -414,24 +420,22 @@ public class AgilityFragment extends AbstractFragment implements Listener {
   private void executeWingBurst(Player player) {
     // No cooldown check needed - FragmentManager.useFragmentAbility() already checked
 
+    AbilityConfig config = AbilityConfig.current();
+    double radius = config.get(AbilityParam.WING_BURST_RADIUS);
+    int pushDuration = config.getDurationTicks(AbilityId.AGILE_2);
+    double pushSpeed = (config.get(AbilityParam.WING_BURST_DISTANCE) / pushDuration) * WING_BURST_FRICTION_MULTIPLIER;
+    int fallSlowDuration = config.getInt(AbilityParam.WING_BURST_FALL_SLOW_DURATION);
+
     Location center = player.getLocation();
 
     // Play activation sound
     playAbilitySound(center, Sound.ENTITY_PHANTOM_FLAP, 2.0f, 1.5f);
 
-    // Find all living entities in radius and calculate their knockback vectors
-    java.util.Map<java.util.UUID, Vector> affectedEntities = new java.util.HashMap<>();
-
-    for (Entity entity : player.getWorld().getNearbyEntities(
-        center, WING_BURST_RADIUS, WING_BURST_RADIUS, WING_BURST_RADIUS)) {
-
-      // Affects all living entities (players, hostile mobs, animals)
-      if (!(entity instanceof LivingEntity)) {
-        continue;
-      }
-
-      LivingEntity target = (LivingEntity) entity;
+    // Find all living entities in radius and start a knockback push on each
+    int affectedCount = 0;
 
+    // Affects all living entities (players, hostile mobs, animals)
+    for (LivingEntity target : AreaEntityQuery.getNearbyLivingEntities(center, radius)) {
       // Skip the wielder (wielder is not affected)
       if (target instanceof Player && target.getUniqueId().equals(player.getUniqueId())) {
         continue;
@@ -445,17 +449,19 @@ public class AgilityFragment extends AbstractFragment implements Listener {
         .normalize();
 
       // Calculate velocity for 20 block push over 40 ticks
-      Vector velocity = knockbackDirection.multiply(WING_BURST_VELOCITY);
+      Vector velocity = knockbackDirection.multiply(pushSpeed);
 
-      // Store for continuous application
-      affectedEntities.put(target.getUniqueId(), velocity);
+      // Push on the target's own entity scheduler - targets near the edge of the
+      // radius may be owned by a different region than the wielder
+      startWingBurstPush(target, MotionController.horizontal(velocity, MOTION_TOLERANCE), pushDuration);
+      affectedCount++;
 
       // Apply slow falling to players only (200 ticks = 10 seconds)
       if (target instanceof Player) {
         ((Player) target).addPotionEffect(
           new PotionEffect(
             PotionEffectType.SLOW_FALLING,
-            WING_BURST_FALL_SLOW_DURATION,
+            fallSlowDuration,
             0,
             false,
             false,
@@ -465,7 +471,8 @@ public class AgilityFragment extends AbstractFragment implements Listener {
       }
 
       // Visual feedback for affected entity
-      target.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        target.getWorld(),
         Particle.CLOUD,
         target.getLocation().add(0, 1, 0),
         10,
@@ -479,63 +486,11 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     // Show wind burst particles at origin
     showWingBurstParticles(center);
 
-    // Apply continuous knockback velocity over 40 ticks (2 seconds)
-    new BukkitRunnable() {
-      private int ticks = 0;
-
-      @Override
-      public void run() {
-        if (ticks >= WING_BURST_PUSH_DURATION) {
-          cancel();
-          return;
-        }
-
-        // Apply velocity to all affected entities
-        for (java.util.UUID uuid : affectedEntities.keySet()) {
-          // Find the living entity by UUID in the player's world
-          LivingEntity target = null;
-          for (Entity entity : player.getWorld().getEntities()) {
-            if (entity.getUniqueId().equals(uuid) && entity instanceof LivingEntity) {
-              target = (LivingEntity) entity;
-              break;
-            }
-          }
-
-          // Skip if entity is no longer valid or dead
-          if (target == null || target.isDead() || !target.isValid()) {
-            continue;
-          }
-
-          // Apply knockback velocity - ADD to current velocity for cumulative effect
-          // Preserve Y component (gravity/falling) while adding horizontal push
-          Vector additionalVelocity = affectedEntities.get(uuid);
-          Vector currentVelocity = target.getVelocity();
-          target.setVelocity(new Vector(
-            currentVelocity.getX() + additionalVelocity.getX(),
-            currentVelocity.getY(),
-            currentVelocity.getZ() + additionalVelocity.getZ()
-          ));
-
-          // Show wind trail particles
-          target.getWorld().spawnParticle(
-            Particle.CLOUD,
-            target.getLocation().add(0, 0.5, 0),
-            2,
-            0.2,
-            0.2,
-            0.2,
-            0.02
-          );
-        }
-
-        ticks++;
-      }
-    }.runTaskTimer(plugin, 0L, 1L);
 
     // Cooldown is set by FragmentManager.useFragmentAbility()
 
     player.sendMessage(
-      Component.text("Wing Burst activated! " + affectedEntities.size() + " entities knocked back!",
+      Component.text("Wing Burst activated! " + affectedCount + " entities knocked back!",
         NamedTextColor.GREEN)
     );
 
@@ -548,32 +503,68 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     );
   }
 
+  /**
+   * Push a Wing Burst target along its knockback path (default 40 ticks = 2 seconds).
+   * Runs on the target's entity scheduler so the push follows it across regions.
+   * Gravity keeps control of the vertical axis.
+   *
+   * @param target The entity being pushed
+   * @param motion Horizontal motion controller for this target
+   * @param pushDuration Push duration in ticks
+   */
+  private void startWingBurstPush(LivingEntity target, MotionController motion, int pushDuration) {
+    AtomicInteger ticks = new AtomicInteger();
+    plugin.getTaskScheduler().runAtEntityTimer(target, task -> {
+      // Stop after the push duration or if entity is no longer valid or dead
+      if (ticks.get() >= pushDuration || target.isDead() || !target.isValid()) {
+        task.cancel();
+        return;
+      }
+
+      // Steer along the knockback path - velocity is only resent when the target
+      // falls behind (ground friction) or gets blocked
+      motion.tick(target);
+
+      // Show wind trail particles
+      if (ticks.get() % TRAIL_PERIOD_TICKS == 0) {
+        ParticleFX.spawn(
+          target.getWorld(),
+          Particle.CLOUD,
+          target.getLocation().add(0, 0.5, 0),
+          4,
+          0.3,
+          0.2,
+          0.3,
+          0.02
+        );
+      }
+
+      ticks.incrementAndGet();
+    }, 0L, 1L);
+  }
+
   /**
    * Show wind trail particles during Draconic Surge.
    *
    * @param player The player
    */
   private void showWindTrailParticles(Player player) {
-    new BukkitRunnable() {
-      private int ticks = 0;
-
-      @Override
-      public void run() {
-        if (ticks >= DRACONIC_SURGE_DURATION) {
-          cancel();
-          return;
-        }
+    AtomicInteger ticks = new AtomicInteger();
+    plugin.getTaskScheduler().runAtEntityTimer(player, task -> {
+      if (ticks.get() >= AbilityConfig.current().getDurationTicks(AbilityId.AGILE_1)) {
+        task.cancel();
+        return;
+      }
 
-        if (player.isDead() || !player.isValid()) {
-          cancel();
-          return;
-        }
+      if (player.isDead() || !player.isValid()) {
+        task.cancel();
+        return;
+      }
 
-        ParticleFX.spawnSpeedTrail(player.getLocation().add(0, 0.5, 0));
+      ParticleFX.spawnSpeedTrail(player.getLocation().add(0, 0.5, 0));
 
-        ticks += 5;
-      }
-    }.runTaskTimer(plugin, 0L, 5L);
+      ticks.addAndGet(5);
+    }, 0L, 5L);
   }
 
   /**
@@ -591,27 +582,23 @@ public class AgilityFragment extends AbstractFragment implements Listener {
    * @param player The player
    */
   private void showFlightTrailParticles(Player player) {
-    new BukkitRunnable() {
-      private int ticks = 0;
-      private final int maxTicks = 40; // Track for ~2 seconds
-
-      @Override
-      public void run() {
-        if (ticks >= maxTicks || player.isDead() || !player.isValid()) {
-          cancel();
-          return;
-        }
+    AtomicInteger ticks = new AtomicInteger();
+    final int maxTicks = 40; // Track for ~2 seconds
+    plugin.getTaskScheduler().runAtEntityTimer(player, task -> {
+      if (ticks.get() >= maxTicks || player.isDead() || !player.isValid()) {
+        task.cancel();
+        return;
+      }
 
-        Location location = player.getLocation();
-        ParticleFX.spawnFlightTrail(
-          location,
-          player.getLocation().getDirection().getX(),
-          player.getLocation().getDirection().getZ()
-        );
+      Location location = player.getLocation();
+      ParticleFX.spawnFlightTrail(
+        location,
+        player.getLocation().getDirection().getX(),
+        player.getLocation().getDirection().getZ()
+      );
 
-        ticks++;
-      }
-    }.runTaskTimer(plugin, 0L, 1L);
+      ticks.incrementAndGet();
+    }, 0L, 1L);
   }
 
   /**
@@ -634,7 +621,8 @@ public class AgilityFragment extends AbstractFragment implements Listener {
     );
 
     // Show passive effect particles
-    player.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      player.getWorld(),
       Particle.CLOUD,
       player.getLocation().add(0, 1, 0),
       5,
@@ -724,7 +712,7 @@ public class AgilityFragment extends AbstractFragment implements Listener {
       if (player.hasMetadata(DRACONIC_SURGE_START_TIME_KEY)) {
         long startTime = player.getMetadata(DRACONIC_SURGE_START_TIME_KEY).get(0).asLong();
         long elapsed = (System.currentTimeMillis() - startTime) / 50; // Convert to ticks
-        if (elapsed < DRACONIC_SURGE_FALL_PROTECTION) {
+        if (elapsed < AbilityConfig.current().getInt(AbilityParam.DRACONIC_SURGE_FALL_PROTECTION)) {
           // Negate ALL fall damage while protection is active
           if (event.getCause() == EntityDamageEvent.DamageCause.FALL) {
             event.setCancelled(true);
@@ -751,7 +739,8 @@ public class AgilityFragment extends AbstractFragment implements Listener {
 
         // Visual feedback - cloud particles on landing
         if (event.getDamage() > 0) {
-          player.getWorld().spawnParticle(
+          ParticleFX.spawn(
+            player.getWorld(),
             Particle.CLOUD,
             player.getLocation(),
             5,
@@ -769,42 +758,74 @@ public class AgilityFragment extends AbstractFragment implements Listener {
    * Event handler for soul sand/honey block slowdown prevention.
    * Passive Bonus: Wind Walker - No slow-down in soul sand/honey blocks
    *
+   * Move events are the highest-volume event on the server, so this returns
+   * immediately unless the player crossed a block boundary and is an Agility
+   * wielder, and only acts when stepping onto or off slowing ground.
+   *
    * @param event The player move event
    */
-  @EventHandler
+  @EventHandler(ignoreCancelled = true)
   public void onPlayerMove(PlayerMoveEvent event) {
-    Player player = event.getPlayer();
+    Location from = event.getFrom();
+    Location to = event.getTo();
 
-    // Check if player has Agility Fragment equipped
-    FragmentManager fragmentManager = plugin.getFragmentManager();
-    if (fragmentManager.getEquippedFragment(player) != FragmentType.AGILITY) {
+    // Head rotation and movement within a block - nothing to do
+    if (from.getBlockX() == to.getBlockX()
+        && from.getBlockY() == to.getBlockY()
+        && from.getBlockZ() == to.getBlockZ()) {
       return;
     }
 
-    // Check if player is on soul sand or in honey block
-    Block blockBelow = player.getLocation().subtract(0, 1, 0).getBlock();
-    Block blockAt = player.getLocation().getBlock();
+    Player player = event.getPlayer();
+    UUID playerId = player.getUniqueId();
+    if (!plugin.getFragmentManager().isEquipped(playerId, FragmentType.AGILITY)) {
+      windWalkersOnSlowGround.remove(playerId);
+      return;
+    }
+
+    // Check if player is on soul sand/soul soil or in a honey block
+    int x = to.getBlockX();
+    int y = to.getBlockY();
+    int z = to.getBlockZ();
+    Material below = to.getWorld().getType(x, y - 1, z);
+    boolean onSlowGround = below == Material.SOUL_SAND
+      || below == Material.SOUL_SOIL
+      || to.getWorld().getType(x, y, z) == Material.HONEY_BLOCK;
+
+    if (!onSlowGround) {
+      // Stepped off (or was never on) slowing ground
+      windWalkersOnSlowGround.remove(playerId);
+      return;
+    }
+    if (!windWalkersOnSlowGround.add(playerId)) {
+      // Still on slowing ground - already handled on entry
+      return;
+    }
 
-    if (blockBelow.getType() == Material.SOUL_SAND ||
-        blockBelow.getType() == Material.SOUL_SOIL ||
-        blockAt.getType() == Material.HONEY_BLOCK) {
+    // Stepped onto slowing ground: remove slowness caused by these blocks
+    player.removePotionEffect(PotionEffectType.SLOWNESS);
 
-      // Remove slowness effect caused by these blocks
-      player.removePotionEffect(PotionEffectType.SLOWNESS);
+    // Visual feedback - small cloud particles at feet
+    ParticleFX.spawn(
+      player.getWorld(),
+      Particle.CLOUD,
+      to,
+      2,
+      0.2,
+      0.0,
+      0.2,
+      0.01
+    );
+  }
 
-      // Visual feedback - small cloud particles at feet
-      if (Math.random() < 0.1) { // 10% chance per move to avoid spam
-        player.getWorld().spawnParticle(
-          Particle.CLOUD,
-          player.getLocation(),
-          2,
-          0.2,
-          0.0,
-          0.2,
-          0.01
-        );
-      }
-    }
+  /**
+   * Forget Wind Walker ground state on quit (the dash collider goes with the session).
+   *
+   * @param event The player quit event
+   */
+  @EventHandler
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    windWalkersOnSlowGround.remove(event.getPlayer().getUniqueId());
   }
 
   /**
@@ -825,7 +846,8 @@ public class AgilityFragment extends AbstractFragment implements Listener {
       double y = location.getY() + 1 + (i * 0.05);
 
       Location particleLoc = new Location(location.getWorld(), x, y, z);
-      location.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        location.getWorld(),
         Particle.DUST,
         particleLoc,
         3,
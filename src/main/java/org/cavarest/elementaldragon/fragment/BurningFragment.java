@@ -1,7 +1,15 @@
 package org.cavarest.elementaldragon.fragment;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.ability.AreaEntityQuery;
 import org.cavarest.elementaldragon.ability.EntityTargeter;
+import org.cavarest.elementaldragon.ability.VirtualProjectile;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
+import org.cavarest.elementaldragon.config.AbilityParam;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 import org.cavarest.elementaldragon.visual.ParticleFX;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -23,11 +31,12 @@ import org.bukkit.damage.DamageType;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Burning Fragment implementation providing fire-based abilities.
@@ -40,19 +49,13 @@ import java.util.List;
  */
 public class BurningFragment extends AbstractFragment implements Listener {
 
-  // Dragon's Wrath constants (ORIGINAL SPECIFICATION)
+  // Fallback cooldown when no global cooldown is configured (ORIGINAL SPECIFICATION)
+  // Damage, radius, homing and duration values live in AbilityConfig (config.yml)
   private static final long DRAGONS_WRATH_COOLDOWN = 120000L; // 2 minutes (original spec)
-  private static final double DRAGONS_WRATH_DAMAGE = 8.0; // 4 hearts (Issue #28: armor-ignoring)
-  private static final double DRAGONS_WRATH_AOE_RADIUS = 5.0; // 5 blocks (original spec: all players)
-  private static final int DRAGONS_WRATH_HOMING_TICKS = 10; // 10 ticks = 0.5 seconds (original spec)
-  private static final double DRAGONS_WRATH_TARGET_RANGE = 50.0; // Range to search for targets
-  private static final double DRAGONS_WRATH_VELOCITY = 1.5;
-
-  // Infernal Dominion constants (ORIGINAL SPECIFICATION)
-  private static final long INFERNAL_DOMINION_COOLDOWN = 180000L; // 3 minutes (original spec)
-  private static final double INFERNAL_DOMINION_RADIUS = 10.0; // 10 blocks (original spec)
-  private static final int INFERNAL_DOMINION_DURATION = 200; // 10 seconds (original spec: 1 heart/sec for 10 hearts)
-  private static final double INFERNAL_DOMINION_DAMAGE_PER_TICK = 1.0; // 0.5 hearts per 10-tick interval (1 heart/second total)
+
+  // Virtual fireball: lifetime cap (10 seconds) and trail particles per tick
+  private static final int VIRTUAL_MAX_TICKS = 200;
+  private static final int VIRTUAL_TRAIL_PARTICLES = 4;
 
   // Visual constants
   private static final Color FIRE_COLOR = Color.fromRGB(255, 100, 0);
@@ -135,7 +138,7 @@ public class BurningFragment extends AbstractFragment implements Listener {
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.burning")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_BURNING)) {
       player.sendMessage(
         Component.text("You do not have permission to use the Burning Fragment!",
           NamedTextColor.RED)
@@ -194,7 +197,7 @@ public class BurningFragment extends AbstractFragment implements Listener {
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.burning")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_BURNING)) {
       player.sendMessage(
         Component.text("You do not have permission to use Burning Fragment abilities!",
           NamedTextColor.RED)
@@ -235,11 +238,13 @@ public class BurningFragment extends AbstractFragment implements Listener {
   private void executeDragonsWrath(Player player) {
     // No cooldown check needed - FragmentManager.useFragmentAbility() already checked
 
+    AbilityConfig config = AbilityConfig.current();
+
     Location eyeLocation = player.getEyeLocation();
     Vector lookDirection = eyeLocation.getDirection().normalize();
 
     // Find closest hostile entity within range that is IN VIEW (line of sight)
-    LivingEntity target = findClosestHostileInView(player, DRAGONS_WRATH_TARGET_RANGE);
+    LivingEntity target = findClosestHostileInView(player, config.get(AbilityParam.DRAGONS_WRATH_TARGET_RANGE));
 
     // Determine fireball direction
     Vector fireballDirection;
@@ -258,6 +263,44 @@ public class BurningFragment extends AbstractFragment implements Listener {
 
     // Spawn fireball 1.5 blocks in front of player (outside hitbox)
     Location spawnLoc = eyeLocation.clone().add(fireballDirection.clone().multiply(1.5));
+    if (config.isEnabled(AbilityParam.DRAGONS_WRATH_VIRTUAL_PROJECTILE)) {
+      launchVirtualFireball(player, spawnLoc, fireballDirection, target, config);
+    } else {
+      launchFireball(player, spawnLoc, fireballDirection, target, config);
+    }
+
+    // Play ability sound
+    playAbilitySound(player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.0f);
+
+    // Show particles
+    showAbilityParticles(player.getLocation(), 15);
+
+    // Cooldown is set by FragmentManager.useFragmentAbility()
+
+    // Send message with target info
+    if (target != null) {
+      player.sendMessage(
+        Component.text("Dragon's Wrath pursues " + target.getName() + "! 🔥🎯", NamedTextColor.GREEN)
+      );
+    } else {
+      player.sendMessage(
+        Component.text("Dragon's Wrath fired toward your target! 🔥🎯", NamedTextColor.GREEN)
+      );
+    }
+  }
+
+  /**
+   * Launch Dragon's Wrath as a real Fireball entity. Damage and AOE are
+   * applied by {@link #onFireballDamage} and {@link #onProjectileHit}.
+   *
+   * @param player The shooter
+   * @param spawnLoc Where the fireball starts
+   * @param fireballDirection Initial direction
+   * @param target Entity to home in on (may be null)
+   * @param config The ability configuration
+   */
+  private void launchFireball(Player player, Location spawnLoc, Vector fireballDirection, LivingEntity target, AbilityConfig config) {
+    double velocity = config.get(AbilityParam.DRAGONS_WRATH_VELOCITY);
     Fireball fireball = player.getWorld().spawn(spawnLoc, Fireball.class);
 
     // Configure fireball
@@ -265,65 +308,144 @@ public class BurningFragment extends AbstractFragment implements Listener {
     fireball.setDirection(fireballDirection);
     fireball.setYield(2.0f); // Allow block destruction
     fireball.setIsIncendiary(false); // No fire spread (damage handled by events)
-    fireball.setVelocity(fireballDirection.clone().multiply(DRAGONS_WRATH_VELOCITY));
+    fireball.setVelocity(fireballDirection.clone().multiply(velocity));
 
     // Store custom data for damage handling and AOE
     org.bukkit.NamespacedKey damageKey = new org.bukkit.NamespacedKey(plugin, "dragons_wrath_damage");
     org.bukkit.NamespacedKey aoeKey = new org.bukkit.NamespacedKey(plugin, "dragons_wrath_aoe");
     org.bukkit.NamespacedKey shooterKey = new org.bukkit.NamespacedKey(plugin, "dragons_wrath_shooter");
 
-    fireball.getPersistentDataContainer().set(damageKey, org.bukkit.persistence.PersistentDataType.DOUBLE, DRAGONS_WRATH_DAMAGE);
-    fireball.getPersistentDataContainer().set(aoeKey, org.bukkit.persistence.PersistentDataType.DOUBLE, DRAGONS_WRATH_AOE_RADIUS);
+    fireball.getPersistentDataContainer().set(damageKey, org.bukkit.persistence.PersistentDataType.DOUBLE, config.get(AbilityParam.DRAGONS_WRATH_DAMAGE));
+    fireball.getPersistentDataContainer().set(aoeKey, org.bukkit.persistence.PersistentDataType.DOUBLE, config.get(AbilityParam.DRAGONS_WRATH_AOE_RADIUS));
     fireball.getPersistentDataContainer().set(shooterKey, org.bukkit.persistence.PersistentDataType.STRING, player.getUniqueId().toString());
 
     // Implement homing mechanism (tracks target for 10 ticks if targeting entity)
     if (target != null) {
-      new BukkitRunnable() {
-        private int ticks = 0;
-
-        @Override
-        public void run() {
-          // Stop tracking after 10 ticks or if fireball/target is invalid
-          if (ticks >= DRAGONS_WRATH_HOMING_TICKS ||
-              !fireball.isValid() ||
-              fireball.isDead() ||
-              !target.isValid() ||
-              target.isDead()) {
-            cancel();
-            return;
-          }
-
-          // Calculate direction to target
-          Location fireballLoc = fireball.getLocation();
-          Location targetLoc = target.getEyeLocation();
-          Vector toTarget = targetLoc.toVector().subtract(fireballLoc.toVector()).normalize();
-
-          // Update fireball velocity to track target
-          fireball.setVelocity(toTarget.multiply(DRAGONS_WRATH_VELOCITY));
-
-          ticks++;
-        }
-      }.runTaskTimer(plugin, 0L, 1L);
+      startHoming(fireball, target, config.getInt(AbilityParam.DRAGONS_WRATH_HOMING_TICKS), velocity);
     }
+  }
 
-    // Play ability sound
-    playAbilitySound(player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.0f);
+  /**
+   * Launch Dragon's Wrath as a virtual projectile: no entity is spawned, the
+   * fireball is stepped once per tick on the region that owns its current
+   * position, drawn with particles, and its impact is resolved here.
+   *
+   * @param player The shooter
+   * @param spawnLoc Where the fireball starts
+   * @param direction Initial direction
+   * @param target Entity to home in on (may be null)
+   * @param config The ability configuration
+   */
+  private void launchVirtualFireball(Player player, Location spawnLoc, Vector direction, LivingEntity target, AbilityConfig config) {
+    int homingTicks = config.getInt(AbilityParam.DRAGONS_WRATH_HOMING_TICKS);
+    VirtualProjectile projectile = new VirtualProjectile(
+      spawnLoc, direction, config.get(AbilityParam.DRAGONS_WRATH_VELOCITY), player);
+    AtomicReference<Location> targetEyeLocation = target != null ? trackTarget(target, homingTicks) : null;
+    stepVirtualFireball(projectile, targetEyeLocation, homingTicks, player,
+      config.get(AbilityParam.DRAGONS_WRATH_DAMAGE), config.get(AbilityParam.DRAGONS_WRATH_AOE_RADIUS));
+  }
 
-    // Show particles
-    showAbilityParticles(player.getLocation(), 15);
+  /**
+   * Advance a virtual fireball by one tick, then schedule the next step on
+   * the region that owns its new position.
+   */
+  private void stepVirtualFireball(
+    VirtualProjectile projectile,
+    AtomicReference<Location> targetEyeLocation,
+    int homingTicks,
+    Player shooter,
+    double damage,
+    double aoeRadius
+  ) {
+    plugin.getTaskScheduler().runAtLocation(projectile.getLocation(), () -> {
+      Location position = projectile.getLocation();
+      if (!position.isChunkLoaded()) {
+        return; // Flew into unloaded terrain - fizzle
+      }
 
-    // Cooldown is set by FragmentManager.useFragmentAbility()
+      if (targetEyeLocation != null && projectile.getAge() < homingTicks) {
+        Location targetEye = targetEyeLocation.get();
+        if (targetEye != null && targetEye.getWorld() == position.getWorld()) {
+          projectile.steerToward(targetEye);
+        }
+      }
 
-    // Send message with target info
-    if (target != null) {
-      player.sendMessage(
-        Component.text("Dragon's Wrath pursues " + target.getName() + "! 🔥🎯", NamedTextColor.GREEN)
-      );
-    } else {
-      player.sendMessage(
-        Component.text("Dragon's Wrath fired toward your target! 🔥🎯", NamedTextColor.GREEN)
-      );
-    }
+      VirtualProjectile.Impact impact = projectile.step();
+      if (impact != null) {
+        resolveWrathImpact(impact.location(), damage, aoeRadius, shooter);
+        return;
+      }
+
+      ParticleFX.spawnFireballTrail(projectile.getLocation(), VIRTUAL_TRAIL_PARTICLES);
+      if (projectile.getAge() < VIRTUAL_MAX_TICKS) {
+        stepVirtualFireball(projectile, targetEyeLocation, homingTicks, shooter, damage, aoeRadius);
+      }
+    });
+  }
+
+  /**
+   * Steer a Dragon's Wrath fireball toward its target for a number of ticks.
+   *
+   * The fireball and target can be owned by different regions, so the target's
+   * task publishes its eye location and the fireball's task steers toward the
+   * last published position - neither task touches the other entity directly.
+   *
+   * @param fireball The fireball to steer
+   * @param target The entity being tracked
+   * @param homingTicks How long to track the target
+   * @param velocity Fireball speed in blocks per tick
+   */
+  private void startHoming(Fireball fireball, LivingEntity target, int homingTicks, double velocity) {
+    AtomicReference<Location> targetEyeLocation = trackTarget(target, homingTicks);
+
+    AtomicInteger ticks = new AtomicInteger();
+    plugin.getTaskScheduler().runAtEntityTimer(fireball, task -> {
+      Location targetEye = targetEyeLocation.get();
+      // Stop tracking after homingTicks or if fireball/target is invalid
+      if (ticks.get() >= homingTicks ||
+          !fireball.isValid() ||
+          fireball.isDead() ||
+          targetEye == null) {
+        task.cancel();
+        return;
+      }
+
+      // Calculate direction to target
+      Location fireballLoc = fireball.getLocation();
+      Vector toTarget = targetEye.toVector().subtract(fireballLoc.toVector()).normalize();
+
+      // Update fireball velocity to track target
+      fireball.setVelocity(toTarget.multiply(velocity));
+
+      ticks.incrementAndGet();
+    }, 0L, 1L);
+  }
+
+  /**
+   * Publish a homing target's eye location every tick from the target's own
+   * thread, for a projectile that may be ticked by another region.
+   *
+   * @param target The entity being tracked
+   * @param homingTicks How long to track the target
+   * @return The last published eye location; set to null if the target is lost
+   */
+  private AtomicReference<Location> trackTarget(LivingEntity target, int homingTicks) {
+    AtomicReference<Location> targetEyeLocation = new AtomicReference<>(target.getEyeLocation());
+
+    AtomicInteger targetTicks = new AtomicInteger();
+    plugin.getTaskScheduler().runAtEntityTimer(target, task -> {
+      if (!target.isValid() || target.isDead()) {
+        targetEyeLocation.set(null);
+        task.cancel();
+        return;
+      }
+      if (targetTicks.getAndIncrement() >= homingTicks) {
+        task.cancel();
+        return;
+      }
+      targetEyeLocation.set(target.getEyeLocation());
+    }, 0L, 1L);
+    return targetEyeLocation;
   }
 
   /**
@@ -387,33 +509,32 @@ public class BurningFragment extends AbstractFragment implements Listener {
       1.2f
     );
 
-    // Create fire ring effect and damage players (ORIGINAL SPEC: players only)
-    new BukkitRunnable() {
-      private int ticks = 0;
-
-      @Override
-      public void run() {
-        if (ticks >= INFERNAL_DOMINION_DURATION) {
-          cancel();
-          return;
-        }
-
-        // Damage nearby living entities (hostile mobs, players, etc.)
-        for (Entity entity : player.getWorld().getNearbyEntities(
-          center, INFERNAL_DOMINION_RADIUS, INFERNAL_DOMINION_RADIUS, INFERNAL_DOMINION_RADIUS
-        )) {
-          // Affects all living entities (players, hostile mobs, animals)
-          if (!(entity instanceof LivingEntity)) {
-            continue;
-          }
+    AbilityConfig config = AbilityConfig.current();
+    int duration = config.getDurationTicks(AbilityId.FIRE_2);
+    double radius = config.get(AbilityParam.INFERNAL_DOMINION_RADIUS);
+    double damagePerPulse = config.get(AbilityParam.INFERNAL_DOMINION_DAMAGE_PER_PULSE);
 
-          LivingEntity target = (LivingEntity) entity;
+    // Create fire ring effect and damage players (ORIGINAL SPEC: players only)
+    AtomicInteger ticks = new AtomicInteger();
+    metrics.abilityActivated("fire", 2, player.getUniqueId(), duration);
+    ElementalStates.get().setAbilityActive(player.getUniqueId(), "fire", 2, true);
+    plugin.getTaskScheduler().runAtLocationTimer(center, task -> {
+      if (ticks.get() >= duration) {
+        task.cancel();
+        metrics.abilityExpired("fire", 2, player.getUniqueId());
+        ElementalStates.get().setAbilityActive(player.getUniqueId(), "fire", 2, false);
+        return;
+      }
 
-          // Skip the wielder (wielder is not affected)
-          if (target instanceof Player && target.getUniqueId().equals(player.getUniqueId())) {
-            continue;
-          }
+      // Damage nearby living entities (hostile mobs, players, etc.)
+      for (LivingEntity target : AreaEntityQuery.getNearbyLivingEntities(center, radius)) {
+        // Skip the wielder (wielder is not affected)
+        if (target instanceof Player && target.getUniqueId().equals(player.getUniqueId())) {
+          continue;
+        }
 
+        // Entities near the ring edge may belong to another region - damage them there
+        plugin.getTaskScheduler().executeAtEntity(target, () -> {
           // Apply fire ticks (visual effect)
           target.setFireTicks(20); // 1 second of fire (20 ticks)
 
@@ -422,10 +543,11 @@ public class BurningFragment extends AbstractFragment implements Listener {
           DamageSource damageSource = DamageSource.builder(DamageType.MAGIC)
               .withDirectEntity(player)
               .build();
-          target.damage(INFERNAL_DOMINION_DAMAGE_PER_TICK, damageSource);
+          target.damage(damagePerPulse, damageSource);
 
           // Visual feedback for affected entity
-          target.getWorld().spawnParticle(
+          ParticleFX.spawn(
+            target.getWorld(),
             Particle.FLAME,
             target.getLocation().add(0, 1, 0),
             10,
@@ -434,17 +556,17 @@ public class BurningFragment extends AbstractFragment implements Listener {
             0.3,
             0.05
           );
-        }
+        });
+      }
 
-        // Spawn orange particle circle on ground (ORIGINAL SPEC: visible marker)
-        spawnOrangeCircleParticles(center, INFERNAL_DOMINION_RADIUS);
+      // Spawn orange particle circle on ground (ORIGINAL SPEC: visible marker)
+      spawnOrangeCircleParticles(center, radius);
 
-        // Spawn fire ring particles for visual effect
-        spawnFireRingParticles(center, INFERNAL_DOMINION_RADIUS);
+      // Spawn fire ring particles for visual effect
+      spawnFireRingParticles(center, radius);
 
-        ticks += 10;
-      }
-    }.runTaskTimer(plugin, 0L, 10L);
+      ticks.addAndGet(10);
+    }, 0L, 10L);
 
     // Cooldown is set by FragmentManager.useFragmentAbility()
 
@@ -484,7 +606,8 @@ public class BurningFragment extends AbstractFragment implements Listener {
       Location particleLoc = new Location(center.getWorld(), x, center.getY(), z);
 
       // Spawn orange DUST particles
-      center.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        center.getWorld(),
         Particle.DUST,
         particleLoc,
         1, // Single particle per location
@@ -653,7 +776,6 @@ public class BurningFragment extends AbstractFragment implements Listener {
       return; // Not a Dragon's Wrath fireball
     }
 
-    // Get impact location
     Location impactLoc = fireball.getLocation();
 
     // Get damage and AOE radius from persistent data
@@ -662,7 +784,7 @@ public class BurningFragment extends AbstractFragment implements Listener {
 
     double aoeRadius = fireball.getPersistentDataContainer().has(aoeKey, org.bukkit.persistence.PersistentDataType.DOUBLE)
       ? fireball.getPersistentDataContainer().get(aoeKey, org.bukkit.persistence.PersistentDataType.DOUBLE)
-      : DRAGONS_WRATH_AOE_RADIUS;
+      : AbilityConfig.current().get(AbilityParam.DRAGONS_WRATH_AOE_RADIUS);
 
     // Get the shooter to exclude them from damage
     Player shooter = null;
@@ -670,17 +792,21 @@ public class BurningFragment extends AbstractFragment implements Listener {
       shooter = (Player) fireball.getShooter();
     }
 
-    // Apply AOE damage to all living entities within radius
-    for (Entity entity : fireball.getWorld().getNearbyEntities(
-        impactLoc, aoeRadius, aoeRadius, aoeRadius)) {
-
-      // Affects all living entities (players, hostile mobs, animals)
-      if (!(entity instanceof LivingEntity)) {
-        continue;
-      }
-
-      LivingEntity target = (LivingEntity) entity;
+    resolveWrathImpact(impactLoc, damage, aoeRadius, shooter);
+  }
 
+  /**
+   * Resolve a Dragon's Wrath impact, for both the entity and the virtual fireball.
+   * Applies AOE damage to all living entities within the radius of the impact point.
+   *
+   * @param impactLoc The impact point
+   * @param damage Damage per entity (ignores armor)
+   * @param aoeRadius AOE radius
+   * @param shooter The caster, who is not affected (may be null)
+   */
+  private void resolveWrathImpact(Location impactLoc, double damage, double aoeRadius, Player shooter) {
+    // Apply AOE damage to all living entities within radius (players, hostile mobs, animals)
+    for (LivingEntity target : AreaEntityQuery.getNearbyLivingEntities(impactLoc, aoeRadius)) {
       // Skip the shooter (wielder is not affected)
       if (shooter != null && target instanceof Player && target.getUniqueId().equals(shooter.getUniqueId())) {
         continue;
@@ -697,7 +823,8 @@ public class BurningFragment extends AbstractFragment implements Listener {
       target.setFireTicks(40); // 2 seconds of fire
 
       // Visual feedback for AOE hit
-      target.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        target.getWorld(),
         Particle.FLAME,
         target.getLocation().add(0, 1, 0),
         20,
@@ -720,13 +847,15 @@ public class BurningFragment extends AbstractFragment implements Listener {
     }
 
     // Show impact explosion particles
-    impactLoc.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      impactLoc.getWorld(),
       Particle.EXPLOSION_EMITTER,
       impactLoc,
       1
     );
 
-    impactLoc.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      impactLoc.getWorld(),
       Particle.FLAME,
       impactLoc,
       50,
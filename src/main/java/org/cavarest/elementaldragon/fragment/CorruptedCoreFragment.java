@@ -1,7 +1,14 @@
 package org.cavarest.elementaldragon.fragment;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
+import org.cavarest.elementaldragon.config.AbilityParam;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 import org.cavarest.elementaldragon.visual.ParticleFX;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -22,16 +29,16 @@ import org.bukkit.event.entity.EntityTargetEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.persistence.PersistentDataContainer;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.NamespacedKey;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Corrupted Core fragment implementation providing void-based abilities.
@@ -45,14 +52,10 @@ import java.util.List;
 public class CorruptedCoreFragment extends AbstractFragment implements Listener {
 
   // Dread Gaze constants (ORIGINAL SPECIFICATION)
-  private static final long DREAD_GAZE_COOLDOWN = 180000L; // 3 minutes (original spec)
-  private static final int DREAD_GAZE_DURATION = 80; // 4 seconds (80 ticks) - changed from 10s per Issue #20
+  // Freeze duration (default 80 ticks / 4s) and steal percent live in AbilityConfig (config.yml)
+  private static final long DREAD_GAZE_COOLDOWN = 180000L; // 3 minutes (original spec, fallback only)
   private static final int MAX_AMPLIFIER = 255; // Maximum effect level for complete freeze
-
-  // Life Devourer constants (ORIGINAL SPECIFICATION)
-  private static final long LIFE_DEVOURER_COOLDOWN = 120000L; // 2 minutes (120 seconds) (original spec)
-  private static final int LIFE_DEVOURER_DURATION = 400; // 20 seconds (400 ticks) (original spec)
-  private static final double LIFE_DEVOURER_STEAL_PERCENT = 0.25; // 25% health steal (Issue #28)
+  private static final double FREEZE_DRIFT_THRESHOLD_SQUARED = 0.05 * 0.05; // Jitter a frozen player may keep
 
   // Metadata keys
   private static final String DREAD_GAZE_ACTIVE_KEY = "corrupted_dread_gaze_active";
@@ -98,10 +101,6 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
 
   private final ElementalDragon plugin;
 
-  // Freeze task - processes frozen players every tick using teleportation
-  // This prevents Paper anti-cheat from flagging as "flying" since we use server-initiated teleport
-  private BukkitRunnable freezeTask;
-
   /**
    * Create a new Corrupted Core fragment.
    *
@@ -137,13 +136,6 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
       this.FREEZE_LOCATION_PERSIST_KEY = null;
       this.SATURATION_PERSIST_KEY = null;
     }
-
-    // Start the freeze monitoring task (runs every tick)
-    // Uses scheduler-based teleportation instead of PlayerMoveEvent cancellation
-    // to prevent Paper anti-cheat false positives
-    if (isRealPlugin) {
-      startFreezeMonitoringTask();
-    }
   }
 
   // ===== Single Source of Truth Methods =====
@@ -185,7 +177,7 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.corrupted")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_CORRUPTED)) {
       player.sendMessage(
         Component.text("You do not have permission to use the Corrupted Core!",
           NamedTextColor.RED)
@@ -276,7 +268,7 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.corrupted")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_CORRUPTED)) {
       player.sendMessage(
         Component.text("You do not have permission to use Corrupted Core abilities!",
           NamedTextColor.DARK_RED)
@@ -381,31 +373,33 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     // Show activation particles
     showVoidAura(player);
 
-    // Schedule effect removal after duration (400 ticks = 20 seconds)
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (player.isDead() || !player.isValid()) {
-          cancel();
-          return;
-        }
+    metrics.abilityActivated("corrupt", 2, player.getUniqueId(),
+      AbilityConfig.current().getDurationTicks(AbilityId.CORRUPT_2));
+    ElementalStates.get().setAbilityActive(player.getUniqueId(), "corrupt", 2, true);
 
-        // IMPORTANT: Remove the active metadata FIRST (before sending message)
-        // This ensures the HUD immediately transitions from ACTIVE to COOLDOWN state
-        // when the ability expires, preventing display lag.
-        if (player.hasMetadata(LIFE_DEVOURER_ACTIVE_KEY)) {
-          player.removeMetadata(LIFE_DEVOURER_ACTIVE_KEY, plugin);
-        }
-        if (player.hasMetadata(LIFE_DEVOURER_START_TIME_KEY)) {
-          player.removeMetadata(LIFE_DEVOURER_START_TIME_KEY, plugin);
-        }
+    // Schedule effect removal after duration (400 ticks = 20 seconds)
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> {
+      metrics.abilityExpired("corrupt", 2, player.getUniqueId());
+      ElementalStates.get().setAbilityActive(player.getUniqueId(), "corrupt", 2, false);
+      if (player.isDead() || !player.isValid()) {
+        return;
+      }
 
-        // Now send the expiration message (after metadata is cleared)
-        player.sendMessage(
-          Component.text("Life Devourer has expired.", NamedTextColor.GRAY)
-        );
+      // IMPORTANT: Remove the active metadata FIRST (before sending message)
+      // This ensures the HUD immediately transitions from ACTIVE to COOLDOWN state
+      // when the ability expires, preventing display lag.
+      if (player.hasMetadata(LIFE_DEVOURER_ACTIVE_KEY)) {
+        player.removeMetadata(LIFE_DEVOURER_ACTIVE_KEY, plugin);
+      }
+      if (player.hasMetadata(LIFE_DEVOURER_START_TIME_KEY)) {
+        player.removeMetadata(LIFE_DEVOURER_START_TIME_KEY, plugin);
       }
-    }.runTaskLater(plugin, LIFE_DEVOURER_DURATION);
+
+      // Now send the expiration message (after metadata is cleared)
+      player.sendMessage(
+        Component.text("Life Devourer has expired.", NamedTextColor.GRAY)
+      );
+    }, AbilityConfig.current().getDurationTicks(AbilityId.CORRUPT_2));
 
     // Cooldown is set by FragmentManager.useFragmentAbility()
   }
@@ -487,7 +481,8 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     );
 
     // Show void particles around player
-    player.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      player.getWorld(),
       Particle.REVERSE_PORTAL,
       player.getLocation().add(0, 1, 0),
       5,
@@ -557,7 +552,8 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
 
       // Visual feedback - void particles appear occasionally
       if (Math.random() < 0.05) { // 5% chance to avoid spam
-        player.getWorld().spawnParticle(
+        ParticleFX.spawn(
+          player.getWorld(),
           Particle.REVERSE_PORTAL,
           player.getLocation().add(0, 1, 0),
           3,
@@ -576,7 +572,8 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
 
       // Visual feedback - void particles appear occasionally
       if (Math.random() < 0.05) { // 5% chance to avoid spam
-        player.getWorld().spawnParticle(
+        ParticleFX.spawn(
+          player.getWorld(),
           Particle.REVERSE_PORTAL,
           player.getLocation().add(0, 1, 0),
           3,
@@ -639,9 +636,18 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     );
 
     // Set cooldown NOW (when target is hit, not when activated)
-    // This is a 3-minute cooldown for the Dread Gaze ability
+    // Uses the same effective cooldown as FragmentManager: global (config.yml) first, spec fallback
     CooldownManager cooldownManager = plugin.getCooldownManager();
-    cooldownManager.setCooldown(attacker, FragmentType.CORRUPTED.getElement(), 1, (int) DREAD_GAZE_COOLDOWN);
+    String element = FragmentType.CORRUPTED.getElement();
+    int cooldownSeconds = cooldownManager.getGlobalCooldown(element, 1);
+    if (cooldownSeconds < 0) {
+      cooldownSeconds = (int) (DREAD_GAZE_COOLDOWN / 1000);
+    }
+    if (cooldownSeconds > 0) {
+      cooldownManager.setCooldown(attacker, element, 1, cooldownSeconds);
+    }
+
+    int freezeDuration = AbilityConfig.current().getDurationTicks(AbilityId.CORRUPT_1);
 
     // Remove the Dread Gaze active state (it's been consumed)
     attacker.removeMetadata(DREAD_GAZE_ACTIVE_KEY, plugin);
@@ -650,7 +656,7 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     victim.addPotionEffect(
       new PotionEffect(
         PotionEffectType.SLOWNESS,
-        DREAD_GAZE_DURATION,
+        freezeDuration,
         MAX_AMPLIFIER,
         false, // Not ambient
         true,  // Show particles
@@ -660,7 +666,7 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     victim.addPotionEffect(
       new PotionEffect(
         PotionEffectType.MINING_FATIGUE,
-        DREAD_GAZE_DURATION,
+        freezeDuration,
         MAX_AMPLIFIER,
         false,
         true,
@@ -670,7 +676,7 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     victim.addPotionEffect(
       new PotionEffect(
         PotionEffectType.WEAKNESS,
-        DREAD_GAZE_DURATION,
+        freezeDuration,
         MAX_AMPLIFIER,
         false,
         true,
@@ -680,7 +686,7 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     victim.addPotionEffect(
       new PotionEffect(
         PotionEffectType.HUNGER,
-        DREAD_GAZE_DURATION,
+        freezeDuration,
         MAX_AMPLIFIER,
         false,
         true,
@@ -742,10 +748,10 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
       new org.bukkit.metadata.FixedMetadataValue(plugin, System.currentTimeMillis())
     );
     // Store duration in metadata as single source of truth for HUD display
-    // DREAD_GAZE_DURATION is in ticks, convert to seconds for HUD
+    // freezeDuration is in ticks, convert to seconds for HUD
     attacker.setMetadata(
       DREAD_GAZE_FOE_FROZEN_DURATION_KEY,
-      new org.bukkit.metadata.FixedMetadataValue(plugin, DREAD_GAZE_DURATION / 20) // ticks to seconds
+      new org.bukkit.metadata.FixedMetadataValue(plugin, freezeDuration / 20) // ticks to seconds
     );
 
     // Update HUD to show the foe frozen countdown
@@ -753,44 +759,40 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
       plugin.getHudManager().updatePlayerHud(attacker);
     }
 
-    // Schedule debuff removal after duration
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        // Clean up victim's debuff metadata
-        if (victim.isValid() && !victim.isDead()) {
-          victim.removeMetadata(DREAD_GAZE_DEBUFF_KEY, plugin);
-          victim.removeMetadata(DREAD_GAZE_DEBUFF_START_KEY, plugin);
-          victim.removeMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY, plugin);
-          victim.removeMetadata(DREAD_GAZE_SATURATION_KEY, plugin);
-
-          // PERSISTENCE: Remove debuff data from PersistentDataContainer
-          if (victim instanceof Player && DEBUFF_PERSIST_KEY != null) {
-            PersistentDataContainer pdc = ((Player) victim).getPersistentDataContainer();
-            pdc.remove(DEBUFF_PERSIST_KEY);
-            pdc.remove(DEBUFF_START_PERSIST_KEY);
-            pdc.remove(FREEZE_LOCATION_PERSIST_KEY);
-            pdc.remove(SATURATION_PERSIST_KEY);
-          }
-        }
+    metrics.freezeStarted(victim.getUniqueId(), freezeDuration);
+
+    // Lock frozen players in place (mobs are held by the max-level effects alone)
+    if (victim instanceof Player) {
+      startFreezeTask((Player) victim);
+    }
 
-        // Clean up attacker's metadata (both READY TO STRIKE and foe frozen)
-        if (attacker.isValid() && !attacker.isDead()) {
-          attacker.removeMetadata(DREAD_GAZE_START_TIME_KEY, plugin);
-          attacker.removeMetadata(DREAD_GAZE_FOE_FROZEN_KEY, plugin);
-          attacker.removeMetadata(DREAD_GAZE_FOE_FROZEN_START_KEY, plugin);
-          attacker.removeMetadata(DREAD_GAZE_FOE_FROZEN_DURATION_KEY, plugin);
-
-          // Update HUD to remove the foe frozen countdown
-          if (plugin.getHudManager() != null) {
-            plugin.getHudManager().updatePlayerHud(attacker);
-          }
+    // Schedule debuff removal after duration
+    // Victim and attacker may end up in different regions (e.g. attacker walks away),
+    // so each side is cleaned up on its own entity scheduler
+    plugin.getTaskScheduler().runAtEntityLater(victim, () -> {
+      if (victim.isValid() && !victim.isDead()) {
+        clearFreezeDebuff(victim);
+      }
+    }, freezeDuration);
+
+    plugin.getTaskScheduler().runAtEntityLater(attacker, () -> {
+      // Clean up attacker's metadata (both READY TO STRIKE and foe frozen)
+      if (attacker.isValid() && !attacker.isDead()) {
+        attacker.removeMetadata(DREAD_GAZE_START_TIME_KEY, plugin);
+        attacker.removeMetadata(DREAD_GAZE_FOE_FROZEN_KEY, plugin);
+        attacker.removeMetadata(DREAD_GAZE_FOE_FROZEN_START_KEY, plugin);
+        attacker.removeMetadata(DREAD_GAZE_FOE_FROZEN_DURATION_KEY, plugin);
+
+        // Update HUD to remove the foe frozen countdown
+        if (plugin.getHudManager() != null) {
+          plugin.getHudManager().updatePlayerHud(attacker);
         }
       }
-    }.runTaskLater(plugin, DREAD_GAZE_DURATION);
+    }, freezeDuration);
 
     // Show dark void particles around victim
-    victim.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      victim.getWorld(),
       Particle.REVERSE_PORTAL,
       victim.getLocation().add(0, 1, 0),
       30,
@@ -862,8 +864,33 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
       return;
     }
 
-    // Calculate life steal (50% of damage)
-    double healing = damage * LIFE_DEVOURER_STEAL_PERCENT;
+    // Calculate life steal (default 25% of damage)
+    double healing = damage * AbilityConfig.current().get(AbilityParam.LIFE_DEVOURER_STEAL_PERCENT);
+
+    // Capture victim state here - this handler runs on the victim's region
+    String victimName = event.getEntity().getName();
+    Location victimLocation = event.getEntity() instanceof LivingEntity
+      ? event.getEntity().getLocation()
+      : null;
+
+    // Health transfer mutates the attacker, so apply it on the attacker's region
+    plugin.getTaskScheduler().executeAtEntity(attacker,
+      () -> applyLifeSteal(attacker, healing, victimName, victimLocation));
+  }
+
+  /**
+   * Heal the Life Devourer wielder and show the transfer effects.
+   * Must run on the thread that owns the attacker.
+   *
+   * @param attacker The player receiving health
+   * @param healing Amount of health to restore
+   * @param victimName Name of the drained entity (for the message)
+   * @param victimLocation Location of the drained entity (for particles)
+   */
+  private void applyLifeSteal(Player attacker, double healing, String victimName, Location victimLocation) {
+    if (!attacker.isValid() || attacker.isDead()) {
+      return;
+    }
 
     // Apply healing to player
     double currentHealth = attacker.getHealth();
@@ -872,9 +899,6 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     double newHealth = Math.min(maxHealth, currentHealth + healing);
     attacker.setHealth(newHealth);
 
-    // Get victim name for the message
-    String victimName = event.getEntity().getName();
-
     // Format healing amount to 1 decimal place
     String healingAmount = String.format("%.1f", actualHealing);
 
@@ -888,8 +912,8 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     showHealthStealParticles(attacker);
 
     // Show drain transfer particles from victim to attacker
-    if (event.getEntity() instanceof LivingEntity) {
-      showDrainTransferParticles(event.getEntity().getLocation(), attacker.getLocation());
+    if (victimLocation != null) {
+      showDrainTransferParticles(victimLocation, attacker.getLocation());
     }
 
     // Play drain sound
@@ -992,7 +1016,8 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
    * @param player The player who gained health
    */
   private void showHealthStealParticles(Player player) {
-    player.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      player.getWorld(),
       Particle.HEART,
       player.getLocation().add(0, 1.5, 0),
       2,
@@ -1004,67 +1029,114 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
   }
 
   /**
-   * Start the freeze monitoring task.
-   * Runs every tick to teleport frozen players back to their freeze location
-   * and reset their saturation to the stored value.
+   * Start the freeze task for a player frozen by Dread Gaze.
+   * Runs every tick on the player's own entity scheduler, teleporting them back
+   * to their freeze location and resetting their saturation to the stored value.
+   * Stops by itself once the debuff metadata is removed or the player leaves.
    *
    * NATIVE APPROACH: Uses scheduler-based teleportation instead of
    * PlayerMoveEvent cancellation to prevent Paper anti-cheat false positives.
    * Since the movement is server-initiated (teleport), anti-cheat doesn't flag it.
+   *
+   * @param player The frozen player
    */
-  private void startFreezeMonitoringTask() {
-    // Guard against null plugin (for tests)
-    if (plugin == null) {
+  private void startFreezeTask(Player player) {
+    // Set while a corrective teleport is pending, so one is never issued on top of another
+    AtomicBoolean teleportInFlight = new AtomicBoolean();
+    plugin.getTaskScheduler().runAtEntityTimer(player, task -> {
+      // Stop once the debuff has expired or the player is gone
+      if (!player.isOnline() || !player.hasMetadata(DREAD_GAZE_DEBUFF_KEY)) {
+        task.cancel();
+        return;
+      }
+
+      long start = metrics.startTimer();
+      try {
+        holdFrozenPlayer(player, teleportInFlight);
+      } finally {
+        metrics.recordTickTime(PluginMetrics.SUBSYSTEM_FREEZE, start);
+      }
+    }, 1L, 1L);
+  }
+
+  /**
+   * Pin a frozen player to their stored freeze location and saturation.
+   * Called every tick by the freeze task.
+   *
+   * @param player The frozen player
+   * @param teleportInFlight Set while the previous corrective teleport is pending
+   */
+  private void holdFrozenPlayer(Player player, AtomicBoolean teleportInFlight) {
+    // Check if player has valid freeze location stored
+    if (!player.hasMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY)) {
       return;
     }
 
-    freezeTask = new BukkitRunnable() {
-      @Override
-      public void run() {
-        // Process all online players
-        for (org.bukkit.entity.Player player : plugin.getServer().getOnlinePlayers()) {
-          // Check if player is frozen by Dread Gaze
-          if (!player.hasMetadata(DREAD_GAZE_DEBUFF_KEY)) {
-            continue;
-          }
-
-          // Check if player has valid freeze location stored
-          if (!player.hasMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY)) {
-            continue;
-          }
-
-          // Get stored freeze location
-          Object locationObj = player.getMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY).get(0).value();
-          if (!(locationObj instanceof Location)) {
-            continue;
-          }
-
-          Location freezeLocation = (Location) locationObj;
-
-          // Teleport player back to freeze location if they moved
-          // (allowing rotation/looking around, preventing position change)
-          Location current = player.getLocation();
-          if (current.getX() != freezeLocation.getX() ||
-              current.getY() != freezeLocation.getY() ||
-              current.getZ() != freezeLocation.getZ()) {
-            // Teleport back to freeze location (preserves pitch/yaw for looking around)
-            player.teleport(freezeLocation);
-          }
-
-          // Reset saturation to stored value (for players)
-          if (player.hasMetadata(DREAD_GAZE_SATURATION_KEY)) {
-            Object saturationObj = player.getMetadata(DREAD_GAZE_SATURATION_KEY).get(0).value();
-            if (saturationObj instanceof Float) {
-              float storedSaturation = (Float) saturationObj;
-              player.setSaturation(storedSaturation);
-            }
-          }
-        }
+    // Get stored freeze location
+    Object locationObj = player.getMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY).get(0).value();
+    if (!(locationObj instanceof Location)) {
+      return;
+    }
+
+    Location freezeLocation = (Location) locationObj;
+
+    // Teleport player back to freeze location if they drifted
+    // (allowing rotation/looking around, preventing position change)
+    if (hasDrifted(player.getLocation(), freezeLocation) && teleportInFlight.compareAndSet(false, true)) {
+      // Teleport back to freeze location (preserves pitch/yaw for looking around)
+      // teleportAsync is required on Folia and equivalent to teleport on Paper
+      player.teleportAsync(freezeLocation).whenComplete((moved, error) -> teleportInFlight.set(false));
+    }
+
+    // Reset saturation to stored value (for players)
+    if (player.hasMetadata(DREAD_GAZE_SATURATION_KEY)) {
+      Object saturationObj = player.getMetadata(DREAD_GAZE_SATURATION_KEY).get(0).value();
+      if (saturationObj instanceof Float) {
+        float storedSaturation = (Float) saturationObj;
+        player.setSaturation(storedSaturation);
       }
-    };
+    }
+  }
 
-    // Run every tick (20 times per second)
-    freezeTask.runTaskTimer(plugin, 0L, 1L);
+  /**
+   * Check whether a frozen player has moved far enough from their freeze
+   * location to be pulled back. Sub-threshold jitter is left alone.
+   *
+   * @param current The player's location
+   * @param freezeLocation The stored freeze location
+   * @return true if a corrective teleport is needed
+   */
+  private static boolean hasDrifted(Location current, Location freezeLocation) {
+    if (current.getWorld() != freezeLocation.getWorld()) {
+      return true;
+    }
+    double dx = current.getX() - freezeLocation.getX();
+    double dy = current.getY() - freezeLocation.getY();
+    double dz = current.getZ() - freezeLocation.getZ();
+    return dx * dx + dy * dy + dz * dz > FREEZE_DRIFT_THRESHOLD_SQUARED;
+  }
+
+  /**
+   * Remove the Dread Gaze freeze debuff from an entity.
+   * Clears both the session metadata and the persisted player data.
+   *
+   * @param victim The frozen entity
+   */
+  private void clearFreezeDebuff(LivingEntity victim) {
+    metrics.freezeEnded(victim.getUniqueId());
+    victim.removeMetadata(DREAD_GAZE_DEBUFF_KEY, plugin);
+    victim.removeMetadata(DREAD_GAZE_DEBUFF_START_KEY, plugin);
+    victim.removeMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY, plugin);
+    victim.removeMetadata(DREAD_GAZE_SATURATION_KEY, plugin);
+
+    // PERSISTENCE: Remove debuff data from PersistentDataContainer
+    if (victim instanceof Player && DEBUFF_PERSIST_KEY != null) {
+      PersistentDataContainer pdc = ((Player) victim).getPersistentDataContainer();
+      pdc.remove(DEBUFF_PERSIST_KEY);
+      pdc.remove(DEBUFF_START_PERSIST_KEY);
+      pdc.remove(FREEZE_LOCATION_PERSIST_KEY);
+      pdc.remove(SATURATION_PERSIST_KEY);
+    }
   }
 
   /**
@@ -1135,35 +1207,47 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
   // ===== Debuff Persistence (Issue #20) =====
 
   /**
-   * Restore freeze debuff when a player rejoins.
-   * Checks PersistentDataContainer for active debuff and reapplies it.
+   * Read a persisted freeze debuff from a player's saved data.
+   * Pure parsing with no world access, so the join pipeline can call it from
+   * AsyncPlayerPreLoginEvent with the offline player's data view.
+   *
+   * @param data The player's persistent data (live container or offline view)
+   * @return The persisted debuff, or null if none is stored
    */
-  @EventHandler(priority = EventPriority.MONITOR)
-  public void onPlayerJoinRestoreDebuff(PlayerJoinEvent event) {
+  public PersistedDebuff readPersistedDebuff(PersistentDataContainerView data) {
     // Skip if keys are null (tests with null plugin)
-    if (DEBUFF_PERSIST_KEY == null) {
-      return;
+    if (DEBUFF_PERSIST_KEY == null || !data.has(DEBUFF_PERSIST_KEY, PersistentDataType.BYTE)) {
+      return null; // No debuff to restore
     }
 
-    Player player = event.getPlayer();
-    PersistentDataContainer pdc = player.getPersistentDataContainer();
+    Long startTime = data.get(DEBUFF_START_PERSIST_KEY, PersistentDataType.LONG);
+    String locationStr = data.get(FREEZE_LOCATION_PERSIST_KEY, PersistentDataType.STRING);
+    Float saturation = data.get(SATURATION_PERSIST_KEY, PersistentDataType.FLOAT);
+    return new PersistedDebuff(startTime, parseLocation(locationStr), saturation);
+  }
 
-    // Check if player has an active debuff stored
-    if (!pdc.has(DEBUFF_PERSIST_KEY, PersistentDataType.BYTE)) {
-      return; // No debuff to restore
+  /**
+   * Restore freeze debuff when a player rejoins.
+   * Reapplies a debuff read by {@link #readPersistedDebuff}, or clears the
+   * stored data if it expired while the player was offline.
+   *
+   * @param player The player who joined
+   * @param debuff The persisted debuff (null if none)
+   */
+  public void restorePersistedDebuff(Player player, PersistedDebuff debuff) {
+    if (debuff == null) {
+      return;
     }
 
-    Long startTime = pdc.get(DEBUFF_START_PERSIST_KEY, PersistentDataType.LONG);
-    String locationStr = pdc.get(FREEZE_LOCATION_PERSIST_KEY, PersistentDataType.STRING);
-    Float saturation = pdc.get(SATURATION_PERSIST_KEY, PersistentDataType.FLOAT);
-
+    PersistentDataContainer pdc = player.getPersistentDataContainer();
+    Long startTime = debuff.startTime();
     if (startTime == null) {
       return; // Invalid data, clear it
     }
 
     // Calculate remaining duration
     long elapsed = System.currentTimeMillis() - startTime;
-    long remainingMillis = DREAD_GAZE_DURATION * 50L - elapsed; // ticks to ms
+    long remainingMillis = AbilityConfig.current().getDurationTicks(AbilityId.CORRUPT_1) * 50L - elapsed; // ticks to ms
 
     if (remainingMillis <= 0) {
       // Debuff expired while player was offline, clear it
@@ -1178,19 +1262,22 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     player.setMetadata(DREAD_GAZE_DEBUFF_KEY, new org.bukkit.metadata.FixedMetadataValue(plugin, true));
     player.setMetadata(DREAD_GAZE_DEBUFF_START_KEY, new org.bukkit.metadata.FixedMetadataValue(plugin, startTime));
 
-    // Restore freeze location
-    if (locationStr != null) {
-      Location freezeLocation = deserializeLocation(locationStr);
-      if (freezeLocation != null) {
+    // Restore freeze location (parsed without a world; resolve it now)
+    Location parsed = debuff.freezeLocation();
+    if (parsed != null) {
+      org.bukkit.World world = plugin.getServer().getWorld(debuff.worldName());
+      if (world != null) {
+        Location freezeLocation = parsed.clone();
+        freezeLocation.setWorld(world);
         player.setMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY,
                          new org.bukkit.metadata.FixedMetadataValue(plugin, freezeLocation));
       }
     }
 
     // Restore saturation value
-    if (saturation != null) {
+    if (debuff.saturation() != null) {
       player.setMetadata(DREAD_GAZE_SATURATION_KEY,
-                       new org.bukkit.metadata.FixedMetadataValue(plugin, saturation));
+                       new org.bukkit.metadata.FixedMetadataValue(plugin, debuff.saturation()));
     }
 
     // Reapply potion effects
@@ -1203,25 +1290,15 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
     player.addPotionEffect(new PotionEffect(PotionEffectType.HUNGER, (int) remainingMillis / 50,
                                            MAX_AMPLIFIER, false, true, true));
 
-    // Schedule cleanup for remaining duration
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (!player.isOnline()) {
-          return;
-        }
-        player.removeMetadata(DREAD_GAZE_DEBUFF_KEY, plugin);
-        player.removeMetadata(DREAD_GAZE_DEBUFF_START_KEY, plugin);
-        player.removeMetadata(DREAD_GAZE_FREEZE_LOCATION_KEY, plugin);
-        player.removeMetadata(DREAD_GAZE_SATURATION_KEY, plugin);
-
-        PersistentDataContainer pdc2 = player.getPersistentDataContainer();
-        pdc2.remove(DEBUFF_PERSIST_KEY);
-        pdc2.remove(DEBUFF_START_PERSIST_KEY);
-        pdc2.remove(FREEZE_LOCATION_PERSIST_KEY);
-        pdc2.remove(SATURATION_PERSIST_KEY);
+    // Resume position locking and schedule cleanup for remaining duration
+    metrics.freezeStarted(player.getUniqueId(), remainingMillis / 50L);
+    startFreezeTask(player);
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> {
+      if (!player.isOnline()) {
+        return;
       }
-    }.runTaskLater(plugin, remainingMillis / 50L);
+      clearFreezeDebuff(player);
+    }, remainingMillis / 50L);
 
     player.sendMessage(
       Component.text("⚠ You are still frozen by Dread Gaze from before you disconnected!", NamedTextColor.DARK_PURPLE)
@@ -1242,9 +1319,10 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
   }
 
   /**
-   * Deserialize a Location from a String stored in PersistentDataContainer.
+   * Parse a Location stored in PersistentDataContainer, leaving the world unset.
+   * The world name is kept alongside by {@link PersistedDebuff}.
    */
-  private Location deserializeLocation(String str) {
+  private ParsedLocation parseLocation(String str) {
     if (str == null || str.isEmpty()) {
       return null;
     }
@@ -1260,15 +1338,44 @@ public class CorruptedCoreFragment extends AbstractFragment implements Listener
       float yaw = Float.parseFloat(parts[4]);
       float pitch = Float.parseFloat(parts[5]);
 
-      org.bukkit.World world = plugin.getServer().getWorld(worldName);
-      if (world == null) {
-        return null;
-      }
-
-      return new Location(world, x, y, z, yaw, pitch);
+      return new ParsedLocation(worldName, new Location(null, x, y, z, yaw, pitch));
     } catch (NumberFormatException e) {
       plugin.getLogger().warning("Failed to deserialize location: " + str);
       return null;
     }
   }
+
+  private record ParsedLocation(String worldName, Location location) {
+  }
+
+  /**
+   * A Dread Gaze freeze saved in a player's data, parsed but not yet applied.
+   */
+  public static final class PersistedDebuff {
+    private final Long startTime;
+    private final ParsedLocation freeze;
+    private final Float saturation;
+
+    private PersistedDebuff(Long startTime, ParsedLocation freeze, Float saturation) {
+      this.startTime = startTime;
+      this.freeze = freeze;
+      this.saturation = saturation;
+    }
+
+    Long startTime() {
+      return startTime;
+    }
+
+    String worldName() {
+      return freeze != null ? freeze.worldName() : null;
+    }
+
+    Location freezeLocation() {
+      return freeze != null ? freeze.location() : null;
+    }
+
+    Float saturation() {
+      return saturation;
+    }
+  }
 }
@@ -1,22 +1,33 @@
 package org.cavarest.elementaldragon.fragment;
 
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.cooldown.ActionThrottle;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
 import org.cavarest.elementaldragon.item.ElementalItems;
+import org.cavarest.elementaldragon.join.JoinPipeline;
+import org.cavarest.elementaldragon.message.MessageKey;
+import org.cavarest.elementaldragon.message.Messages;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
+import com.tcoded.folialib.wrapper.task.WrappedTask;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.NamespacedKey;
 import org.bukkit.persistence.PersistentDataType;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -29,8 +40,13 @@ public class FragmentManager implements Listener {
   private final ElementalDragon plugin;
   private final CooldownManager cooldownManager;
   private final FragmentRegistry fragmentRegistry;
-  private final Map<UUID, FragmentType> equippedFragments;
-  private final MiniMessage miniMessage = MiniMessage.miniMessage();
+  private final PlayerSessions sessions;
+  private final PluginMetrics metrics;
+
+  // Per-player state, kept in the player's session
+  private static final SessionKey<FragmentType> EQUIPPED = SessionKey.of("equipped_fragment");
+  private static final SessionKey<WrappedTask> VERIFICATION_TASK =
+    SessionKey.withCleanup("fragment_verification", WrappedTask::cancel);
 
   /**
    * NamespacedKey for persisting equipped fragment type in player data.
@@ -47,7 +63,8 @@ public class FragmentManager implements Listener {
   public FragmentManager(ElementalDragon plugin, CooldownManager cooldownManager) {
     this.plugin = plugin;
     this.cooldownManager = cooldownManager;
-    this.equippedFragments = new HashMap<>();
+    this.sessions = PlayerSessions.of(plugin);
+    this.metrics = PluginMetrics.of(plugin);
 
     // Initialize FragmentRegistry - handles all fragment registration
     this.fragmentRegistry = new FragmentRegistry(plugin);
@@ -59,36 +76,53 @@ public class FragmentManager implements Listener {
    * Register event listeners for fragment management.
    */
   private void registerFragmentListeners() {
-    if (plugin != null && plugin.getServer() != null) {
-      plugin.getServer().getPluginManager().registerEvents(this, plugin);
-
-      // Schedule periodic inventory verification to catch /clear, drops, etc.
-      // Runs every tick (20 times per second) to immediately detect removed fragments
-      plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-        verifyAllEquippedFragments();
-      }, 20L, 1L);  // Start after 1 second, then every tick
-    }
+    Lifecycle.of(plugin).registerEvents(this);
   }
 
   /**
-   * Verify all equipped fragments are still in player inventories.
+   * Start periodic inventory verification for a player with an equipped fragment.
    * This catches cases where fragments were removed via /clear, death, etc.
-   * Called periodically by scheduled task.
+   *
+   * Runs on the player's own entity scheduler (every tick, after 1 second) so
+   * that on Folia the inventory is only read from the region that owns the player.
+   * The task stops itself once the fragment is unequipped or the player leaves.
+   *
+   * @param player The player
    */
-  private void verifyAllEquippedFragments() {
-    if (equippedFragments.isEmpty()) {
-      return;  // No equipped fragments to verify
+  private void startInventoryVerification(Player player) {
+    TaskScheduler scheduler = plugin != null ? plugin.getTaskScheduler() : null;
+    if (scheduler == null) {
+      return;  // Test environment - no scheduler
     }
 
-    // Create a copy of the keys to avoid ConcurrentModificationException
-    java.util.Set<UUID> playerIds = new java.util.HashSet<>(equippedFragments.keySet());
+    PlayerSession session = sessions.session(player);
+    if (session.get(VERIFICATION_TASK) != null) {
+      return;  // Already verifying
+    }
 
-    for (UUID playerId : playerIds) {
-      Player player = org.bukkit.Bukkit.getPlayer(playerId);
-      if (player != null && player.isOnline()) {
-        // Call getEquippedFragment which verifies inventory and unequips if missing
-        getEquippedFragment(player);
+    // Closing the session cancels it (VERIFICATION_TASK cleanup)
+    WrappedTask task = scheduler.own("player-sessions", scheduler.runAtEntityTimer(player, self -> {
+      long start = metrics.startTimer();
+      // getEquippedFragment verifies inventory and unequips if missing
+      if (!player.isOnline() || getEquippedFragment(player) == null) {
+        session.remove(VERIFICATION_TASK, self);
+        self.cancel();
       }
+      metrics.recordTickTime(PluginMetrics.SUBSYSTEM_VERIFY, start);
+    }, 20L, 1L));
+    session.set(VERIFICATION_TASK, task);
+  }
+
+  /**
+   * Stop inventory verification for a player.
+   *
+   * @param playerId The player's UUID
+   */
+  private void stopInventoryVerification(UUID playerId) {
+    PlayerSession session = sessions.find(playerId);
+    WrappedTask task = session != null ? session.remove(VERIFICATION_TASK) : null;
+    if (task != null) {
+      task.cancel();
     }
   }
 
@@ -120,48 +154,39 @@ public class FragmentManager implements Listener {
       return false;
     }
 
-    UUID playerUuid = player.getUniqueId();
-
     // Check if player has the fragment item in inventory (unless has admin permission)
-    boolean isAdmin = player.hasPermission("elementaldragon.fragment.admin");
+    boolean isAdmin = Permissions.get().has(player, Capability.FRAGMENT_ADMIN);
     if (!isAdmin) {
       boolean hasFragment = hasFragmentItem(player, fragmentType);
       if (!hasFragment) {
         String craftName = fragmentType.getCanonicalName(); // Use canonical name (fire, agile, immortal, corrupt)
-        player.sendMessage(miniMessage.deserialize(
-          "<red>⚠ You don't have the <white>" + fragmentType.getDisplayName() + "</white>!</red>\n" +
-          "<gray>Craft it first using <white>/craft " + craftName + "</white> or ask an admin for help.</gray>"
-        ));
+        Messages.get().send(player, MessageKey.FRAGMENT_MISSING_ITEM, fragmentType.getDisplayName(), craftName);
         return false;
       }
     } else {
       // Admin bypassing fragment requirement
       boolean hasFragment = hasFragmentItem(player, fragmentType);
       if (!hasFragment) {
-        player.sendMessage(miniMessage.deserialize(
-          "<light_purple>✨ The special ones are automatically ascended to elemental dragon powers.</light_purple>"
-        ));
+        Messages.get().send(player, MessageKey.FRAGMENT_ADMIN_ASCENDED);
       }
     }
 
     // ONE-FRAGMENT LIMIT: Player must drop their existing fragment before equipping a new one
-    FragmentType existingFragment = equippedFragments.get(playerUuid);
+    FragmentType existingFragment = sessions.find(player, EQUIPPED);
 
     // Check if same fragment is already equipped - allow re-equipping (no-op)
     if (existingFragment == fragmentType) {
       // Already has this fragment equipped - return true (no error)
       // This allows right-click equip on already-equipped fragment
+      // (also the rejoin path, where verification was stopped on quit)
+      startInventoryVerification(player);
       return true;
     }
 
     // Different fragment is equipped - prevent swapping
     if (existingFragment != null) {
-      player.sendMessage(miniMessage.deserialize(
-        "<red>⚠ You can only carry one fragment at a time!</red>\n" +
-        "<gray>Drop your <white>" + existingFragment.getDisplayName() + "</white> before equipping the " +
-        "<white>" + fragmentType.getDisplayName() + "</white>.</gray>\n" +
-        "<gray>Use <yellow>/withdrawability</yellow> to remove your current fragment first.</gray>"
-      ));
+      Messages.get().send(player, MessageKey.FRAGMENT_ONE_LIMIT_EQUIPPED,
+        existingFragment.getDisplayName(), fragmentType.getDisplayName());
       return false;
     }
 
@@ -169,16 +194,15 @@ public class FragmentManager implements Listener {
     // This prevents having multiple fragments even if none are equipped
     FragmentType inventoryFragment = hasAnyFragmentInInventory(player, fragmentType);
     if (inventoryFragment != null) {
-      player.sendMessage(miniMessage.deserialize(
-        "<red>⚠ You can only carry one fragment at a time!</red>\n" +
-        "<gray>You already have the <white>" + inventoryFragment.getDisplayName() + "</white> in your inventory.</gray>\n" +
-        "<gray>Drop it before equipping the <white>" + fragmentType.getDisplayName() + "</white>.</gray>"
-      ));
+      Messages.get().send(player, MessageKey.FRAGMENT_ONE_LIMIT_INVENTORY,
+        inventoryFragment.getDisplayName(), fragmentType.getDisplayName());
       return false;
     }
 
     // Equip the new fragment
-    equippedFragments.put(playerUuid, fragmentType);
+    sessions.session(player).set(EQUIPPED, fragmentType);
+    ElementalStates.get().setEquippedFragment(player.getUniqueId(), fragmentType);
+    startInventoryVerification(player);
 
     // Activate the fragment effects
     Fragment fragment = fragmentRegistry.getFragment(fragmentType);
@@ -244,11 +268,14 @@ public class FragmentManager implements Listener {
     }
 
     UUID playerUuid = player.getUniqueId();
-    FragmentType equippedType = equippedFragments.remove(playerUuid);
+    PlayerSession session = sessions.find(playerUuid);
+    FragmentType equippedType = session != null ? session.remove(EQUIPPED) : null;
+    stopInventoryVerification(playerUuid);
 
     if (equippedType == null) {
       return false;
     }
+    ElementalStates.get().setEquippedFragment(playerUuid, null);
 
     // Deactivate the fragment effects
     Fragment fragment = fragmentRegistry.getFragment(equippedType);
@@ -259,9 +286,7 @@ public class FragmentManager implements Listener {
     // Note: Cooldown persists even after unequipping (managed by CooldownManager)
 
     if (!silent) {
-      player.sendMessage(miniMessage.deserialize(
-        "<yellow>Unequipped <white>" + equippedType.getDisplayName() + "</white>.</yellow>"
-      ));
+      Messages.get().send(player, MessageKey.FRAGMENT_UNEQUIPPED, equippedType.getDisplayName());
     }
 
     // Update HUD after unequipping
@@ -296,8 +321,7 @@ public class FragmentManager implements Listener {
       return null;
     }
 
-    UUID playerId = player.getUniqueId();
-    FragmentType cachedFragment = equippedFragments.get(playerId);
+    FragmentType cachedFragment = sessions.find(player, EQUIPPED);
 
     // If no cached fragment, return null
     if (cachedFragment == null) {
@@ -327,7 +351,67 @@ public class FragmentManager implements Listener {
     if (player == null) {
       return false;
     }
-    return equippedFragments.containsKey(player.getUniqueId());
+    return sessions.find(player, EQUIPPED) != null;
+  }
+
+  /**
+   * Check whether a player has a specific fragment equipped, without
+   * re-verifying the inventory. Intended for per-tick/per-move hot paths;
+   * the periodic inventory verification keeps this in sync.
+   *
+   * @param playerId The player's UUID
+   * @param fragmentType The fragment type
+   * @return true if the fragment is equipped
+   */
+  public boolean isEquipped(UUID playerId, FragmentType fragmentType) {
+    PlayerSession session = sessions.find(playerId);
+    return session != null && session.get(EQUIPPED) == fragmentType;
+  }
+
+  /**
+   * Reject a cast that is still on cooldown, before the ability runs.
+   * Used by fragment commands once the fragment is known to be equipped; the Draconic Surge toggle
+   * (cancel an active dash) is let through since it ignores cooldowns.
+   *
+   * @param player The player
+   * @param fragmentType The fragment the command belongs to
+   * @param abilityNumber The ability number
+   * @return true if the cast was rejected
+   */
+  public boolean rejectIfOnCooldown(Player player, FragmentType fragmentType, int abilityNumber) {
+    if (player == null || fragmentType == null) {
+      return false;
+    }
+    if (fragmentType == FragmentType.AGILITY && abilityNumber == 1
+        && player.hasMetadata(AgilityFragment.DRACONIC_SURGE_TASK_KEY)) {
+      return false;
+    }
+
+    String elementName = getElementName(fragmentType);
+    if (elementName == null || !cooldownManager.isOnCooldown(player, elementName, abilityNumber)) {
+      return false;
+    }
+    notifyCooldown(player, elementName, abilityNumber);
+    return true;
+  }
+
+  /**
+   * Record a cooldown rejection and tell the player, at most once per second.
+   */
+  private void notifyCooldown(Player player, String elementName, int abilityNumber) {
+    metrics.recordCooldownRejection(elementName, abilityNumber);
+
+    ActionThrottle throttle = plugin.getActionThrottle();
+    if (throttle != null && !throttle.tryAcquire(player, ActionThrottle.Channel.COOLDOWN_MESSAGE)) {
+      return;
+    }
+    int remaining = cooldownManager.getRemainingCooldown(player, elementName, abilityNumber);
+    player.sendMessage(
+      net.kyori.adventure.text.Component.text(
+        "Ability on cooldown! " + remaining + " seconds remaining.",
+        net.kyori.adventure.text.format.NamedTextColor.RED
+      )
+    );
   }
 
   /**
@@ -361,25 +445,24 @@ public class FragmentManager implements Listener {
     // When player is dashing and types /agile 1 again, cancel the dash
     // This must happen BEFORE cooldown check, otherwise toggle is blocked
     if (equipped == FragmentType.AGILITY && abilityNumber == 1) {
-      String DRACONIC_SURGE_TASK_KEY = "agile_draconic_surge_task";
       String TOGGLE_FLAG_KEY = "agile_toggle_flag";
-      if (player.hasMetadata(DRACONIC_SURGE_TASK_KEY)) {
+      if (player.hasMetadata(AgilityFragment.DRACONIC_SURGE_TASK_KEY)) {
         // Cancel the existing dash (toggle behavior)
-        // Get the BukkitRunnable task and cancel it
-        org.bukkit.metadata.MetadataValue value = player.getMetadata(DRACONIC_SURGE_TASK_KEY).get(0);
+        // Get the dash task and cancel it
+        org.bukkit.metadata.MetadataValue value = player.getMetadata(AgilityFragment.DRACONIC_SURGE_TASK_KEY).get(0);
         if (value != null) {
           Object taskObj = value.value();
-          if (taskObj instanceof org.bukkit.scheduler.BukkitRunnable) {
-            ((org.bukkit.scheduler.BukkitRunnable) taskObj).cancel();
+          if (taskObj instanceof WrappedTask) {
+            ((WrappedTask) taskObj).cancel();
           }
         }
-        player.removeMetadata(DRACONIC_SURGE_TASK_KEY, plugin);
+        player.removeMetadata(AgilityFragment.DRACONIC_SURGE_TASK_KEY, plugin);
 
         // Set toggle flag so AbstractFragmentCommand knows not to show success messages
         player.setMetadata(TOGGLE_FLAG_KEY, new org.bukkit.metadata.FixedMetadataValue(plugin, true));
 
         // Schedule removal of toggle flag after a short delay (so AbstractFragmentCommand can check it)
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTaskScheduler().runAtEntityLater(player, () -> {
           player.removeMetadata(TOGGLE_FLAG_KEY, plugin);
         }, 1L);
 
@@ -395,13 +478,7 @@ public class FragmentManager implements Listener {
 
     // Check cooldown for THIS SPECIFIC ABILITY (not all abilities)
     if (elementName != null && cooldownManager.isOnCooldown(player, elementName, abilityNumber)) {
-      int remaining = cooldownManager.getRemainingCooldown(player, elementName, abilityNumber);
-      player.sendMessage(
-        net.kyori.adventure.text.Component.text(
-          "Ability on cooldown! " + remaining + " seconds remaining.",
-          net.kyori.adventure.text.format.NamedTextColor.RED
-        )
-      );
+      notifyCooldown(player, elementName, abilityNumber);
       return false;
     }
 
@@ -418,6 +495,7 @@ public class FragmentManager implements Listener {
     }
 
     // Execute the ability with the ability number
+    long castStart = metrics.startTimer();
     try {
       // Call the fragment's activate method with ability number
       java.lang.reflect.Method activateMethod = Fragment.class.getMethod(
@@ -458,6 +536,11 @@ public class FragmentManager implements Listener {
       return false;
     }
 
+    metrics.recordTickTime(PluginMetrics.SUBSYSTEM_ABILITY, castStart);
+    if (elementName != null) {
+      metrics.recordAbilityCast(elementName, abilityNumber);
+    }
+
     // Set cooldown - RESPECT GLOBAL COOLDOWN CONFIGURATION
     if (elementName != null) {
       // Check if there's a global cooldown configured for this ability
@@ -502,7 +585,7 @@ public class FragmentManager implements Listener {
    * @param player The player
    */
   private void saveEquippedFragment(Player player) {
-    FragmentType equipped = equippedFragments.get(player.getUniqueId());
+    FragmentType equipped = sessions.find(player, EQUIPPED);
     if (equipped != null) {
       player.getPersistentDataContainer().set(
         FRAGMENT_KEY,
@@ -513,18 +596,27 @@ public class FragmentManager implements Listener {
   }
 
   /**
-   * Load and re-equip the player's saved fragment from persistent storage.
-   * Called when player joins to restore fragment from previous session.
+   * Read the name of the player's saved fragment from persistent storage.
+   * Safe off the main thread, so the join pipeline can read it from the
+   * offline player's data during AsyncPlayerPreLoginEvent.
    *
-   * @param player The player
+   * @param data The player's persistent data (live container or offline view)
+   * @return The saved fragment name, or null if none is saved
    */
-  private void loadAndRequipFragment(Player player) {
-    // Check if player has a saved fragment
-    String savedFragmentName = player.getPersistentDataContainer().get(
-      FRAGMENT_KEY,
-      PersistentDataType.STRING
-    );
+  public String readSavedFragment(PersistentDataContainerView data) {
+    return data.get(FRAGMENT_KEY, PersistentDataType.STRING);
+  }
 
+  /**
+   * Re-equip the player's saved fragment from the previous session.
+   * Issue #23: Persist fragments across logins/reconnections.
+   * The HUD is not refreshed here; the join pipeline builds it once the
+   * player has loaded the world.
+   *
+   * @param player The player
+   * @param savedFragmentName The name read by {@link #readSavedFragment} (may be null)
+   */
+  public void restoreSavedFragment(Player player, String savedFragmentName) {
     if (savedFragmentName != null && !savedFragmentName.isEmpty()) {
       try {
         FragmentType fragmentType = FragmentType.valueOf(savedFragmentName);
@@ -535,11 +627,6 @@ public class FragmentManager implements Listener {
           // Re-equip the fragment (silent - no message)
           equipFragmentInternal(player, fragmentType);
 
-          // Update HUD
-          if (plugin != null && plugin.getHudManager() != null) {
-            plugin.getHudManager().updatePlayerHud(player);
-          }
-
           plugin.getLogger().info("Restored " + fragmentType.getDisplayName() +
             " fragment for player " + player.getName() + " on login");
         } else {
@@ -557,16 +644,6 @@ public class FragmentManager implements Listener {
     }
   }
 
-  /**
-   * Handles player join event - restores equipped fragment from previous session.
-   * Issue #23: Persist fragments across logins/reconnections.
-   */
-  @EventHandler(priority = EventPriority.MONITOR)
-  public void onPlayerJoin(PlayerJoinEvent event) {
-    Player player = event.getPlayer();
-    loadAndRequipFragment(player);
-  }
-
   /**
    * Handles player quit event - saves equipped fragment for next session.
    * Issue #23: Persist fragments across logins/reconnections.
@@ -575,6 +652,12 @@ public class FragmentManager implements Listener {
   public void onPlayerQuit(PlayerQuitEvent event) {
     Player player = event.getPlayer();
     saveEquippedFragment(player);
+    // A rejoin prepared before this save read the old fragment
+    JoinPipeline joinPipeline = plugin != null ? plugin.getJoinPipeline() : null;
+    if (joinPipeline != null) {
+      joinPipeline.savedOnQuit(player.getUniqueId());
+    }
+    stopInventoryVerification(player.getUniqueId());
   }
 
   /**
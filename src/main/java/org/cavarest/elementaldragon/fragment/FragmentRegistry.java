@@ -2,6 +2,7 @@ package org.cavarest.elementaldragon.fragment;
 
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -103,11 +104,8 @@ public class FragmentRegistry {
    * @param fragment The fragment to register
    */
   private void registerFragmentListener(Fragment fragment) {
-    if (plugin.getServer() != null && fragment instanceof org.bukkit.event.Listener) {
-      plugin.getServer().getPluginManager().registerEvents(
-        (org.bukkit.event.Listener) fragment,
-        plugin
-      );
+    if (fragment instanceof org.bukkit.event.Listener) {
+      Lifecycle.of(plugin).registerEvents((org.bukkit.event.Listener) fragment);
     }
   }
 
@@ -1,6 +1,12 @@
 package org.cavarest.elementaldragon.fragment;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
+import org.cavarest.elementaldragon.config.AbilityParam;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
 import org.cavarest.elementaldragon.visual.ParticleFX;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -22,12 +28,12 @@ import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Immortal Fragment implementation providing earth-based defensive abilities.
@@ -40,14 +46,9 @@ import java.util.Random;
  */
 public class ImmortalFragment extends AbstractFragment implements Listener {
 
-  // Draconic Reflex constants (ORIGINAL SPECIFICATION)
+  // Fallback cooldown when no global cooldown is configured (ORIGINAL SPECIFICATION)
+  // Durations and dodge chance live in AbilityConfig (config.yml)
   private static final long DRACONIC_REFLEX_COOLDOWN = 120000L; // 2 minutes (original spec)
-  private static final int DRACONIC_REFLEX_DURATION = 300; // 15 seconds = 300 ticks (original spec)
-  private static final double DRACONIC_REFLEX_DODGE_CHANCE = 0.2; // 20% (1/5 chance)
-
-  // Essence Rebirth constants (ORIGINAL SPECIFICATION)
-  private static final long ESSENCE_REBIRTH_COOLDOWN = 480000L; // 8 minutes (480,000ms) (original spec)
-  private static final int ESSENCE_REBIRTH_DURATION = 600; // 30 seconds = 600 ticks (original spec)
 
   // Visual constants
   private static final Color BROWN_COLOR = Color.fromRGB(139, 69, 19);
@@ -138,7 +139,7 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.immortal")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_IMMORTAL)) {
       player.sendMessage(
         Component.text("You do not have permission to use the Immortal Fragment!",
           NamedTextColor.RED)
@@ -198,7 +199,7 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
     }
 
     // Check permission
-    if (!player.hasPermission("elementaldragon.fragment.immortal")) {
+    if (!Permissions.get().has(player, Capability.FRAGMENT_IMMORTAL)) {
       player.sendMessage(
         Component.text("You do not have permission to use Immortal Fragment abilities!",
           NamedTextColor.RED)
@@ -272,31 +273,33 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
 
     // Cooldown is set by FragmentManager.useFragmentAbility()
 
+    metrics.abilityActivated("immortal", 1, player.getUniqueId(),
+      AbilityConfig.current().getDurationTicks(AbilityId.IMMORTAL_1));
+    ElementalStates.get().setAbilityActive(player.getUniqueId(), "immortal", 1, true);
+
     // Schedule effect removal after duration
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (player.isDead() || !player.isValid()) {
-          cancel();
-          return;
-        }
-
-        // Remove the active metadata and start time
-        if (player.hasMetadata(DRACONIC_REFLEX_ACTIVE_KEY)) {
-          player.removeMetadata(DRACONIC_REFLEX_ACTIVE_KEY, plugin);
-        }
-        if (player.hasMetadata(DRACONIC_REFLEX_START_TIME_KEY)) {
-          player.removeMetadata(DRACONIC_REFLEX_START_TIME_KEY, plugin);
-        }
-
-        // Play expiration sound
-        playAbilitySound(player.getLocation(), Sound.BLOCK_STONE_BREAK, 1.0f, 1.0f);
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> {
+      metrics.abilityExpired("immortal", 1, player.getUniqueId());
+      ElementalStates.get().setAbilityActive(player.getUniqueId(), "immortal", 1, false);
+      if (player.isDead() || !player.isValid()) {
+        return;
+      }
 
-        player.sendMessage(
-          Component.text("Draconic Reflex has ended.", NamedTextColor.GRAY)
-        );
+      // Remove the active metadata and start time
+      if (player.hasMetadata(DRACONIC_REFLEX_ACTIVE_KEY)) {
+        player.removeMetadata(DRACONIC_REFLEX_ACTIVE_KEY, plugin);
+      }
+      if (player.hasMetadata(DRACONIC_REFLEX_START_TIME_KEY)) {
+        player.removeMetadata(DRACONIC_REFLEX_START_TIME_KEY, plugin);
       }
-    }.runTaskLater(plugin, DRACONIC_REFLEX_DURATION);
+
+      // Play expiration sound
+      playAbilitySound(player.getLocation(), Sound.BLOCK_STONE_BREAK, 1.0f, 1.0f);
+
+      player.sendMessage(
+        Component.text("Draconic Reflex has ended.", NamedTextColor.GRAY)
+      );
+    }, AbilityConfig.current().getDurationTicks(AbilityId.IMMORTAL_1));
   }
 
   /**
@@ -339,27 +342,29 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
         NamedTextColor.GREEN)
     );
 
+    metrics.abilityActivated("immortal", 2, player.getUniqueId(),
+      AbilityConfig.current().getDurationTicks(AbilityId.IMMORTAL_2));
+    ElementalStates.get().setAbilityActive(player.getUniqueId(), "immortal", 2, true);
+
     // Schedule protection window expiration after 30 seconds (600 ticks)
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (player.isDead() || !player.isValid()) {
-          cancel();
-          return;
-        }
-
-        // Remove protection and start time if still active (wasn't consumed by death prevention)
-        if (player.hasMetadata(ESSENCE_REBIRTH_ACTIVATED_KEY)) {
-          player.removeMetadata(ESSENCE_REBIRTH_ACTIVATED_KEY, plugin);
-        }
-        if (player.hasMetadata(ESSENCE_REBIRTH_START_TIME_KEY)) {
-          player.removeMetadata(ESSENCE_REBIRTH_START_TIME_KEY, plugin);
-        }
-        player.sendMessage(
-          Component.text("Essence Rebirth protection has expired.", NamedTextColor.GRAY)
-        );
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> {
+      metrics.abilityExpired("immortal", 2, player.getUniqueId());
+      ElementalStates.get().setAbilityActive(player.getUniqueId(), "immortal", 2, false);
+      if (player.isDead() || !player.isValid()) {
+        return;
+      }
+
+      // Remove protection and start time if still active (wasn't consumed by death prevention)
+      if (player.hasMetadata(ESSENCE_REBIRTH_ACTIVATED_KEY)) {
+        player.removeMetadata(ESSENCE_REBIRTH_ACTIVATED_KEY, plugin);
+      }
+      if (player.hasMetadata(ESSENCE_REBIRTH_START_TIME_KEY)) {
+        player.removeMetadata(ESSENCE_REBIRTH_START_TIME_KEY, plugin);
       }
-    }.runTaskLater(plugin, ESSENCE_REBIRTH_DURATION);
+      player.sendMessage(
+        Component.text("Essence Rebirth protection has expired.", NamedTextColor.GRAY)
+      );
+    }, AbilityConfig.current().getDurationTicks(AbilityId.IMMORTAL_2));
   }
 
   /**
@@ -368,23 +373,20 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
    * @param player The player
    */
   private void showShieldAuraParticles(Player player) {
-    new BukkitRunnable() {
-      private int ticks = 0;
-
-      @Override
-      public void run() {
-        if (ticks >= DRACONIC_REFLEX_DURATION ||
-            player.isDead() || !player.isValid() ||
-            !player.hasMetadata(DRACONIC_REFLEX_ACTIVE_KEY)) {
-          cancel();
-          return;
-        }
+    int duration = AbilityConfig.current().getDurationTicks(AbilityId.IMMORTAL_1);
+    AtomicInteger ticks = new AtomicInteger();
+    plugin.getTaskScheduler().runAtEntityTimer(player, task -> {
+      if (ticks.get() >= duration ||
+          player.isDead() || !player.isValid() ||
+          !player.hasMetadata(DRACONIC_REFLEX_ACTIVE_KEY)) {
+        task.cancel();
+        return;
+      }
 
-        ParticleFX.spawnShieldAura(player.getLocation());
+      ParticleFX.spawnShieldAura(player.getLocation());
 
-        ticks += 5;
-      }
-    }.runTaskTimer(plugin, 0L, 5L);
+      ticks.addAndGet(5);
+    }, 0L, 5L);
   }
 
   /**
@@ -418,13 +420,14 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
       return;
     }
 
-    // Roll 20% dodge chance
-    if (random.nextDouble() < DRACONIC_REFLEX_DODGE_CHANCE) {
+    // Roll dodge chance (default 20%)
+    if (random.nextDouble() < AbilityConfig.current().get(AbilityParam.DRACONIC_REFLEX_DODGE_CHANCE)) {
       // Dodge successful - negate all damage
       event.setCancelled(true);
 
       // Show dodge success particles
-      player.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        player.getWorld(),
         Particle.DUST,
         player.getLocation().add(0, 1, 0),
         15,
@@ -454,7 +457,8 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
    * @param location The reflection location
    */
   private void showReflectParticles(Location location) {
-    location.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      location.getWorld(),
       Particle.DUST,
       location.add(0, 1, 0),
       8,
@@ -465,7 +469,8 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
       new Particle.DustOptions(GOLD_COLOR, 1.5f)
     );
 
-    location.getWorld().spawnParticle(
+    ParticleFX.spawn(
+      location.getWorld(),
       Particle.SWEEP_ATTACK,
       location,
       3,
@@ -537,7 +542,8 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
       player.playSound(player.getLocation(), Sound.ITEM_TOTEM_USE, 1.0f, 1.0f);
 
       // Show totem particle effect
-      player.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        player.getWorld(),
         Particle.TOTEM_OF_UNDYING,
         player.getLocation().add(0, 1, 0),
         50,
@@ -548,7 +554,8 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
       );
 
       // Show golden rebirth particles (additional visual feedback)
-      player.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        player.getWorld(),
         Particle.DUST,
         player.getLocation().add(0, 1, 0),
         50,
@@ -580,7 +587,8 @@ public class ImmortalFragment extends AbstractFragment implements Listener {
     // Show passive effect particles
     if (player.getWorld() != null) {
       // Brown dust particles for earth effect - use DUST instead of FALLING_DUST
-      player.getWorld().spawnParticle(
+      ParticleFX.spawn(
+        player.getWorld(),
         Particle.DUST,
         player.getLocation().add(0, 1, 0),
         5,
@@ -0,0 +1,90 @@
+package org.cavarest.elementaldragon.hud;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * One dynamic sidebar line with its own refresh schedule.
+ *
+ * Each refresh first asks for the line's {@link HudRefresh} class, which is a
+ * cheap state probe (metadata and cooldown lookups). The line is only rendered
+ * when it is due for its class or its class changed, and is only reported as
+ * changed - and so sent to the client - when the rendered component differs
+ * from what the player already sees.
+ */
+public final class HudLine {
+
+  private final Function<Player, HudRefresh> refreshClass;
+  private final Function<Player, Component> renderer;
+
+  private Component current;
+  private HudRefresh currentClass;
+  private long nextDueTick;
+
+  /**
+   * Create a line and render its initial content.
+   *
+   * @param player The player viewing the line
+   * @param refreshClass Probe for the line's current refresh class
+   * @param renderer Builds the line's content
+   */
+  public HudLine(Player player, Function<Player, HudRefresh> refreshClass, Function<Player, Component> renderer) {
+    this.refreshClass = refreshClass;
+    this.renderer = renderer;
+    this.currentClass = refreshClass.apply(player);
+    this.current = render(player);
+  }
+
+  /**
+   * Re-render the line if it is due.
+   *
+   * @param player The player viewing the line
+   * @param tick Monotonic tick counter of the caller
+   * @return true if the content changed and should be sent to the player
+   */
+  public boolean refresh(Player player, long tick) {
+    HudRefresh refresh = refreshClass.apply(player);
+    boolean classChanged = refresh != currentClass;
+    currentClass = refresh;
+
+    if (!classChanged) {
+      if (refresh == HudRefresh.STATIC || tick < nextDueTick) {
+        return false;
+      }
+    }
+    nextDueTick = tick + refresh.getPeriodTicks();
+
+    Component rendered = render(player);
+    if (Objects.equals(rendered, current)) {
+      return false;
+    }
+    current = rendered;
+    return true;
+  }
+
+  /**
+   * Get the content last rendered for this line.
+   *
+   * @return The current content
+   */
+  public Component getCurrent() {
+    return current;
+  }
+
+  /**
+   * Get the refresh class seen at the last refresh.
+   *
+   * @return The current refresh class
+   */
+  public HudRefresh getCurrentClass() {
+    return currentClass;
+  }
+
+  private Component render(Player player) {
+    Component rendered = renderer.apply(player);
+    return rendered != null ? rendered : Component.empty();
+  }
+}
@@ -3,10 +3,22 @@ package org.cavarest.elementaldragon.hud;
 import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.ability.Ability;
 import org.cavarest.elementaldragon.ability.AbilityManager;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
 import org.cavarest.elementaldragon.fragment.FragmentManager;
 import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.cavarest.elementaldragon.message.MessageKey;
+import org.cavarest.elementaldragon.message.Messages;
 import org.cavarest.elementaldragon.hud.ProgressBarRenderer.ProgressVariant;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
+import org.cavarest.elementaldragon.tracking.DragonEggTracker;
+import com.tcoded.folialib.wrapper.task.WrappedTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
@@ -16,22 +28,18 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryAction;
-import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryDragEvent;
-import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import io.papermc.paper.event.player.PlayerInventorySlotChangeEvent;
 import org.bukkit.plugin.Plugin;
 import me.catcoder.sidebar.ProtocolSidebar;
 import me.catcoder.sidebar.Sidebar;
 import me.catcoder.sidebar.SidebarLine;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages HUD display for ability cooldowns using ProtocolSidebar.
@@ -48,6 +56,13 @@ import java.util.*;
  * - Fragment Ability 2 (if fragment equipped)
  *
  * Active abilities with durations show countdown in the format "ACTIVE (Xs)".
+ *
+ * Dynamic lines are refreshed per line by a driver on each player's own
+ * scheduler (see {@link HudLine} and {@link HudRefresh}): countdowns once a
+ * second, animated cooldown bars every few ticks, Ready lines only when their
+ * state changes. Headers and the fragment lines are never resent, and a line
+ * is only sent when its text actually changed, so an idle player's sidebar
+ * generates no packets.
  */
 public class HudManager implements Listener {
 
@@ -55,33 +70,41 @@ public class HudManager implements Listener {
   private final AbilityManager abilityManager;
   private final FragmentManager fragmentManager;
   private final CooldownManager cooldownManager;
+  private final PlayerSessions sessions;
+  private final PluginMetrics metrics;
+
+  // Each player's sidebar, lines and refresh driver, kept in their session;
+  // closing the session stops the driver and hides the sidebar
+  private static final SessionKey<HudState> HUD = SessionKey.withCleanup("hud", HudState::close);
 
-  // Track sidebars and their ability lines per player
-  private final Map<UUID, Sidebar<Component>> playerSidebars = new HashMap<>();
-  private final Map<UUID, List<SidebarLine<Component>>> playerLines = new HashMap<>();
+  // Refresh driver period - the fastest line class (ANIMATED) runs on every pass
+  private static final long REFRESH_DRIVER_PERIOD_TICKS = HudRefresh.ANIMATED.getPeriodTicks();
 
   // MiniMessage instance for styled text
   private final MiniMessage miniMessage = MiniMessage.miniMessage();
 
-  // Active ability duration mappings (ability key -> duration in seconds)
+  // Parsed progress bar frames, keyed by their MiniMessage source
+  private final Map<String, Component> progressBarComponents = new java.util.concurrent.ConcurrentHashMap<>();
+
+  // Active ability metadata mappings (durations come from AbilityConfig)
   private static final Map<String, ActiveAbilityInfo> ACTIVE_ABILITY_INFO = new HashMap<>();
 
   static {
-    // Dread Gaze: 10 seconds
+    // Dread Gaze (freeze duration)
     ACTIVE_ABILITY_INFO.put("corrupt:1", new ActiveAbilityInfo(
-      "corrupted_dread_gaze_active", "corrupted_dread_gaze_start_time", 10
+      "corrupted_dread_gaze_active", "corrupted_dread_gaze_start_time", AbilityId.CORRUPT_1
     ));
-    // Life Devourer: 20 seconds
+    // Life Devourer
     ACTIVE_ABILITY_INFO.put("corrupt:2", new ActiveAbilityInfo(
-      "corrupted_life_devourer_active", "corrupted_life_devourer_start_time", 20
+      "corrupted_life_devourer_active", "corrupted_life_devourer_start_time", AbilityId.CORRUPT_2
     ));
-    // Draconic Reflex: 15 seconds
+    // Draconic Reflex
     ACTIVE_ABILITY_INFO.put("immortal:1", new ActiveAbilityInfo(
-      "immortal_draconic_reflex_active", "immortal_draconic_reflex_start_time", 15
+      "immortal_draconic_reflex_active", "immortal_draconic_reflex_start_time", AbilityId.IMMORTAL_1
     ));
-    // Essence Rebirth: 30 seconds
+    // Essence Rebirth
     ACTIVE_ABILITY_INFO.put("immortal:2", new ActiveAbilityInfo(
-      "immortal_essence_rebirth_activated", "immortal_essence_rebirth_start_time", 30
+      "immortal_essence_rebirth_activated", "immortal_essence_rebirth_start_time", AbilityId.IMMORTAL_2
     ));
   }
 
@@ -91,39 +114,39 @@ public class HudManager implements Listener {
   static {
     // Lightning
     ABILITY_INFO.put(CooldownManager.LIGHTNING + ":0", new AbilityInfo(
-      "⚡", CooldownManager.LIGHTNING, 0, "/lightning 1", "Lightning Strike", NamedTextColor.LIGHT_PURPLE, "light_purple", "instant"
+      "⚡", CooldownManager.LIGHTNING, 0, "/lightning 1", "Lightning Strike", NamedTextColor.LIGHT_PURPLE, "light_purple"
     ));
 
     // Burning Fragment
     ABILITY_INFO.put(CooldownManager.FIRE + ":1", new AbilityInfo(
-      "🔥", CooldownManager.FIRE, 1, "/fire 1", "Dragon's Wrath", NamedTextColor.RED, "red", "instant"
+      "🔥", CooldownManager.FIRE, 1, "/fire 1", "Dragon's Wrath", NamedTextColor.RED, "red"
     ));
     ABILITY_INFO.put(CooldownManager.FIRE + ":2", new AbilityInfo(
-      "🔥", CooldownManager.FIRE, 2, "/fire 2", "Infernal Dominion", NamedTextColor.RED, "red", "10s"
+      "🔥", CooldownManager.FIRE, 2, "/fire 2", "Infernal Dominion", NamedTextColor.RED, "red"
     ));
 
     // Agility Fragment
     ABILITY_INFO.put(CooldownManager.AGILE + ":1", new AbilityInfo(
-      "💨", CooldownManager.AGILE, 1, "/agile 1", "Draconic Surge", NamedTextColor.AQUA, "aqua", "1s"
+      "💨", CooldownManager.AGILE, 1, "/agile 1", "Draconic Surge", NamedTextColor.AQUA, "aqua"
     ));
     ABILITY_INFO.put(CooldownManager.AGILE + ":2", new AbilityInfo(
-      "💨", CooldownManager.AGILE, 2, "/agile 2", "Wing Burst", NamedTextColor.AQUA, "aqua", "10s"
+      "💨", CooldownManager.AGILE, 2, "/agile 2", "Wing Burst", NamedTextColor.AQUA, "aqua"
     ));
 
     // Immortal Fragment
     ABILITY_INFO.put(CooldownManager.IMMORTAL + ":1", new AbilityInfo(
-      "🔰", CooldownManager.IMMORTAL, 1, "/immortal 1", "Draconic Reflex", NamedTextColor.GREEN, "green", "15s"
+      "🔰", CooldownManager.IMMORTAL, 1, "/immortal 1", "Draconic Reflex", NamedTextColor.GREEN, "green"
     ));
     ABILITY_INFO.put(CooldownManager.IMMORTAL + ":2", new AbilityInfo(
-      "🔰", CooldownManager.IMMORTAL, 2, "/immortal 2", "Essence Rebirth", NamedTextColor.GREEN, "green", "30s"
+      "🔰", CooldownManager.IMMORTAL, 2, "/immortal 2", "Essence Rebirth", NamedTextColor.GREEN, "green"
     ));
 
     // Corrupted Core - using single-width eye emoji (without variation selector)
     ABILITY_INFO.put(CooldownManager.CORRUPT + ":1", new AbilityInfo(
-      "👁", CooldownManager.CORRUPT, 1, "/corrupt 1", "Dread Gaze", NamedTextColor.DARK_PURPLE, "dark_purple", "10s"
+      "👁", CooldownManager.CORRUPT, 1, "/corrupt 1", "Dread Gaze", NamedTextColor.DARK_PURPLE, "dark_purple"
     ));
     ABILITY_INFO.put(CooldownManager.CORRUPT + ":2", new AbilityInfo(
-      "👁", CooldownManager.CORRUPT, 2, "/corrupt 2", "Life Devourer", NamedTextColor.DARK_PURPLE, "dark_purple", "20s"
+      "👁", CooldownManager.CORRUPT, 2, "/corrupt 2", "Life Devourer", NamedTextColor.DARK_PURPLE, "dark_purple"
     ));
   }
 
@@ -149,9 +172,9 @@ public class HudManager implements Listener {
   private static final Map<String, DebuffInfo> DEBUFF_INFO = new HashMap<>();
 
   static {
-    // Dread Gaze Freeze: 10 seconds
+    // Dread Gaze Freeze (freeze duration)
     DEBUFF_INFO.put("corrupted_dread_gaze_debuff", new DebuffInfo(
-      "Dread Gaze Freeze", 10, "👁", NamedTextColor.DARK_PURPLE, "dark_purple"
+      "Dread Gaze Freeze", AbilityId.CORRUPT_1, "👁", NamedTextColor.DARK_PURPLE, "dark_purple"
     ));
   }
 
@@ -165,24 +188,16 @@ public class HudManager implements Listener {
     this.abilityManager = abilityManager;
     this.fragmentManager = fragmentManager;
     this.cooldownManager = cooldownManager;
+    this.sessions = PlayerSessions.of(plugin);
+    this.metrics = PluginMetrics.of(plugin);
 
     // Register event listeners for player state changes
-    Bukkit.getPluginManager().registerEvents(this, plugin);
-
-    // Initialize HUD for already online players
-    Bukkit.getScheduler().runTask(plugin, () -> {
-      for (Player player : Bukkit.getOnlinePlayers()) {
-        updatePlayerHud(player);
-      }
-    });
-  }
+    Lifecycle.of(plugin).registerEvents(this);
 
-  /**
-   * Handle player join - create/update their HUD.
-   */
-  @EventHandler
-  public void onPlayerJoin(PlayerJoinEvent event) {
-    updatePlayerHud(event.getPlayer());
+    // Initialize HUD for already online players (each on its own region)
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      plugin.getTaskScheduler().runAtEntity(player, () -> updatePlayerHud(player));
+    }
   }
 
   /**
@@ -224,80 +239,6 @@ public class HudManager implements Listener {
     scheduleHudUpdate(player);
   }
 
-  /**
-   * Handle inventory clicks - update HUD when player moves dragon egg.
-   */
-  @EventHandler
-  public void onInventoryClick(InventoryClickEvent event) {
-    if (!(event.getWhoClicked() instanceof Player)) {
-      return;
-    }
-
-    Player player = (Player) event.getWhoClicked();
-
-    // Check if clicked item, cursor item, or current item is dragon egg
-    org.bukkit.inventory.ItemStack clickedItem = event.getCurrentItem();
-    org.bukkit.inventory.ItemStack cursorItem = event.getCursor();
-
-    if ((clickedItem != null && clickedItem.getType() == org.bukkit.Material.DRAGON_EGG) ||
-        (cursorItem != null && cursorItem.getType() == org.bukkit.Material.DRAGON_EGG)) {
-      scheduleHudUpdate(player);
-    }
-  }
-
-  /**
-   * Handle player interact - update HUD when player right-clicks with dragon egg.
-   */
-  @EventHandler
-  public void onPlayerInteract(PlayerInteractEvent event) {
-    // Check if player is holding dragon egg and interacting
-    Player player = event.getPlayer();
-    if (event.getAction() == org.bukkit.event.block.Action.RIGHT_CLICK_AIR ||
-        event.getAction() == org.bukkit.event.block.Action.RIGHT_CLICK_BLOCK) {
-      // Check if the item in hand is a dragon egg (main hand or offhand)
-      org.bukkit.inventory.ItemStack item = event.getItem();
-      if (item != null && item.getType() == org.bukkit.Material.DRAGON_EGG) {
-        scheduleHudUpdate(player);
-      }
-    }
-  }
-
-  /**
-   * Handle drag operations - update HUD when player drags dragon egg.
-   */
-  @EventHandler
-  public void onInventoryDrag(InventoryDragEvent event) {
-    if (!(event.getWhoClicked() instanceof Player)) {
-      return;
-    }
-
-    Player player = (Player) event.getWhoClicked();
-
-    // Check if the drag involves a dragon egg (any slot)
-    for (org.bukkit.inventory.ItemStack item : event.getNewItems().values()) {
-      if (item != null && item.getType() == org.bukkit.Material.DRAGON_EGG) {
-        scheduleHudUpdate(player);
-        return;
-      }
-    }
-  }
-
-  /**
-   * Handle item pickup - update HUD when player picks up dragon egg.
-   */
-  @EventHandler
-  public void onItemPickup(org.bukkit.event.entity.EntityPickupItemEvent event) {
-    if (!(event.getEntity() instanceof Player)) {
-      return;
-    }
-
-    Player player = (Player) event.getEntity();
-
-    if (event.getItem().getItemStack().getType() == org.bukkit.Material.DRAGON_EGG) {
-      scheduleHudUpdate(player);
-    }
-  }
-
   /**
    * Handle hand swap events (F key) - update HUD when player swaps items between hands.
    */
@@ -307,48 +248,23 @@ public class HudManager implements Listener {
     scheduleHudUpdate(player);
   }
 
-  /**
-   * Handle item drops - update HUD when player drops dragon egg.
-   */
-  @EventHandler
-  public void onPlayerDropItem(org.bukkit.event.player.PlayerDropItemEvent event) {
-    Player player = event.getPlayer();
-    if (event.getItemDrop().getItemStack().getType() == org.bukkit.Material.DRAGON_EGG) {
-      scheduleHudUpdate(player);
-    }
-  }
-
-  /**
-   * Handle inventory slot changes - update HUD when player's inventory changes.
-   * This catches /give command, item pickup, and any other inventory modifications.
-   * Uses Paper-specific PlayerInventorySlotChangeEvent.
-   */
-  @EventHandler
-  public void onPlayerInventorySlotChange(PlayerInventorySlotChangeEvent event) {
-    // Check if either old or new item is a dragon egg
-    // This handles both giving (old=null, new=egg) and removing (old=egg, new=null/other)
-    org.bukkit.inventory.ItemStack oldItem = event.getOldItemStack();
-    org.bukkit.inventory.ItemStack newItem = event.getNewItemStack();
-
-    boolean wasEgg = oldItem != null && oldItem.getType() == org.bukkit.Material.DRAGON_EGG;
-    boolean isEgg = newItem != null && newItem.getType() == org.bukkit.Material.DRAGON_EGG;
-
-    // Only update if dragon egg status changed (egg added or removed)
-    if (wasEgg || isEgg) {
-      scheduleHudUpdate(event.getPlayer());
-    }
-  }
-
   /**
    * Schedule HUD update with small delay to allow inventory to settle.
+   * Dragon egg moves (click, drag, pickup, drop, slot change, right-click)
+   * are routed here, after DragonEggTracker has been told, by {@link org.cavarest.elementaldragon.listener.ItemEventGate}.
+   *
+   * @param player The player
    */
-  private void scheduleHudUpdate(Player player) {
-    Bukkit.getScheduler().runTaskLater(plugin, () -> {
+  public void scheduleHudUpdate(Player player) {
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> {
+      if (!player.isOnline()) {
+        return; // Quit within the delay - don't rebuild a sidebar for nobody
+      }
       updatePlayerHud(player);
       // Force immediate sidebar refresh after update
-      Sidebar<Component> sidebar = playerSidebars.get(player.getUniqueId());
-      if (sidebar != null) {
-        sidebar.updateAllLines();
+      HudState state = sessions.find(player, HUD);
+      if (state != null && state.sidebar != null) {
+        state.sidebar.updateAllLines();
       }
     }, 2L);
   }
@@ -365,8 +281,21 @@ public class HudManager implements Listener {
    * @param player The player
    */
   public void updatePlayerHud(Player player) {
-    UUID playerId = player.getUniqueId();
+    long start = metrics.startTimer();
+    metrics.recordHudRebuild();
+    try {
+      rebuildPlayerHud(player);
+    } finally {
+      metrics.recordTickTime(PluginMetrics.SUBSYSTEM_HUD, start);
+    }
+  }
 
+  /**
+   * Rebuild all sidebar lines for a player (see {@link #updatePlayerHud}).
+   *
+   * @param player The player
+   */
+  private void rebuildPlayerHud(Player player) {
     // Check which abilities should be displayed
     boolean hasLightning = hasLightningAbility(player);
     FragmentType equippedFragment = fragmentManager != null ?
@@ -404,9 +333,15 @@ public class HudManager implements Listener {
     // Update or create sidebar
     if (!abilityKeys.isEmpty() || !debuffKeys.isEmpty()) {
       try {
-        Sidebar<Component> sidebar = playerSidebars.get(playerId);
-        List<SidebarLine<Component>> currentLines = playerLines.get(playerId);
+        PlayerSession session = sessions.sessionIfOnline(player);
+        if (session == null) {
+          return; // Quit before this update ran - nothing to show, nothing to reopen
+        }
+        HudState state = session.computeIfAbsent(HUD, () -> new HudState(player));
+        Sidebar<Component> sidebar = state.sidebar;
+        List<SidebarLine<Component>> currentLines = state.lines;
         boolean isNewSidebar = false;
+        List<DynamicLine> dynamicLines = new ArrayList<>();
 
         if (sidebar == null) {
           sidebar = ProtocolSidebar.newAdventureSidebar(
@@ -415,9 +350,9 @@ public class HudManager implements Listener {
           );
           // Remove score numbers - we show countdown in the line text instead
           sidebar.getObjective().scoreNumberFormatBlank();
-          playerSidebars.put(playerId, sidebar);
+          state.sidebar = sidebar;
           currentLines = new ArrayList<>();
-          playerLines.put(playerId, currentLines);
+          state.lines = currentLines;
           isNewSidebar = true;
         } else {
           // Remove old lines that are no longer needed
@@ -434,14 +369,10 @@ public class HudManager implements Listener {
           // Fragment name line
           FragmentDisplayInfo info = FRAGMENT_DISPLAY_INFO.get(equippedFragment);
           if (info != null) {
-            String fragmentNameString = String.format(
-              "<%s><shadow:#000000FF>%s</shadow></%s> <gold><bold>%s</bold></gold>",
-              info.colorName,
-              info.icon,
-              info.colorName,
+            Component fragmentNameComponent = Messages.get().render(player, MessageKey.HUD_FRAGMENT_NAME,
+              Component.text(info.icon, info.color),
               equippedFragment.getDisplayName().toUpperCase()
             );
-            Component fragmentNameComponent = miniMessage.deserialize(fragmentNameString);
             SidebarLine<Component> fragmentNameLine = sidebar.addLine(fragmentNameComponent);
             currentLines.add(fragmentNameLine);
 
@@ -450,15 +381,15 @@ public class HudManager implements Listener {
 
             // Passive description line (or active buffs)
             String passiveDescription = getWidthMatchedPassiveDescription(equippedFragment);
-            String passiveLineString;
+            Component passiveLineComponent;
             if (activeBuffs.isEmpty()) {
               // No active buffs - show passive description
-              passiveLineString = String.format("<gray>%s</gray>", passiveDescription);
+              passiveLineComponent = Messages.get().render(player, MessageKey.HUD_PASSIVE, passiveDescription);
             } else {
               // Show active buffs instead of passive description
-              passiveLineString = String.format("<green>✦ %s</green>", String.join(" • ", activeBuffs));
+              passiveLineComponent = Messages.get().render(player, MessageKey.HUD_ACTIVE_BUFFS,
+                String.join(" • ", activeBuffs));
             }
-            Component passiveLineComponent = miniMessage.deserialize(passiveLineString);
             SidebarLine<Component> passiveLine = sidebar.addLine(passiveLineComponent);
             currentLines.add(passiveLine);
           }
@@ -467,22 +398,16 @@ public class HudManager implements Listener {
           if (player.hasMetadata("corrupted_dread_gaze_foe_frozen")) {
             int remainingSeconds = getFoeFrozenRemainingDuration(player);
             if (remainingSeconds > 0) {
-              String foeFrozenString = String.format(
-                "<dark_purple><shadow:#000000FF>👁 Foe Frozen</shadow> (%ds)</dark_purple>",
-                remainingSeconds
-              );
-              Component foeFrozenComponent = miniMessage.deserialize(foeFrozenString);
-              SidebarLine<Component> foeFrozenLine = sidebar.addUpdatableLine(p -> {
-                int updatedRemaining = getFoeFrozenRemainingDuration(p);
-                if (updatedRemaining > 0) {
-                  String updatedString = String.format(
-                    "<dark_purple><shadow:#000000FF>👁 Foe Frozen</shadow> (%ds)</dark_purple>",
-                    updatedRemaining
-                  );
-                  return miniMessage.deserialize(updatedString);
-                }
-                return Component.empty();
-              });
+              SidebarLine<Component> foeFrozenLine = addDynamicLine(sidebar, dynamicLines, player,
+                p -> HudRefresh.COUNTDOWN,
+                p -> {
+                  metrics.recordSidebarLineUpdate();
+                  int updatedRemaining = getFoeFrozenRemainingDuration(p);
+                  if (updatedRemaining > 0) {
+                    return Messages.get().render(p, MessageKey.HUD_FOE_FROZEN, updatedRemaining);
+                  }
+                  return Component.empty();
+                });
               currentLines.add(foeFrozenLine);
             }
           }
@@ -502,10 +427,9 @@ public class HudManager implements Listener {
 
           // Add updatable lines for each debuff
           for (String debuffKey : debuffKeys) {
-            SidebarLine<Component> line = sidebar.addUpdatableLine(p -> {
-              Component debuffText = buildDebuffLine(p, debuffKey);
-              return debuffText;
-            });
+            SidebarLine<Component> line = addDynamicLine(sidebar, dynamicLines, player,
+              p -> HudRefresh.COUNTDOWN,
+              p -> buildDebuffLine(p, debuffKey));
             currentLines.add(line);
           }
 
@@ -531,10 +455,9 @@ public class HudManager implements Listener {
 
         // Add updatable lines for each ACTIVE ability
         for (String abilityKey : activeKeys) {
-          SidebarLine<Component> line = sidebar.addUpdatableLine(p -> {
-            Component abilityText = buildAbilityLineForUpdater(p, abilityKey);
-            return abilityText;
-          });
+          SidebarLine<Component> line = addDynamicLine(sidebar, dynamicLines, player,
+            p -> getAbilityLineRefresh(p, abilityKey),
+            p -> buildAbilityLineForUpdater(p, abilityKey));
           currentLines.add(line);
         }
 
@@ -562,17 +485,16 @@ public class HudManager implements Listener {
 
         // Add updatable lines for each AVAILABLE ability (cooldown or ready)
         for (String abilityKey : inactiveKeys) {
-          SidebarLine<Component> line = sidebar.addUpdatableLine(p -> {
-            Component abilityText = buildAbilityLineForUpdater(p, abilityKey);
-            return abilityText;
-          });
+          SidebarLine<Component> line = addDynamicLine(sidebar, dynamicLines, player,
+            p -> getAbilityLineRefresh(p, abilityKey),
+            p -> buildAbilityLineForUpdater(p, abilityKey));
           currentLines.add(line);
         }
 
-        // Set up periodic updates BEFORE adding viewer (as per ProtocolSidebar README)
-        // This uses FoliaLib for smooth, non-flickering updates
+        // Swap in the new dynamic lines, and start the refresh driver BEFORE adding viewer
+        state.dynamicLines = dynamicLines;
         if (isNewSidebar) {
-          sidebar.updateLinesPeriodically(0, 10);
+          startRefreshDriver(player, state);
         }
 
         // Show to the player (safe to call multiple times)
@@ -591,6 +513,101 @@ public class HudManager implements Listener {
     }
   }
 
+  /**
+   * Add a sidebar line whose content is owned by a {@link HudLine}.
+   * The library's updater only hands back the last rendered content;
+   * rendering happens in {@link #refreshDynamicLines}.
+   *
+   * @param sidebar The player's sidebar
+   * @param dynamicLines Dynamic lines being collected for this rebuild
+   * @param player The player
+   * @param refreshClass Probe for the line's refresh class
+   * @param renderer Builds the line's content
+   * @return The sidebar line
+   */
+  private SidebarLine<Component> addDynamicLine(
+    Sidebar<Component> sidebar,
+    List<DynamicLine> dynamicLines,
+    Player player,
+    java.util.function.Function<Player, HudRefresh> refreshClass,
+    java.util.function.Function<Player, Component> renderer
+  ) {
+    HudLine content = new HudLine(player, refreshClass, renderer);
+    SidebarLine<Component> sidebarLine = sidebar.addUpdatableLine(p -> content.getCurrent());
+    dynamicLines.add(new DynamicLine(sidebarLine, content));
+    return sidebarLine;
+  }
+
+  /**
+   * Start the per-player refresh driver on the player's own scheduler.
+   *
+   * @param player The player
+   * @param state The player's HUD state
+   */
+  private void startRefreshDriver(Player player, HudState state) {
+    AtomicLong tick = new AtomicLong();
+    TaskScheduler scheduler = plugin.getTaskScheduler();
+    WrappedTask task = scheduler.own("hud", scheduler.runAtEntityTimer(player, t -> {
+      // Entity timers outlive a quit on Paper; stop with the player
+      if (!player.isOnline()) {
+        scheduler.cancel(t);
+        return;
+      }
+      refreshDynamicLines(player, tick.addAndGet(REFRESH_DRIVER_PERIOD_TICKS));
+    }, REFRESH_DRIVER_PERIOD_TICKS, REFRESH_DRIVER_PERIOD_TICKS));
+    WrappedTask previous = state.refreshTask;
+    state.refreshTask = task;
+    if (previous != null) {
+      scheduler.cancel(previous);
+    }
+  }
+
+  /**
+   * Re-render the dynamic lines that are due and send only those that changed.
+   *
+   * @param player The player
+   * @param tick Driver tick counter
+   */
+  private void refreshDynamicLines(Player player, long tick) {
+    HudState state = sessions.find(player, HUD);
+    if (state == null || state.sidebar == null || state.dynamicLines == null) {
+      return;
+    }
+    Sidebar<Component> sidebar = state.sidebar;
+    List<DynamicLine> lines = state.dynamicLines;
+
+    for (DynamicLine line : lines) {
+      if (line.content.refresh(player, tick)) {
+        sidebar.updateLine(line.sidebarLine);
+      }
+    }
+  }
+
+  /**
+   * Classify an ability line for refreshing.
+   * Cooldown bars animate, active countdowns tick each second, everything else
+   * (Ready, READY TO STRIKE) stays put until the state changes.
+   *
+   * @param player The player
+   * @param abilityKey The ability key (e.g., "fire:1")
+   * @return The refresh class
+   */
+  private HudRefresh getAbilityLineRefresh(Player player, String abilityKey) {
+    if ("corrupt:1".equals(abilityKey)
+        && player.hasMetadata("corrupted_dread_gaze_active")
+        && !player.hasMetadata("corrupted_dread_gaze_active_start_time")) {
+      return HudRefresh.STATIC;
+    }
+    if (isActiveAbility(player, abilityKey)) {
+      return HudRefresh.COUNTDOWN;
+    }
+    AbilityInfo info = ABILITY_INFO.get(abilityKey);
+    if (info != null && getCooldownForAbility(player, info.element, info.number) > 0) {
+      return HudRefresh.ANIMATED;
+    }
+    return HudRefresh.STATIC;
+  }
+
   /**
    * Get width-matched passive description for fragment type.
    * All descriptions are approximately 15-20 characters for better alignment.
@@ -621,7 +638,7 @@ public class HudManager implements Listener {
    * Ready:  ⚡ /lightning 1  █ Ready
    * Cooldown: 🔥 /fire 1    █ In 1m 1s
    *
-   * Uses MiniMessage for styling:
+   * Texts come from the message catalog (hud.ability.*); styling there:
    * - Command has shadow: <shadow:#000000FF>/command</shadow>
    * - Ready text has bold and shadow: <bold><shadow>Ready</shadow></bold>
    * - Active text shows remaining duration with glow effect
@@ -656,84 +673,53 @@ public class HudManager implements Listener {
                        !player.hasMetadata("corrupted_dread_gaze_active_start_time");
     }
 
-    String miniMessageString;
+    Messages messages = Messages.get();
+    Component line;
 
     if (isAwaitingHit) {
       // READY TO STRIKE state - show awaiting hit message
-      String barColor = "#FF00FF"; // Magenta for special state
-      miniMessageString = String.format(
-        "<%s><shadow:#000000FF>%s</shadow> <gray>%s</gray>  <%s><bold><dark_purple>READY TO STRIKE</dark_purple></bold></%s>",
-        info.colorName,       // Icon color
-        info.icon,            // Icon with shadow
-        abilityNameDisplay,   // Ability name (with or without duration)
-        barColor,            // State color
-        barColor             // Overall color
-      );
+      line = messages.render(player, MessageKey.HUD_ABILITY_AWAITING_HIT, info.icon, abilityNameDisplay);
     } else if (isActive) {
-      // ACTIVE state - show countdown with reverse progress bar
+      // ACTIVE state - show remaining duration
       int remainingSeconds = getActiveAbilityRemainingDuration(player, abilityKey);
-      ActiveAbilityInfo activeInfo = ACTIVE_ABILITY_INFO.get(abilityKey);
-
-      // Reverse progress: starts at 1.0, decreases to 0
-      float reverseProgress = activeInfo != null && activeInfo.durationSeconds > 0
-        ? (float) remainingSeconds / activeInfo.durationSeconds
-        : 0.5f;
-
-      // Clamp to valid range
-      reverseProgress = Math.max(0.0f, Math.min(1.0f, reverseProgress));
-
-      String progressBar = buildProgressBar(player, reverseProgress);
-      String barColor = "#FF00FF"; // Magenta/pink for active abilities
-
-      // Format: [Icon] Ability Name (Duration)  [ProgressBar] ACTIVE (Xs)
-      miniMessageString = String.format(
-        "<%s><shadow:#000000FF>%s</shadow> %s  <%s><bold>ACTIVE</bold> (%ds)</%s>",
-        info.colorName,       // Icon color
-        info.icon,            // Icon with shadow
-        abilityNameDisplay,   // Ability name (with or without duration)
-        barColor,            // Progress bar and Active color
-        remainingSeconds,    // Remaining seconds
-        barColor             // Overall color
-      );
+
+      // Format: [Icon] Ability Name (Duration)  ACTIVE (Xs)
+      line = messages.render(player, MessageKey.HUD_ABILITY_ACTIVE, info.icon, abilityNameDisplay, remainingSeconds);
     } else {
       // Not active - check cooldown
       int cooldown = getCooldownForAbility(player, info.element, info.number);
-      float progress = calculateProgress(info, cooldown);
       boolean isReady = cooldown <= 0;
 
-      // Progress bar - single vertical block for 100%
-      String progressBar = buildProgressBar(player, progress);
-      String barColor = getProgressBarColorMiniMessage(progress, isReady);
-
       if (isReady) {
         // Ready state - green with bold and shadow
-        miniMessageString = String.format(
-          "<%s><shadow:#000000FF>%s</shadow> %s  <%s><bold><shadow:#000000FF>Ready</shadow></bold></%s>",
-          info.colorName,    // Icon color
-          info.icon,         // Icon with shadow
-          abilityNameDisplay, // Ability name (with or without duration)
-          barColor,         // Progress bar and Ready color
-          barColor          // Ready text color
-        );
+        line = messages.render(player, MessageKey.HUD_ABILITY_READY, info.icon, abilityNameDisplay);
       } else {
         // Cooldown state - "In" is white, countdown is colored based on progress
-        String cooldownText = formatCooldownShort(cooldown);
-
-        miniMessageString = String.format(
-          "<%s><shadow:#000000FF>%s</shadow> %s %s <white>In</white> <%s>%s</%s>",
-          info.colorName,    // Icon color
-          info.icon,         // Icon with shadow
-          abilityNameDisplay, // Ability name (with or without duration)
-          progressBar,       // Progress bar (e.g., "█")
-          barColor,         // Cooldown countdown color
-          cooldownText,     // Countdown (e.g., "1m 10s")
-          barColor          // Overall color
-        );
+        float progress = calculateProgress(info, cooldown);
+
+        // Progress bar - single vertical block for 100%
+        Component progressBar = progressBarComponent(buildProgressBar(player, progress));
+        TextColor barColor = TextColor.fromHexString(getProgressBarColorMiniMessage(progress, false));
+        Component countdown = Component.text(formatCooldownShort(cooldown), barColor);
+
+        line = messages.render(player, MessageKey.HUD_ABILITY_COOLDOWN,
+          info.icon, abilityNameDisplay, progressBar, countdown);
       }
     }
 
-    // Parse the MiniMessage string into a Component
-    return miniMessage.deserialize(miniMessageString);
+    // Icon and name take the ability's color unless the template sets one
+    return line.colorIfAbsent(info.color);
+  }
+
+  /**
+   * Parse a rendered progress bar frame, reusing earlier parses.
+   * Frames come from the renderer's precomputed atlas, so the set is small.
+   *
+   * @param frame The MiniMessage progress bar string
+   * @return The parsed component
+   */
+  private Component progressBarComponent(String frame) {
+    return progressBarComponents.computeIfAbsent(frame, miniMessage::deserialize);
   }
 
   /**
@@ -896,7 +882,7 @@ public class HudManager implements Listener {
 
   /**
    * Check if player has lightning ability available (dragon egg in inventory or offhand).
-   * Uses DRY helper from ElementalItems.
+   * Reads the cached presence bit from DragonEggTracker, falling back to a scan.
    */
   private boolean hasLightningAbility(Player player) {
     if (abilityManager == null) {
@@ -904,6 +890,10 @@ public class HudManager implements Listener {
       return false;
     }
 
+    DragonEggTracker eggTracker = plugin.getDragonEggTracker();
+    if (eggTracker != null) {
+      return eggTracker.hasDragonEgg(player);
+    }
     return org.cavarest.elementaldragon.item.ElementalItems.hasMaterialInInventory(
       player,
       org.bukkit.Material.DRAGON_EGG
@@ -953,18 +943,18 @@ public class HudManager implements Listener {
         long startTime = player.getMetadata(info.startTimeMetadataKey).get(0).asLong();
         long elapsedMillis = System.currentTimeMillis() - startTime;
         int elapsedSeconds = (int) (elapsedMillis / 1000);
-        int remaining = info.durationSeconds - elapsedSeconds;
+        int remaining = info.durationSeconds() - elapsedSeconds;
         return Math.max(0, remaining);
       } catch (Exception e) {
         // If timestamp is invalid, return full duration
         plugin.getLogger().warning("[HUD] Invalid timestamp for " + abilityKey + ": " + e.getMessage());
-        return info.durationSeconds;
+        return info.durationSeconds();
       }
     }
 
     // No timestamp available - return full duration as fallback
     plugin.getLogger().warning("[HUD] No start time metadata found for " + abilityKey + ", using full duration");
-    return info.durationSeconds;
+    return info.durationSeconds();
   }
 
   /**
@@ -1094,13 +1084,14 @@ public class HudManager implements Listener {
 
   /**
    * Build a debuff line showing remaining duration.
-   * Format: [Icon] Debuff Name  [ProgressBar] (Xs)
+   * Format: [Icon] Debuff Name  (Xs)
    *
    * @param player The player
    * @param debuffKey The debuff metadata key
    * @return Component for debuff display
    */
   private Component buildDebuffLine(Player player, String debuffKey) {
+    metrics.recordSidebarLineUpdate();
     DebuffInfo info = DEBUFF_INFO.get(debuffKey);
     if (info == null) {
       return Component.empty();
@@ -1113,26 +1104,13 @@ public class HudManager implements Listener {
     }
 
     // Reverse progress: starts at 1.0, decreases to 0
-    float reverseProgress = (float) remainingSeconds / info.durationSeconds;
+    float reverseProgress = (float) remainingSeconds / info.durationSeconds();
     reverseProgress = Math.max(0.0f, Math.min(1.0f, reverseProgress));
 
-    String progressBar = buildProgressBar(player, reverseProgress);
-    String barColor = "#FF00FF"; // Magenta for debuffs
-
-    // Format: [Icon] Debuff Name  [ProgressBar] (Xs)
-    String miniMessageString = String.format(
-      "<%s><shadow:#000000FF>%s</shadow> <%s>%s</%s>  <%s>(%ds)</%s>",
-      info.colorName,  // Icon color
-      info.icon,          // Icon
-      info.colorName,  // Name color
-      info.name,          // Debuff name
-      barColor,          // Progress bar color
-      barColor,          // Countdown color
-      remainingSeconds,  // Remaining seconds
-      barColor           // Overall color
-    );
-
-    return miniMessage.deserialize(miniMessageString);
+    // Format: [Icon] Debuff Name  (Xs)
+    return Messages.get()
+      .render(player, MessageKey.HUD_DEBUFF, info.icon, info.name, remainingSeconds)
+      .colorIfAbsent(info.color);
   }
 
   /**
@@ -1154,7 +1132,7 @@ public class HudManager implements Listener {
       int elapsedSeconds = (int) (elapsedMillis / 1000);
 
       DebuffInfo info = DEBUFF_INFO.get(debuffKey);
-      int remaining = info.durationSeconds - elapsedSeconds;
+      int remaining = info.durationSeconds() - elapsedSeconds;
       return Math.max(0, remaining);
     } catch (Exception e) {
       return 0;
@@ -1165,13 +1143,10 @@ public class HudManager implements Listener {
    * Clear sidebar for a player.
    */
   public void clearPlayerSidebar(Player player) {
-    UUID playerId = player.getUniqueId();
-    Sidebar<Component> sidebar = playerSidebars.remove(playerId);
-    playerLines.remove(playerId);
-
-    if (sidebar != null) {
-      // Remove viewer to hide the sidebar
-      sidebar.removeViewer(player);
+    PlayerSession session = sessions.find(player);
+    HudState state = session != null ? session.remove(HUD) : null;
+    if (state != null) {
+      state.close();
     }
   }
 
@@ -1180,6 +1155,7 @@ public class HudManager implements Listener {
    * This version is called by the updater function to get fresh cooldown data.
    */
   private Component buildAbilityLineForUpdater(Player player, String abilityKey) {
+    metrics.recordSidebarLineUpdate();
     return buildAbilityLine(player, abilityKey);
   }
 
@@ -1191,17 +1167,65 @@ public class HudManager implements Listener {
     for (Player player : Bukkit.getOnlinePlayers()) {
       clearPlayerSidebar(player);
     }
-    playerSidebars.clear();
-    playerLines.clear();
+    sessions.forEach(session -> session.remove(HUD));
   }
 
   /**
    * Update HUDs for all online players.
-   * Called when global settings change (cooldowns, symbols, etc.)
+   * Called when global settings change (cooldowns, symbols, etc.), often from
+   * the global region or a command sender's region, so each update is
+   * dispatched to the player's own scheduler.
    */
   public void updateAllPlayerHuds() {
     for (Player player : Bukkit.getOnlinePlayers()) {
-      updatePlayerHud(player);
+      plugin.getTaskScheduler().runAtEntity(player, () -> {
+        if (player.isOnline()) {
+          updatePlayerHud(player);
+        }
+      });
+    }
+  }
+
+  /**
+   * A player's sidebar, its lines and the driver refreshing them.
+   * Dynamic lines are replaced as a whole on rebuild.
+   */
+  private static final class HudState {
+    final Player viewer;
+    volatile Sidebar<Component> sidebar;
+    volatile List<SidebarLine<Component>> lines;
+    volatile List<DynamicLine> dynamicLines;
+    volatile WrappedTask refreshTask;
+
+    HudState(Player viewer) {
+      this.viewer = viewer;
+    }
+
+    /**
+     * Stop the refresh driver and hide the sidebar (session closed).
+     */
+    void close() {
+      WrappedTask task = refreshTask;
+      if (task != null && !task.isCancelled()) {
+        task.cancel();
+      }
+      Sidebar<Component> current = sidebar;
+      if (current != null) {
+        current.removeViewer(viewer);
+      }
+    }
+  }
+
+  /**
+   * A sidebar line paired with the {@link HudLine} that owns its content.
+   */
+  private static class DynamicLine {
+    final SidebarLine<Component> sidebarLine;
+    final HudLine content;
+
+    DynamicLine(SidebarLine<Component> sidebarLine, HudLine content) {
+      this.sidebarLine = sidebarLine;
+      this.content = content;
     }
   }
 
@@ -1216,10 +1240,9 @@ public class HudManager implements Listener {
     final String abilityName;
     final NamedTextColor color;
     final String colorName; // MiniMessage color name (e.g., "light_purple", "red")
-    final String durationDisplay; // Duration text to display (e.g., "15s", "instant")
 
     AbilityInfo(String icon, String element, int number, String command,
-                String abilityName, NamedTextColor color, String colorName, String durationDisplay) {
+                String abilityName, NamedTextColor color, String colorName) {
       this.icon = icon;
       this.element = element;
       this.number = number;
@@ -1227,23 +1250,27 @@ public class HudManager implements Listener {
       this.abilityName = abilityName;
       this.color = color;
       this.colorName = colorName;
-      this.durationDisplay = durationDisplay;
     }
   }
 
   /**
    * Active ability information holder.
-   * Contains metadata key and duration for abilities with active states.
+   * Contains metadata keys for abilities with active states; the duration is
+   * read from the live AbilityConfig so it always matches the fragment.
    */
   private static class ActiveAbilityInfo {
     final String metadataKey;           // Metadata key to check if ability is active
     final String startTimeMetadataKey;   // Metadata key for start time (for countdown)
-    final int durationSeconds;           // Duration in seconds
+    final AbilityId abilityId;           // Ability whose configured duration applies
 
-    ActiveAbilityInfo(String metadataKey, String startTimeMetadataKey, int durationSeconds) {
+    ActiveAbilityInfo(String metadataKey, String startTimeMetadataKey, AbilityId abilityId) {
       this.metadataKey = metadataKey;
       this.startTimeMetadataKey = startTimeMetadataKey;
-      this.durationSeconds = durationSeconds;
+      this.abilityId = abilityId;
+    }
+
+    int durationSeconds() {
+      return AbilityConfig.current().getDurationSeconds(abilityId);
     }
   }
 
@@ -1269,17 +1296,21 @@ public class HudManager implements Listener {
    */
   private static class DebuffInfo {
     final String name;             // Debuff name (e.g., "Dread Gaze Freeze")
-    final int durationSeconds;     // Duration in seconds
+    final AbilityId source;        // Ability whose configured duration applies
     final String icon;             // Icon emoji for the debuff
     final NamedTextColor color;    // Named text color
     final String colorName;        // MiniMessage color name
 
-    DebuffInfo(String name, int durationSeconds, String icon, NamedTextColor color, String colorName) {
+    DebuffInfo(String name, AbilityId source, String icon, NamedTextColor color, String colorName) {
       this.name = name;
-      this.durationSeconds = durationSeconds;
+      this.source = source;
       this.icon = icon;
       this.color = color;
       this.colorName = colorName;
     }
+
+    int durationSeconds() {
+      return AbilityConfig.current().getDurationSeconds(source);
+    }
   }
 }
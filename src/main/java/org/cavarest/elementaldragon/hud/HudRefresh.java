@@ -0,0 +1,32 @@
+package org.cavarest.elementaldragon.hud;
+
+/**
+ * How often a sidebar line's content can change, and so how often it is re-rendered.
+ *
+ * A line may move between classes as its state changes (an ability going from
+ * Ready to ACTIVE to cooldown); {@link HudLine} re-renders immediately whenever
+ * the class changes.
+ */
+public enum HudRefresh {
+  // Fixed until the player's state changes (Ready, READY TO STRIKE)
+  STATIC(0L),
+  // Whole-second countdown text (ACTIVE (Xs), debuffs, Foe Frozen)
+  COUNTDOWN(20L),
+  // Animated progress bar while a cooldown is counting down
+  ANIMATED(2L);
+
+  private final long periodTicks;
+
+  HudRefresh(long periodTicks) {
+    this.periodTicks = periodTicks;
+  }
+
+  /**
+   * Get the re-render period.
+   *
+   * @return Ticks between renders, or 0 if the line only renders on state change
+   */
+  public long getPeriodTicks() {
+    return periodTicks;
+  }
+}
@@ -3,10 +3,9 @@ package org.cavarest.elementaldragon.hud;
 import org.bukkit.entity.Player;
 import org.cavarest.elementaldragon.hud.ProgressBarRenderer.ProgressVariant;
 import org.cavarest.elementaldragon.hud.ProgressBarRenderer.VariantType;
-
-import java.util.UUID;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
 
 /**
  * Manages per-player preferences for the plugin.
@@ -42,10 +41,28 @@ public class PlayerPreferenceManager {
     );
 
     /**
-     * In-memory cache of player preferences for quick access.
-     * Maps player UUID to their preference.
+     * In-memory cache of a player's preference for quick access.
+     * Kept in the player's session, so it is dropped when they quit.
+     */
+    private static final SessionKey<PlayerPreference> PREFERENCE = SessionKey.of("countdown_preference");
+
+    private final PlayerSessions sessions;
+
+    /**
+     * Creates a manager with its own session registry.
      */
-    private final Map<UUID, PlayerPreference> preferenceCache = new ConcurrentHashMap<>();
+    public PlayerPreferenceManager() {
+        this(new PlayerSessions());
+    }
+
+    /**
+     * Creates a manager that caches preferences in the given sessions.
+     *
+     * @param sessions The plugin's session registry
+     */
+    public PlayerPreferenceManager(PlayerSessions sessions) {
+        this.sessions = sessions;
+    }
 
     /**
      * Gets the countdown preference for a specific player.
@@ -56,10 +73,11 @@ public class PlayerPreferenceManager {
      * @return The player's countdown preference
      */
     public PlayerPreference getPreference(Player player) {
-        UUID uuid = player.getUniqueId();
+        // Late HUD tasks may ask after quit - read without caching then
+        PlayerSession session = sessions.sessionIfOnline(player);
 
         // Check cache first
-        PlayerPreference cached = preferenceCache.get(uuid);
+        PlayerPreference cached = session != null ? session.get(PREFERENCE) : null;
         if (cached != null) {
             return cached;
         }
@@ -71,7 +89,9 @@ public class PlayerPreferenceManager {
         }
 
         // Cache it
-        preferenceCache.put(uuid, preference);
+        if (session != null) {
+            session.set(PREFERENCE, preference);
+        }
         return preference;
     }
 
@@ -83,11 +103,13 @@ public class PlayerPreferenceManager {
      * @param width The width parameter (1-10)
      */
     public void setPreference(Player player, VariantType variantType, int width) {
-        UUID uuid = player.getUniqueId();
         PlayerPreference preference = new PlayerPreference(variantType, width);
 
         // Update cache
-        preferenceCache.put(uuid, preference);
+        PlayerSession session = sessions.sessionIfOnline(player);
+        if (session != null) {
+            session.set(PREFERENCE, preference);
+        }
 
         // Persist to player data
         savePreference(player, preference);
@@ -99,10 +121,11 @@ public class PlayerPreferenceManager {
      * @param player The player to clear the preference for
      */
     public void clearPreference(Player player) {
-        UUID uuid = player.getUniqueId();
-
         // Remove from cache
-        preferenceCache.remove(uuid);
+        PlayerSession session = sessions.find(player);
+        if (session != null) {
+            session.remove(PREFERENCE);
+        }
 
         // Remove from persistent data
         player.getPersistentDataContainer().remove(
@@ -195,7 +218,7 @@ public class PlayerPreferenceManager {
      * Clears the preference cache (called on plugin disable to free memory).
      */
     public void clearCache() {
-        preferenceCache.clear();
+        sessions.forEach(session -> session.remove(PREFERENCE));
     }
 
     /**
@@ -18,6 +18,11 @@ import net.kyori.adventure.text.format.NamedTextColor;
  *
  * At 100% completion, displays "READY" in green.
  *
+ * Every state of a variant is rendered once, on first use, into a frame atlas;
+ * rendering afterwards is an array lookup that allocates nothing. Width
+ * variants from {@link ProgressVariant#withWidth} are interned, so repeated
+ * lookups of the same (type, width) share one variant and one atlas.
+ *
  * Width parameter determines the number of characters per frame:
  * - MOON(2) = 10 states (5 phases × 2 chars)
  * - CLOCK(2) = 24 states (12 faces × 2 chars)
@@ -153,6 +158,12 @@ public class ProgressBarRenderer {
         80L
     );
 
+    /**
+     * Widths up to this value are interned by {@link ProgressVariant#withWidth}
+     * (player preferences allow 1-10)
+     */
+    private static final int MAX_INTERNED_WIDTH = 16;
+
     /**
      * Current selected variant (default: TILES)
      */
@@ -287,6 +298,12 @@ public class ProgressBarRenderer {
         private final long interval;
         private final String[] customFrames;
 
+        // Interned width variants (index = width), created on first request
+        private final ProgressVariant[] widthVariants = new ProgressVariant[MAX_INTERNED_WIDTH + 1];
+
+        // Frame atlas: every state pre-rendered (index = state), built on first render
+        private volatile String[] frames;
+
         /**
          * Create a variant from type, width, and interval.
          *
@@ -328,13 +345,27 @@ public class ProgressBarRenderer {
         }
 
         /**
-         * Create a new variant with different width.
+         * Get this variant with a different width.
+         * Results are interned per width, so repeated calls return the same instance.
          *
          * @param newWidth The new width
-         * @return New variant with specified width
+         * @return Variant with specified width
          */
         public ProgressVariant withWidth(int newWidth) {
-            return new ProgressVariant(type, newWidth, interval, customFrames);
+            if (newWidth == width) {
+                return this;
+            }
+            if (newWidth < 1 || newWidth > MAX_INTERNED_WIDTH) {
+                // Out of the interned range - the constructor validates
+                return new ProgressVariant(type, newWidth, interval, customFrames);
+            }
+            // Benign race: two threads may both build a variant, either one is fine to keep
+            ProgressVariant variant = widthVariants[newWidth];
+            if (variant == null) {
+                variant = new ProgressVariant(type, newWidth, interval, customFrames);
+                widthVariants[newWidth] = variant;
+            }
+            return variant;
         }
 
         /**
@@ -411,9 +442,32 @@ public class ProgressBarRenderer {
         }
 
         /**
-         * Render a specific state.
+         * Render a specific state from the frame atlas.
          */
         String renderState(int state) {
+            return frames()[state];
+        }
+
+        /**
+         * Get the frame atlas, building it on first use.
+         */
+        private String[] frames() {
+            String[] atlas = frames;
+            if (atlas == null) {
+                int stateCount = getStateCount();
+                atlas = new String[stateCount];
+                for (int state = 0; state < stateCount; state++) {
+                    atlas[state] = buildState(state);
+                }
+                frames = atlas;
+            }
+            return atlas;
+        }
+
+        /**
+         * Build the text for a specific state (used once per state to fill the atlas).
+         */
+        private String buildState(int state) {
             return switch (type) {
                 case TILES -> renderTiles(state);
                 case MOON -> renderMoon(state);
@@ -15,6 +15,7 @@ import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.fragment.ImmortalFragment;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -128,6 +129,22 @@ public class ElementalItems {
     return item;
   }
 
+  /**
+   * Get the set of materials used by fragment items.
+   * An item whose material is not in this set can never be a fragment,
+   * so listeners can reject it without reading item meta.
+   *
+   * @return Mutable copy of the fragment materials
+   */
+  public static EnumSet<Material> getFragmentMaterials() {
+    return EnumSet.of(
+      new BurningFragment(null).getMaterial(),
+      new AgilityFragment(null).getMaterial(),
+      new ImmortalFragment(null).getMaterial(),
+      new CorruptedCoreFragment(null).getMaterial()
+    );
+  }
+
   /**
    * Get an ItemStack for a fragment type by name.
    *
@@ -0,0 +1,305 @@
+package org.cavarest.elementaldragon.join;
+
+import com.tcoded.folialib.wrapper.task.WrappedTask;
+import io.papermc.paper.event.player.PlayerClientLoadedWorldEvent;
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.hud.HudManager;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+
+/**
+ * Staged join handling, so a mass reconnect after a restart does not run
+ * every manager's join work in the same tick.
+ *
+ * <ol>
+ *   <li><b>Prepare</b> (async, {@code AsyncPlayerPreLoginEvent}) - each
+ *       {@link JoinStep} reads and parses the player's saved data from the
+ *       offline data view. If the player quits (and is saved) after this
+ *       read started - a duplicate login kicking the old session - the
+ *       prepared state is stale and the apply stage reads the live
+ *       container instead. Code that saves a step's data on quit reports
+ *       it with {@link #savedOnQuit}.</li>
+ *   <li><b>Apply</b> (owning thread, budgeted) - joined players are queued
+ *       and a per-tick driver applies the prepared state for as many of them
+ *       as fit in {@link #APPLY_BUDGET_NANOS}, capped at
+ *       {@link #MAX_APPLIES_PER_TICK}. The rest wait for the next tick.</li>
+ *   <li><b>HUD</b> - the sidebar is built only once the apply stage is done
+ *       and the client has loaded the world.</li>
+ * </ol>
+ *
+ * Steps are applied in registration order.
+ */
+public class JoinPipeline implements Listener {
+
+  /**
+   * Time the driver may spend applying joins per tick.
+   */
+  public static final long APPLY_BUDGET_NANOS = 2_000_000L; // 2 ms
+
+  /**
+   * Most joins applied per tick, regardless of time (on Folia, applies run
+   * on other region threads and cannot be timed here).
+   */
+  public static final int MAX_APPLIES_PER_TICK = 10;
+
+  // Prepared state for players whose login never completed is dropped after this
+  private static final long PREPARED_TTL_MILLIS = 60_000L;
+  private static final long PRUNE_INTERVAL_TICKS = 200L;
+
+  private final ElementalDragon plugin;
+  private final List<JoinStep<?>> steps = new ArrayList<>();
+
+  private final Map<UUID, PreparedJoin> prepared = new ConcurrentHashMap<>();
+  private final Queue<Player> applyQueue = new ConcurrentLinkedQueue<>();
+  private final Set<UUID> applied = ConcurrentHashMap.newKeySet();
+  private final Set<UUID> worldLoaded = ConcurrentHashMap.newKeySet();
+  // Last quit save per player (System.nanoTime), to spot data saved after it was prepared
+  private final Map<UUID, Long> lastQuit = new ConcurrentHashMap<>();
+
+  private WrappedTask driver;
+  private long ticks;
+
+  /**
+   * Create a new JoinPipeline.
+   *
+   * @param plugin The plugin instance
+   */
+  public JoinPipeline(ElementalDragon plugin) {
+    this.plugin = plugin;
+  }
+
+  /**
+   * Add a step. Register all steps before {@link #start}.
+   *
+   * @param step The step
+   */
+  public void register(JoinStep<?> step) {
+    steps.add(step);
+  }
+
+  /**
+   * Start the per-tick apply driver.
+   */
+  public void start() {
+    TaskScheduler scheduler = plugin.getTaskScheduler();
+    driver = scheduler.own("join-pipeline", scheduler.runGlobalTimer(task -> drain(), 1L, 1L));
+  }
+
+  /**
+   * Stop the driver and forget all pending joins.
+   */
+  public void shutdown() {
+    if (driver != null) {
+      plugin.getTaskScheduler().cancel(driver);
+      driver = null;
+    }
+    applyQueue.clear();
+    prepared.clear();
+    applied.clear();
+    worldLoaded.clear();
+    lastQuit.clear();
+  }
+
+  /**
+   * Prepare stage: read and parse saved data off the main thread.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+    if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+      return;
+    }
+    UUID playerId = event.getUniqueId();
+    long startedNanos = System.nanoTime();
+    PersistentDataContainerView data;
+    try {
+      data = Bukkit.getOfflinePlayer(playerId).getPersistentDataContainer();
+    } catch (RuntimeException e) {
+      // No readable saved data - the apply stage reads the live container instead
+      return;
+    }
+    prepared.put(playerId, prepare(playerId, data, startedNanos));
+  }
+
+  /**
+   * Queue the player for the apply stage.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    Player player = event.getPlayer();
+    UUID playerId = player.getUniqueId();
+    applied.remove(playerId);
+    worldLoaded.remove(playerId);
+    applyQueue.add(player);
+  }
+
+  /**
+   * HUD stage gate: the client has finished loading the world.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onClientLoadedWorld(PlayerClientLoadedWorldEvent event) {
+    Player player = event.getPlayer();
+    worldLoaded.add(player.getUniqueId());
+    showHudWhenReady(player);
+  }
+
+  /**
+   * Report that a quitting player's data has just been saved. Call this from
+   * the save path itself, after writing, so the stamp never depends on the
+   * order quit listeners run in: anything prepared before now read the old
+   * data and is discarded at apply.
+   *
+   * @param playerId The player whose data was saved
+   */
+  public void savedOnQuit(UUID playerId) {
+    lastQuit.put(playerId, System.nanoTime());
+    prepared.remove(playerId);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    UUID playerId = event.getPlayer().getUniqueId();
+    // Stale prepared data is caught by savedOnQuit, whichever listener runs first
+    prepared.remove(playerId);
+    applied.remove(playerId);
+    worldLoaded.remove(playerId);
+    // A queued entry for this player is skipped by the driver once they are offline
+  }
+
+  /**
+   * Apply stage driver, called every tick: apply queued joins until the
+   * time budget or the per-tick cap is used up.
+   */
+  public void drain() {
+    ticks++;
+    if (ticks % PRUNE_INTERVAL_TICKS == 0) {
+      pruneStalePrepared();
+    }
+
+    TaskScheduler scheduler = plugin.getTaskScheduler();
+    long deadline = System.nanoTime() + APPLY_BUDGET_NANOS;
+    int dispatched = 0;
+    while (dispatched < MAX_APPLIES_PER_TICK && System.nanoTime() < deadline) {
+      Player player = applyQueue.poll();
+      if (player == null) {
+        return;
+      }
+      if (!player.isOnline()) {
+        prepared.remove(player.getUniqueId());
+        continue;
+      }
+      dispatched++;
+      scheduler.executeAtEntity(player, () -> apply(player));
+    }
+  }
+
+  /**
+   * Number of joined players still waiting for the apply stage.
+   *
+   * @return The queue length
+   */
+  public int getPendingCount() {
+    return applyQueue.size();
+  }
+
+  private PreparedJoin prepare(UUID playerId, PersistentDataContainerView data, long startedNanos) {
+    PreparedJoin join = new PreparedJoin(steps.size(), startedNanos);
+    for (int i = 0; i < steps.size(); i++) {
+      JoinStep<?> step = steps.get(i);
+      try {
+        join.values[i] = step.prepare(playerId, data);
+        join.ready[i] = true;
+      } catch (RuntimeException e) {
+        // Left unprepared - retried on the owning thread with the live container
+        plugin.getLogger().log(Level.FINE, "Join step " + step.getName() + " could not prepare " + playerId, e);
+      }
+    }
+    return join;
+  }
+
+  private void apply(Player player) {
+    if (!player.isOnline()) {
+      return;
+    }
+    UUID playerId = player.getUniqueId();
+    PreparedJoin join = prepared.remove(playerId);
+    Long quitNanos = lastQuit.remove(playerId);
+    if (join != null && quitNanos != null && quitNanos - join.startedNanos >= 0) {
+      // Prepared while the previous session was still online - re-read what it saved
+      join = null;
+    }
+    for (int i = 0; i < steps.size(); i++) {
+      JoinStep<?> step = steps.get(i);
+      try {
+        if (join != null && i < join.ready.length && join.ready[i]) {
+          applyStep(step, player, join.values[i]);
+        } else {
+          applyStep(step, player, step.prepare(playerId, player.getPersistentDataContainer()));
+        }
+      } catch (RuntimeException e) {
+        plugin.getLogger().log(Level.WARNING, "Join step " + step.getName() + " failed for " + player.getName(), e);
+      }
+    }
+    applied.add(playerId);
+    showHudWhenReady(player);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void applyStep(JoinStep<T> step, Player player, Object value) {
+    step.apply(player, (T) value);
+  }
+
+  private void showHudWhenReady(Player player) {
+    UUID playerId = player.getUniqueId();
+    if (!applied.contains(playerId) || !worldLoaded.contains(playerId)) {
+      return;
+    }
+    // Both gates passed - build the sidebar once
+    applied.remove(playerId);
+    worldLoaded.remove(playerId);
+    HudManager hudManager = plugin.getHudManager();
+    if (hudManager != null) {
+      hudManager.updatePlayerHud(player);
+    }
+  }
+
+  private void pruneStalePrepared() {
+    long cutoff = System.currentTimeMillis() - PREPARED_TTL_MILLIS;
+    prepared.values().removeIf(join -> join.createdMillis < cutoff);
+    long quitCutoff = System.nanoTime() - PREPARED_TTL_MILLIS * 1_000_000L;
+    lastQuit.values().removeIf(quitNanos -> quitNanos - quitCutoff < 0);
+  }
+
+  /**
+   * Prepared state of every step for one player.
+   */
+  private static final class PreparedJoin {
+    final long createdMillis = System.currentTimeMillis();
+    final long startedNanos;
+    final Object[] values;
+    final boolean[] ready;
+
+    PreparedJoin(int size, long startedNanos) {
+      this.startedNanos = startedNanos;
+      this.values = new Object[size];
+      this.ready = new boolean[size];
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.cavarest.elementaldragon.join;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * One unit of work done for a joining player, split into an off-thread
+ * prepare stage and an on-thread apply stage.
+ *
+ * <p>{@link #prepare} runs during {@code AsyncPlayerPreLoginEvent} and may only
+ * read the given data and do pure parsing - no world, entity or Bukkit state.
+ * {@link #apply} runs later on the player's owning thread with whatever
+ * prepare returned. If the async stage did not run for a player (e.g. the
+ * plugin was enabled after they logged in), prepare is called on the owning
+ * thread with the live container instead.</p>
+ *
+ * @param <T> The prepared state handed from prepare to apply
+ */
+public interface JoinStep<T> {
+
+  /**
+   * Get the step name, used in log messages.
+   *
+   * @return The step name
+   */
+  String getName();
+
+  /**
+   * Read and parse what the step needs. Must be thread-safe.
+   *
+   * @param playerId The joining player's UUID
+   * @param data The player's saved persistent data
+   * @return Prepared state (may be null, e.g. nothing to restore)
+   */
+  T prepare(UUID playerId, PersistentDataContainerView data);
+
+  /**
+   * Apply the prepared state to the online player.
+   *
+   * @param player The player
+   * @param prepared The state returned by prepare
+   */
+  void apply(Player player, T prepared);
+
+  /**
+   * Create a step from two functions.
+   *
+   * @param name The step name
+   * @param prepare Off-thread read and parse
+   * @param apply On-thread application
+   * @param <T> The prepared state type
+   * @return The step
+   */
+  static <T> JoinStep<T> of(
+    String name,
+    BiFunction<UUID, PersistentDataContainerView, T> prepare,
+    BiConsumer<Player, T> apply
+  ) {
+    return new JoinStep<>() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public T prepare(UUID playerId, PersistentDataContainerView data) {
+        return prepare.apply(playerId, data);
+      }
+
+      @Override
+      public void apply(Player player, T prepared) {
+        apply.accept(player, prepared);
+      }
+    };
+  }
+}
@@ -18,14 +18,11 @@ import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.cooldown.ActionThrottle;
 import org.cavarest.elementaldragon.fragment.FragmentManager;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.cavarest.elementaldragon.item.ElementalItems;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Unified listener for all fragment item interactions.
  *
@@ -43,25 +40,22 @@ public class FragmentItemListener implements Listener {
 
   private final ElementalDragon plugin;
   private final FragmentManager fragmentManager;
-  private final Map<UUID, Long> lastEquipClickTimes;
-
-  // Cooldown between equip attempts (500ms) to prevent spam clicking
-  private static final long EQUIP_COOLDOWN_MS = 500;
 
   public FragmentItemListener(ElementalDragon plugin, FragmentManager fragmentManager) {
     this.plugin = plugin;
     this.fragmentManager = fragmentManager;
-    this.lastEquipClickTimes = new HashMap<>();
   }
 
   // ===== Right-Click Equip =====
 
   /**
    * Handle fragment right-click to equip.
-   * Uses HIGHEST priority to run before item's default behaviors (like FIRE_CHARGE throwing fire).
+   * Called by {@link ItemEventGate} (HIGHEST priority, to run before the item's
+   * default behavior) only when a fragment material is in either hand.
+   *
+   * @param event The interact event
    */
-  @EventHandler(priority = EventPriority.HIGHEST)
-  public void onPlayerInteract(PlayerInteractEvent event) {
+  public void handleEquipClick(PlayerInteractEvent event) {
     // Only handle right-click actions
     if (event.getAction() != Action.RIGHT_CLICK_AIR &&
         event.getAction() != Action.RIGHT_CLICK_BLOCK) {
@@ -69,16 +63,6 @@ public class FragmentItemListener implements Listener {
     }
 
     Player player = event.getPlayer();
-    UUID playerId = player.getUniqueId();
-
-    // Check cooldown to prevent spam clicking
-    long lastClickTime = lastEquipClickTimes.getOrDefault(playerId, 0L);
-    long currentTime = System.currentTimeMillis();
-    if (currentTime - lastClickTime < EQUIP_COOLDOWN_MS) {
-      // Still in cooldown, just cancel the event but don't send any message
-      event.setCancelled(true);
-      return;
-    }
 
     // Get item from hand (main hand or offhand)
     ItemStack item = getItemInHand(player);
@@ -95,8 +79,11 @@ public class FragmentItemListener implements Listener {
     // Cancel the event to prevent default item behaviors (FIRE_CHARGE throwing fire, HEAVY_CORE placement)
     event.setCancelled(true);
 
-    // Update last click time
-    lastEquipClickTimes.put(playerId, currentTime);
+    // Throttle equip attempts to prevent spam clicking (silently)
+    ActionThrottle throttle = plugin.getActionThrottle();
+    if (throttle != null && !throttle.tryAcquire(player, ActionThrottle.Channel.EQUIP)) {
+      return;
+    }
 
     // Equip the fragment
     boolean success = fragmentManager.equipFragment(player, fragmentType);
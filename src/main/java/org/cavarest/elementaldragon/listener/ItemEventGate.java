@@ -0,0 +1,156 @@
+package org.cavarest.elementaldragon.listener;
+
+import io.papermc.paper.event.player.PlayerInventorySlotChangeEvent;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.hud.HudManager;
+import org.cavarest.elementaldragon.item.ElementalItems;
+import org.cavarest.elementaldragon.tracking.DragonEggTracker;
+
+import java.util.EnumSet;
+
+/**
+ * Shared fast path for high-volume item events.
+ *
+ * <p>Every right-click, inventory click, drag, pickup, drop and slot change on
+ * the server passes through here once. The stacks involved are classified by
+ * {@link Material} against precomputed {@link EnumSet}s, and the event is only
+ * handed to the subsystems that care:</p>
+ * <ul>
+ *   <li>Fragment materials - right-click equip in {@link FragmentItemListener}</li>
+ *   <li>Dragon egg - presence cache in {@link DragonEggTracker}, then HUD refresh in {@link HudManager}</li>
+ * </ul>
+ *
+ * <p>An ordinary interaction costs one enum-set check per stack; item meta is
+ * never read here.</p>
+ */
+public class ItemEventGate implements Listener {
+
+  private final ElementalDragon plugin;
+  private final FragmentItemListener fragmentItemListener;
+
+  // Materials that may be a fragment item (meta decides which, if any)
+  private final EnumSet<Material> fragmentMaterials;
+
+  // Materials that affect the HUD when they move
+  private final EnumSet<Material> hudMaterials = EnumSet.of(Material.DRAGON_EGG);
+
+  // Union of the above - anything else is ignored outright
+  private final EnumSet<Material> relevantMaterials;
+
+  /**
+   * Create a new ItemEventGate.
+   *
+   * @param plugin The plugin instance
+   * @param fragmentItemListener Receives right-clicks with a fragment material in hand
+   */
+  public ItemEventGate(ElementalDragon plugin, FragmentItemListener fragmentItemListener) {
+    this.plugin = plugin;
+    this.fragmentItemListener = fragmentItemListener;
+    this.fragmentMaterials = ElementalItems.getFragmentMaterials();
+    this.relevantMaterials = EnumSet.copyOf(fragmentMaterials);
+    this.relevantMaterials.addAll(hudMaterials);
+  }
+
+  /**
+   * Right-click: fragment equip and dragon egg HUD refresh.
+   * Uses HIGHEST priority so fragment equip runs before the item's default behavior.
+   */
+  @EventHandler(priority = EventPriority.HIGHEST)
+  public void onPlayerInteract(PlayerInteractEvent event) {
+    Action action = event.getAction();
+    if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
+      return;
+    }
+
+    // Equip looks at both hands, so classify both
+    PlayerInventory inventory = event.getPlayer().getInventory();
+    Material mainHand = inventory.getItemInMainHand().getType();
+    Material offHand = inventory.getItemInOffHand().getType();
+    if (!relevantMaterials.contains(mainHand) && !relevantMaterials.contains(offHand)) {
+      return;
+    }
+
+    if (fragmentMaterials.contains(mainHand) || fragmentMaterials.contains(offHand)) {
+      fragmentItemListener.handleEquipClick(event);
+    }
+    if (isHudMaterial(event.getItem())) {
+      dragonEggMoved(event.getPlayer());
+    }
+  }
+
+  @EventHandler
+  public void onInventoryClick(InventoryClickEvent event) {
+    if (!(event.getWhoClicked() instanceof Player player)) {
+      return;
+    }
+    if (isHudMaterial(event.getCurrentItem()) || isHudMaterial(event.getCursor())) {
+      dragonEggMoved(player);
+    }
+  }
+
+  @EventHandler
+  public void onInventoryDrag(InventoryDragEvent event) {
+    if (!(event.getWhoClicked() instanceof Player player)) {
+      return;
+    }
+    for (ItemStack item : event.getNewItems().values()) {
+      if (isHudMaterial(item)) {
+        dragonEggMoved(player);
+        return;
+      }
+    }
+  }
+
+  @EventHandler
+  public void onItemPickup(EntityPickupItemEvent event) {
+    if (event.getEntity() instanceof Player player && isHudMaterial(event.getItem().getItemStack())) {
+      dragonEggMoved(player);
+    }
+  }
+
+  @EventHandler
+  public void onPlayerDropItem(PlayerDropItemEvent event) {
+    if (isHudMaterial(event.getItemDrop().getItemStack())) {
+      dragonEggMoved(event.getPlayer());
+    }
+  }
+
+  /**
+   * Slot changes catch /give and any other inventory modification.
+   * Only egg added or removed matters.
+   */
+  @EventHandler
+  public void onPlayerInventorySlotChange(PlayerInventorySlotChangeEvent event) {
+    if (isHudMaterial(event.getOldItemStack()) || isHudMaterial(event.getNewItemStack())) {
+      dragonEggMoved(event.getPlayer());
+    }
+  }
+
+  private boolean isHudMaterial(ItemStack item) {
+    return item != null && hudMaterials.contains(item.getType());
+  }
+
+  private void dragonEggMoved(Player player) {
+    DragonEggTracker eggTracker = plugin.getDragonEggTracker();
+    if (eggTracker != null) {
+      eggTracker.inventoryChanged(player);
+    }
+    HudManager hudManager = plugin.getHudManager();
+    if (hudManager != null) {
+      hudManager.scheduleHudUpdate(player);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.cavarest.elementaldragon.lore;
 
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
 import org.cavarest.elementaldragon.fragment.FragmentType;
 import org.bukkit.entity.Player;
 import net.kyori.adventure.text.Component;
@@ -243,6 +244,7 @@ public class ChronicleManager {
 
     discoveredPages.putIfAbsent(playerUuid, EnumSet.noneOf(LorePage.class));
     discoveredPages.get(playerUuid).add(page);
+    publishSnapshot(player);
 
     // Notify player
     player.sendMessage(
@@ -341,6 +343,18 @@ public class ChronicleManager {
     return getDiscoveredPages(player).size();
   }
 
+  /**
+   * Publish the player's discovered page count to {@link ElementalStates}.
+   * Called on unlock and reset, and by the join pipeline.
+   *
+   * @param player The player
+   */
+  public void publishSnapshot(Player player) {
+    if (player != null) {
+      ElementalStates.get().setChroniclePages(player.getUniqueId(), getDiscoveredCount(player));
+    }
+  }
+
   /**
    * Get the total number of pages in the chronicle.
    *
@@ -393,6 +407,7 @@ public class ChronicleManager {
     discoveredPages.remove(playerUuid);
     abilityUsageCount.remove(playerUuid);
     equippedFragments.remove(playerUuid);
+    publishSnapshot(player);
 
     player.sendMessage(
       Component.text("Chronicle progress has been reset.", NamedTextColor.YELLOW)
@@ -0,0 +1,80 @@
+package org.cavarest.elementaldragon.message;
+
+/**
+ * Player-facing messages, each with its path in the message catalog files
+ * and the names of its placeholder slots, in argument order.
+ *
+ * A slot named {@code fragment} is written {@code <fragment>} in the template
+ * and filled from the matching argument of {@link Messages#render}.
+ */
+public enum MessageKey {
+  // Fragment equip / unequip (FragmentManager)
+  FRAGMENT_MISSING_ITEM("fragment.equip.missing_item", "fragment", "craft_name"),
+  FRAGMENT_ADMIN_ASCENDED("fragment.equip.admin_ascended"),
+  FRAGMENT_ONE_LIMIT_EQUIPPED("fragment.equip.one_limit_equipped", "equipped", "fragment"),
+  FRAGMENT_ONE_LIMIT_INVENTORY("fragment.equip.one_limit_inventory", "carried", "fragment"),
+  FRAGMENT_UNEQUIPPED("fragment.unequipped", "fragment"),
+
+  // Fragment commands (AbstractFragmentCommand)
+  COMMAND_PLAYERS_ONLY("command.players_only"),
+  COMMAND_FRAGMENT_NO_PERMISSION("command.fragment.no_permission", "fragment"),
+  COMMAND_FRAGMENT_EQUIP_FIRST("command.fragment.equip_first", "fragment", "command"),
+  COMMAND_FRAGMENT_ABILITY_USED("command.fragment.ability_used", "ability", "message"),
+  COMMAND_FRAGMENT_ALREADY_EQUIPPED("command.fragment.already_equipped", "fragment"),
+  COMMAND_FRAGMENT_ONE_LIMIT_EQUIPPED("command.fragment.one_limit_equipped", "equipped", "fragment"),
+  COMMAND_FRAGMENT_ONE_LIMIT_INVENTORY("command.fragment.one_limit_inventory", "carried", "fragment"),
+  COMMAND_FRAGMENT_ADMIN_GRANTED("command.fragment.admin_granted", "fragment"),
+  COMMAND_FRAGMENT_MISSING_ITEM("command.fragment.missing_item", "fragment", "command"),
+  COMMAND_FRAGMENT_EQUIPPED("command.fragment.equipped", "fragment", "passive"),
+  COMMAND_FRAGMENT_ABILITY_HINT("command.fragment.ability_hint", "command", "number", "ability", "description"),
+  COMMAND_FRAGMENT_EQUIP_FAILED("command.fragment.equip_failed"),
+
+  // Achievements (AchievementManager)
+  ACHIEVEMENT_UNLOCKED("achievement.unlocked", "name", "description"),
+
+  // Sidebar HUD lines (HudManager)
+  HUD_FRAGMENT_NAME("hud.fragment_name", "icon", "fragment"),
+  HUD_PASSIVE("hud.passive", "description"),
+  HUD_ACTIVE_BUFFS("hud.active_buffs", "buffs"),
+  HUD_FOE_FROZEN("hud.foe_frozen", "seconds"),
+  HUD_DEBUFF("hud.debuff", "icon", "name", "seconds"),
+  HUD_ABILITY_AWAITING_HIT("hud.ability.awaiting_hit", "icon", "ability"),
+  HUD_ABILITY_ACTIVE("hud.ability.active", "icon", "ability", "seconds"),
+  HUD_ABILITY_READY("hud.ability.ready", "icon", "ability"),
+  HUD_ABILITY_COOLDOWN("hud.ability.cooldown", "icon", "ability", "bar", "countdown");
+
+  private final String path;
+  private final String[] slots;
+
+  MessageKey(String path, String... slots) {
+    this.path = path;
+    this.slots = slots;
+  }
+
+  /**
+   * Get the path of this message in a catalog file, e.g. "fragment.unequipped".
+   *
+   * @return The catalog path
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Get the placeholder slot names, in argument order.
+   *
+   * @return The slot names (do not modify)
+   */
+  String[] getSlots() {
+    return slots;
+  }
+
+  /**
+   * Get the number of arguments this message takes.
+   *
+   * @return The slot count
+   */
+  public int getSlotCount() {
+    return slots.length;
+  }
+}
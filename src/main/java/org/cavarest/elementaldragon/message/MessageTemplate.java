@@ -0,0 +1,113 @@
+package org.cavarest.elementaldragon.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message template parsed once into a component tree.
+ *
+ * Each placeholder slot is parsed into a marker node (a translatable
+ * component with a reserved key) that keeps its position and inherited style.
+ * Rendering walks the tree and swaps the markers for the arguments,
+ * rebuilding only the branches that contain a slot. No MiniMessage parsing
+ * happens at send time.
+ */
+final class MessageTemplate {
+
+  private static final String SLOT_KEY_PREFIX = "elementaldragon.slot.";
+
+  private final Component tree;
+  private final int slotCount;
+  private final boolean hasSlots;
+
+  private MessageTemplate(Component tree, int slotCount, boolean hasSlots) {
+    this.tree = tree;
+    this.slotCount = slotCount;
+    this.hasSlots = hasSlots;
+  }
+
+  /**
+   * Parse a MiniMessage template, resolving the key's slot names as placeholders.
+   *
+   * @param miniMessage The MiniMessage instance
+   * @param key The message key (supplies slot names)
+   * @param source The template text
+   * @return The parsed template
+   */
+  static MessageTemplate parse(MiniMessage miniMessage, MessageKey key, String source) {
+    String[] slots = key.getSlots();
+    TagResolver.Builder resolvers = TagResolver.builder();
+    for (int i = 0; i < slots.length; i++) {
+      resolvers.resolver(Placeholder.component(slots[i], Component.translatable(SLOT_KEY_PREFIX + i)));
+    }
+    Component tree = miniMessage.deserialize(source, resolvers.build());
+    return new MessageTemplate(tree, slots.length, containsSlot(tree));
+  }
+
+  /**
+   * Create a template that always renders the given component (no slots filled).
+   *
+   * @param component The component
+   * @param slotCount Number of arguments callers will pass
+   * @return The template
+   */
+  static MessageTemplate fixed(Component component, int slotCount) {
+    return new MessageTemplate(component, slotCount, false);
+  }
+
+  /**
+   * Fill the slots with arguments.
+   *
+   * @param args One component per slot, in slot order
+   * @return The rendered component
+   */
+  Component render(Component[] args) {
+    if (args.length != slotCount) {
+      throw new IllegalArgumentException("Expected " + slotCount + " message argument(s), got " + args.length);
+    }
+    return hasSlots ? fill(tree, args) : tree;
+  }
+
+  private static Component fill(Component node, Component[] args) {
+    if (node instanceof TranslatableComponent translatable && translatable.key().startsWith(SLOT_KEY_PREFIX)) {
+      int index = Integer.parseInt(translatable.key().substring(SLOT_KEY_PREFIX.length()));
+      return args[index].applyFallbackStyle(translatable.style());
+    }
+
+    List<Component> children = node.children();
+    if (children.isEmpty()) {
+      return node;
+    }
+
+    List<Component> filled = null;
+    for (int i = 0; i < children.size(); i++) {
+      Component child = children.get(i);
+      Component replaced = fill(child, args);
+      if (replaced != child && filled == null) {
+        filled = new ArrayList<>(children.subList(0, i));
+      }
+      if (filled != null) {
+        filled.add(replaced);
+      }
+    }
+    return filled != null ? node.children(filled) : node;
+  }
+
+  private static boolean containsSlot(Component node) {
+    if (node instanceof TranslatableComponent translatable && translatable.key().startsWith(SLOT_KEY_PREFIX)) {
+      return true;
+    }
+    for (Component child : node.children()) {
+      if (containsSlot(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
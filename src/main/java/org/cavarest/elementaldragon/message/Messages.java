@@ -0,0 +1,253 @@
+package org.cavarest.elementaldragon.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-locale catalogs of pre-parsed player-facing messages.
+ *
+ * The bundled {@code messages/en_us.yml} is the default catalog. Server
+ * owners can override or translate messages by placing
+ * {@code messages/<locale>.yml} (e.g. {@code de_de.yml}) in the plugin's data
+ * folder; any key missing from a locale file falls back to the default.
+ * The bundled catalog is written next to them as {@code en_us.yml.example}
+ * for reference only, so upgrades keep their new default texts unless an
+ * admin deliberately creates {@code en_us.yml}.
+ * Every template is parsed into a {@link MessageTemplate} once at load time,
+ * so sending a message only fills its placeholder slots.
+ *
+ * A player gets the catalog for their client locale, then any catalog for
+ * the same language, then the default. The loaded catalogs are immutable;
+ * {@code /ed reload} builds a new instance and swaps it in with {@link #install}.
+ */
+public final class Messages {
+
+  /**
+   * Locale of the bundled default catalog.
+   */
+  public static final String DEFAULT_LOCALE = "en_us";
+
+  private static final String BUNDLED_RESOURCE = "/messages/" + DEFAULT_LOCALE + ".yml";
+  private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+
+  private static volatile Messages current;
+
+  private final Map<MessageKey, MessageTemplate> defaults;
+  private final Map<String, Map<MessageKey, MessageTemplate>> catalogs;
+  private final Map<Locale, Map<MessageKey, MessageTemplate>> resolved = new ConcurrentHashMap<>();
+
+  private Messages(
+    Map<MessageKey, MessageTemplate> defaults,
+    Map<String, Map<MessageKey, MessageTemplate>> catalogs
+  ) {
+    this.defaults = defaults;
+    this.catalogs = catalogs;
+  }
+
+  /**
+   * Get the installed catalogs. Before the plugin loads any files this is the
+   * bundled default catalog only.
+   *
+   * @return The current messages
+   */
+  public static Messages get() {
+    Messages messages = current;
+    if (messages == null) {
+      synchronized (Messages.class) {
+        messages = current;
+        if (messages == null) {
+          messages = load(null, null);
+          current = messages;
+        }
+      }
+    }
+    return messages;
+  }
+
+  /**
+   * Install a loaded set of catalogs for all subsequent sends.
+   *
+   * @param messages The messages to install
+   */
+  public static void install(Messages messages) {
+    current = messages;
+  }
+
+  /**
+   * Load the bundled default catalog and any locale files in a directory.
+   *
+   * @param directory Folder with {@code <locale>.yml} files (may be null or missing)
+   * @param problems Receives a description of each unusable entry (may be null)
+   * @return The loaded messages
+   */
+  public static Messages load(File directory, List<String> problems) {
+    YamlConfiguration bundled = new YamlConfiguration();
+    try (InputStream in = Messages.class.getResourceAsStream(BUNDLED_RESOURCE)) {
+      if (in != null) {
+        bundled = YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+      } else {
+        report(problems, "Bundled message catalog " + BUNDLED_RESOURCE + " is missing");
+      }
+    } catch (java.io.IOException e) {
+      report(problems, "Failed to read bundled message catalog: " + e.getMessage());
+    }
+
+    Map<MessageKey, MessageTemplate> defaults = new EnumMap<>(MessageKey.class);
+    for (MessageKey key : MessageKey.values()) {
+      String source = bundled.getString(key.getPath());
+      if (source == null) {
+        report(problems, "Bundled message catalog has no '" + key.getPath() + "'");
+        defaults.put(key, MessageTemplate.fixed(Component.text(key.getPath()), key.getSlotCount()));
+      } else {
+        defaults.put(key, MessageTemplate.parse(MINI_MESSAGE, key, source));
+      }
+    }
+
+    Map<String, Map<MessageKey, MessageTemplate>> catalogs = new HashMap<>();
+    File[] files = directory != null ? directory.listFiles((dir, name) -> name.endsWith(".yml")) : null;
+    if (files != null) {
+      for (File file : files) {
+        String locale = file.getName().substring(0, file.getName().length() - ".yml".length())
+          .toLowerCase(Locale.ROOT);
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
+        Map<MessageKey, MessageTemplate> catalog = new EnumMap<>(defaults);
+        for (MessageKey key : MessageKey.values()) {
+          String source = yaml.getString(key.getPath());
+          if (source != null) {
+            catalog.put(key, MessageTemplate.parse(MINI_MESSAGE, key, source));
+          }
+        }
+        catalogs.put(locale, catalog);
+      }
+    }
+
+    // A default-locale file in the data folder overrides the bundled texts
+    Map<MessageKey, MessageTemplate> overriddenDefaults = catalogs.getOrDefault(DEFAULT_LOCALE, defaults);
+    return new Messages(overriddenDefaults, catalogs);
+  }
+
+  /**
+   * Render a message in the recipient's locale.
+   * Arguments may be Components (inserted as-is) or any other value (inserted as plain text).
+   *
+   * @param recipient The recipient (players use their client locale, others the default)
+   * @param key The message
+   * @param args One argument per slot of the key
+   * @return The rendered message
+   */
+  public Component render(CommandSender recipient, MessageKey key, Object... args) {
+    Locale locale = recipient instanceof Player player ? player.locale() : null;
+    return render(locale, key, args);
+  }
+
+  /**
+   * Render a message in a locale.
+   *
+   * @param locale The locale (null for the default)
+   * @param key The message
+   * @param args One argument per slot of the key
+   * @return The rendered message
+   */
+  public Component render(Locale locale, MessageKey key, Object... args) {
+    Component[] components = new Component[args.length];
+    for (int i = 0; i < args.length; i++) {
+      components[i] = toComponent(args[i]);
+    }
+    return catalogFor(locale).get(key).render(components);
+  }
+
+  /**
+   * Render a message in the recipient's locale and send it.
+   *
+   * @param recipient The recipient
+   * @param key The message
+   * @param args One argument per slot of the key
+   */
+  public void send(CommandSender recipient, MessageKey key, Object... args) {
+    recipient.sendMessage(render(recipient, key, args));
+  }
+
+  /**
+   * Check whether a catalog for a locale was loaded.
+   *
+   * @param locale Locale tag, e.g. "de_de"
+   * @return true if the locale has its own catalog
+   */
+  public boolean hasLocale(String locale) {
+    return catalogs.containsKey(locale.toLowerCase(Locale.ROOT));
+  }
+
+  private Map<MessageKey, MessageTemplate> catalogFor(Locale locale) {
+    if (locale == null || catalogs.isEmpty()) {
+      return defaults;
+    }
+    return resolved.computeIfAbsent(locale, this::resolve);
+  }
+
+  private Map<MessageKey, MessageTemplate> resolve(Locale locale) {
+    String tag = locale.toString().toLowerCase(Locale.ROOT);
+    Map<MessageKey, MessageTemplate> exact = catalogs.get(tag);
+    if (exact != null) {
+      return exact;
+    }
+    // Same language, any region (e.g. de_at -> de_de)
+    String language = locale.getLanguage().toLowerCase(Locale.ROOT);
+    for (Map.Entry<String, Map<MessageKey, MessageTemplate>> entry : catalogs.entrySet()) {
+      if (entry.getKey().equals(language) || entry.getKey().startsWith(language + "_")) {
+        return entry.getValue();
+      }
+    }
+    return defaults;
+  }
+
+  private static Component toComponent(Object arg) {
+    if (arg instanceof ComponentLike like) {
+      return like.asComponent();
+    }
+    return Component.text(String.valueOf(arg));
+  }
+
+  /**
+   * Write the bundled default catalog to a directory as
+   * {@code <default locale>.yml.example}, replacing an older copy. The
+   * example is not loaded; copying it to {@code .yml} makes it an override.
+   *
+   * @param directory Folder the locale files are read from
+   * @param problems Receives a description of a failed write (may be null)
+   */
+  public static void writeExample(File directory, List<String> problems) {
+    try (InputStream in = Messages.class.getResourceAsStream(BUNDLED_RESOURCE)) {
+      if (in == null) {
+        return;
+      }
+      Files.createDirectories(directory.toPath());
+      Files.copy(in, directory.toPath().resolve(DEFAULT_LOCALE + ".yml.example"),
+        StandardCopyOption.REPLACE_EXISTING);
+    } catch (java.io.IOException e) {
+      report(problems, "Failed to write example message catalog: " + e.getMessage());
+    }
+  }
+
+  private static void report(List<String> problems, String problem) {
+    if (problems != null) {
+      problems.add(problem);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package org.cavarest.elementaldragon.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Optional embedded HTTP endpoint serving {@link PluginMetrics} for Prometheus.
+ *
+ * Serves {@code GET /metrics} on a single daemon thread so scrapes never run
+ * on a server tick thread. Binds to localhost unless configured otherwise.
+ */
+public class MetricsServer {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final Logger logger;
+  private final PluginMetrics metrics;
+  private HttpServer server;
+  private ExecutorService executor;
+
+  /**
+   * Create a new MetricsServer.
+   *
+   * @param logger Logger for startup/shutdown messages
+   * @param metrics The metrics to serve
+   */
+  public MetricsServer(Logger logger, PluginMetrics metrics) {
+    this.logger = logger;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Start serving metrics.
+   *
+   * @param host Bind address (e.g. 127.0.0.1)
+   * @param port Bind port
+   * @return true if the server started
+   */
+  public boolean start(String host, int port) {
+    if (server != null) {
+      return true;
+    }
+
+    try {
+      server = HttpServer.create(new InetSocketAddress(host, port), 0);
+    } catch (IOException | IllegalArgumentException e) {
+      logger.warning("Failed to start metrics endpoint on " + host + ":" + port + ": " + e.getMessage());
+      server = null;
+      return false;
+    }
+
+    executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ElementalDragon-Metrics");
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.createContext("/metrics", this::handleScrape);
+    server.start();
+
+    logger.info("Metrics endpoint listening on http://" + host + ":" + port + "/metrics");
+    return true;
+  }
+
+  /**
+   * Stop serving metrics.
+   */
+  public void stop() {
+    if (server != null) {
+      server.stop(0);
+      server = null;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /**
+   * Check if the endpoint is running.
+   *
+   * @return true if running
+   */
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  private void handleScrape(HttpExchange exchange) throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+
+      byte[] body = metrics.scrape().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+}
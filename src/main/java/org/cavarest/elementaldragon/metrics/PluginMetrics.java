@@ -0,0 +1,376 @@
+package org.cavarest.elementaldragon.metrics;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.cavarest.elementaldragon.ElementalDragon;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Telemetry for abilities, HUD and effects, owned by the plugin and handed
+ * to the managers that record into it.
+ *
+ * All recording methods are lock-free (LongAdder) and safe to call from any
+ * region thread; {@link #scrape()} renders the Prometheus text format and is
+ * called from the metrics HTTP thread. Counters are always collected - the
+ * HTTP endpoint ({@link MetricsServer}) is optional.
+ *
+ * The gauges (active abilities, frozen entities) are computed at scrape time
+ * from who is active and until when. The tasks that end an ability are
+ * dropped without running when their entity is removed, so an entry whose
+ * deadline has passed, or whose player quit, no longer counts.
+ *
+ * Usage:
+ * <pre>
+ * metrics.recordAbilityCast("fire", 1);
+ *
+ * long start = metrics.startTimer();
+ * ...
+ * metrics.recordTickTime(PluginMetrics.SUBSYSTEM_HUD, start);
+ * </pre>
+ */
+public final class PluginMetrics implements Listener {
+
+  // Subsystem labels for tick-time histograms
+  public static final String SUBSYSTEM_ABILITY = "ability_cast";
+  public static final String SUBSYSTEM_HUD = "hud_rebuild";
+  public static final String SUBSYSTEM_FREEZE = "freeze_lock";
+  public static final String SUBSYSTEM_VERIFY = "fragment_verify";
+
+  private static final String PREFIX = "elementaldragon_";
+
+  // Labeled counters keyed by "element:ability" (e.g. "fire:1")
+  private final Map<String, LongAdder> abilityCasts = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> cooldownRejections = new ConcurrentHashMap<>();
+
+  // "element:ability" -> owner -> deadline (epoch millis); counted at scrape time
+  private final Map<String, Map<UUID, Long>> activeAbilities = new ConcurrentHashMap<>();
+
+  private final LongAdder hudRebuilds = new LongAdder();
+  private final LongAdder sidebarLineUpdates = new LongAdder();
+  private final LongAdder particlesEmitted = new LongAdder();
+  // Frozen entity -> freeze deadline (epoch millis); counted at scrape time
+  private final Map<UUID, Long> frozenEntities = new ConcurrentHashMap<>();
+
+  private final Map<String, TickTimeHistogram> tickTimes = new ConcurrentHashMap<>();
+
+  /**
+   * Create an empty metrics registry.
+   */
+  public PluginMetrics() {
+  }
+
+  /**
+   * Get the plugin's metrics, or a detached registry nobody scrapes
+   * (tests, mocked plugins).
+   *
+   * @param plugin The plugin instance (may be null)
+   * @return The metrics
+   */
+  public static PluginMetrics of(ElementalDragon plugin) {
+    PluginMetrics metrics = plugin != null ? plugin.getMetrics() : null;
+    return metrics != null ? metrics : new PluginMetrics();
+  }
+
+  // ==================== Abilities ====================
+
+  /**
+   * Record a successful ability cast.
+   *
+   * @param element Canonical element name (fire, agile, immortal, corrupt, lightning)
+   * @param abilityNumber The ability number
+   */
+  public void recordAbilityCast(String element, int abilityNumber) {
+    counter(abilityCasts, element, abilityNumber).increment();
+  }
+
+  /**
+   * Record an ability use rejected because it was on cooldown.
+   *
+   * @param element Canonical element name
+   * @param abilityNumber The ability number
+   */
+  public void recordCooldownRejection(String element, int abilityNumber) {
+    counter(cooldownRejections, element, abilityNumber).increment();
+  }
+
+  /**
+   * Mark a timed ability as active (e.g. Life Devourer window started).
+   *
+   * @param element Canonical element name
+   * @param abilityNumber The ability number
+   * @param owner The casting player
+   * @param durationTicks How long the ability runs
+   */
+  public void abilityActivated(String element, int abilityNumber, UUID owner, long durationTicks) {
+    activeAbilities.computeIfAbsent(key(element, abilityNumber), k -> new ConcurrentHashMap<>())
+      .put(owner, deadline(durationTicks));
+  }
+
+  /**
+   * Mark a timed ability as expired.
+   *
+   * @param element Canonical element name
+   * @param abilityNumber The ability number
+   * @param owner The casting player
+   */
+  public void abilityExpired(String element, int abilityNumber, UUID owner) {
+    Map<UUID, Long> owners = activeAbilities.get(key(element, abilityNumber));
+    if (owners != null) {
+      owners.remove(owner);
+    }
+  }
+
+  /**
+   * Get the number of players with a timed ability running.
+   *
+   * @param element Canonical element name
+   * @param abilityNumber The ability number
+   * @return Active count
+   */
+  public long getActiveAbilities(String element, int abilityNumber) {
+    Map<UUID, Long> owners = activeAbilities.get(key(element, abilityNumber));
+    return owners != null ? countLive(owners, System.currentTimeMillis()) : 0;
+  }
+
+  // ==================== HUD / Effects ====================
+
+  /**
+   * Record a full sidebar rebuild (HudManager.updatePlayerHud).
+   */
+  public void recordHudRebuild() {
+    hudRebuilds.increment();
+  }
+
+  /**
+   * Record one updatable sidebar line being re-rendered.
+   */
+  public void recordSidebarLineUpdate() {
+    sidebarLineUpdates.increment();
+  }
+
+  /**
+   * Record particles sent to clients.
+   *
+   * @param count Number of particles
+   */
+  public void recordParticles(int count) {
+    particlesEmitted.add(count);
+  }
+
+  /**
+   * Record an entity (player or mob) becoming frozen by Dread Gaze.
+   *
+   * @param entity The frozen entity
+   * @param durationTicks How long the freeze lasts
+   */
+  public void freezeStarted(UUID entity, long durationTicks) {
+    frozenEntities.put(entity, deadline(durationTicks));
+  }
+
+  /**
+   * Record an entity leaving the Dread Gaze freeze.
+   *
+   * @param entity The entity
+   */
+  public void freezeEnded(UUID entity) {
+    frozenEntities.remove(entity);
+  }
+
+  /**
+   * Drop a quitting player from the gauges - their expiry tasks will not run.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    UUID playerId = event.getPlayer().getUniqueId();
+    frozenEntities.remove(playerId);
+    for (Map<UUID, Long> owners : activeAbilities.values()) {
+      owners.remove(playerId);
+    }
+  }
+
+  // ==================== Tick times ====================
+
+  /**
+   * Start timing a unit of work.
+   *
+   * @return Start timestamp to pass to {@link #recordTickTime}
+   */
+  public long startTimer() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Record the time spent in a subsystem since {@code startNanos}.
+   *
+   * @param subsystem Subsystem label (see SUBSYSTEM_* constants)
+   * @param startNanos Value returned by {@link #startTimer()}
+   */
+  public void recordTickTime(String subsystem, long startNanos) {
+    tickTimes.computeIfAbsent(subsystem, k -> new TickTimeHistogram())
+      .record(System.nanoTime() - startNanos);
+  }
+
+  // ==================== Reading ====================
+
+  /**
+   * Get the total casts recorded for an ability.
+   *
+   * @param element Canonical element name
+   * @param abilityNumber The ability number
+   * @return Cast count
+   */
+  public long getAbilityCasts(String element, int abilityNumber) {
+    LongAdder adder = abilityCasts.get(key(element, abilityNumber));
+    return adder != null ? adder.sum() : 0;
+  }
+
+  /**
+   * Get the cooldown rejections recorded for an ability.
+   *
+   * @param element Canonical element name
+   * @param abilityNumber The ability number
+   * @return Rejection count
+   */
+  public long getCooldownRejections(String element, int abilityNumber) {
+    LongAdder adder = cooldownRejections.get(key(element, abilityNumber));
+    return adder != null ? adder.sum() : 0;
+  }
+
+  /**
+   * Get the number of currently frozen entities.
+   *
+   * @return Frozen entity count
+   */
+  public long getFrozenEntities() {
+    return countLive(frozenEntities, System.currentTimeMillis());
+  }
+
+  /**
+   * Render all metrics in the Prometheus text exposition format (version 0.0.4).
+   *
+   * @return Metrics text
+   */
+  public String scrape() {
+    StringBuilder out = new StringBuilder(4096);
+
+    appendLabeled(out, "ability_casts_total", "counter",
+      "Successful ability casts by element and ability.", abilityCasts);
+    appendLabeled(out, "cooldown_rejections_total", "counter",
+      "Ability uses rejected because the ability was on cooldown.", cooldownRejections);
+    long now = System.currentTimeMillis();
+    Map<String, Long> active = new TreeMap<>();
+    for (Map.Entry<String, Map<UUID, Long>> entry : activeAbilities.entrySet()) {
+      active.put(entry.getKey(), countLive(entry.getValue(), now));
+    }
+    appendLabeledValues(out, "active_abilities", "gauge",
+      "Timed abilities currently active.", active);
+
+    appendSingle(out, "hud_rebuilds_total", "counter",
+      "Full sidebar rebuilds.", hudRebuilds.sum());
+    appendSingle(out, "sidebar_line_updates_total", "counter",
+      "Updatable sidebar lines re-rendered.", sidebarLineUpdates.sum());
+    appendSingle(out, "particles_emitted_total", "counter",
+      "Particles spawned by plugin effects.", particlesEmitted.sum());
+    appendSingle(out, "frozen_entities", "gauge",
+      "Entities currently frozen by Dread Gaze.", countLive(frozenEntities, now));
+
+    String histogramName = PREFIX + "tick_time_seconds";
+    out.append("# HELP ").append(histogramName)
+      .append(" Time spent per invocation of a plugin subsystem.\n");
+    out.append("# TYPE ").append(histogramName).append(" histogram\n");
+    for (Map.Entry<String, TickTimeHistogram> entry : new TreeMap<>(tickTimes).entrySet()) {
+      entry.getValue().appendTo(out, histogramName, "subsystem=\"" + entry.getKey() + "\"");
+    }
+
+    return out.toString();
+  }
+
+  /**
+   * Reset all metrics. Intended for tests.
+   */
+  public void reset() {
+    abilityCasts.clear();
+    cooldownRejections.clear();
+    activeAbilities.clear();
+    hudRebuilds.reset();
+    sidebarLineUpdates.reset();
+    particlesEmitted.reset();
+    frozenEntities.clear();
+    tickTimes.clear();
+  }
+
+  private static LongAdder counter(Map<String, LongAdder> counters, String element, int abilityNumber) {
+    String key = key(element, abilityNumber);
+    LongAdder adder = counters.get(key);
+    if (adder == null) {
+      adder = counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+    return adder;
+  }
+
+  private static long deadline(long durationTicks) {
+    return System.currentTimeMillis() + Math.max(0L, durationTicks) * 50L;
+  }
+
+  /**
+   * Count entries whose deadline has not passed, dropping the rest.
+   */
+  private static long countLive(Map<UUID, Long> deadlines, long now) {
+    deadlines.values().removeIf(deadline -> deadline <= now);
+    return deadlines.size();
+  }
+
+  private static String key(String element, int abilityNumber) {
+    return element + ":" + abilityNumber;
+  }
+
+  private static void appendSingle(StringBuilder out, String name, String type, String help, long value) {
+    String fullName = PREFIX + name;
+    out.append("# HELP ").append(fullName).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(fullName).append(' ').append(type).append('\n');
+    out.append(fullName).append(' ').append(value).append('\n');
+  }
+
+  private static void appendLabeled(
+    StringBuilder out,
+    String name,
+    String type,
+    String help,
+    Map<String, LongAdder> values
+  ) {
+    Map<String, Long> sums = new TreeMap<>();
+    for (Map.Entry<String, LongAdder> entry : values.entrySet()) {
+      sums.put(entry.getKey(), entry.getValue().sum());
+    }
+    appendLabeledValues(out, name, type, help, sums);
+  }
+
+  private static void appendLabeledValues(
+    StringBuilder out,
+    String name,
+    String type,
+    String help,
+    Map<String, Long> values
+  ) {
+    String fullName = PREFIX + name;
+    out.append("# HELP ").append(fullName).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(fullName).append(' ').append(type).append('\n');
+    for (Map.Entry<String, Long> entry : new TreeMap<>(values).entrySet()) {
+      String key = entry.getKey();
+      int separator = key.lastIndexOf(':');
+      out.append(fullName)
+        .append("{element=\"").append(key, 0, separator)
+        .append("\",ability=\"").append(key, separator + 1, key.length())
+        .append("\"} ")
+        .append(entry.getValue())
+        .append('\n');
+    }
+  }
+}
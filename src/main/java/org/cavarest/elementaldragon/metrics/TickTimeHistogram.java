@@ -0,0 +1,116 @@
+package org.cavarest.elementaldragon.metrics;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of subsystem tick times.
+ *
+ * Bucket counts are kept per bucket (not cumulative) so that recording is a
+ * single LongAdder increment; cumulative "le" counts are computed at scrape time.
+ */
+public class TickTimeHistogram {
+
+  /**
+   * Bucket upper bounds in nanoseconds: 50µs .. 50ms.
+   */
+  static final long[] BUCKET_BOUNDS_NANOS = {
+    50_000L,
+    100_000L,
+    250_000L,
+    500_000L,
+    1_000_000L,
+    2_500_000L,
+    5_000_000L,
+    10_000_000L,
+    25_000_000L,
+    50_000_000L
+  };
+
+  /**
+   * Bucket upper bounds as "le" label values in seconds (e.g. "0.00005").
+   */
+  private static final String[] BUCKET_LABELS = new String[BUCKET_BOUNDS_NANOS.length];
+
+  static {
+    for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+      BUCKET_LABELS[i] = BigDecimal.valueOf(BUCKET_BOUNDS_NANOS[i])
+        .movePointLeft(9)
+        .stripTrailingZeros()
+        .toPlainString();
+    }
+  }
+
+  // One extra slot for +Inf
+  private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+  private final LongAdder sumNanos = new LongAdder();
+
+  public TickTimeHistogram() {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Record one observation.
+   *
+   * @param nanos Elapsed time in nanoseconds
+   */
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    int index = 0;
+    while (index < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[index]) {
+      index++;
+    }
+    buckets[index].increment();
+    sumNanos.add(nanos);
+  }
+
+  /**
+   * Get the total number of observations.
+   *
+   * @return Observation count
+   */
+  public long getCount() {
+    long count = 0;
+    for (LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Get the sum of all observations in nanoseconds.
+   *
+   * @return Sum in nanoseconds
+   */
+  public long getSumNanos() {
+    return sumNanos.sum();
+  }
+
+  /**
+   * Append this histogram in Prometheus text format.
+   *
+   * @param out The output buffer
+   * @param name Metric name (without _bucket/_sum/_count suffix)
+   * @param labels Label set without braces, e.g. {@code subsystem="hud"}
+   */
+  void appendTo(StringBuilder out, String name, String labels) {
+    long cumulative = 0;
+    for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+      cumulative += buckets[i].sum();
+      out.append(name).append("_bucket{").append(labels)
+        .append(",le=\"").append(BUCKET_LABELS[i]).append("\"} ")
+        .append(cumulative).append('\n');
+    }
+    cumulative += buckets[BUCKET_BOUNDS_NANOS.length].sum();
+    out.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+      .append(cumulative).append('\n');
+    out.append(name).append("_sum{").append(labels).append("} ")
+      .append(sumNanos.sum() / 1e9).append('\n');
+    out.append(name).append("_count{").append(labels).append("} ")
+      .append(cumulative).append('\n');
+  }
+}
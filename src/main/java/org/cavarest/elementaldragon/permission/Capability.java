@@ -0,0 +1,71 @@
+package org.cavarest.elementaldragon.permission;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The plugin's permission nodes, one bit each in a player's cached
+ * capability set (see {@link Permissions}).
+ */
+public enum Capability {
+  ADMIN("elementaldragon.admin"),
+  LIGHTNING("elementaldragon.lightning"),
+  CRAFT("elementaldragon.craft"),
+  CHRONICLE("elementaldragon.chronicle"),
+  CHRONICLE_GET("elementaldragon.chronicle.get"),
+  FRAGMENT_BURNING("elementaldragon.fragment.burning"),
+  FRAGMENT_AGILITY("elementaldragon.fragment.agility"),
+  FRAGMENT_IMMORTAL("elementaldragon.fragment.immortal"),
+  FRAGMENT_CORRUPTED("elementaldragon.fragment.corrupted"),
+  FRAGMENT_ADMIN("elementaldragon.fragment.admin"),
+  WITHDRAWABILITY("elementaldragon.withdrawability");
+
+  private static final Capability[] VALUES = values();
+  private static final Map<String, Capability> BY_NODE = new HashMap<>();
+
+  static {
+    for (Capability capability : VALUES) {
+      BY_NODE.put(capability.node, capability);
+    }
+  }
+
+  private final String node;
+  private final long bit;
+
+  Capability(String node) {
+    this.node = node;
+    this.bit = 1L << ordinal();
+  }
+
+  /**
+   * Get the permission node.
+   *
+   * @return The node, e.g. "elementaldragon.craft"
+   */
+  public String getNode() {
+    return node;
+  }
+
+  /**
+   * Get this capability's bit in a capability set.
+   *
+   * @return The bit mask
+   */
+  public long getBit() {
+    return bit;
+  }
+
+  /**
+   * Find the capability for a permission node.
+   *
+   * @param node The permission node
+   * @return The capability, or null if the node is not one of ours
+   */
+  public static Capability fromNode(String node) {
+    return node != null ? BY_NODE.get(node) : null;
+  }
+
+  static Capability[] all() {
+    return VALUES;
+  }
+}
@@ -0,0 +1,189 @@
+package org.cavarest.elementaldragon.permission;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Cached permission checks for the plugin's own nodes.
+ *
+ * <p>Resolving a node through the server's permission plugin is not free, and
+ * it happens on every ability cast, command and equip. Instead, every
+ * {@link Capability} is resolved once per player into a bit set kept in their
+ * session, and a check is a bit test. The set is recomputed:</p>
+ * <ul>
+ *   <li>at join and on world change (per-world permissions)</li>
+ *   <li>after {@code /op} and {@code /deop}</li>
+ *   <li>when {@link #refresh} or {@link #invalidateAll} is called, e.g. by
+ *       {@code /ed reload} or another plugin after it edits permissions</li>
+ * </ul>
+ *
+ * <p>Console, command blocks, players without a session (not joined yet, or
+ * already quit) and nodes that are not a {@link Capability} are always
+ * checked live, and nothing is cached for them. Until the plugin installs a cache, {@link #get()}
+ * returns a pass-through that checks live as well.</p>
+ */
+public final class Permissions implements Listener {
+
+  private static final Permissions UNCACHED = new Permissions(null, null);
+  private static volatile Permissions current;
+
+  // Commands that change op status; the new status applies after the command has run
+  private static final Set<String> OP_COMMANDS = Set.of("op", "deop", "minecraft:op", "minecraft:deop");
+
+  private static final SessionKey<Long> CAPABILITIES = SessionKey.of("capabilities");
+
+  private final PlayerSessions sessions;
+  private final TaskScheduler scheduler;
+
+  /**
+   * Create a cache that keeps capability sets in the given sessions.
+   *
+   * @param sessions The plugin's session registry
+   * @param scheduler Used to refresh after op changes (may be null)
+   */
+  public Permissions(PlayerSessions sessions, TaskScheduler scheduler) {
+    this.sessions = sessions;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Get the installed cache, or a live pass-through if none is installed.
+   *
+   * @return The permission checker
+   */
+  public static Permissions get() {
+    Permissions permissions = current;
+    return permissions != null ? permissions : UNCACHED;
+  }
+
+  /**
+   * Install the cache used by {@link #get()} (null restores live checks).
+   *
+   * @param permissions The cache
+   */
+  public static void install(Permissions permissions) {
+    current = permissions;
+  }
+
+  /**
+   * Check a capability.
+   *
+   * @param sender The sender
+   * @param capability The capability
+   * @return true if the sender has the permission
+   */
+  public boolean has(CommandSender sender, Capability capability) {
+    if (sessions == null || !(sender instanceof Player player)) {
+      return sender.hasPermission(capability.getNode());
+    }
+    PlayerSession session = sessions.find(player);
+    if (session == null) {
+      // Late check for a player who quit - don't reopen a session to cache it
+      return player.hasPermission(capability.getNode());
+    }
+    return (capabilities(session, player) & capability.getBit()) != 0;
+  }
+
+  /**
+   * Check a permission node, using the cache if it is one of ours.
+   *
+   * @param sender The sender
+   * @param node The permission node
+   * @return true if the sender has the permission
+   */
+  public boolean has(CommandSender sender, String node) {
+    Capability capability = Capability.fromNode(node);
+    return capability != null ? has(sender, capability) : sender.hasPermission(node);
+  }
+
+  /**
+   * Recompute a player's capability set now. Does nothing for a player
+   * without a session.
+   *
+   * @param player The player
+   */
+  public void refresh(Player player) {
+    PlayerSession session = sessions != null ? sessions.find(player) : null;
+    if (session != null) {
+      session.set(CAPABILITIES, resolve(player));
+    }
+  }
+
+  /**
+   * Drop every cached capability set; each is recomputed on its next check.
+   */
+  public void invalidateAll() {
+    if (sessions != null) {
+      sessions.forEach(session -> session.remove(CAPABILITIES));
+    }
+  }
+
+  @EventHandler(priority = EventPriority.LOW)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    refresh(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+    refresh(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+    invalidateAfterOpCommand(event.getMessage());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onServerCommand(ServerCommandEvent event) {
+    invalidateAfterOpCommand(event.getCommand());
+  }
+
+  private void invalidateAfterOpCommand(String commandLine) {
+    String label = commandLine.trim().split(" ", 2)[0].toLowerCase(Locale.ROOT);
+    if (label.startsWith("/")) {
+      label = label.substring(1);
+    }
+    if (!OP_COMMANDS.contains(label)) {
+      return;
+    }
+    if (scheduler != null) {
+      scheduler.runGlobalLater(this::invalidateAll, 1L);
+    } else {
+      invalidateAll();
+    }
+  }
+
+  private long capabilities(PlayerSession session, Player player) {
+    Long cached = session.get(CAPABILITIES);
+    if (cached != null) {
+      return cached;
+    }
+    long resolved = resolve(player);
+    session.set(CAPABILITIES, resolved);
+    return resolved;
+  }
+
+  private static long resolve(Player player) {
+    long bits = 0L;
+    for (Capability capability : Capability.all()) {
+      if (player.hasPermission(capability.getNode())) {
+        bits |= capability.getBit();
+      }
+    }
+    return bits;
+  }
+}
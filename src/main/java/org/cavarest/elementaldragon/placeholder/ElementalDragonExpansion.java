@@ -0,0 +1,54 @@
+package org.cavarest.elementaldragon.placeholder;
+
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.cavarest.elementaldragon.ElementalDragon;
+
+/**
+ * PlaceholderAPI expansion ({@code %elementaldragon_<name>%}).
+ *
+ * Only loaded when PlaceholderAPI is installed (soft dependency). Every
+ * request is answered by {@link PlaceholderCache}; see there for the
+ * placeholder names.
+ */
+public final class ElementalDragonExpansion extends PlaceholderExpansion {
+
+  private final ElementalDragon plugin;
+  private final PlaceholderCache cache;
+
+  public ElementalDragonExpansion(ElementalDragon plugin, PlaceholderCache cache) {
+    this.plugin = plugin;
+    this.cache = cache;
+  }
+
+  @Override
+  public String getIdentifier() {
+    return "elementaldragon";
+  }
+
+  @Override
+  public String getAuthor() {
+    return String.join(", ", plugin.getDescription().getAuthors());
+  }
+
+  @Override
+  public String getVersion() {
+    return plugin.getDescription().getVersion();
+  }
+
+  @Override
+  public String getRequiredPlugin() {
+    return plugin.getName();
+  }
+
+  @Override
+  public boolean persist() {
+    // Registered by the plugin itself, so keep it across /papi reload
+    return true;
+  }
+
+  @Override
+  public String onRequest(OfflinePlayer player, String params) {
+    return player == null ? null : cache.resolve(player.getUniqueId(), params);
+  }
+}
@@ -0,0 +1,219 @@
+package org.cavarest.elementaldragon.placeholder;
+
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.cavarest.elementaldragon.achievement.Achievement;
+import org.cavarest.elementaldragon.api.ElementalSnapshot;
+import org.cavarest.elementaldragon.api.ElementalStateListener;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.command.display.CooldownFormatter;
+import org.cavarest.elementaldragon.cooldown.CooldownManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.cavarest.elementaldragon.hud.ProgressBarRenderer;
+import org.cavarest.elementaldragon.lore.LorePage;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Placeholder values for each online player, formatted from their
+ * {@link ElementalSnapshot} and kept until something changes.
+ *
+ * Scoreboard and tab plugins poll placeholders for every player several
+ * times a second, often from async threads. A request never touches
+ * inventories or manager maps: it reads the player's published snapshot
+ * and returns the string formatted for it. The cached strings are dropped
+ * when the snapshot is replaced, and cooldown values are re-formatted at
+ * most once per second while a cooldown is running.
+ *
+ * Placeholders (without the {@code elementaldragon_} prefix):
+ * <ul>
+ *   <li>{@code fragment}, {@code element} - equipped fragment name, canonical element</li>
+ *   <li>{@code has_egg} - true if a Dragon Egg is carried</li>
+ *   <li>{@code cooldown_<element>_<n>} - remaining seconds</li>
+ *   <li>{@code countdown_<element>_<n>} - remaining time, e.g. "12s" or "ready"</li>
+ *   <li>{@code bar_<element>_<n>} - cooldown progress bar</li>
+ *   <li>{@code active_<element>_<n>} - true while a timed ability runs</li>
+ *   <li>{@code chronicle_pages}, {@code chronicle_total}, {@code achievements},
+ *       {@code achievements_total}</li>
+ * </ul>
+ */
+public final class PlaceholderCache {
+
+  // Cached marker for parameters that are not placeholders, compared by identity
+  private static final String UNKNOWN = new String("unknown");
+
+  private final ElementalStates states;
+  private final CooldownManager cooldownManager;
+  private final ElementalStateListener invalidator;
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+  // Progress bar frame (MiniMessage) -> legacy text, bounded by the variant's frame atlas
+  private final Map<String, String> legacyBars = new ConcurrentHashMap<>();
+
+  /**
+   * Create a placeholder cache.
+   *
+   * @param states The state registry the values are read from
+   * @param cooldownManager For the global cooldown that scales progress bars (may be null)
+   */
+  public PlaceholderCache(ElementalStates states, CooldownManager cooldownManager) {
+    this.states = states;
+    this.cooldownManager = cooldownManager;
+    // Drop a player's strings as soon as their snapshot changes, and for good on quit
+    this.invalidator = (previous, current) ->
+      entries.remove(current != null ? current.playerId() : previous.playerId());
+    states.addListener(invalidator);
+  }
+
+  /**
+   * Resolve a placeholder for a player.
+   *
+   * @param playerId The player's UUID
+   * @param params The placeholder name without the expansion prefix
+   * @return The value, or null if the player is offline or the placeholder unknown
+   */
+  public String resolve(UUID playerId, String params) {
+    if (playerId == null || params == null) {
+      return null;
+    }
+    ElementalSnapshot snapshot = states.snapshot(playerId);
+    if (snapshot == null) {
+      return null;
+    }
+
+    long now = System.currentTimeMillis();
+    long second = now / 1000L;
+    Entry entry = entries.get(playerId);
+    if (entry == null || !entry.isCurrent(snapshot, second)) {
+      entry = new Entry(snapshot, second);
+      entries.put(playerId, entry);
+      if (states.snapshot(playerId) == null) {
+        // Quit while this entry was built - don't keep it past the invalidation
+        entries.remove(playerId);
+      }
+    }
+
+    String value = entry.values.get(params);
+    if (value == null) {
+      value = format(snapshot, params, now);
+      entry.values.put(params, value != null ? value : UNKNOWN);
+    }
+    return value == UNKNOWN ? null : value;
+  }
+
+  /**
+   * Get the number of players with cached values.
+   *
+   * @return The cached player count
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Stop following state changes and drop every cached value (on disable).
+   */
+  public void close() {
+    states.removeListener(invalidator);
+    entries.clear();
+  }
+
+  private String format(ElementalSnapshot snapshot, String params, long now) {
+    FragmentType fragment = snapshot.equippedFragment();
+    switch (params) {
+      case "fragment":
+        return fragment != null ? fragment.getDisplayName() : "None";
+      case "element":
+        return fragment != null ? fragment.getCanonicalName() : "none";
+      case "has_egg":
+        return String.valueOf(snapshot.hasDragonEgg());
+      case "chronicle_pages":
+        return String.valueOf(snapshot.chroniclePages());
+      case "chronicle_total":
+        return String.valueOf(LorePage.values().length);
+      case "achievements":
+        return String.valueOf(snapshot.achievements());
+      case "achievements_total":
+        return String.valueOf(Achievement.values().length);
+      default:
+        return formatAbility(snapshot, params, now);
+    }
+  }
+
+  /**
+   * Format a {@code <kind>_<element>_<n>} placeholder.
+   */
+  private String formatAbility(ElementalSnapshot snapshot, String params, long now) {
+    int kindEnd = params.indexOf('_');
+    int elementEnd = params.lastIndexOf('_');
+    if (kindEnd < 0 || elementEnd <= kindEnd) {
+      return null;
+    }
+    String kind = params.substring(0, kindEnd);
+    String element = params.substring(kindEnd + 1, elementEnd);
+    int abilityNum;
+    try {
+      abilityNum = Integer.parseInt(params.substring(elementEnd + 1));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+
+    Long deadline = snapshot.cooldownDeadlines().get(ElementalSnapshot.abilityKey(element, abilityNum));
+    long remainingMillis = deadline == null ? 0L : Math.max(0L, deadline - now);
+    int remainingSeconds = (int) Math.ceil(remainingMillis / 1000.0);
+
+    switch (kind) {
+      case "cooldown":
+        return String.valueOf(remainingSeconds);
+      case "countdown":
+        return CooldownFormatter.formatRemaining(remainingSeconds);
+      case "bar":
+        return legacyBar(progress(element, abilityNum, remainingMillis));
+      case "active":
+        return String.valueOf(snapshot.isAbilityActive(element, abilityNum));
+      default:
+        return null;
+    }
+  }
+
+  private float progress(String element, int abilityNum, long remainingMillis) {
+    if (remainingMillis <= 0) {
+      return 1.0f;
+    }
+    int total = cooldownManager != null ? cooldownManager.getGlobalCooldown(element, abilityNum) : -1;
+    return total > 0 ? 1.0f - (float) remainingMillis / (total * 1000L) : 0.0f;
+  }
+
+  private String legacyBar(float progress) {
+    return legacyBars.computeIfAbsent(ProgressBarRenderer.getStatic(progress), frame ->
+      LegacyComponentSerializer.legacySection().serialize(MiniMessage.miniMessage().deserialize(frame)));
+  }
+
+  /**
+   * One player's formatted values, valid for one snapshot (and, while a
+   * cooldown is running, one wall-clock second).
+   */
+  private static final class Entry {
+    private final ElementalSnapshot snapshot;
+    private final long second;
+    private final long lastDeadline;
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+
+    Entry(ElementalSnapshot snapshot, long second) {
+      this.snapshot = snapshot;
+      this.second = second;
+      long latest = 0L;
+      for (long deadline : snapshot.cooldownDeadlines().values()) {
+        latest = Math.max(latest, deadline);
+      }
+      this.lastDeadline = latest;
+    }
+
+    boolean isCurrent(ElementalSnapshot current, long currentSecond) {
+      // Once every cooldown had ended when this entry was built, time changes nothing
+      return current == snapshot && (currentSecond == second || lastDeadline <= second * 1000L);
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package org.cavarest.elementaldragon.scheduler;
+
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.cavarest.elementaldragon.ElementalDragon;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Owns everything the plugin starts that must stop on disable: event
+ * listeners, shutdown hooks and (through {@link TaskScheduler}) repeating
+ * tasks.
+ *
+ * Subsystems register listeners with {@link #registerEvents} and their
+ * cleanup with {@link #onShutdown}. {@link #close} runs the hooks in reverse
+ * registration order (last started, first stopped), unregisters the
+ * listeners, then cancels whatever repeating tasks are still running, so a
+ * {@code /reload} leaves no timers, listeners or sidebars behind. A timer is
+ * reported as a leak only if its owner's hook ran and left it running (see
+ * {@link TaskScheduler#own}).
+ *
+ * Hooks run on the disabling thread, so a slow one cannot be interrupted;
+ * once the shutdown budget is spent the remaining hooks are skipped (and
+ * named in the log) and their timers are simply cancelled.
+ */
+public final class Lifecycle {
+
+  // Detached instance for tests and code running without the plugin
+  private static final Lifecycle DETACHED = new Lifecycle(null, null, null);
+
+  // A hook slower than this is named in the disable log
+  private static final long SLOW_HOOK_MILLIS = 250L;
+
+  // Hooks not started within this much of close() are skipped
+  private static final long SHUTDOWN_BUDGET_MILLIS = 3000L;
+
+  private final Plugin plugin;
+  private final TaskScheduler scheduler;
+  private final Logger logger;
+  private final long budgetMillis;
+  private final Deque<Hook> hooks = new ConcurrentLinkedDeque<>();
+  private final Set<Listener> listeners = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+
+  /**
+   * Create the plugin's lifecycle.
+   *
+   * @param plugin The plugin listeners are registered for (may be null)
+   * @param scheduler The scheduler whose repeating tasks are cancelled on close (may be null)
+   * @param logger Logger for the disable report (may be null)
+   */
+  public Lifecycle(Plugin plugin, TaskScheduler scheduler, Logger logger) {
+    this(plugin, scheduler, logger, SHUTDOWN_BUDGET_MILLIS);
+  }
+
+  /**
+   * Create a lifecycle with a custom shutdown budget (tests).
+   *
+   * @param plugin The plugin listeners are registered for (may be null)
+   * @param scheduler The scheduler whose repeating tasks are cancelled on close (may be null)
+   * @param logger Logger for the disable report (may be null)
+   * @param budgetMillis Time after which the remaining hooks are skipped
+   */
+  public Lifecycle(Plugin plugin, TaskScheduler scheduler, Logger logger, long budgetMillis) {
+    this.plugin = plugin;
+    this.scheduler = scheduler;
+    this.logger = logger;
+    this.budgetMillis = budgetMillis;
+  }
+
+  /**
+   * Get the plugin's lifecycle, or a detached one that registers nothing
+   * with the server (tests, mocked plugins).
+   *
+   * @param plugin The plugin instance (may be null)
+   * @return The lifecycle
+   */
+  public static Lifecycle of(ElementalDragon plugin) {
+    Lifecycle lifecycle = plugin != null ? plugin.getLifecycle() : null;
+    return lifecycle != null ? lifecycle : DETACHED;
+  }
+
+  /**
+   * Register an event listener, unregistered again on close.
+   *
+   * @param listener The listener
+   */
+  public void registerEvents(Listener listener) {
+    if (closed || listener == null || plugin == null || plugin.getServer() == null) {
+      return;
+    }
+    plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+    listeners.add(listener);
+  }
+
+  /**
+   * Register cleanup to run on close. Hooks run last-registered first.
+   *
+   * @param name Name shown in the disable log
+   * @param hook The cleanup
+   */
+  public void onShutdown(String name, Runnable hook) {
+    if (!closed && plugin != null && hook != null) {
+      hooks.push(new Hook(name, hook));
+    }
+  }
+
+  /**
+   * Get the number of registered listeners.
+   *
+   * @return Registered listeners
+   */
+  public int getListenerCount() {
+    return listeners.size();
+  }
+
+  /**
+   * Stop everything registered (on disable). A failing or slow hook is
+   * logged and the rest still run, until the shutdown budget is spent.
+   * Further registrations are ignored.
+   *
+   * @return The number of repeating tasks left running by a hook that ran
+   */
+  public int close() {
+    if (closed) {
+      return 0;
+    }
+    closed = true;
+
+    long start = System.nanoTime();
+    long deadline = start + budgetMillis * 1_000_000L;
+    List<String> slow = new ArrayList<>();
+    List<String> skipped = new ArrayList<>();
+    Set<String> stopped = new HashSet<>();
+    Hook hook;
+    while ((hook = hooks.poll()) != null) {
+      long hookStart = System.nanoTime();
+      if (hookStart - deadline > 0) {
+        skipped.add(hook.name());
+        continue;
+      }
+      stopped.add(hook.name());
+      try {
+        hook.action().run();
+      } catch (RuntimeException | LinkageError e) {
+        log(Level.WARNING, "Shutdown of " + hook.name() + " failed", e);
+      }
+      long millis = (System.nanoTime() - hookStart) / 1_000_000L;
+      if (millis > SLOW_HOOK_MILLIS) {
+        slow.add(hook.name() + " (" + millis + "ms)");
+      }
+    }
+
+    for (Listener listener : listeners) {
+      HandlerList.unregisterAll(listener);
+    }
+    int unregistered = listeners.size();
+    listeners.clear();
+
+    // A timer still repeating after its owner stopped is a leak on reload;
+    // per-cast effects and timers of skipped owners are just cancelled
+    int leaked = scheduler != null ? scheduler.cancelTimers(stopped) : 0;
+    if (scheduler != null) {
+      scheduler.cancelAll();
+    }
+
+    long totalMillis = (System.nanoTime() - start) / 1_000_000L;
+    if (!slow.isEmpty()) {
+      log(Level.WARNING, "Slow shutdown: " + String.join(", ", slow), null);
+    }
+    if (!skipped.isEmpty()) {
+      log(Level.WARNING, "Shutdown budget of " + budgetMillis + "ms spent, skipped: "
+        + String.join(", ", skipped), null);
+    }
+    if (leaked > 0) {
+      log(Level.WARNING, "Cancelled " + leaked + " repeating task(s) left running by their owners at disable", null);
+    }
+    log(Level.INFO, "Stopped in " + totalMillis + "ms (" + unregistered + " listeners unregistered)", null);
+    return leaked;
+  }
+
+  private void log(Level level, String message, Throwable error) {
+    if (logger != null) {
+      logger.log(level, message, error);
+    }
+  }
+
+  private record Hook(String name, Runnable action) {
+  }
+}
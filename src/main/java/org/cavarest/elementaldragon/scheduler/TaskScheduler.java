@@ -0,0 +1,315 @@
+package org.cavarest.elementaldragon.scheduler;
+
+import com.tcoded.folialib.FoliaLib;
+import com.tcoded.folialib.impl.PlatformScheduler;
+import com.tcoded.folialib.wrapper.task.WrappedTask;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Region-aware task scheduling for the plugin.
+ *
+ * Wraps FoliaLib so the same code runs on Paper and on Folia:
+ * - Global tasks run on the main thread (Paper) or the global region (Folia)
+ * - Entity tasks run on the thread that owns the entity, and follow it across regions
+ * - Location tasks run on the thread that owns the chunk at that location
+ *
+ * Rule of thumb: anything that reads or mutates an entity must be scheduled
+ * on that entity. Work that touches two entities (e.g. damage + heal) must
+ * hop from one entity's task to the other's via {@link #runAtEntity}.
+ *
+ * Repeating and delayed tasks are started at least one tick in the future,
+ * since Folia's region schedulers reject a delay of zero.
+ *
+ * Repeating tasks are tracked until they are cancelled, so the plugin's
+ * {@link Lifecycle} can cancel any still running at disable. A subsystem
+ * timer is tagged with {@link #own} by the name of the shutdown hook that
+ * should stop it; only those are reported as leaks. Untagged timers are
+ * per-cast effects (dashes, zones, beams) and are cancelled silently.
+ */
+public class TaskScheduler {
+
+  private final PlatformScheduler platform;
+  private final boolean folia;
+
+  // Owner of an untagged (per-cast effect) timer
+  private static final String NO_OWNER = "";
+
+  // Repeating tasks not yet seen cancelled, with their owner; pruned as new timers start
+  private final Map<WrappedTask, String> timers = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new TaskScheduler.
+   *
+   * @param plugin The plugin instance
+   */
+  public TaskScheduler(JavaPlugin plugin) {
+    this(new FoliaLib(plugin));
+  }
+
+  private TaskScheduler(FoliaLib foliaLib) {
+    this(foliaLib.getScheduler(), foliaLib.isFolia());
+  }
+
+  /**
+   * Create a TaskScheduler over a platform scheduler (tests).
+   *
+   * @param platform The FoliaLib platform scheduler
+   * @param folia Whether region-threaded scheduling is active
+   */
+  public TaskScheduler(PlatformScheduler platform, boolean folia) {
+    this.platform = platform;
+    this.folia = folia;
+  }
+
+  /**
+   * Check whether the server is running Folia.
+   *
+   * @return true if region-threaded scheduling is active
+   */
+  public boolean isFolia() {
+    return folia;
+  }
+
+  // ==================== Global ====================
+
+  /**
+   * Run a task on the next tick of the global region.
+   * Must not touch entities or blocks directly - dispatch to them instead.
+   *
+   * @param task The task to run
+   */
+  public void runGlobal(Runnable task) {
+    scheduler().runNextTick(wrapped -> task.run());
+  }
+
+  /**
+   * Run a task on the global region after a delay.
+   *
+   * @param task The task to run
+   * @param delayTicks Delay in ticks
+   * @return The scheduled task
+   */
+  public WrappedTask runGlobalLater(Runnable task, long delayTicks) {
+    return scheduler().runLater(task, ticks(delayTicks));
+  }
+
+  /**
+   * Run a repeating task on the global region.
+   *
+   * @param task The task to run, receives its own handle so it can cancel itself
+   * @param delayTicks Initial delay in ticks
+   * @param periodTicks Period in ticks
+   * @return The scheduled task
+   */
+  public WrappedTask runGlobalTimer(Consumer<WrappedTask> task, long delayTicks, long periodTicks) {
+    AtomicReference<WrappedTask> handle = new AtomicReference<>();
+    handle.set(scheduler().runTimer(() -> task.accept(handle.get()), ticks(delayTicks), ticks(periodTicks)));
+    return track(handle.get());
+  }
+
+  // ==================== Async ====================
+
+  /**
+   * Run a task off the server threads (file I/O, parsing).
+   * Must not touch the world - hop back with {@link #runGlobal} or {@link #runAtEntity}.
+   *
+   * @param task The task to run
+   */
+  public void runAsync(Runnable task) {
+    scheduler().runAsync(wrapped -> task.run());
+  }
+
+  // ==================== Entity ====================
+
+  /**
+   * Run a task on the thread that owns the entity.
+   * Runs on the next tick; silently dropped if the entity is removed first.
+   *
+   * @param entity The entity
+   * @param task The task to run
+   */
+  public void runAtEntity(Entity entity, Runnable task) {
+    scheduler().runAtEntity(entity, wrapped -> task.run());
+  }
+
+  /**
+   * Run a task on the thread that owns the entity - immediately if the
+   * current thread already owns it, otherwise on the owner's next tick.
+   * Use this when an event handler running for one entity must mutate another.
+   *
+   * @param entity The entity
+   * @param task The task to run
+   */
+  public void executeAtEntity(Entity entity, Runnable task) {
+    if (isOwnedByCurrentRegion(entity)) {
+      task.run();
+    } else {
+      runAtEntity(entity, task);
+    }
+  }
+
+  /**
+   * Run a task on the thread that owns the entity after a delay.
+   *
+   * @param entity The entity
+   * @param task The task to run
+   * @param delayTicks Delay in ticks
+   * @return The scheduled task
+   */
+  public WrappedTask runAtEntityLater(Entity entity, Runnable task, long delayTicks) {
+    return scheduler().runAtEntityLater(entity, task, ticks(delayTicks));
+  }
+
+  /**
+   * Run a repeating task on the thread that owns the entity.
+   * On Folia the task stops by itself when the entity is removed.
+   *
+   * @param entity The entity
+   * @param task The task to run, receives its own handle so it can cancel itself
+   * @param delayTicks Initial delay in ticks
+   * @param periodTicks Period in ticks
+   * @return The scheduled task
+   */
+  public WrappedTask runAtEntityTimer(Entity entity, Consumer<WrappedTask> task, long delayTicks, long periodTicks) {
+    AtomicReference<WrappedTask> handle = new AtomicReference<>();
+    handle.set(scheduler().runAtEntityTimer(
+      entity, () -> task.accept(handle.get()), ticks(delayTicks), ticks(periodTicks)));
+    return track(handle.get());
+  }
+
+  // ==================== Location ====================
+
+  /**
+   * Run a task on the thread that owns the chunk at a location.
+   *
+   * @param location The location
+   * @param task The task to run
+   */
+  public void runAtLocation(Location location, Runnable task) {
+    scheduler().runAtLocation(location, wrapped -> task.run());
+  }
+
+  /**
+   * Run a repeating task on the thread that owns the chunk at a location.
+   *
+   * @param location The location
+   * @param task The task to run, receives its own handle so it can cancel itself
+   * @param delayTicks Initial delay in ticks
+   * @param periodTicks Period in ticks
+   * @return The scheduled task
+   */
+  public WrappedTask runAtLocationTimer(Location location, Consumer<WrappedTask> task, long delayTicks, long periodTicks) {
+    AtomicReference<WrappedTask> handle = new AtomicReference<>();
+    handle.set(scheduler().runAtLocationTimer(
+      location, () -> task.accept(handle.get()), ticks(delayTicks), ticks(periodTicks)));
+    return track(handle.get());
+  }
+
+  // ==================== Ownership / Lifecycle ====================
+
+  /**
+   * Check whether the current thread owns the entity.
+   * Always true on Paper when called from the main thread.
+   *
+   * @param entity The entity
+   * @return true if the entity can be touched from the current thread
+   */
+  public boolean isOwnedByCurrentRegion(Entity entity) {
+    return scheduler().isOwnedByCurrentRegion(entity);
+  }
+
+  /**
+   * Cancel a task, ignoring null handles.
+   *
+   * @param task The task to cancel
+   */
+  public void cancel(WrappedTask task) {
+    if (task != null && !task.isCancelled()) {
+      task.cancel();
+    }
+    if (task != null) {
+      timers.remove(task);
+    }
+  }
+
+  /**
+   * Tag a repeating task with the subsystem that owns it.
+   *
+   * @param owner Name of the owner's shutdown hook (see {@link Lifecycle#onShutdown})
+   * @param task A task returned by one of the timer methods
+   * @return The same task
+   */
+  public WrappedTask own(String owner, WrappedTask task) {
+    if (task != null && owner != null) {
+      timers.replace(task, owner);
+    }
+    return task;
+  }
+
+  /**
+   * Get the number of repeating tasks still running.
+   *
+   * @return Running repeating tasks
+   */
+  public int getActiveTimerCount() {
+    timers.keySet().removeIf(WrappedTask::isCancelled);
+    return timers.size();
+  }
+
+  /**
+   * Cancel every repeating task that is still running.
+   *
+   * @param stoppedOwners Owners whose shutdown already ran - their timers are leaks
+   * @return The number of leaked tasks (owned by a stopped owner) that had to be cancelled
+   */
+  public int cancelTimers(Set<String> stoppedOwners) {
+    int leaked = 0;
+    for (Map.Entry<WrappedTask, String> entry : timers.entrySet()) {
+      WrappedTask task = entry.getKey();
+      if (!task.isCancelled()) {
+        task.cancel();
+        if (stoppedOwners.contains(entry.getValue())) {
+          leaked++;
+        }
+      }
+    }
+    timers.clear();
+    return leaked;
+  }
+
+  /**
+   * Cancel every task scheduled by this plugin.
+   */
+  public void cancelAll() {
+    scheduler().cancelAllTasks();
+    timers.clear();
+  }
+
+  private WrappedTask track(WrappedTask task) {
+    if (task != null) {
+      // Self-cancelling timers never come back through cancel(); drop them here
+      timers.keySet().removeIf(WrappedTask::isCancelled);
+      timers.put(task, NO_OWNER);
+    }
+    return task;
+  }
+
+  private PlatformScheduler scheduler() {
+    return platform;
+  }
+
+  /**
+   * Folia rejects zero-tick delays and periods; clamp to one tick.
+   */
+  private static long ticks(long ticks) {
+    return Math.max(1L, ticks);
+  }
+}
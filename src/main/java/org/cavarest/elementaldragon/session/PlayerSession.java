@@ -0,0 +1,138 @@
+package org.cavarest.elementaldragon.session;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * All plugin state for one online player.
+ *
+ * <p>Managers keep their per-player data here under a {@link SessionKey}
+ * instead of in their own {@code Map<UUID, ...>}: an event looks up the
+ * session once and reaches every manager's state by array index. The session
+ * is created when the player joins and closed when they quit, which runs each
+ * key's cleanup, so nothing outlives the player's connection.</p>
+ *
+ * <p>Values are stored in an atomic array, so a session can be read and
+ * written from the player's region thread and from async tasks.</p>
+ */
+public final class PlayerSession {
+
+  private final UUID playerId;
+  private final int slot;
+  private final AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(SessionKey.MAX_KEYS);
+  private volatile boolean closed;
+
+  PlayerSession(UUID playerId, int slot) {
+    this.playerId = playerId;
+    this.slot = slot;
+  }
+
+  /**
+   * Get the player's UUID.
+   *
+   * @return The UUID
+   */
+  public UUID getPlayerId() {
+    return playerId;
+  }
+
+  /**
+   * Get the session's dense slot. Slots of closed sessions are reused, so
+   * the slot range stays bounded by the peak number of online players.
+   *
+   * @return The slot index
+   */
+  public int getSlot() {
+    return slot;
+  }
+
+  /**
+   * Check whether the player has quit and the session was closed.
+   *
+   * @return true if closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Get a value.
+   *
+   * @param key The key
+   * @param <T> The value type
+   * @return The value, or null if not set
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(SessionKey<T> key) {
+    return (T) values.get(key.index());
+  }
+
+  /**
+   * Get a value, creating it if absent.
+   *
+   * @param key The key
+   * @param factory Creates the value on first access
+   * @param <T> The value type
+   * @return The existing or new value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T computeIfAbsent(SessionKey<T> key, Supplier<? extends T> factory) {
+    int index = key.index();
+    Object existing = values.get(index);
+    if (existing != null) {
+      return (T) existing;
+    }
+    T created = factory.get();
+    return values.compareAndSet(index, null, created) ? created : (T) values.get(index);
+  }
+
+  /**
+   * Set a value.
+   *
+   * @param key The key
+   * @param value The value (null removes it)
+   * @param <T> The value type
+   * @return The previous value, or null
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T set(SessionKey<T> key, T value) {
+    return (T) values.getAndSet(key.index(), value);
+  }
+
+  /**
+   * Remove a value without running its cleanup.
+   *
+   * @param key The key
+   * @param <T> The value type
+   * @return The removed value, or null
+   */
+  public <T> T remove(SessionKey<T> key) {
+    return set(key, null);
+  }
+
+  /**
+   * Remove a value only if it is still the expected one.
+   *
+   * @param key The key
+   * @param expected The value to remove
+   * @param <T> The value type
+   * @return true if the value was removed
+   */
+  public <T> boolean remove(SessionKey<T> key, T expected) {
+    return expected != null && values.compareAndSet(key.index(), expected, null);
+  }
+
+  /**
+   * Close the session: clear every value and run each key's cleanup.
+   */
+  void close() {
+    closed = true;
+    for (SessionKey<?> key : SessionKey.all()) {
+      Object value = values.getAndSet(key.index(), null);
+      if (value != null) {
+        key.close(value);
+      }
+    }
+  }
+}
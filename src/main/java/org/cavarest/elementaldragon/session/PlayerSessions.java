@@ -0,0 +1,218 @@
+package org.cavarest.elementaldragon.session;
+
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Registry of {@link PlayerSession}s for online players.
+ *
+ * <p>A session is opened at join (or on first use, for players who were
+ * online before the plugin enabled) and closed at quit. Each session gets
+ * the lowest free dense slot, so {@link #forEach} walks a compact array and
+ * the number of slots is bounded by the peak online count.</p>
+ *
+ * <p>Only {@link #session} opens sessions, and it is meant for code running
+ * for a player who is online: the join handler, commands and events they
+ * cause. Anything that can run after the player quit - delayed or repeating
+ * tasks, permission and inventory callbacks - uses {@link #sessionIfOnline}
+ * or {@link #find}, so a late caller cannot reopen a session that the quit
+ * handler will never close again.</p>
+ *
+ * <p>Register this listener after every manager that reads session state in
+ * its own quit handler: the session is closed at MONITOR priority, and
+ * listeners of the same priority run in registration order.</p>
+ */
+public final class PlayerSessions implements Listener {
+
+  private final Map<UUID, PlayerSession> byId = new ConcurrentHashMap<>();
+  private final BitSet usedSlots = new BitSet();
+  private volatile PlayerSession[] slots = new PlayerSession[64];
+
+  /**
+   * Get the plugin's session registry, or a private one when the plugin does
+   * not provide it (unit tests with a mocked or null plugin).
+   *
+   * @param plugin The plugin instance (may be null)
+   * @return The registry to use
+   */
+  public static PlayerSessions of(ElementalDragon plugin) {
+    PlayerSessions sessions = plugin != null ? plugin.getPlayerSessions() : null;
+    return sessions != null ? sessions : new PlayerSessions();
+  }
+
+  /**
+   * Get the player's session, opening one if needed.
+   *
+   * @param player The player
+   * @return The session
+   */
+  public PlayerSession session(Player player) {
+    return session(player.getUniqueId());
+  }
+
+  /**
+   * Get the session for a player UUID, opening one if needed.
+   *
+   * @param playerId The player's UUID
+   * @return The session
+   */
+  public PlayerSession session(UUID playerId) {
+    PlayerSession session = byId.get(playerId);
+    if (session != null) {
+      return session;
+    }
+    return byId.computeIfAbsent(playerId, this::open);
+  }
+
+  /**
+   * Get the player's session, opening one only if the player is online
+   * (first use after the plugin enabled). For code that may run after quit.
+   *
+   * @param player The player
+   * @return The session, or null if the player has none and is offline
+   */
+  public PlayerSession sessionIfOnline(Player player) {
+    PlayerSession session = byId.get(player.getUniqueId());
+    if (session != null || !player.isOnline()) {
+      return session;
+    }
+    return byId.computeIfAbsent(player.getUniqueId(), this::open);
+  }
+
+  /**
+   * Get the player's session without opening one.
+   *
+   * @param player The player
+   * @return The session, or null if the player has none
+   */
+  public PlayerSession find(Player player) {
+    return byId.get(player.getUniqueId());
+  }
+
+  /**
+   * Get a session by player UUID without opening one.
+   *
+   * @param playerId The player's UUID
+   * @return The session, or null if the player has none
+   */
+  public PlayerSession find(UUID playerId) {
+    return byId.get(playerId);
+  }
+
+  /**
+   * Get a value from the player's session without opening one.
+   *
+   * @param player The player
+   * @param key The key
+   * @param <T> The value type
+   * @return The value, or null if the player has no session or no value
+   */
+  public <T> T find(Player player, SessionKey<T> key) {
+    PlayerSession session = byId.get(player.getUniqueId());
+    return session != null ? session.get(key) : null;
+  }
+
+  /**
+   * Close a player's session and run its cleanup.
+   *
+   * @param playerId The player's UUID
+   */
+  public void close(UUID playerId) {
+    PlayerSession session = byId.remove(playerId);
+    if (session == null) {
+      return;
+    }
+    session.close();
+    synchronized (this) {
+      PlayerSession[] updated = slots.clone();
+      updated[session.getSlot()] = null;
+      slots = updated;
+      usedSlots.clear(session.getSlot());
+    }
+  }
+
+  /**
+   * Close every session (plugin disable).
+   */
+  public void closeAll() {
+    for (UUID playerId : new ArrayList<>(byId.keySet())) {
+      close(playerId);
+    }
+  }
+
+  /**
+   * Visit every open session in slot order.
+   *
+   * @param visitor Called for each session
+   */
+  public void forEach(Consumer<PlayerSession> visitor) {
+    for (PlayerSession session : slots) {
+      if (session != null) {
+        visitor.accept(session);
+      }
+    }
+  }
+
+  /**
+   * Collect a value from every open session that has one.
+   *
+   * @param key The key
+   * @param <T> The value type
+   * @return The values (new list)
+   */
+  public <T> List<T> values(SessionKey<T> key) {
+    List<T> result = new ArrayList<>();
+    forEach(session -> {
+      T value = session.get(key);
+      if (value != null) {
+        result.add(value);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Number of open sessions.
+   *
+   * @return The session count
+   */
+  public int size() {
+    return byId.size();
+  }
+
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    session(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    close(event.getPlayer().getUniqueId());
+  }
+
+  private synchronized PlayerSession open(UUID playerId) {
+    int slot = usedSlots.nextClearBit(0);
+    PlayerSession session = new PlayerSession(playerId, slot);
+    // Copy on write so forEach can iterate without locking
+    int length = slot < slots.length ? slots.length : slots.length * 2;
+    PlayerSession[] updated = Arrays.copyOf(slots, length);
+    updated[slot] = session;
+    slots = updated;
+    usedSlots.set(slot);
+    return session;
+  }
+}
@@ -0,0 +1,94 @@
+package org.cavarest.elementaldragon.session;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Identifies one piece of per-player state stored in a {@link PlayerSession}.
+ *
+ * <p>Each key gets a dense index when it is created, so a session stores its
+ * values in a plain array and {@link PlayerSession#get} is an array read.
+ * Managers create their keys once, as static constants.</p>
+ *
+ * @param <T> The value type
+ */
+public final class SessionKey<T> {
+
+  /**
+   * Most keys that can exist; a session's value array has this length.
+   */
+  static final int MAX_KEYS = 64;
+
+  private static final List<SessionKey<?>> ALL = new CopyOnWriteArrayList<>();
+
+  private final String name;
+  private final int index;
+  private final Consumer<? super T> onClose;
+
+  private SessionKey(String name, Consumer<? super T> onClose) {
+    this.name = name;
+    this.onClose = onClose;
+    synchronized (ALL) {
+      if (ALL.size() >= MAX_KEYS) {
+        throw new IllegalStateException("Too many session keys (max " + MAX_KEYS + "): " + name);
+      }
+      this.index = ALL.size();
+      ALL.add(this);
+    }
+  }
+
+  /**
+   * Create a key for a value that needs no cleanup.
+   *
+   * @param name Name for debugging
+   * @param <T> The value type
+   * @return A new key
+   */
+  public static <T> SessionKey<T> of(String name) {
+    return new SessionKey<>(name, null);
+  }
+
+  /**
+   * Create a key whose value is cleaned up when the session closes
+   * (e.g. cancel a task, remove a sidebar viewer).
+   *
+   * @param name Name for debugging
+   * @param onClose Called with the value when the player quits
+   * @param <T> The value type
+   * @return A new key
+   */
+  public static <T> SessionKey<T> withCleanup(String name, Consumer<? super T> onClose) {
+    return new SessionKey<>(name, onClose);
+  }
+
+  /**
+   * Get the key's name.
+   *
+   * @return The name
+   */
+  public String getName() {
+    return name;
+  }
+
+  int index() {
+    return index;
+  }
+
+  static List<SessionKey<?>> all() {
+    return ALL;
+  }
+
+  void close(Object value) {
+    if (onClose != null) {
+      @SuppressWarnings("unchecked")
+      T typed = (T) value;
+      onClose.accept(typed);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "SessionKey[" + name + "]";
+  }
+}
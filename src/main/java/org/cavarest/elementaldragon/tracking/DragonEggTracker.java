@@ -0,0 +1,158 @@
+package org.cavarest.elementaldragon.tracking;
+
+import com.tcoded.folialib.wrapper.task.WrappedTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.item.ElementalItems;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
+
+/**
+ * Caches whether each online player carries a Dragon Egg (inventory or offhand).
+ *
+ * Lightning eligibility is checked on every strike tick, every HUD rebuild and
+ * every tracker refresh; each used to be a full inventory scan. This keeps one
+ * presence bit in each player's session instead:
+ * - Dragon egg moves (click, drag, pickup, drop, slot change) are reported by
+ *   {@link org.cavarest.elementaldragon.listener.ItemEventGate} and rescanned
+ *   on the next tick, once the inventory has settled
+ * - Join, death and respawn rescan; quit forgets the player (and the bit
+ *   goes with the session)
+ * - A slow reconciliation sweep rescans everyone to catch anything the events
+ *   missed (/clear, plugins editing inventories directly)
+ *
+ * An unknown player is scanned on first read, so {@link #hasDragonEgg} is
+ * always correct to within one tick of an inventory event.
+ */
+public class DragonEggTracker implements Listener {
+
+  // Reconciliation sweep period (5 seconds)
+  private static final long SWEEP_PERIOD_TICKS = 100L;
+
+  private static final SessionKey<Boolean> HAS_EGG = SessionKey.of("has_dragon_egg");
+
+  private final ElementalDragon plugin;
+  private final PlayerSessions sessions;
+  private WrappedTask sweepTask;
+
+  /**
+   * Create a new DragonEggTracker.
+   *
+   * @param plugin The plugin instance
+   */
+  public DragonEggTracker(ElementalDragon plugin) {
+    this.plugin = plugin;
+    this.sessions = PlayerSessions.of(plugin);
+  }
+
+  /**
+   * Start the reconciliation sweep and prime already online players.
+   */
+  public void start() {
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      plugin.getTaskScheduler().runAtEntity(player, () -> rescan(player));
+    }
+    TaskScheduler scheduler = plugin.getTaskScheduler();
+    sweepTask = scheduler.own("dragon-egg-tracker", scheduler.runGlobalTimer(task -> {
+      for (Player player : Bukkit.getOnlinePlayers()) {
+        scheduler.runAtEntity(player, () -> rescan(player));
+      }
+    }, SWEEP_PERIOD_TICKS, SWEEP_PERIOD_TICKS));
+  }
+
+  /**
+   * Stop the reconciliation sweep and clear all cached state.
+   */
+  public void shutdown() {
+    plugin.getTaskScheduler().cancel(sweepTask);
+    sweepTask = null;
+    sessions.forEach(session -> session.remove(HAS_EGG));
+  }
+
+  /**
+   * Check whether a player carries a Dragon Egg.
+   * Must be called on the player's thread if the player has not been seen yet.
+   *
+   * @param player The player
+   * @return true if a Dragon Egg is in the inventory or offhand
+   */
+  public boolean hasDragonEgg(Player player) {
+    if (player == null) {
+      return false;
+    }
+    Boolean cached = sessions.find(player, HAS_EGG);
+    return cached != null ? cached : rescan(player);
+  }
+
+  /**
+   * Report that a Dragon Egg moved in or out of a player's inventory.
+   * The cached bit is dropped now and recomputed next tick, after the
+   * inventory change has been applied.
+   *
+   * @param player The player
+   */
+  public void inventoryChanged(Player player) {
+    forget(player);
+    plugin.getTaskScheduler().runAtEntityLater(player, () -> rescan(player), 1L);
+  }
+
+  /**
+   * Scan the player's inventory and update the cached bit.
+   *
+   * @param player The player
+   * @return true if a Dragon Egg was found
+   */
+  public boolean rescan(Player player) {
+    if (!player.isOnline()) {
+      forget(player);
+      return false;
+    }
+    boolean present = ElementalItems.hasMaterialInInventory(player, Material.DRAGON_EGG);
+    PlayerSession session = sessions.sessionIfOnline(player);
+    if (session != null) {
+      session.set(HAS_EGG, present);
+    }
+    ElementalStates.get().setDragonEgg(player.getUniqueId(), present);
+    return present;
+  }
+
+  private void forget(Player player) {
+    PlayerSession session = sessions.find(player);
+    if (session != null) {
+      session.remove(HAS_EGG);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    rescan(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    forget(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerDeath(PlayerDeathEvent event) {
+    // Drops (or keepInventory) are settled after the event
+    inventoryChanged(event.getEntity());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerRespawn(PlayerRespawnEvent event) {
+    inventoryChanged(event.getPlayer());
+  }
+}
@@ -4,17 +4,18 @@ import org.cavarest.elementaldragon.ElementalDragon;
 import org.cavarest.elementaldragon.ability.AbilityManager;
 import org.cavarest.elementaldragon.fragment.FragmentManager;
 import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 
 /**
  * Tracks which players have which elemental dragon powers.
@@ -25,15 +26,16 @@ public class ElementalPlayerTracker implements Listener {
   private final ElementalDragon plugin;
   private final AbilityManager abilityManager;
   private final FragmentManager fragmentManager;
+  private final PlayerSessions sessions;
 
-  // Map of player UUID to their elemental status
-  private final Map<UUID, PlayerElementalStatus> playerStatus;
+  // Each online player's elemental status, kept in their session
+  private static final SessionKey<PlayerElementalStatus> STATUS = SessionKey.of("elemental_status");
 
   public ElementalPlayerTracker(ElementalDragon plugin) {
     this.plugin = plugin;
     this.abilityManager = plugin.getAbilityManager();
     this.fragmentManager = plugin.getFragmentManager();
-    this.playerStatus = new HashMap<>();
+    this.sessions = PlayerSessions.of(plugin);
   }
 
   /**
@@ -46,9 +48,14 @@ public class ElementalPlayerTracker implements Listener {
     if (player == null) {
       return null;
     }
-    return playerStatus.computeIfAbsent(
-      player.getUniqueId(),
-      uuid -> new PlayerElementalStatus(player.getName())
+    PlayerSession session = sessions.sessionIfOnline(player);
+    if (session == null) {
+      // Offline - report a status without keeping it
+      return new PlayerElementalStatus(player.getName());
+    }
+    return session.computeIfAbsent(
+      STATUS,
+      () -> new PlayerElementalStatus(player.getName())
     );
   }
 
@@ -111,12 +118,12 @@ public class ElementalPlayerTracker implements Listener {
   }
 
   /**
-   * Get all tracked players with their elemental status.
+   * Get all online tracked players with their elemental status.
    *
    * @return Set of all player statuses
    */
   public Set<PlayerElementalStatus> getAllPlayerStatuses() {
-    return new HashSet<>(playerStatus.values());
+    return new HashSet<>(sessions.values(STATUS));
   }
 
   /**
@@ -132,7 +139,7 @@ public class ElementalPlayerTracker implements Listener {
     counts.put("darkness", 0);
     counts.put("light", 0);
 
-    for (PlayerElementalStatus status : playerStatus.values()) {
+    for (PlayerElementalStatus status : sessions.values(STATUS)) {
       if (status.hasFire) counts.merge("fire", 1, Integer::sum);
       if (status.hasWind) counts.merge("wind", 1, Integer::sum);
       if (status.hasBlood) counts.merge("blood", 1, Integer::sum);
@@ -143,15 +150,9 @@ public class ElementalPlayerTracker implements Listener {
     return counts;
   }
 
-  @EventHandler
-  public void onPlayerJoin(PlayerJoinEvent event) {
-    Player player = event.getPlayer();
-    refreshPlayerStatus(player);
-  }
-
   @EventHandler
   public void onPlayerQuit(PlayerQuitEvent event) {
-    // Keep the status in memory for reference
+    // The status is dropped with the player's session
   }
 
   /**
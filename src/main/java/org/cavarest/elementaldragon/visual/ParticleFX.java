@@ -6,6 +6,7 @@ import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.block.data.BlockData;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
 
 /**
  * Centralized particle effects helper class for the Elemental Dragon plugin.
@@ -30,6 +31,9 @@ import org.bukkit.block.data.BlockData;
  */
 public final class ParticleFX {
 
+  // Plugin metrics for particles_emitted_total; null while the plugin is disabled
+  private static volatile PluginMetrics metrics;
+
   // ==========================================================================
   // BURNING FRAGMENT COLORS
   // ==========================================================================
@@ -124,7 +128,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Main flame particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.FLAME,
       location,
       count,
@@ -135,7 +140,8 @@ public final class ParticleFX {
     );
 
     // Orange dust particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       count / 2,
@@ -168,7 +174,8 @@ public final class ParticleFX {
       Location particleLocation = new Location(world, x, location.getY() + 0.1, z);
 
       // Flame particles
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.FLAME,
         particleLocation,
         3,
@@ -179,7 +186,8 @@ public final class ParticleFX {
       );
 
       // Smoke rise effect
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.SMOKE,
         particleLocation.add(0, 0.5, 0),
         2,
@@ -190,7 +198,8 @@ public final class ParticleFX {
       );
 
       // Lava pop particles
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.DUST,
         particleLocation,
         2,
@@ -216,7 +225,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Fire particles burst
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.FLAME,
       location,
       20,
@@ -227,7 +237,8 @@ public final class ParticleFX {
     );
 
     // Orange dust particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       15,
@@ -239,7 +250,8 @@ public final class ParticleFX {
     );
 
     // Smoke particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.SMOKE,
       location,
       10,
@@ -267,7 +279,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Teal dust particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       3,
@@ -279,7 +292,8 @@ public final class ParticleFX {
     );
 
     // Cloud particles for wind effect
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.CLOUD,
       location,
       2,
@@ -290,7 +304,8 @@ public final class ParticleFX {
     );
 
     // White swirl particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       1,
@@ -315,7 +330,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Burst of white particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location.add(0, 1, 0),
       30,
@@ -333,7 +349,8 @@ public final class ParticleFX {
       double z = Math.sin(angle) * 1.5;
 
       Location particleLocation = location.clone().add(x, 0.5, z);
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.CLOUD,
         particleLocation,
         5,
@@ -345,7 +362,8 @@ public final class ParticleFX {
     }
 
     // Teal ring particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location.add(0, 0.5, 0),
       15,
@@ -372,7 +390,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // White trail particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location.add(0, 0.5, 0),
       2,
@@ -384,7 +403,8 @@ public final class ParticleFX {
     );
 
     // Cloud particles behind player
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.CLOUD,
       location.add(-directionX * 0.5, 0, -directionZ * 0.5),
       3,
@@ -408,7 +428,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Teal dust particles burst
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       20,
@@ -420,7 +441,8 @@ public final class ParticleFX {
     );
 
     // White swirl particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       10,
@@ -432,7 +454,8 @@ public final class ParticleFX {
     );
 
     // Cloud particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.CLOUD,
       location,
       15,
@@ -460,7 +483,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Shield ring particles (gold/brown)
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location.add(0, 1, 0),
       3,
@@ -472,7 +496,8 @@ public final class ParticleFX {
     );
 
     // Brown dust particles for earth effect - use DUST instead of FALLING_DUST
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       2,
@@ -484,7 +509,8 @@ public final class ParticleFX {
     );
 
     // Green particles for roots
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       1,
@@ -509,7 +535,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Gold burst particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location.add(0, 1, 0),
       30,
@@ -527,7 +554,8 @@ public final class ParticleFX {
       double z = Math.sin(angle) * 1.5;
 
       Location particleLocation = location.clone().add(x, 0.5, z);
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.DUST,
         particleLocation,
         3,
@@ -540,7 +568,8 @@ public final class ParticleFX {
     }
 
     // Sparkle particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.CRIT,
       location.add(0, 1, 0),
       10,
@@ -564,7 +593,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Brown dust particles burst (earth) - use DUST instead of FALLING_DUST
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       20,
@@ -576,7 +606,8 @@ public final class ParticleFX {
     );
 
     // Gold dust particles (strength)
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       15,
@@ -588,7 +619,8 @@ public final class ParticleFX {
     );
 
     // Green particles (life/health)
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       10,
@@ -606,7 +638,8 @@ public final class ParticleFX {
       double z = Math.sin(angle) * 0.8;
 
       Location particleLocation = location.clone().add(x, -0.5, z);
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.DUST,
         particleLocation,
         2,
@@ -636,7 +669,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Reverse portal particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.REVERSE_PORTAL,
       location,
       10,
@@ -647,7 +681,8 @@ public final class ParticleFX {
     );
 
     // Dark purple dust particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       5,
@@ -672,7 +707,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Dark purple dust
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       3,
@@ -684,7 +720,8 @@ public final class ParticleFX {
     );
 
     // Soul particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.SOUL,
       location,
       2,
@@ -710,7 +747,8 @@ public final class ParticleFX {
     Location midPoint = from.clone().add(to).multiply(0.5);
 
     // Red particles from enemy
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       midPoint,
       5,
@@ -722,7 +760,8 @@ public final class ParticleFX {
     );
 
     // Green particles to player
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       midPoint,
       5,
@@ -754,7 +793,8 @@ public final class ParticleFX {
 
       Location particleLocation = location.clone().add(x, 0.5, z);
 
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.REVERSE_PORTAL,
         particleLocation,
         3,
@@ -779,7 +819,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Purple/black void particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.REVERSE_PORTAL,
       location,
       25,
@@ -790,7 +831,8 @@ public final class ParticleFX {
     );
 
     // Dark purple dust particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       15,
@@ -802,7 +844,8 @@ public final class ParticleFX {
     );
 
     // Soul particles
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.SOUL,
       location,
       10,
@@ -818,39 +861,61 @@ public final class ParticleFX {
   // ==========================================================================
 
   /**
-   * Create purple lightning visual effect with enhanced spark particles.
+   * Create purple lightning visual effect with enhanced spark particles,
+   * at the level of detail for the nearest player.
    *
    * @param location The location to spawn the effect
    */
   public static void createPurpleLightningEffect(Location location) {
-    if (location == null || location.getWorld() == null) {
+    createPurpleLightningEffect(location, ParticleLod.at(location));
+  }
+
+  /**
+   * Create purple lightning visual effect at a given level of detail.
+   *
+   * @param location The location to spawn the effect
+   * @param lod Level of detail (NONE draws nothing)
+   */
+  public static void createPurpleLightningEffect(Location location, ParticleLod lod) {
+    if (location == null || location.getWorld() == null || lod == ParticleLod.NONE) {
       return;
     }
 
     World world = location.getWorld();
-    Location topLocation = location.clone().add(0, 10, 0);
+    Particle.DustOptions beam = new Particle.DustOptions(LIGHTNING_PURPLE, 2.0f);
+    Particle.DustOptions spark = new Particle.DustOptions(SPARK_PURPLE, 1.0f);
+    int beamCount = lod.scale(5);
+    int sparkCount = lod.scale(3);
+    int dustSparkCount = lod.scale(2);
 
     // Create vertical purple particle beam
-    for (double y = 0; y <= 10; y += 0.3) {
-      Location particleLocation = location.clone().add(0, y, 0);
+    Location particleLocation = location.clone();
+    for (double y = 0; y <= 10; y += lod.getStep()) {
+      particleLocation.setY(location.getY() + y);
 
       // Main purple beam
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.DUST,
         particleLocation,
-        5,
+        beamCount,
         0.1,
         0.1,
         0.1,
         0,
-        new Particle.DustOptions(LIGHTNING_PURPLE, 2.0f)
+        beam
       );
 
+      if (!lod.hasDetail()) {
+        continue;
+      }
+
       // Electric spark effect
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.ELECTRIC_SPARK,
         particleLocation,
-        3,
+        sparkCount,
         0.2,
         0.2,
         0.2,
@@ -858,23 +923,25 @@ public final class ParticleFX {
       );
 
       // Additional spark particles for enhanced effect
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.DUST,
         particleLocation,
-        2,
+        dustSparkCount,
         0.15,
         0.15,
         0.15,
         0.02,
-        new Particle.DustOptions(SPARK_PURPLE, 1.0f)
+        spark
       );
     }
 
     // Add explosion effect at impact
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
-      50,
+      lod.scale(50),
       0.5,
       0.5,
       0.5,
@@ -883,7 +950,8 @@ public final class ParticleFX {
     );
 
     // Add flash effect
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.FLASH,
       location,
       1,
@@ -893,6 +961,10 @@ public final class ParticleFX {
       0
     );
 
+    if (!lod.hasDetail()) {
+      return;
+    }
+
     // Additional purple spark ring at impact
     for (int i = 0; i < 360; i += 30) {
       double angle = Math.toRadians(i);
@@ -900,7 +972,8 @@ public final class ParticleFX {
       double z = Math.sin(angle) * 0.5;
 
       Location sparkLocation = location.clone().add(x, 0.5, z);
-      world.spawnParticle(
+      spawn(
+        world,
         Particle.ELECTRIC_SPARK,
         sparkLocation,
         2,
@@ -925,7 +998,8 @@ public final class ParticleFX {
     World world = location.getWorld();
 
     // Purple explosion
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.DUST,
       location,
       30,
@@ -937,7 +1011,8 @@ public final class ParticleFX {
     );
 
     // Electric sparks
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.ELECTRIC_SPARK,
       location,
       15,
@@ -948,7 +1023,8 @@ public final class ParticleFX {
     );
 
     // Flash
-    world.spawnParticle(
+    spawn(
+      world,
       Particle.FLASH,
       location,
       1,
@@ -976,7 +1052,8 @@ public final class ParticleFX {
       return;
     }
 
-    location.getWorld().spawnParticle(
+    spawn(
+      location.getWorld(),
       Particle.DUST,
       location,
       count,
@@ -1015,7 +1092,95 @@ public final class ParticleFX {
       double z = center.getZ() + (radius * Math.sin(angle));
       Location particleLocation = new Location(world, x, center.getY(), z);
 
-      world.spawnParticle(particle, particleLocation, 1, 0, 0, 0, 0);
+      spawn(world, particle, particleLocation, 1, 0, 0, 0, 0);
+    }
+  }
+
+  /**
+   * Set the metrics particle counts are recorded in ({@code null} stops
+   * counting). Called by the plugin on enable and disable.
+   *
+   * @param pluginMetrics The plugin's metrics
+   */
+  public static void install(PluginMetrics pluginMetrics) {
+    metrics = pluginMetrics;
+  }
+
+  private static void recordParticles(int count) {
+    PluginMetrics current = metrics;
+    if (current != null) {
+      current.recordParticles(count);
     }
   }
+
+  /**
+   * Spawn particles and count them in {@link PluginMetrics}.
+   * All plugin particle effects go through these overloads so the
+   * particles_emitted_total metric covers every effect.
+   *
+   * @param world The world to spawn in
+   * @param particle The particle type
+   * @param location The location to spawn at
+   * @param count Number of particles
+   */
+  public static void spawn(World world, Particle particle, Location location, int count) {
+    recordParticles(count);
+    world.spawnParticle(particle, location, count);
+  }
+
+  /**
+   * Spawn particles with offset and speed, counting them in {@link PluginMetrics}.
+   *
+   * @param world The world to spawn in
+   * @param particle The particle type
+   * @param location The location to spawn at
+   * @param count Number of particles
+   * @param offsetX Random X offset
+   * @param offsetY Random Y offset
+   * @param offsetZ Random Z offset
+   * @param extra Particle speed
+   */
+  public static void spawn(
+    World world,
+    Particle particle,
+    Location location,
+    int count,
+    double offsetX,
+    double offsetY,
+    double offsetZ,
+    double extra
+  ) {
+    recordParticles(count);
+    world.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, extra);
+  }
+
+  /**
+   * Spawn particles with offset, speed and data (e.g. DustOptions),
+   * counting them in {@link PluginMetrics}.
+   *
+   * @param world The world to spawn in
+   * @param particle The particle type
+   * @param location The location to spawn at
+   * @param count Number of particles
+   * @param offsetX Random X offset
+   * @param offsetY Random Y offset
+   * @param offsetZ Random Z offset
+   * @param extra Particle speed
+   * @param data Particle data
+   * @param <T> Particle data type
+   */
+  public static <T> void spawn(
+    World world,
+    Particle particle,
+    Location location,
+    int count,
+    double offsetX,
+    double offsetY,
+    double offsetZ,
+    double extra,
+    T data
+  ) {
+    recordParticles(count);
+    world.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+  }
 }
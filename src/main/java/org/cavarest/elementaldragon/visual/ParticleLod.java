@@ -0,0 +1,105 @@
+package org.cavarest.elementaldragon.visual;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+/**
+ * Level of detail for large particle effects, chosen from the distance to
+ * the nearest player.
+ *
+ * <p>Clients only receive particles within 32 blocks, and at the far end of
+ * that range a dense column is indistinguishable from a sparse one. Effects
+ * that draw many particles pick a level with {@link #at(Location)} and scale
+ * their step and counts by it.</p>
+ */
+public enum ParticleLod {
+  /** Nearest player within 12 blocks: everything. */
+  FULL(12.0, 0.3, 1.0, true),
+  /** Within 24 blocks: half the column steps and counts. */
+  REDUCED(24.0, 0.6, 0.5, true),
+  /** Within 32 blocks: the main beam only, at a quarter density. */
+  MINIMAL(32.0, 1.0, 0.25, false),
+  /** Nobody close enough to receive the particles. */
+  NONE(Double.MAX_VALUE, 0.0, 0.0, false);
+
+  /** Distance beyond which clients do not receive particles. */
+  public static final double VIEW_DISTANCE = 32.0;
+
+  private final double maxDistance;
+  private final double step;
+  private final double density;
+  private final boolean detail;
+
+  ParticleLod(double maxDistance, double step, double density, boolean detail) {
+    this.maxDistance = maxDistance;
+    this.step = step;
+    this.density = density;
+    this.detail = detail;
+  }
+
+  /**
+   * Pick the level for a viewer at the given distance.
+   *
+   * @param distance Distance from the effect to the nearest player
+   * @return The level of detail
+   */
+  public static ParticleLod forDistance(double distance) {
+    for (ParticleLod lod : values()) {
+      if (distance <= lod.maxDistance) {
+        return lod;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * Pick the level for an effect at a location from the nearest player.
+   *
+   * @param location The effect's location
+   * @return The level of detail, NONE if no player is in range
+   */
+  public static ParticleLod at(Location location) {
+    if (location == null || location.getWorld() == null) {
+      return NONE;
+    }
+    World world = location.getWorld();
+    double nearest = Double.MAX_VALUE;
+    for (Player player : world.getNearbyPlayers(location, VIEW_DISTANCE)) {
+      nearest = Math.min(nearest, player.getLocation().distanceSquared(location));
+    }
+    return nearest == Double.MAX_VALUE ? NONE : forDistance(Math.sqrt(nearest));
+  }
+
+  /**
+   * Spacing between points along a line effect, in blocks.
+   *
+   * @return The step (0 for NONE)
+   */
+  public double getStep() {
+    return step;
+  }
+
+  /**
+   * Scale a particle count by this level's density, keeping at least one
+   * particle for any visible level.
+   *
+   * @param count The full-detail count
+   * @return The count to spawn
+   */
+  public int scale(int count) {
+    if (this == NONE) {
+      return 0;
+    }
+    return Math.max(1, (int) Math.round(count * density));
+  }
+
+  /**
+   * Whether secondary particles (sparks, rings) are drawn.
+   *
+   * @return true if detail is drawn
+   */
+  public boolean hasDetail() {
+    return detail;
+  }
+}
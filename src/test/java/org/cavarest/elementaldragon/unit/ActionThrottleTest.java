@@ -0,0 +1,113 @@
+package org.cavarest.elementaldragon.unit;
+
+import org.cavarest.elementaldragon.cooldown.ActionThrottle;
+import org.cavarest.elementaldragon.cooldown.ActionThrottle.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ActionThrottle token buckets.
+ */
+public class ActionThrottleTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private AtomicLong clock;
+    private ActionThrottle throttle;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new AtomicLong(0);
+        throttle = new ActionThrottle(clock::get);
+    }
+
+    @Test
+    @DisplayName("Burst is allowed, then actions are dropped until tokens refill")
+    public void testBurstAndRefill() {
+        UUID player = UUID.randomUUID();
+        throttle.setLimit(Channel.ABILITY, 3, 2.0);
+
+        assertTrue(throttle.tryAcquire(player, Channel.ABILITY));
+        assertTrue(throttle.tryAcquire(player, Channel.ABILITY));
+        assertTrue(throttle.tryAcquire(player, Channel.ABILITY));
+        assertFalse(throttle.tryAcquire(player, Channel.ABILITY), "Burst exhausted");
+
+        clock.addAndGet(SECOND / 2);
+        assertTrue(throttle.tryAcquire(player, Channel.ABILITY), "One token after 500ms at 2/s");
+        assertFalse(throttle.tryAcquire(player, Channel.ABILITY));
+
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(throttle.tryAcquire(player, Channel.ABILITY));
+        }
+        assertFalse(throttle.tryAcquire(player, Channel.ABILITY), "Refill is capped at burst size");
+    }
+
+    @Test
+    @DisplayName("Cooldown messages are coalesced to one per second")
+    public void testCooldownMessageCoalescing() {
+        UUID player = UUID.randomUUID();
+
+        assertTrue(throttle.tryAcquire(player, Channel.COOLDOWN_MESSAGE));
+        clock.addAndGet(SECOND / 10);
+        assertFalse(throttle.tryAcquire(player, Channel.COOLDOWN_MESSAGE));
+        clock.addAndGet(SECOND);
+        assertTrue(throttle.tryAcquire(player, Channel.COOLDOWN_MESSAGE));
+    }
+
+    @Test
+    @DisplayName("Channels and players have independent buckets")
+    public void testIndependentBuckets() {
+        UUID player1 = UUID.randomUUID();
+        UUID player2 = UUID.randomUUID();
+
+        assertTrue(throttle.tryAcquire(player1, Channel.EQUIP));
+        assertFalse(throttle.tryAcquire(player1, Channel.EQUIP));
+        assertTrue(throttle.tryAcquire(player1, Channel.ABILITY), "Other channel unaffected");
+        assertTrue(throttle.tryAcquire(player2, Channel.EQUIP), "Other player unaffected");
+    }
+
+    @Test
+    @DisplayName("Removing a player frees the entry and resets the bucket")
+    public void testRemove() {
+        UUID player = UUID.randomUUID();
+        assertTrue(throttle.tryAcquire(player, Channel.EQUIP));
+        assertFalse(throttle.tryAcquire(player, Channel.EQUIP));
+        assertEquals(1, throttle.size());
+
+        throttle.remove(player);
+        assertEquals(0, throttle.size());
+        assertTrue(throttle.tryAcquire(player, Channel.EQUIP), "Fresh bucket after rejoin");
+    }
+
+    @Test
+    @DisplayName("Table survives growth and removal of many players")
+    public void testManyPlayers() {
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            UUID id = UUID.randomUUID();
+            players.add(id);
+            assertTrue(throttle.tryAcquire(id, Channel.EQUIP));
+        }
+        assertEquals(500, throttle.size());
+
+        // Remove every other player; the rest must keep their drained buckets
+        for (int i = 0; i < players.size(); i += 2) {
+            throttle.remove(players.get(i));
+        }
+        assertEquals(250, throttle.size());
+        for (int i = 1; i < players.size(); i += 2) {
+            assertFalse(throttle.tryAcquire(players.get(i), Channel.EQUIP),
+                "Remaining player must still be found after removals");
+        }
+        assertEquals(250, throttle.size());
+    }
+}
@@ -2,6 +2,8 @@ package org.cavarest.elementaldragon.unit;
 
 import org.bukkit.entity.Player;
 import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
 import org.cavarest.elementaldragon.cooldown.CooldownManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -219,6 +222,67 @@ public class CooldownManagerTest {
         assertTrue(agileCooldown >= 34 && agileCooldown <= 35, "agile:1 should be ~35s");
     }
 
+    @Test
+    @DisplayName("adjustActiveCooldowns returns the number of players changed")
+    public void testAdjustActiveCooldownsReturnsCount() {
+        cooldownManager.setCooldown(player1, "fire", 1, 50);
+        cooldownManager.setCooldown(player2, "fire", 1, 10);
+
+        assertEquals(1, cooldownManager.adjustActiveCooldowns("fire", 1, 30));
+        assertEquals(2, cooldownManager.adjustActiveCooldowns("fire", 1, 0));
+        assertEquals(0, cooldownManager.adjustActiveCooldowns("fire", 1, 0));
+    }
+
+    @Test
+    @DisplayName("setCooldowns sets both abilities for every player")
+    public void testSetCooldownsBulk() {
+        int updated = cooldownManager.setCooldowns(List.of(player1, player2), "fire", 40);
+
+        assertEquals(2, updated);
+        for (Player player : List.of(player1, player2)) {
+            assertTrue(cooldownManager.getRemainingCooldown(player, "fire", 1) >= 39);
+            assertTrue(cooldownManager.getRemainingCooldown(player, "fire", 2) >= 39);
+        }
+    }
+
+    @Test
+    @DisplayName("clearCooldowns counts only players that had the cooldown")
+    public void testClearCooldownsBulk() {
+        cooldownManager.setCooldown(player1, "fire", 1, 40);
+        cooldownManager.setCooldown(player1, "agile", 1, 40);
+
+        int cleared = cooldownManager.clearCooldowns(List.of(player1, player2), "fire", 1);
+
+        assertEquals(1, cleared);
+        assertFalse(cooldownManager.isOnCooldown(player1, "fire", 1));
+        assertTrue(cooldownManager.isOnCooldown(player1, "agile", 1));
+    }
+
+    @Test
+    @DisplayName("clearAllCooldowns for a player set removes every cooldown")
+    public void testClearAllCooldownsBulk() {
+        cooldownManager.setCooldown(player1, "fire", 1, 40);
+        cooldownManager.setCooldown(player2, "agile", 2, 40);
+
+        assertEquals(2, cooldownManager.clearAllCooldowns(List.of(player1, player2)));
+        assertTrue(cooldownManager.getAllCooldowns(player1).isEmpty());
+        assertTrue(cooldownManager.getAllCooldowns(player2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Runtime global cooldowns survive a config reload until reset")
+    public void testGlobalOverridesSurviveReload() {
+        cooldownManager.setGlobalCooldown("fire", 1, 5);
+
+        assertEquals(1, cooldownManager.applyAbilityConfig(AbilityConfig.defaults()));
+        assertEquals(5, cooldownManager.getGlobalCooldown("fire", 1));
+
+        cooldownManager.removeGlobalCooldown("fire", 1);
+        assertEquals(0, cooldownManager.applyAbilityConfig(AbilityConfig.defaults()));
+        assertEquals(AbilityConfig.defaults().getCooldownSeconds(AbilityId.FIRE_1),
+            cooldownManager.getGlobalCooldown("fire", 1));
+    }
+
     private void sleep(long millis) {
         try {
             Thread.sleep(millis);
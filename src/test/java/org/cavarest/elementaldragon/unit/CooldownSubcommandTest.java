@@ -102,7 +102,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager, never()).setCooldown(any(), any(), anyInt(), anyInt());
+        verify(cooldownManager, never()).setCooldowns(any(), any(), anyInt(), anyInt());
     }
 
     @Test
@@ -117,7 +117,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager, never()).setCooldown(any(), any(), anyInt(), anyInt());
+        verify(cooldownManager, never()).setCooldowns(any(), any(), anyInt(), anyInt());
     }
 
     @Test
@@ -132,7 +132,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager, never()).setCooldown(any(), any(), anyInt(), anyInt());
+        verify(cooldownManager, never()).setCooldowns(any(), any(), anyInt(), anyInt());
     }
 
     @Test
@@ -148,7 +148,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).setCooldown(targetPlayer, "fire", 1, 30);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer), "fire", 1, 30);
     }
 
     @Test
@@ -164,7 +164,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).setCooldown(targetPlayer, "agile", 2, 20);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer), "agile", 2, 20);
     }
 
     @Test
@@ -179,8 +179,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).setCooldown(targetPlayer, "immortal", 1, 15);
-        verify(cooldownManager).setCooldown(targetPlayer, "immortal", 2, 15);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer), "immortal", 15);
     }
 
     @Test
@@ -196,8 +195,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        // Verify clearCooldown was called (the implementation may use a different overload)
-        verify(cooldownManager, atLeastOnce()).clearCooldown(any(Player.class), anyString(), anyInt());
+        verify(cooldownManager).clearCooldowns(List.of(targetPlayer), "lightning", 1);
     }
 
     @Test
@@ -212,8 +210,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).clearCooldown(any(Player.class), eq("corrupt"), eq(1));
-        verify(cooldownManager).clearCooldown(any(Player.class), eq("corrupt"), eq(2));
+        verify(cooldownManager).clearCooldowns(List.of(targetPlayer), "corrupt");
     }
 
     @Test
@@ -229,7 +226,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).setCooldown(targetPlayer, "fire", 1, 0);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer), "fire", 1, 0);
     }
 
     @Test
@@ -244,7 +241,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager, never()).setCooldown(any(), any(), anyInt(), anyInt());
+        verify(cooldownManager, never()).setCooldowns(any(), any(), anyInt(), anyInt());
     }
 
     @Test
@@ -259,7 +256,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager, never()).setCooldown(any(), any(), anyInt(), anyInt());
+        verify(cooldownManager, never()).setCooldowns(any(), any(), anyInt(), anyInt());
     }
 
     @Test
@@ -274,8 +271,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).setCooldown(targetPlayer, "fire", 1, 10);
-        verify(cooldownManager).setCooldown(targetPlayer, "fire", 2, 10);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer), "fire", 10);
     }
 
     @Test
@@ -291,8 +287,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        // Verify clearCooldown was called
-        verify(cooldownManager, atLeastOnce()).clearCooldown(any(Player.class), anyString(), anyInt());
+        verify(cooldownManager).clearCooldowns(List.of(targetPlayer), "agile", 1);
     }
 
     @Test
@@ -308,7 +303,7 @@ public class CooldownSubcommandTest {
         });
 
         assertTrue(result);
-        verify(cooldownManager).setCooldown(targetPlayer, "fire", 1, 10);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer), "fire", 1, 10);
     }
 
     // ==================== executeClearCooldown tests ====================
@@ -330,7 +325,7 @@ public class CooldownSubcommandTest {
         boolean result = subcommand.executeClearCooldown(sender, new String[]{"unknown"});
 
         assertTrue(result);
-        verify(cooldownManager, never()).clearCooldown(any(), any());
+        verify(cooldownManager, never()).clearCooldowns(any(), any());
     }
 
     @Test
@@ -343,7 +338,7 @@ public class CooldownSubcommandTest {
         boolean result = subcommand.executeClearCooldown(sender, new String[]{"player", "fire"});
 
         assertTrue(result);
-        verify(cooldownManager).clearCooldown(targetPlayer, "fire");
+        verify(cooldownManager).clearCooldowns(List.of(targetPlayer), "fire");
     }
 
     @Test
@@ -355,7 +350,7 @@ public class CooldownSubcommandTest {
         boolean result = subcommand.executeClearCooldown(sender, new String[]{"player"});
 
         assertTrue(result);
-        verify(cooldownManager).clearAllCooldowns(targetPlayer);
+        verify(cooldownManager).clearAllCooldowns(List.of(targetPlayer));
     }
 
     @Test
@@ -368,7 +363,7 @@ public class CooldownSubcommandTest {
         boolean result = subcommand.executeClearCooldown(sender, new String[]{"player", "invalid"});
 
         assertTrue(result);
-        verify(cooldownManager, never()).clearCooldown(any(), any());
+        verify(cooldownManager, never()).clearCooldowns(any(), any());
     }
 
     @Test
@@ -381,7 +376,7 @@ public class CooldownSubcommandTest {
         boolean result = subcommand.executeClearCooldown(sender, new String[]{"player", "FIRE"});
 
         assertTrue(result);
-        verify(cooldownManager).clearCooldown(targetPlayer, "fire");
+        verify(cooldownManager).clearCooldowns(List.of(targetPlayer), "fire");
     }
 
     // ==================== executeGetCooldown tests ====================
@@ -417,6 +412,37 @@ public class CooldownSubcommandTest {
         verify(formatter).displayPlayerCooldowns(sender, targetPlayer);
     }
 
+    @Test
+    @DisplayName("executeSetCooldown applies a multi-player selector in one bulk call")
+    public void testExecuteSetCooldownSelectorBulk() {
+        Player other = mock(Player.class);
+        when(playerResolver.resolvePlayers(sender, "@a")).thenReturn(List.of(targetPlayer, other));
+        when(elementValidator.isValidElement("fire")).thenReturn(true);
+        when(elementValidator.isValidAbilityNumber(1)).thenReturn(true);
+
+        boolean result = subcommand.executeSetCooldown(sender, new String[]{
+            "@a", "fire", "1", "30"
+        });
+
+        assertTrue(result);
+        verify(cooldownManager).setCooldowns(List.of(targetPlayer, other), "fire", 1, 30);
+        verify(cooldownManager, never()).setCooldown(any(), any(), anyInt(), anyInt());
+        verify(sender, times(1)).sendMessage(any(Component.class));
+    }
+
+    @Test
+    @DisplayName("executeClearCooldown clears a multi-player selector in one bulk call")
+    public void testExecuteClearCooldownSelectorBulk() {
+        Player other = mock(Player.class);
+        when(playerResolver.resolvePlayers(sender, "@a")).thenReturn(List.of(targetPlayer, other));
+
+        boolean result = subcommand.executeClearCooldown(sender, new String[]{"@a"});
+
+        assertTrue(result);
+        verify(cooldownManager).clearAllCooldowns(List.of(targetPlayer, other));
+        verify(cooldownManager, never()).clearAllCooldowns(any(Player.class));
+    }
+
     // ==================== tabComplete tests ====================
 
     @Test
@@ -48,6 +48,8 @@ public class PlayerPreferenceManagerTest {
         when(player.getPersistentDataContainer()).thenReturn(persistentDataContainer);
         when(player2.getUniqueId()).thenReturn(player2Uuid);
         when(player2.getPersistentDataContainer()).thenReturn(persistentDataContainer);
+        when(player.isOnline()).thenReturn(true);
+        when(player2.isOnline()).thenReturn(true);
     }
 
     @Test
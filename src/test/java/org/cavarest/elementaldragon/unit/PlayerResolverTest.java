@@ -291,4 +291,30 @@ public class PlayerResolverTest {
         assertTrue(result.contains(player1));
         assertTrue(result.contains(player2));
     }
+
+    // ==================== Folia (region-threaded) tests ====================
+
+    @Test
+    @DisplayName("On Folia, selectors measuring distance to other players are refused")
+    public void testFoliaRefusesSpatialSelectors() {
+        PlayerResolver foliaResolver = new PlayerResolver(null, true);
+        mockedBukkit.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player1, player2));
+
+        assertNull(foliaResolver.resolvePlayer(consoleSender, "@p"));
+        assertTrue(foliaResolver.resolvePlayers(sender, "@a[r=20]").isEmpty());
+
+        verify(consoleSender).sendMessage(any(Component.class));
+        verify(player1).sendMessage(any(Component.class));
+    }
+
+    @Test
+    @DisplayName("On Folia, @p from a player and unpositioned selectors still work")
+    public void testFoliaAllowsRegionSafeSelectors() {
+        PlayerResolver foliaResolver = new PlayerResolver(null, true);
+        mockedBukkit.when(Bukkit::getOnlinePlayers).thenReturn(List.of(player1, player2));
+
+        assertSame(player1, foliaResolver.resolvePlayer(sender, "@p"));
+        assertEquals(2, foliaResolver.resolvePlayers(consoleSender, "@a").size());
+        verify(consoleSender, never()).sendMessage(any(Component.class));
+    }
 }
@@ -0,0 +1,114 @@
+package org.cavarest.elementaldragon.unit.ability;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+import org.cavarest.elementaldragon.ability.AreaEntityQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AreaEntityQuery area queries.
+ */
+@DisplayName("AreaEntityQuery Tests")
+public class AreaEntityQueryTest {
+
+    private World world;
+    private final List<LivingEntity> entities = new ArrayList<>();
+    private int scans;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        // Emulate the world: return entities whose bounding box overlaps the scanned box
+        when(world.getNearbyEntities(any(BoundingBox.class), any(Predicate.class))).thenAnswer(inv -> {
+            scans++;
+            BoundingBox box = inv.getArgument(0);
+            Collection<Entity> found = new ArrayList<>();
+            for (LivingEntity entity : entities) {
+                if (entity.getBoundingBox().overlaps(box)) {
+                    found.add(entity);
+                }
+            }
+            return found;
+        });
+    }
+
+    private LivingEntity entityAt(double x, double y, double z) {
+        LivingEntity entity = mock(LivingEntity.class);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(entity.isValid()).thenReturn(true);
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3));
+        entities.add(entity);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("Only entities overlapping the query box are returned")
+    public void testBoxFilter() {
+        LivingEntity inside = entityAt(3, 64, 3);
+        LivingEntity outside = entityAt(12, 64, 3);
+
+        List<LivingEntity> result = AreaEntityQuery.getNearbyLivingEntities(new Location(world, 0, 64, 0), 5);
+
+        assertTrue(result.contains(inside));
+        assertFalse(result.contains(outside));
+    }
+
+    @Test
+    @DisplayName("Each query is one bounding-box lookup, whatever its radius")
+    public void testSingleQueryPerCall() {
+        entityAt(3, 64, 3);
+
+        AreaEntityQuery.getNearbyLivingEntities(new Location(world, 4, 70, 4), 10);
+        assertEquals(1, scans);
+        AreaEntityQuery.getNearbyLivingEntities(new Location(world, 4, 70, 4), 10);
+        assertEquals(2, scans, "Nothing is cached between pulses");
+    }
+
+    @Test
+    @DisplayName("Entities arriving between pulses are found by the next one")
+    public void testSeesNewEntities() {
+        Location center = new Location(world, 4, 70, 4);
+        assertTrue(AreaEntityQuery.getNearbyLivingEntities(center, 3).isEmpty());
+
+        LivingEntity newcomer = entityAt(5, 70, 5);
+
+        assertTrue(AreaEntityQuery.getNearbyLivingEntities(center, 3).contains(newcomer));
+    }
+
+    @Test
+    @DisplayName("Entities on a section border are returned once")
+    public void testNoDuplicates() {
+        LivingEntity straddler = entityAt(16, 64, 16);
+
+        List<LivingEntity> result = AreaEntityQuery.getNearbyLivingEntities(new Location(world, 16, 64, 16), 4);
+
+        assertEquals(1, result.size());
+        assertSame(straddler, result.get(0));
+    }
+
+    @Test
+    @DisplayName("Dead entities are skipped")
+    public void testInvalidSkipped() {
+        LivingEntity dead = entityAt(1, 64, 1);
+        when(dead.isValid()).thenReturn(false);
+
+        assertTrue(AreaEntityQuery.getNearbyLivingEntities(new Location(world, 0, 64, 0), 5).isEmpty());
+    }
+}
@@ -0,0 +1,138 @@
+package org.cavarest.elementaldragon.unit.ability;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
+import org.cavarest.elementaldragon.ability.MotionController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MotionController velocity update suppression.
+ */
+@DisplayName("MotionController Tests")
+public class MotionControllerTest {
+
+    private World world;
+    private Entity entity;
+
+    // Simulated physics state
+    private double x;
+    private double y;
+    private double z;
+    private Vector velocity;
+
+    @BeforeEach
+    public void setUp() {
+        world = mock(World.class);
+        entity = mock(Entity.class);
+        x = 0;
+        y = 64;
+        z = 0;
+        velocity = new Vector();
+        when(entity.getLocation()).thenAnswer(inv -> new Location(world, x, y, z));
+        when(entity.getVelocity()).thenAnswer(inv -> velocity.clone());
+        doAnswer(inv -> {
+            velocity = ((Vector) inv.getArgument(0)).clone();
+            return null;
+        }).when(entity).setVelocity(any(Vector.class));
+    }
+
+    /** Move one tick with the given horizontal drag factor. */
+    private void step(double drag) {
+        x += velocity.getX();
+        y += velocity.getY();
+        z += velocity.getZ();
+        velocity.setX(velocity.getX() * drag);
+        velocity.setZ(velocity.getZ() * drag);
+    }
+
+    @Test
+    @DisplayName("Entity already on course receives a single update")
+    public void testSingleUpdateWithoutDrag() {
+        MotionController motion = MotionController.of(new Vector(1, 0, 0), 0.5);
+
+        for (int tick = 0; tick < 20; tick++) {
+            motion.tick(entity);
+            step(1.0);
+        }
+
+        assertEquals(1, motion.getVelocityUpdates());
+        assertEquals(20.0, x, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Drag is corrected with far fewer updates than ticks")
+    public void testDragCorrectedSparsely() {
+        MotionController motion = MotionController.horizontal(new Vector(0.5, 0, 0), 0.5);
+
+        for (int tick = 0; tick < 40; tick++) {
+            motion.tick(entity);
+            step(0.91);
+        }
+
+        assertTrue(motion.getVelocityUpdates() < 20,
+            "Expected sparse updates but got " + motion.getVelocityUpdates());
+        assertEquals(20.0, x, 2.0, "Entity should end close to the planned 20 blocks");
+    }
+
+    @Test
+    @DisplayName("Ground friction does not slow the entity below the planned speed")
+    public void testGroundDistanceKept() {
+        // Wing Burst: 2.0 blocks/tick for 40 ticks; ground friction keeps ~55% of velocity per tick
+        MotionController motion = MotionController.horizontal(new Vector(2.0, 0, 0), 0.5);
+
+        for (int tick = 0; tick < 40; tick++) {
+            motion.tick(entity);
+            step(0.546);
+        }
+
+        assertEquals(80.0, x, 2.0, "Entity should travel about 2 blocks per tick on the ground");
+    }
+
+    @Test
+    @DisplayName("Dash keeps its speed on the ground")
+    public void testDashGroundSpeed() {
+        MotionController motion = MotionController.of(new Vector(1.0, 0, 0), 0.5);
+
+        for (int tick = 0; tick < 20; tick++) {
+            motion.tick(entity);
+            step(0.546);
+        }
+
+        assertTrue(x >= 19.0, "Dash covered only " + x + " of 20 blocks");
+    }
+
+    @Test
+    @DisplayName("Horizontal controller keeps the entity's vertical velocity")
+    public void testHorizontalKeepsY() {
+        velocity = new Vector(0, -0.3, 0);
+        MotionController motion = MotionController.horizontal(new Vector(0.5, 2.0, 0), 0.5);
+
+        motion.tick(entity);
+
+        verify(entity).setVelocity(argThat(v -> v.getX() == 0.5 && v.getY() == -0.3 && v.getZ() == 0.0));
+    }
+
+    @Test
+    @DisplayName("Blocked entity is re-planned instead of yanked forward")
+    public void testReplanWhenBlocked() {
+        MotionController motion = MotionController.of(new Vector(1, 0, 0), 0.5);
+        motion.tick(entity);
+
+        // Wall: entity does not move; corrections grow until the drift forces a re-plan
+        for (int tick = 0; tick < 3; tick++) {
+            motion.tick(entity);
+        }
+
+        // After re-planning the next update is the plain planned velocity again
+        assertEquals(1.0, velocity.getX(), 1e-9);
+        assertEquals(0.0, x, 1e-9);
+    }
+}
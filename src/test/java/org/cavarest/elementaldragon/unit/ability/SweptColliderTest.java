@@ -0,0 +1,136 @@
+package org.cavarest.elementaldragon.unit.ability;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.cavarest.elementaldragon.ability.SweptCollider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SweptCollider dash collision.
+ */
+@DisplayName("SweptCollider Tests")
+public class SweptColliderTest {
+
+    private World world;
+    private final List<LivingEntity> entities = new ArrayList<>();
+    private int nextEntityId = 1;
+    private SweptCollider collider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        when(world.getNearbyEntities(any(BoundingBox.class), any(Predicate.class))).thenAnswer(inv -> {
+            BoundingBox box = inv.getArgument(0);
+            Collection<Entity> found = new ArrayList<>();
+            for (LivingEntity entity : entities) {
+                if (entity.getBoundingBox().overlaps(box)) {
+                    found.add(entity);
+                }
+            }
+            return found;
+        });
+        collider = new SweptCollider();
+    }
+
+    private <T extends LivingEntity> T entityAt(Class<T> type, double x, double y, double z) {
+        T entity = mock(type);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(entity.getEntityId()).thenReturn(nextEntityId++);
+        when(entity.isValid()).thenReturn(true);
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3));
+        entities.add(entity);
+        return entity;
+    }
+
+    private Location at(double x, double y, double z) {
+        return new Location(world, x, y, z);
+    }
+
+    @Test
+    @DisplayName("Entity between two tick positions is hit (no tunneling)")
+    public void testNoTunneling() {
+        LivingEntity target = entityAt(LivingEntity.class, 5, 64, 0);
+        collider.reset(at(0, 64, 0));
+
+        // 10 blocks in one tick with a tiny radius: sampling either end would miss
+        List<LivingEntity> hits = collider.advance(at(10, 64, 0), 0.1, null);
+
+        assertEquals(List.of(target), hits);
+    }
+
+    @Test
+    @DisplayName("Entity off the swept path is not hit")
+    public void testMissOffPath() {
+        entityAt(LivingEntity.class, 5, 64, 4);
+        collider.reset(at(0, 64, 0));
+
+        assertTrue(collider.advance(at(10, 64, 0), 1.0, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Each entity is hit once per dash and again after reset")
+    public void testHitOncePerDash() {
+        LivingEntity target = entityAt(LivingEntity.class, 2, 64, 0);
+        collider.reset(at(0, 64, 0));
+
+        assertEquals(1, collider.advance(at(2, 64, 0), 1.0, null).size());
+        assertTrue(collider.advance(at(3, 64, 0), 1.0, null).isEmpty());
+        assertTrue(collider.hasHit(target.getEntityId()));
+
+        collider.reset(at(0, 64, 0));
+        assertEquals(0, collider.getHitCount());
+        assertEquals(List.of(target), collider.advance(at(2, 64, 0), 1.0, null));
+    }
+
+    @Test
+    @DisplayName("The moving entity never collides with itself")
+    public void testSkipsSelf() {
+        Player dasher = entityAt(Player.class, 0, 64, 0);
+        collider.reset(at(0, 64, 0));
+
+        assertTrue(collider.advance(at(1, 64, 0), 2.0, dasher).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Slab test handles diagonal, axis-parallel and zero-length segments")
+    public void testSegmentIntersectsBox() {
+        // Diagonal through the unit box
+        assertTrue(SweptCollider.segmentIntersectsBox(-1, -1, -1, 3, 3, 3, 0, 0, 0, 1, 1, 1));
+        // Axis-parallel, passing beside the box
+        assertFalse(SweptCollider.segmentIntersectsBox(-1, 2, 0.5, 3, 0, 0, 0, 0, 0, 1, 1, 1));
+        // Stops short of the box
+        assertFalse(SweptCollider.segmentIntersectsBox(-3, 0.5, 0.5, 2, 0, 0, 0, 0, 0, 1, 1, 1));
+        // Zero-length inside and outside
+        assertTrue(SweptCollider.segmentIntersectsBox(0.5, 0.5, 0.5, 0, 0, 0, 0, 0, 0, 1, 1, 1));
+        assertFalse(SweptCollider.segmentIntersectsBox(2, 0.5, 0.5, 0, 0, 0, 0, 0, 0, 1, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Entry fraction is where the segment first touches the box")
+    public void testSegmentEntry() {
+        // Enters the unit box a quarter of the way along
+        assertEquals(0.25, SweptCollider.segmentEntry(-1, 0.5, 0.5, 4, 0, 0, 0, 0, 0, 1, 1, 1), 1.0E-9);
+        // Starts inside
+        assertEquals(0.0, SweptCollider.segmentEntry(0.5, 0.5, 0.5, 4, 0, 0, 0, 0, 0, 1, 1, 1), 1.0E-9);
+        // Misses
+        assertEquals(-1.0, SweptCollider.segmentEntry(-1, 2, 0.5, 4, 0, 0, 0, 0, 0, 1, 1, 1));
+    }
+}
@@ -0,0 +1,149 @@
+package org.cavarest.elementaldragon.unit.ability;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+import org.cavarest.elementaldragon.ability.VirtualProjectile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the virtual (entity-less) projectile simulation.
+ */
+@DisplayName("VirtualProjectile Tests")
+public class VirtualProjectileTest {
+
+    private World world;
+    private final List<LivingEntity> entities = new ArrayList<>();
+    private int nextEntityId = 1;
+    private RayTraceResult blockHit;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        when(world.getNearbyEntities(any(BoundingBox.class), any(Predicate.class))).thenAnswer(inv -> {
+            BoundingBox box = inv.getArgument(0);
+            Collection<Entity> found = new ArrayList<>();
+            for (LivingEntity entity : entities) {
+                if (entity.getBoundingBox().overlaps(box)) {
+                    found.add(entity);
+                }
+            }
+            return found;
+        });
+        when(world.rayTraceBlocks(any(Location.class), any(Vector.class), anyDouble(),
+            any(FluidCollisionMode.class), anyBoolean())).thenAnswer(inv -> blockHit);
+    }
+
+    private <T extends LivingEntity> T entityAt(Class<T> type, double x, double y, double z) {
+        T entity = mock(type);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(entity.getEntityId()).thenReturn(nextEntityId++);
+        when(entity.isValid()).thenReturn(true);
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3));
+        entities.add(entity);
+        return entity;
+    }
+
+    private Location at(double x, double y, double z) {
+        return new Location(world, x, y, z);
+    }
+
+    @Test
+    @DisplayName("Flies straight at constant speed when nothing is hit")
+    public void testFreeFlight() {
+        VirtualProjectile projectile = new VirtualProjectile(at(0, 64, 0), new Vector(2, 0, 0), 1.5, null);
+
+        assertNull(projectile.step());
+        assertNull(projectile.step());
+
+        assertEquals(3.0, projectile.getLocation().getX(), 1.0E-9);
+        assertEquals(64.0, projectile.getLocation().getY(), 1.0E-9);
+        assertEquals(2, projectile.getAge());
+    }
+
+    @Test
+    @DisplayName("Entity in the path is hit at its near face")
+    public void testEntityHit() {
+        LivingEntity target = entityAt(LivingEntity.class, 3, 64, 0);
+        VirtualProjectile projectile = new VirtualProjectile(at(0, 65, 0), new Vector(1, 0, 0), 5.0, null);
+
+        VirtualProjectile.Impact impact = projectile.step();
+
+        assertNotNull(impact);
+        assertSame(target, impact.entity());
+        assertNull(impact.block());
+        // Box face at x = 2.7, grown by the hit radius
+        assertEquals(2.7 - VirtualProjectile.HIT_RADIUS, impact.location().getX(), 1.0E-9);
+    }
+
+    @Test
+    @DisplayName("The nearest of several entities is hit")
+    public void testNearestEntity() {
+        entityAt(LivingEntity.class, 4, 64, 0);
+        LivingEntity near = entityAt(LivingEntity.class, 2, 64, 0);
+        VirtualProjectile projectile = new VirtualProjectile(at(0, 65, 0), new Vector(1, 0, 0), 6.0, null);
+
+        assertSame(near, projectile.step().entity());
+    }
+
+    @Test
+    @DisplayName("A block in front of the entity stops the projectile first")
+    public void testBlockBeforeEntity() {
+        entityAt(LivingEntity.class, 4, 64, 0);
+        Block wall = mock(Block.class);
+        blockHit = new RayTraceResult(new Vector(2, 65, 0), wall, BlockFace.WEST);
+        VirtualProjectile projectile = new VirtualProjectile(at(0, 65, 0), new Vector(1, 0, 0), 6.0, null);
+
+        VirtualProjectile.Impact impact = projectile.step();
+
+        assertNotNull(impact);
+        assertSame(wall, impact.block());
+        assertNull(impact.entity());
+        assertEquals(2.0, impact.location().getX(), 1.0E-9);
+    }
+
+    @Test
+    @DisplayName("The shooter is never hit")
+    public void testSkipsShooter() {
+        Player shooter = entityAt(Player.class, 0, 64, 0);
+        VirtualProjectile projectile = new VirtualProjectile(at(0, 65, 0), new Vector(1, 0, 0), 1.0, shooter);
+
+        assertNull(projectile.step());
+    }
+
+    @Test
+    @DisplayName("Steering keeps the speed and turns toward the target")
+    public void testSteerToward() {
+        VirtualProjectile projectile = new VirtualProjectile(at(0, 64, 0), new Vector(1, 0, 0), 2.0, null);
+
+        projectile.steerToward(at(0, 64, 10));
+        projectile.step();
+
+        assertEquals(0.0, projectile.getLocation().getX(), 1.0E-9);
+        assertEquals(2.0, projectile.getLocation().getZ(), 1.0E-9);
+    }
+}
@@ -0,0 +1,152 @@
+package org.cavarest.elementaldragon.unit.api;
+
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.api.ElementalSnapshot;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.cooldown.CooldownManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the published per-player state snapshots.
+ */
+@DisplayName("ElementalStates Tests")
+public class ElementalStatesTest {
+
+    private ElementalStates states;
+    private UUID playerId;
+    private final List<ElementalSnapshot[]> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        states = new ElementalStates(null);
+        playerId = UUID.randomUUID();
+        states.addListener((previous, current) -> changes.add(new ElementalSnapshot[]{previous, current}));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ElementalStates.install(null);
+    }
+
+    @Test
+    @DisplayName("Join publishes an empty snapshot and quit removes it")
+    public void testTrackAndUntrack() {
+        states.track(playerId);
+
+        ElementalSnapshot snapshot = states.snapshot(playerId);
+        assertNotNull(snapshot);
+        assertNull(snapshot.equippedFragment());
+        assertFalse(snapshot.hasDragonEgg());
+        assertNull(changes.get(0)[0]);
+
+        states.untrack(playerId);
+
+        assertNull(states.snapshot(playerId));
+        assertNull(changes.get(1)[1]);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    @DisplayName("Updates replace the snapshot and notify with old and new")
+    public void testUpdateNotifies() {
+        states.track(playerId);
+        ElementalSnapshot before = states.snapshot(playerId);
+
+        states.setEquippedFragment(playerId, FragmentType.BURNING);
+        states.setDragonEgg(playerId, true);
+
+        ElementalSnapshot after = states.snapshot(playerId);
+        assertEquals(FragmentType.BURNING, after.equippedFragment());
+        assertTrue(after.hasDragonEgg());
+        assertNull(before.equippedFragment(), "Published snapshots never change");
+        assertSame(before, changes.get(1)[0]);
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    @DisplayName("An update that changes nothing is not published")
+    public void testUnchangedIsNotPublished() {
+        states.track(playerId);
+        states.setDragonEgg(playerId, true);
+        ElementalSnapshot published = states.snapshot(playerId);
+
+        states.setDragonEgg(playerId, true);
+        states.setAbilityActive(playerId, "fire", 2, false);
+
+        assertSame(published, states.snapshot(playerId));
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    @DisplayName("Updates for players who are not online are ignored")
+    public void testUntrackedIgnored() {
+        states.setEquippedFragment(playerId, FragmentType.AGILITY);
+
+        assertNull(states.snapshot(playerId));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("The all-players view is reused until something changes")
+    public void testSnapshotsViewCached() {
+        states.track(playerId);
+        Map<UUID, ElementalSnapshot> first = states.snapshots();
+
+        assertSame(first, states.snapshots());
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(playerId));
+
+        states.setAbilityActive(playerId, "immortal", 2, true);
+        Map<UUID, ElementalSnapshot> second = states.snapshots();
+
+        assertNotSame(first, second);
+        assertTrue(second.get(playerId).isAbilityActive("immortal", 2));
+    }
+
+    @Test
+    @DisplayName("A failing listener does not stop the update")
+    public void testListenerFailureIsContained() {
+        states.addListener((previous, current) -> {
+            throw new IllegalStateException("broken integration");
+        });
+
+        states.track(playerId);
+        states.setDragonEgg(playerId, true);
+
+        assertTrue(states.snapshot(playerId).hasDragonEgg());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    @DisplayName("CooldownManager publishes cooldown deadlines")
+    public void testCooldownsPublished() {
+        ElementalStates.install(states);
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        states.track(playerId);
+        CooldownManager cooldownManager = new CooldownManager(null);
+
+        cooldownManager.setCooldown(player, "fire", 1, 30);
+
+        ElementalSnapshot snapshot = states.snapshot(playerId);
+        assertTrue(snapshot.isOnCooldown("fire", 1));
+        assertFalse(snapshot.isOnCooldown("fire", 2));
+        assertTrue(snapshot.getRemainingMillis("fire", 1) > 29_000L);
+
+        cooldownManager.clearAllCooldowns(player);
+
+        assertTrue(states.snapshot(playerId).cooldownDeadlines().isEmpty());
+    }
+}
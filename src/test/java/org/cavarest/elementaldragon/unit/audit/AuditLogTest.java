@@ -0,0 +1,92 @@
+package org.cavarest.elementaldragon.unit.audit;
+
+import org.cavarest.elementaldragon.audit.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the queued admin audit log.
+ */
+@DisplayName("AuditLog Tests")
+public class AuditLogTest {
+
+    @TempDir
+    Path dataFolder;
+
+    @AfterEach
+    public void tearDown() {
+        AuditLog.install(null);
+    }
+
+    @Test
+    @DisplayName("Recording only queues; drain appends the lines to the file")
+    public void testDrainWritesQueuedLines() throws IOException {
+        Path file = dataFolder.resolve("audit.log");
+        AuditLog log = new AuditLog(file, null);
+
+        log.record("cooldown.set", "fire:1=30s for Steve");
+        log.record("cooldown.clear", "all for Alex");
+
+        assertFalse(Files.exists(file));
+        assertEquals(2, log.getPending());
+
+        assertEquals(2, log.drain(AuditLog.MAX_LINES_PER_DRAIN));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("cooldown.set fire:1=30s for Steve"));
+        assertTrue(lines.get(1).endsWith("cooldown.clear all for Alex"));
+        assertEquals(0, log.getPending());
+    }
+
+    @Test
+    @DisplayName("A drain writes at most the requested number of lines")
+    public void testDrainIsRateLimited() throws IOException {
+        Path file = dataFolder.resolve("audit.log");
+        AuditLog log = new AuditLog(file, null);
+        for (int i = 0; i < 10; i++) {
+            log.record("cooldown.set", "player " + i);
+        }
+
+        assertEquals(4, log.drain(4));
+        assertEquals(6, log.getPending());
+        assertEquals(4, Files.readAllLines(file).size());
+    }
+
+    @Test
+    @DisplayName("Lines beyond the queue capacity are dropped and reported once")
+    public void testOverflowIsCounted() throws IOException {
+        Path file = dataFolder.resolve("audit.log");
+        AuditLog log = new AuditLog(file, null);
+        for (int i = 0; i < AuditLog.QUEUE_CAPACITY + 5; i++) {
+            log.record("cooldown.set", "player " + i);
+        }
+
+        assertEquals(5, log.getDropped());
+
+        log.drain(0);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("audit.dropped 5"));
+        assertEquals(0, log.getDropped());
+    }
+
+    @Test
+    @DisplayName("Without an installed log, records are discarded")
+    public void testDefaultDiscards() {
+        AuditLog.get().record("cooldown.set", "ignored");
+
+        assertEquals(0, AuditLog.get().getPending());
+        assertEquals(0, AuditLog.get().drain(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,64 @@
+package org.cavarest.elementaldragon.unit.command;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.command.Command;
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.command.FireCommand;
+import org.cavarest.elementaldragon.fragment.FragmentManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the order of checks before a fragment ability is cast.
+ */
+@DisplayName("AbstractFragmentCommand Tests")
+public class AbstractFragmentCommandTest {
+
+    private FragmentManager fragmentManager;
+    private Player player;
+    private Command command;
+    private FireCommand fireCommand;
+
+    @BeforeEach
+    public void setUp() {
+        ElementalDragon plugin = mock(ElementalDragon.class);
+        fragmentManager = mock(FragmentManager.class);
+        player = mock(Player.class);
+        command = mock(Command.class);
+        when(player.hasPermission(anyString())).thenReturn(true);
+        fireCommand = new FireCommand(plugin, fragmentManager);
+    }
+
+    @Test
+    @DisplayName("Without the fragment equipped the player is told to equip it, not about cooldowns")
+    public void testEquipCheckedBeforeCooldown() {
+        when(fragmentManager.getEquippedFragment(player)).thenReturn(null);
+        when(fragmentManager.rejectIfOnCooldown(any(), any(), anyInt())).thenReturn(true);
+
+        assertTrue(fireCommand.onCommand(player, command, "fire", new String[]{"1"}));
+
+        verify(fragmentManager, never()).rejectIfOnCooldown(any(), any(), anyInt());
+        verify(fragmentManager, never()).useFragmentAbility(any(), anyInt());
+        verify(player).sendMessage(any(Component.class));
+    }
+
+    @Test
+    @DisplayName("With the fragment equipped a cast on cooldown is rejected before it runs")
+    public void testCooldownRejectsEquippedCast() {
+        when(fragmentManager.getEquippedFragment(player)).thenReturn(FragmentType.BURNING);
+        when(fragmentManager.rejectIfOnCooldown(player, FragmentType.BURNING, 1)).thenReturn(true);
+
+        // Returning false would make Bukkit print the usage line on top of the cooldown message
+        assertTrue(fireCommand.onCommand(player, command, "fire", new String[]{"1"}),
+            "A cooldown rejection is handled, not a usage error");
+
+        verify(fragmentManager, never()).useFragmentAbility(any(), anyInt());
+    }
+}
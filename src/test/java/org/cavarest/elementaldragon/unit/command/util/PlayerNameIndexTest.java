@@ -0,0 +1,90 @@
+package org.cavarest.elementaldragon.unit.command.util;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.cavarest.elementaldragon.command.util.PlayerNameIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the online player name index.
+ */
+@DisplayName("PlayerNameIndex Tests")
+public class PlayerNameIndexTest {
+
+    private PlayerNameIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new PlayerNameIndex();
+        index.seed(List.of(player("Steve"), player("alex"), player("Stella")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        PlayerNameIndex.install(null);
+    }
+
+    private Player player(String name) {
+        Player player = mock(Player.class);
+        when(player.getName()).thenReturn(name);
+        return player;
+    }
+
+    @Test
+    @DisplayName("Names are matched by case-insensitive prefix")
+    public void testComplete() {
+        assertEquals(List.of("Stella", "Steve"), index.complete("st"));
+        assertEquals(List.of("alex"), index.complete("A"));
+        assertEquals(List.of("alex", "Stella", "Steve"), index.complete(""));
+        assertTrue(index.complete("z").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Join and quit keep the index current")
+    public void testJoinAndQuit() {
+        Player bob = player("Bob");
+        index.onPlayerJoin(new PlayerJoinEvent(bob, "joined"));
+        assertEquals(List.of("Bob"), index.complete("b"));
+
+        index.onPlayerQuit(new PlayerQuitEvent(bob, "left"));
+        assertTrue(index.complete("b").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Selectors come first; a selector prefix skips names")
+    public void testCompleteTargets() {
+        assertEquals(List.of("@a", "@p", "@r", "@s", "alex", "Stella", "Steve"), index.completeTargets(""));
+        assertEquals(List.of("@s"), index.completeTargets("@S"));
+        assertEquals(List.of("Steve"), index.completeTargets("stev"));
+    }
+
+    @Test
+    @DisplayName("Results are capped")
+    public void testLimit() {
+        List<Player> many = new ArrayList<>();
+        for (int i = 0; i < PlayerNameIndex.MAX_NAME_RESULTS + 10; i++) {
+            many.add(player("Player" + i));
+        }
+        index.seed(many);
+        assertEquals(PlayerNameIndex.MAX_NAME_RESULTS, index.complete("player").size());
+    }
+
+    @Test
+    @DisplayName("Without an installed index, get() returns a live scan")
+    public void testInstall() {
+        assertNotSame(index, PlayerNameIndex.get());
+        PlayerNameIndex.install(index);
+        assertSame(index, PlayerNameIndex.get());
+    }
+}
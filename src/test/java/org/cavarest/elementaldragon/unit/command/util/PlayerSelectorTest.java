@@ -0,0 +1,138 @@
+package org.cavarest.elementaldragon.unit.command.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.command.util.PlayerSelector;
+import org.cavarest.elementaldragon.fragment.FragmentManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for compiled player selectors.
+ */
+@DisplayName("PlayerSelector Tests")
+public class PlayerSelectorTest {
+
+    private World world;
+    private final List<Player> players = new ArrayList<>();
+    private Player sender;
+    private Player near;
+    private Player mid;
+    private Player far;
+
+    @BeforeEach
+    public void setUp() {
+        world = mock(World.class);
+        when(world.getPlayers()).thenAnswer(inv -> new ArrayList<>(players));
+        when(world.getNearbyPlayers(any(Location.class), anyDouble())).thenAnswer(inv -> {
+            Location center = inv.getArgument(0);
+            double radius = inv.getArgument(1);
+            return players.stream()
+                .filter(p -> p.getLocation().distance(center) <= radius + 1.0)
+                .collect(Collectors.toList());
+        });
+
+        sender = playerAt("Admin", 0);
+        near = playerAt("Near", 5);
+        mid = playerAt("Mid", 15);
+        far = playerAt("Far", 40);
+    }
+
+    private Player playerAt(String name, double x) {
+        Player player = mock(Player.class);
+        when(player.getName()).thenReturn(name);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getLocation()).thenAnswer(inv -> new Location(world, x, 64, 0));
+        players.add(player);
+        return player;
+    }
+
+    @Test
+    @DisplayName("Plans are cached per selector string")
+    public void testCompileCached() {
+        assertSame(PlayerSelector.compile("@a[r=20]"), PlayerSelector.compile("@a[r=20]"));
+        PlayerSelector plan = PlayerSelector.compile("@a[limit=5,sort=nearest]");
+        assertEquals(5, plan.getLimit());
+        assertEquals(PlayerSelector.Sort.NEAREST, plan.getSort());
+    }
+
+    @Test
+    @DisplayName("Malformed selectors are rejected with a reason")
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> PlayerSelector.compile("@x"));
+        assertThrows(IllegalArgumentException.class, () -> PlayerSelector.compile("@a[r=abc]"));
+        assertThrows(IllegalArgumentException.class, () -> PlayerSelector.compile("@a[limit=0]"));
+        assertThrows(IllegalArgumentException.class, () -> PlayerSelector.compile("@a[colour=red]"));
+        assertThrows(IllegalArgumentException.class, () -> PlayerSelector.compile("@a[fragment=water]"));
+        assertThrows(IllegalArgumentException.class, () -> PlayerSelector.compile("@a[r=5"));
+    }
+
+    @Test
+    @DisplayName("Radius selects through the world's spatial lookup")
+    public void testRadius() {
+        List<Player> selected = PlayerSelector.compile("@a[r=20]").select(sender, null);
+
+        assertEquals(3, selected.size());
+        assertFalse(selected.contains(far));
+        verify(world).getNearbyPlayers(any(Location.class), eq(20.0));
+        verify(world, never()).getPlayers();
+    }
+
+    @Test
+    @DisplayName("Distance ranges exclude players inside the minimum")
+    public void testDistanceRange() {
+        List<Player> selected = PlayerSelector.compile("@a[distance=10..50]").select(sender, null);
+
+        assertEquals(2, selected.size());
+        assertTrue(selected.containsAll(List.of(mid, far)));
+    }
+
+    @Test
+    @DisplayName("Nearest with a limit sorts by distance")
+    public void testNearestLimit() {
+        List<Player> selected = PlayerSelector.compile("@a[limit=2,sort=nearest,name=!Admin]").select(sender, null);
+        assertEquals(List.of(near, mid), selected);
+
+        List<Player> furthest = PlayerSelector.compile("@a[limit=1,sort=furthest]").select(sender, null);
+        assertEquals(List.of(far), furthest);
+    }
+
+    @Test
+    @DisplayName("@p is the sender, or the nearest other player when the sender is excluded")
+    public void testNearest() {
+        assertEquals(List.of(sender), PlayerSelector.compile("@p").select(sender, null));
+        assertEquals(List.of(near), PlayerSelector.compile("@p[name=!Admin]").select(sender, null));
+    }
+
+    @Test
+    @DisplayName("Fragment filters use the equipped fragment")
+    public void testFragmentFilter() {
+        FragmentManager fragments = mock(FragmentManager.class);
+        when(fragments.isEquipped(mid.getUniqueId(), FragmentType.CORRUPTED)).thenReturn(true);
+        when(fragments.hasFragmentEquipped(mid)).thenReturn(true);
+
+        // No position needed, so every online player is a candidate
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getOnlinePlayers).thenReturn(players);
+
+            assertEquals(List.of(mid), PlayerSelector.compile("@a[fragment=corrupted]").select(sender, fragments));
+            assertEquals(3, PlayerSelector.compile("@a[fragment=none]").select(sender, fragments).size());
+            assertEquals(3, PlayerSelector.compile("@a[fragment=!corrupted]").select(sender, fragments).size());
+        }
+        verify(fragments, never()).getEquippedFragment(any());
+    }
+}
@@ -0,0 +1,49 @@
+package org.cavarest.elementaldragon.unit.command.util;
+
+import org.cavarest.elementaldragon.command.util.PrefixIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the sorted prefix index used by tab completion.
+ */
+@DisplayName("PrefixIndex Tests")
+public class PrefixIndexTest {
+
+    private final PrefixIndex index = PrefixIndex.of("setcooldown", "give", "getcooldown", "Reload", "help");
+
+    @Test
+    @DisplayName("Empty prefix returns everything in case-insensitive order")
+    public void testEmptyPrefix() {
+        assertEquals(List.of("getcooldown", "give", "help", "Reload", "setcooldown"), index.complete(""));
+        assertEquals(index.values(), index.complete(null));
+    }
+
+    @Test
+    @DisplayName("Prefix matches ignore case and keep the display case")
+    public void testPrefixMatch() {
+        assertEquals(List.of("getcooldown", "give"), index.complete("G"));
+        assertEquals(List.of("getcooldown"), index.complete("get"));
+        assertEquals(List.of("Reload"), index.complete("re"));
+        assertTrue(index.complete("x").isEmpty());
+        assertTrue(index.complete("givexyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Results are bounded and read-only")
+    public void testLimitAndReadOnly() {
+        List<String> limited = index.complete("g", 1);
+        assertEquals(List.of("getcooldown"), limited);
+        assertThrows(UnsupportedOperationException.class, () -> limited.add("other"));
+    }
+
+    @Test
+    @DisplayName("An empty index completes nothing")
+    public void testEmptyIndex() {
+        assertTrue(PrefixIndex.of(List.of()).complete("").isEmpty());
+    }
+}
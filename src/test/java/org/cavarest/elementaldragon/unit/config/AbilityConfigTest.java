@@ -0,0 +1,159 @@
+package org.cavarest.elementaldragon.unit.config;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.cavarest.elementaldragon.config.AbilityConfig;
+import org.cavarest.elementaldragon.config.AbilityId;
+import org.cavarest.elementaldragon.config.AbilityParam;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AbilityConfig parsing, validation and snapshot swapping.
+ */
+public class AbilityConfigTest {
+
+    @AfterEach
+    public void tearDown() {
+        AbilityConfig.install(AbilityConfig.defaults());
+    }
+
+    private static AbilityConfig parse(String yaml, List<String> problems) throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+        return AbilityConfig.parse(config, problems);
+    }
+
+    @Test
+    @DisplayName("Defaults match the ability specification")
+    public void testDefaults() {
+        AbilityConfig config = AbilityConfig.defaults();
+
+        assertEquals(60, config.getCooldownSeconds(AbilityId.LIGHTNING));
+        assertEquals(40, config.getCooldownSeconds(AbilityId.FIRE_1));
+        assertEquals(300, config.getCooldownSeconds(AbilityId.IMMORTAL_2));
+        assertEquals(0, config.getDurationTicks(AbilityId.FIRE_1));
+        assertEquals(80, config.getDurationTicks(AbilityId.CORRUPT_1));
+        assertEquals(4, config.getDurationSeconds(AbilityId.CORRUPT_1));
+        assertEquals(3, config.getInt(AbilityParam.LIGHTNING_STRIKE_COUNT));
+        assertEquals(8.0, config.get(AbilityParam.DRAGONS_WRATH_DAMAGE));
+        assertEquals(0.25, config.get(AbilityParam.LIFE_DEVOURER_STEAL_PERCENT));
+    }
+
+    @Test
+    @DisplayName("Missing section compiles to the defaults without problems")
+    public void testEmptyConfig() throws Exception {
+        List<String> problems = new ArrayList<>();
+        AbilityConfig config = parse("", problems);
+
+        assertTrue(problems.isEmpty());
+        for (AbilityId id : AbilityId.values()) {
+            assertEquals(id.getDefaultCooldownSeconds(), config.getCooldownSeconds(id));
+            assertEquals(id.getDefaultDurationTicks(), config.getDurationTicks(id));
+        }
+        for (AbilityParam param : AbilityParam.values()) {
+            assertEquals(param.getDefaultValue(), config.get(param));
+        }
+    }
+
+    @Test
+    @DisplayName("Valid overrides are applied")
+    public void testOverrides() throws Exception {
+        List<String> problems = new ArrayList<>();
+        AbilityConfig config = parse(
+            "abilities:\n"
+                + "  fire:\n"
+                + "    dragons_wrath:\n"
+                + "      cooldown: 10\n"
+                + "      damage: 12.5\n"
+                + "  corrupt:\n"
+                + "    dread_gaze:\n"
+                + "      duration_ticks: 100\n",
+            problems
+        );
+
+        assertTrue(problems.isEmpty());
+        assertEquals(10, config.getCooldownSeconds(AbilityId.FIRE_1));
+        assertEquals(12.5, config.get(AbilityParam.DRAGONS_WRATH_DAMAGE));
+        assertEquals(100, config.getDurationTicks(AbilityId.CORRUPT_1));
+        assertEquals(5, config.getDurationSeconds(AbilityId.CORRUPT_1));
+        // Untouched values keep their defaults
+        assertEquals(5.0, config.get(AbilityParam.DRAGONS_WRATH_AOE_RADIUS));
+    }
+
+    @Test
+    @DisplayName("Invalid values fall back to defaults and are reported")
+    public void testInvalidValues() throws Exception {
+        List<String> problems = new ArrayList<>();
+        AbilityConfig config = parse(
+            "abilities:\n"
+                + "  lightning:\n"
+                + "    lightning_strike:\n"
+                + "      cooldown: -5\n"
+                + "      strike_count: many\n"
+                + "  immortal:\n"
+                + "    draconic_reflex:\n"
+                + "      duration_ticks: 12.5\n"
+                + "      dodge_chance: 1.5\n",
+            problems
+        );
+
+        assertEquals(4, problems.size());
+        assertEquals(60, config.getCooldownSeconds(AbilityId.LIGHTNING));
+        assertEquals(3, config.getInt(AbilityParam.LIGHTNING_STRIKE_COUNT));
+        assertEquals(300, config.getDurationTicks(AbilityId.IMMORTAL_1));
+        assertEquals(0.2, config.get(AbilityParam.DRACONIC_REFLEX_DODGE_CHANCE));
+        assertTrue(problems.stream().anyMatch(p -> p.startsWith("abilities.lightning.lightning_strike.strike_count")));
+    }
+
+    @Test
+    @DisplayName("Flags accept true/false as well as 0/1")
+    public void testFlags() throws Exception {
+        assertFalse(AbilityConfig.defaults().isEnabled(AbilityParam.DRAGONS_WRATH_VIRTUAL_PROJECTILE));
+
+        List<String> problems = new ArrayList<>();
+        AbilityConfig config = parse(
+            "abilities:\n  fire:\n    dragons_wrath:\n      virtual_projectile: true\n",
+            problems
+        );
+
+        assertTrue(problems.isEmpty());
+        assertTrue(config.isEnabled(AbilityParam.DRAGONS_WRATH_VIRTUAL_PROJECTILE));
+        assertEquals(1.0, config.get(AbilityParam.DRAGONS_WRATH_VIRTUAL_PROJECTILE));
+    }
+
+    @Test
+    @DisplayName("Installing a snapshot replaces the current one")
+    public void testInstall() throws Exception {
+        AbilityConfig config = parse(
+            "abilities:\n  agile:\n    wing_burst:\n      cooldown: 5\n",
+            new ArrayList<>()
+        );
+
+        assertSame(AbilityConfig.defaults(), AbilityConfig.current());
+        AbilityConfig.install(config);
+        assertSame(config, AbilityConfig.current());
+        assertEquals(5, AbilityConfig.current().getCooldownSeconds(AbilityId.AGILE_2));
+
+        AbilityConfig.install(null);
+        assertSame(config, AbilityConfig.current(), "Null snapshot must be ignored");
+    }
+
+    @Test
+    @DisplayName("Abilities are looked up by element and number")
+    public void testLookup() {
+        assertEquals(AbilityId.LIGHTNING, AbilityId.of("lightning", 0));
+        assertEquals(AbilityId.LIGHTNING, AbilityId.of("lightning", 1));
+        assertEquals(AbilityId.CORRUPT_2, AbilityId.of("corrupt", 2));
+        assertNull(AbilityId.of("fire", 3));
+        assertNull(AbilityId.of("water", 1));
+        assertEquals("abilities.fire.infernal_dominion", AbilityId.FIRE_2.getConfigPath());
+        assertEquals("abilities.fire.infernal_dominion.radius", AbilityParam.INFERNAL_DOMINION_RADIUS.getConfigPath());
+    }
+}
@@ -0,0 +1,90 @@
+package org.cavarest.elementaldragon.unit.crafting;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.cavarest.elementaldragon.crafting.CraftGridMemo;
+import org.cavarest.elementaldragon.crafting.CraftGridMemo.Verdict;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CraftGridMemo.
+ */
+@DisplayName("CraftGridMemo Tests")
+public class CraftGridMemoTest {
+
+    private CraftGridMemo memo;
+    private UUID playerId;
+
+    @BeforeEach
+    public void setUp() {
+        memo = new CraftGridMemo();
+        playerId = UUID.randomUUID();
+    }
+
+    private static ItemStack item(Material material) {
+        ItemStack item = mock(ItemStack.class);
+        when(item.getType()).thenReturn(material);
+        return item;
+    }
+
+    private static ItemStack[] grid(Material center) {
+        ItemStack[] matrix = new ItemStack[9];
+        for (int i = 0; i < 9; i++) {
+            matrix[i] = item(Material.NETHERITE_INGOT);
+        }
+        matrix[4] = center == null ? null : item(center);
+        return matrix;
+    }
+
+    @Test
+    @DisplayName("Fingerprint is stable for the same materials")
+    public void testFingerprintStable() {
+        assertEquals(CraftGridMemo.fingerprint(grid(Material.HEAVY_CORE)),
+            CraftGridMemo.fingerprint(grid(Material.HEAVY_CORE)));
+    }
+
+    @Test
+    @DisplayName("Fingerprint changes with the center material")
+    public void testFingerprintChangesWithCenter() {
+        long heavyCore = CraftGridMemo.fingerprint(grid(Material.HEAVY_CORE));
+        assertNotEquals(heavyCore, CraftGridMemo.fingerprint(grid(Material.IRON_BLOCK)));
+        assertNotEquals(heavyCore, CraftGridMemo.fingerprint(grid(null)));
+    }
+
+    @Test
+    @DisplayName("Remembered verdict is returned for the same grid and counts")
+    public void testHit() {
+        memo.put(playerId, FragmentType.BURNING, 42L, 0, Verdict.INVALID_CORE);
+
+        assertEquals(Verdict.INVALID_CORE, memo.get(playerId, FragmentType.BURNING, 42L, 0));
+    }
+
+    @Test
+    @DisplayName("Different grid, fragment or count version is a miss")
+    public void testMisses() {
+        memo.put(playerId, FragmentType.BURNING, 42L, 0, Verdict.ALLOW);
+
+        assertNull(memo.get(playerId, FragmentType.BURNING, 43L, 0));
+        assertNull(memo.get(playerId, FragmentType.AGILITY, 42L, 0));
+        assertNull(memo.get(playerId, FragmentType.BURNING, 42L, 1));
+        assertNull(memo.get(UUID.randomUUID(), FragmentType.BURNING, 42L, 0));
+    }
+
+    @Test
+    @DisplayName("Forget drops the player's verdict")
+    public void testForget() {
+        memo.put(playerId, FragmentType.BURNING, 42L, 0, Verdict.ALLOW);
+        memo.forget(playerId);
+
+        assertNull(memo.get(playerId, FragmentType.BURNING, 42L, 0));
+    }
+}
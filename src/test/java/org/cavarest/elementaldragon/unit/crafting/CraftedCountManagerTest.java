@@ -143,6 +143,40 @@ public class CraftedCountManagerTest {
         verify(pdc).set(any(NamespacedKey.class), eq(PersistentDataType.INTEGER), eq(1));
     }
 
+    @Test
+    @DisplayName("incrementCraftedCount and reset change the count version")
+    public void testCountVersionChangesOnIncrementAndReset() {
+        var player = mock(org.bukkit.entity.Player.class);
+        var pdc = mock(PersistentDataContainer.class);
+
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getPersistentDataContainer()).thenReturn(pdc);
+
+        int initial = craftedCountManager.getCountVersion(player);
+        craftedCountManager.incrementCraftedCount(player, FragmentType.BURNING);
+        int afterIncrement = craftedCountManager.getCountVersion(player);
+        craftedCountManager.resetCraftedCount(player, FragmentType.BURNING);
+
+        assertNotEquals(initial, afterIncrement);
+        assertNotEquals(afterIncrement, craftedCountManager.getCountVersion(player));
+    }
+
+    @Test
+    @DisplayName("forget drops the player's count version")
+    public void testForgetDropsCountVersion() {
+        var player = mock(org.bukkit.entity.Player.class);
+        UUID playerId = UUID.randomUUID();
+
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getPersistentDataContainer()).thenReturn(mock(PersistentDataContainer.class));
+
+        craftedCountManager.incrementCraftedCount(player, FragmentType.BURNING);
+        assertNotEquals(0, craftedCountManager.getCountVersion(player));
+
+        craftedCountManager.forget(playerId);
+        assertEquals(0, craftedCountManager.getCountVersion(player));
+    }
+
     @Test
     @DisplayName("incrementCraftedCount can increment multiple times")
     public void testIncrementCraftedCountMultipleTimes() {
@@ -0,0 +1,108 @@
+package org.cavarest.elementaldragon.unit.fragment;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.potion.PotionEffectType;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.fragment.AgilityFragment;
+import org.cavarest.elementaldragon.fragment.FragmentManager;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the Agility Fragment Wind Walker passive (move handling).
+ */
+@DisplayName("Agility Wind Walker Tests")
+public class AgilityWindWalkerTest {
+
+    @Mock
+    private ElementalDragon plugin;
+
+    @Mock
+    private FragmentManager fragmentManager;
+
+    @Mock
+    private Player player;
+
+    @Mock
+    private World world;
+
+    private final UUID playerId = UUID.randomUUID();
+
+    private AgilityFragment fragment;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(plugin.getFragmentManager()).thenReturn(fragmentManager);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getWorld()).thenReturn(world);
+        when(world.getType(anyInt(), anyInt(), anyInt())).thenReturn(Material.STONE);
+        fragment = new AgilityFragment(plugin);
+    }
+
+    private void move(double fromX, double toX) {
+        Location from = new Location(world, fromX, 64, 0);
+        Location to = new Location(world, toX, 64, 0);
+        fragment.onPlayerMove(new PlayerMoveEvent(player, from, to));
+    }
+
+    @Test
+    @DisplayName("Movement within a block does no lookups at all")
+    public void testSameBlockIgnored() {
+        move(0.1, 0.9);
+
+        verifyNoInteractions(fragmentManager);
+        verify(world, never()).getType(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Non-wielders are ignored without block lookups")
+    public void testNonWielderIgnored() {
+        when(fragmentManager.isEquipped(playerId, FragmentType.AGILITY)).thenReturn(false);
+
+        move(0.5, 1.5);
+
+        verify(world, never()).getType(anyInt(), anyInt(), anyInt());
+        verify(player, never()).removePotionEffect(any());
+    }
+
+    @Test
+    @DisplayName("Slowness is removed only when stepping onto soul sand")
+    public void testActsOnTransitionOnly() {
+        when(fragmentManager.isEquipped(playerId, FragmentType.AGILITY)).thenReturn(true);
+        when(world.getType(anyInt(), eq(63), anyInt())).thenReturn(Material.SOUL_SAND);
+
+        move(0.5, 1.5);
+        move(1.5, 2.5);
+        move(2.5, 3.5);
+
+        verify(player, times(1)).removePotionEffect(PotionEffectType.SLOWNESS);
+    }
+
+    @Test
+    @DisplayName("Stepping off and back onto slowing ground triggers again")
+    public void testReentry() {
+        when(fragmentManager.isEquipped(playerId, FragmentType.AGILITY)).thenReturn(true);
+        when(world.getType(1, 64, 0)).thenReturn(Material.HONEY_BLOCK);
+        when(world.getType(3, 64, 0)).thenReturn(Material.HONEY_BLOCK);
+
+        move(0.5, 1.5);  // onto honey
+        move(1.5, 2.5);  // off
+        move(2.5, 3.5);  // onto honey again
+
+        verify(player, times(2)).removePotionEffect(PotionEffectType.SLOWNESS);
+    }
+}
@@ -0,0 +1,121 @@
+package org.cavarest.elementaldragon.unit.fragment;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.hud.HudManager;
+import org.cavarest.elementaldragon.item.ElementalItems;
+import org.cavarest.elementaldragon.listener.FragmentItemListener;
+import org.cavarest.elementaldragon.listener.ItemEventGate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ItemEventGate material prefiltering.
+ */
+@DisplayName("ItemEventGate Tests")
+public class ItemEventGateTest {
+
+    @Mock
+    private ElementalDragon plugin;
+
+    @Mock
+    private FragmentItemListener fragmentItemListener;
+
+    @Mock
+    private HudManager hudManager;
+
+    @Mock
+    private Player player;
+
+    @Mock
+    private PlayerInventory inventory;
+
+    @Mock
+    private PlayerInteractEvent event;
+
+    private ItemEventGate gate;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(plugin.getHudManager()).thenReturn(hudManager);
+        when(player.getInventory()).thenReturn(inventory);
+        when(event.getPlayer()).thenReturn(player);
+        when(event.getAction()).thenReturn(Action.RIGHT_CLICK_AIR);
+        gate = new ItemEventGate(plugin, fragmentItemListener);
+    }
+
+    private ItemStack stack(Material material) {
+        ItemStack item = mock(ItemStack.class);
+        when(item.getType()).thenReturn(material);
+        return item;
+    }
+
+    private void hold(Material mainHand, Material offHand) {
+        ItemStack main = stack(mainHand);
+        when(inventory.getItemInMainHand()).thenReturn(main);
+        when(inventory.getItemInOffHand()).thenReturn(stack(offHand));
+        when(event.getItem()).thenReturn(main);
+    }
+
+    @Test
+    @DisplayName("Fragment materials cover every fragment type")
+    public void testFragmentMaterials() {
+        assertEquals(4, ElementalItems.getFragmentMaterials().size());
+        assertFalse(ElementalItems.getFragmentMaterials().contains(Material.DRAGON_EGG));
+    }
+
+    @Test
+    @DisplayName("Ordinary right-click is ignored without reading item meta")
+    public void testIrrelevantMaterialIgnored() {
+        hold(Material.STONE, Material.AIR);
+
+        gate.onPlayerInteract(event);
+
+        verifyNoInteractions(fragmentItemListener, hudManager);
+    }
+
+    @Test
+    @DisplayName("Left-click is ignored before inspecting hands")
+    public void testLeftClickIgnored() {
+        when(event.getAction()).thenReturn(Action.LEFT_CLICK_AIR);
+
+        gate.onPlayerInteract(event);
+
+        verifyNoInteractions(inventory, fragmentItemListener, hudManager);
+    }
+
+    @Test
+    @DisplayName("Fragment material in either hand is routed to equip handling")
+    public void testFragmentMaterialRouted() {
+        Material fragmentMaterial = ElementalItems.getFragmentMaterials().iterator().next();
+        hold(Material.AIR, fragmentMaterial);
+
+        gate.onPlayerInteract(event);
+
+        verify(fragmentItemListener).handleEquipClick(event);
+        verifyNoInteractions(hudManager);
+    }
+
+    @Test
+    @DisplayName("Dragon egg right-click is routed to the HUD only")
+    public void testDragonEggRouted() {
+        hold(Material.DRAGON_EGG, Material.AIR);
+
+        gate.onPlayerInteract(event);
+
+        verify(hudManager).scheduleHudUpdate(player);
+        verifyNoInteractions(fragmentItemListener);
+    }
+}
@@ -0,0 +1,95 @@
+package org.cavarest.elementaldragon.unit.hud;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.hud.HudLine;
+import org.cavarest.elementaldragon.hud.HudRefresh;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for HudLine per-line refresh scheduling and change detection.
+ */
+@DisplayName("HudLine Tests")
+public class HudLineTest {
+
+    private Player player;
+    private AtomicReference<HudRefresh> refreshClass;
+    private AtomicReference<String> text;
+    private AtomicInteger renders;
+    private HudLine line;
+
+    @BeforeEach
+    public void setUp() {
+        player = mock(Player.class);
+        refreshClass = new AtomicReference<>(HudRefresh.STATIC);
+        text = new AtomicReference<>("Ready");
+        renders = new AtomicInteger();
+        line = new HudLine(player, p -> refreshClass.get(), p -> {
+            renders.incrementAndGet();
+            return Component.text(text.get());
+        });
+    }
+
+    @Test
+    @DisplayName("Constructor renders initial content")
+    public void testInitialRender() {
+        assertEquals(Component.text("Ready"), line.getCurrent());
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    @DisplayName("Static line is never re-rendered while its class stays static")
+    public void testStaticNeverRendered() {
+        for (long tick = 2; tick <= 200; tick += 2) {
+            assertFalse(line.refresh(player, tick));
+        }
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    @DisplayName("Class change re-renders immediately")
+    public void testClassChangeRendersImmediately() {
+        refreshClass.set(HudRefresh.COUNTDOWN);
+        text.set("ACTIVE (10s)");
+
+        assertTrue(line.refresh(player, 2));
+        assertEquals(Component.text("ACTIVE (10s)"), line.getCurrent());
+    }
+
+    @Test
+    @DisplayName("Countdown line renders once per period")
+    public void testCountdownPeriod() {
+        refreshClass.set(HudRefresh.COUNTDOWN);
+        line.refresh(player, 2);
+        int afterFirst = renders.get();
+
+        for (long tick = 4; tick < 22; tick += 2) {
+            line.refresh(player, tick);
+        }
+        assertEquals(afterFirst, renders.get(), "No render before the period elapses");
+
+        line.refresh(player, 22);
+        assertEquals(afterFirst + 1, renders.get());
+    }
+
+    @Test
+    @DisplayName("Unchanged content is not reported as changed")
+    public void testUnchangedContentNotSent() {
+        refreshClass.set(HudRefresh.ANIMATED);
+        text.set("frame");
+        assertTrue(line.refresh(player, 2));
+
+        assertFalse(line.refresh(player, 4), "Same text should not be resent");
+
+        text.set("next frame");
+        assertTrue(line.refresh(player, 6));
+    }
+}
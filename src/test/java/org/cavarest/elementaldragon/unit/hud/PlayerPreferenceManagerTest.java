@@ -34,6 +34,7 @@ public class PlayerPreferenceManagerTest {
         manager = new PlayerPreferenceManager();
         playerUuid = UUID.randomUUID();
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
     }
 
     // ==================== PlayerPreference serialization tests ====================
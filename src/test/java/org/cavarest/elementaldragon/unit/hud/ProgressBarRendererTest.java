@@ -0,0 +1,66 @@
+package org.cavarest.elementaldragon.unit.hud;
+
+import org.cavarest.elementaldragon.hud.ProgressBarRenderer;
+import org.cavarest.elementaldragon.hud.ProgressBarRenderer.ProgressVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProgressBarRenderer frame atlas and width interning.
+ */
+@DisplayName("ProgressBarRenderer Tests")
+public class ProgressBarRendererTest {
+
+    @Test
+    @DisplayName("withWidth returns the same instance for the same width")
+    public void testWithWidthInterned() {
+        ProgressVariant first = ProgressBarRenderer.MOON.withWidth(3);
+        ProgressVariant second = ProgressBarRenderer.MOON.withWidth(3);
+
+        assertSame(first, second);
+        assertEquals(3, first.getWidth());
+        assertSame(ProgressBarRenderer.BLOCK1, ProgressBarRenderer.BLOCK1.withWidth(6));
+    }
+
+    @Test
+    @DisplayName("withWidth still rejects invalid widths")
+    public void testWithWidthValidates() {
+        assertThrows(IllegalArgumentException.class, () -> ProgressBarRenderer.SHADE.withWidth(0));
+    }
+
+    @Test
+    @DisplayName("Rendering the same state returns the shared atlas string")
+    public void testRenderReturnsSharedFrame() {
+        ProgressVariant variant = ProgressBarRenderer.TRIANGLE.withWidth(4);
+
+        String first = ProgressBarRenderer.getStatic(0.5f, variant);
+        String second = ProgressBarRenderer.getStatic(0.5f, variant);
+
+        assertSame(first, second);
+        assertEquals("▸▸▹▹", first);
+    }
+
+    @Test
+    @DisplayName("Atlas frames match the variant's visual definition")
+    public void testAtlasContent() {
+        ProgressVariant shade = ProgressBarRenderer.SHADE.withWidth(2);
+        assertEquals("░░", ProgressBarRenderer.getStatic(0.0f, shade));
+        assertEquals("█▒", ProgressBarRenderer.getStatic(0.7f, shade));
+
+        ProgressVariant custom = new ProgressVariant(new String[]{"a", "b", "c"}, 100L);
+        assertEquals("b", ProgressBarRenderer.getStatic(0.5f, custom));
+    }
+
+    @Test
+    @DisplayName("Animation alternates between the current and next frame")
+    public void testAnimationFrames() {
+        ProgressVariant variant = ProgressBarRenderer.BLOCK2.withWidth(2);
+
+        // 3 states, progress 0.0 -> state 0, next state 1; interval 80ms
+        assertEquals("  ", ProgressBarRenderer.render(0.0f, 0L, variant));
+        assertEquals("▍ ", ProgressBarRenderer.render(0.0f, 80L, variant));
+        assertEquals("<green>READY", ProgressBarRenderer.render(1.0f, 0L, variant));
+    }
+}
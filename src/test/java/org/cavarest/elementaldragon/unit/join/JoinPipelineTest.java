@@ -0,0 +1,240 @@
+package org.cavarest.elementaldragon.unit.join;
+
+import io.papermc.paper.event.player.PlayerClientLoadedWorldEvent;
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.hud.HudManager;
+import org.cavarest.elementaldragon.join.JoinPipeline;
+import org.cavarest.elementaldragon.join.JoinStep;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the staged JoinPipeline.
+ */
+@DisplayName("JoinPipeline Tests")
+public class JoinPipelineTest {
+
+    private ElementalDragon plugin;
+    private HudManager hudManager;
+    private JoinPipeline pipeline;
+    private List<String> applied;
+    private List<PersistentDataContainerView> preparedFrom;
+    private Runnable duringPrepare;
+
+    @BeforeEach
+    public void setUp() {
+        plugin = mock(ElementalDragon.class);
+        hudManager = mock(HudManager.class);
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        // Run entity tasks inline, as on the main thread of a non-Folia server
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(scheduler).executeAtEntity(any(), any());
+        when(plugin.getTaskScheduler()).thenReturn(scheduler);
+        when(plugin.getHudManager()).thenReturn(hudManager);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("JoinPipelineTest"));
+
+        applied = new ArrayList<>();
+        preparedFrom = new ArrayList<>();
+        pipeline = new JoinPipeline(plugin);
+        pipeline.register(JoinStep.of("record",
+            (playerId, data) -> {
+                if (duringPrepare != null) {
+                    Runnable action = duringPrepare;
+                    duringPrepare = null;
+                    action.run();
+                }
+                preparedFrom.add(data);
+                return playerId.toString();
+            },
+            (player, value) -> applied.add(value)));
+    }
+
+    private Player joinPlayer() {
+        return joinPlayer(UUID.randomUUID());
+    }
+
+    private Player joinPlayer(UUID playerId) {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.isOnline()).thenReturn(true);
+        when(player.getPersistentDataContainer()).thenReturn(mock(PersistentDataContainer.class));
+        PlayerJoinEvent event = mock(PlayerJoinEvent.class);
+        when(event.getPlayer()).thenReturn(player);
+        pipeline.onPlayerJoin(event);
+        return player;
+    }
+
+    /** Run the async prepare stage against the given offline data. */
+    private void preLogin(UUID playerId, PersistentDataContainerView offlineData) {
+        AsyncPlayerPreLoginEvent event = mock(AsyncPlayerPreLoginEvent.class);
+        when(event.getLoginResult()).thenReturn(AsyncPlayerPreLoginEvent.Result.ALLOWED);
+        when(event.getUniqueId()).thenReturn(playerId);
+        OfflinePlayer offline = mock(OfflinePlayer.class);
+        when(offline.getPersistentDataContainer()).thenReturn(offlineData);
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(() -> Bukkit.getOfflinePlayer(playerId)).thenReturn(offline);
+            pipeline.onAsyncPreLogin(event);
+        }
+    }
+
+    private void quit(Player player) {
+        // As on the server: the quit save reports itself, then the pipeline's listener runs
+        pipeline.savedOnQuit(player.getUniqueId());
+        pipeline.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+    }
+
+    private void clientLoaded(Player player) {
+        PlayerClientLoadedWorldEvent event = mock(PlayerClientLoadedWorldEvent.class);
+        when(event.getPlayer()).thenReturn(player);
+        pipeline.onClientLoadedWorld(event);
+    }
+
+    @Test
+    @DisplayName("Joins are applied on the next drain, not in the join event")
+    public void testApplyDeferredToDrain() {
+        Player player = joinPlayer();
+        assertTrue(applied.isEmpty());
+
+        pipeline.drain();
+
+        assertEquals(List.of(player.getUniqueId().toString()), applied);
+        assertEquals(0, pipeline.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Without async preparation the live container is used")
+    public void testFallbackToLiveContainer() {
+        Player player = joinPlayer();
+
+        pipeline.drain();
+
+        assertEquals(1, preparedFrom.size());
+        assertSame(player.getPersistentDataContainer(), preparedFrom.get(0));
+    }
+
+    @Test
+    @DisplayName("Data prepared before login is applied without re-reading")
+    public void testPreparedDataApplied() {
+        UUID playerId = UUID.randomUUID();
+        PersistentDataContainerView offlineData = mock(PersistentDataContainerView.class);
+        preLogin(playerId, offlineData);
+        joinPlayer(playerId);
+
+        pipeline.drain();
+
+        assertEquals(List.of(offlineData), preparedFrom);
+        assertEquals(List.of(playerId.toString()), applied);
+    }
+
+    @Test
+    @DisplayName("A duplicate login re-reads the data the kicked session saved")
+    public void testDuplicateLoginReadsLiveContainer() {
+        UUID playerId = UUID.randomUUID();
+        Player oldSession = joinPlayer(playerId);
+        pipeline.drain();
+        preparedFrom.clear();
+
+        // The old session is kicked and saved while the new connection is still preparing
+        duringPrepare = () -> quit(oldSession);
+        preLogin(playerId, mock(PersistentDataContainerView.class));
+        Player newSession = joinPlayer(playerId);
+        pipeline.drain();
+
+        assertEquals(2, preparedFrom.size());
+        assertSame(newSession.getPersistentDataContainer(), preparedFrom.get(1));
+    }
+
+    @Test
+    @DisplayName("A save reported after the pipeline's quit listener still discards prepared data")
+    public void testSaveAfterQuitListenerDiscardsPrepared() {
+        UUID playerId = UUID.randomUUID();
+        Player oldSession = joinPlayer(playerId);
+        pipeline.drain();
+        preparedFrom.clear();
+
+        // The pipeline's quit listener runs first, the save path reports after the prepare finished
+        duringPrepare = () -> pipeline.onPlayerQuit(new PlayerQuitEvent(oldSession, "left"));
+        preLogin(playerId, mock(PersistentDataContainerView.class));
+        pipeline.savedOnQuit(playerId);
+        Player newSession = joinPlayer(playerId);
+        pipeline.drain();
+
+        assertEquals(2, preparedFrom.size());
+        assertSame(newSession.getPersistentDataContainer(), preparedFrom.get(1));
+    }
+
+    @Test
+    @DisplayName("A join storm is spread across ticks")
+    public void testPerTickCap() {
+        int joins = JoinPipeline.MAX_APPLIES_PER_TICK * 2 + 3;
+        for (int i = 0; i < joins; i++) {
+            joinPlayer();
+        }
+
+        pipeline.drain();
+        assertTrue(applied.size() <= JoinPipeline.MAX_APPLIES_PER_TICK);
+        assertTrue(pipeline.getPendingCount() > 0);
+
+        for (int tick = 0; tick < joins && pipeline.getPendingCount() > 0; tick++) {
+            pipeline.drain();
+        }
+        assertEquals(joins, applied.size());
+    }
+
+    @Test
+    @DisplayName("Players who left before their turn are skipped")
+    public void testOfflinePlayerSkipped() {
+        Player player = joinPlayer();
+        when(player.isOnline()).thenReturn(false);
+
+        pipeline.drain();
+
+        assertTrue(applied.isEmpty());
+        assertEquals(0, pipeline.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("HUD waits for both the apply stage and the loaded world")
+    public void testHudAfterApplyAndWorldLoad() {
+        Player player = joinPlayer();
+
+        pipeline.drain();
+        verify(hudManager, never()).updatePlayerHud(player);
+
+        clientLoaded(player);
+        verify(hudManager, times(1)).updatePlayerHud(player);
+    }
+
+    @Test
+    @DisplayName("HUD is built after apply when the world loaded first")
+    public void testHudWhenWorldLoadedFirst() {
+        Player player = joinPlayer();
+        clientLoaded(player);
+        verify(hudManager, never()).updatePlayerHud(player);
+
+        pipeline.drain();
+        verify(hudManager, times(1)).updatePlayerHud(player);
+    }
+}
@@ -0,0 +1,142 @@
+package org.cavarest.elementaldragon.unit.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.message.MessageKey;
+import org.cavarest.elementaldragon.message.Messages;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the pre-parsed message catalogs.
+ */
+@DisplayName("Messages Tests")
+public class MessagesTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    @Test
+    @DisplayName("Bundled catalog has every key and fills slots")
+    public void testBundledCatalogFillsSlots() {
+        List<String> problems = new ArrayList<>();
+        Messages messages = Messages.load(null, problems);
+
+        assertTrue(problems.isEmpty(), "Bundled catalog problems: " + problems);
+        assertEquals("Unequipped Burning Fragment.",
+            plain(messages.render((Locale) null, MessageKey.FRAGMENT_UNEQUIPPED, "Burning Fragment")));
+    }
+
+    @Test
+    @DisplayName("Component arguments keep their own style")
+    public void testComponentArgumentKeepsStyle() {
+        Messages messages = Messages.load(null, null);
+
+        Component countdown = Component.text("1m 10s", NamedTextColor.RED);
+        Component line = messages.render((Locale) null, MessageKey.HUD_ABILITY_COOLDOWN,
+            "🔥", "/fire 1", Component.text("█"), countdown);
+
+        assertTrue(plain(line).endsWith("In 1m 10s"));
+        assertTrue(containsStyled(line, "1m 10s", NamedTextColor.RED));
+    }
+
+    @Test
+    @DisplayName("Wrong argument count is rejected")
+    public void testWrongArgumentCount() {
+        Messages messages = Messages.load(null, null);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> messages.render((Locale) null, MessageKey.FRAGMENT_UNEQUIPPED));
+    }
+
+    @Test
+    @DisplayName("Players without a matching catalog get the default")
+    public void testLocaleFallsBackToDefault() {
+        Messages messages = Messages.load(tempDir.toFile(), null);
+        Player player = mock(Player.class);
+        when(player.locale()).thenReturn(Locale.GERMANY);
+
+        assertEquals("Unequipped X.", plain(messages.render(player, MessageKey.FRAGMENT_UNEQUIPPED, "X")));
+    }
+
+    @Test
+    @DisplayName("Locale files override per key and match by language")
+    public void testLocaleOverride() throws IOException {
+        write("de_de.yml", "fragment:\n  unequipped: \"<yellow><fragment> abgelegt.</yellow>\"\n");
+        Messages messages = Messages.load(tempDir.toFile(), null);
+
+        assertTrue(messages.hasLocale("de_DE"));
+        assertEquals("X abgelegt.",
+            plain(messages.render(Locale.GERMANY, MessageKey.FRAGMENT_UNEQUIPPED, "X")));
+        // Austrian German falls back to the German catalog
+        assertEquals("X abgelegt.",
+            plain(messages.render(new Locale("de", "AT"), MessageKey.FRAGMENT_UNEQUIPPED, "X")));
+        // Keys missing from the locale file come from the default
+        assertEquals("This command can only be used by players!",
+            plain(messages.render(Locale.GERMANY, MessageKey.COMMAND_PLAYERS_ONLY)));
+    }
+
+    @Test
+    @DisplayName("Data folder en_us overrides the bundled defaults")
+    public void testDefaultLocaleOverride() throws IOException {
+        write("en_us.yml", "command:\n  players_only: \"<red>Players only.</red>\"\n");
+        Messages messages = Messages.load(tempDir.toFile(), null);
+
+        assertEquals("Players only.", plain(messages.render((Locale) null, MessageKey.COMMAND_PLAYERS_ONLY)));
+    }
+
+    @Test
+    @DisplayName("The example catalog is written but does not override the bundled defaults")
+    public void testExampleNotLoaded() throws IOException {
+        write("en_us.yml.example", "command:\n  players_only: \"<red>Stale.</red>\"\n");
+        List<String> problems = new ArrayList<>();
+
+        Messages.writeExample(tempDir.toFile(), problems);
+        Messages messages = Messages.load(tempDir.toFile(), problems);
+
+        assertTrue(problems.isEmpty(), "Problems: " + problems);
+        String example = Files.readString(tempDir.resolve("en_us.yml.example"), StandardCharsets.UTF_8);
+        assertFalse(example.contains("Stale."), "Older example should be replaced");
+        assertFalse(messages.hasLocale("en_us"));
+        assertEquals("This command can only be used by players!",
+            plain(messages.render((Locale) null, MessageKey.COMMAND_PLAYERS_ONLY)));
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.writeString(new File(tempDir.toFile(), name).toPath(), content, StandardCharsets.UTF_8);
+    }
+
+    private static boolean containsStyled(Component component, String text, NamedTextColor color) {
+        if (component instanceof net.kyori.adventure.text.TextComponent textComponent
+            && textComponent.content().equals(text)
+            && color.equals(component.color())) {
+            return true;
+        }
+        for (Component child : component.children()) {
+            if (containsStyled(child, text, color)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
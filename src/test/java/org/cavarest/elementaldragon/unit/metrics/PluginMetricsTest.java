@@ -0,0 +1,126 @@
+package org.cavarest.elementaldragon.unit.metrics;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.cavarest.elementaldragon.metrics.PluginMetrics;
+import org.cavarest.elementaldragon.metrics.TickTimeHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PluginMetrics and its Prometheus text output.
+ */
+public class PluginMetricsTest {
+
+    private PluginMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new PluginMetrics();
+    }
+
+    @Test
+    @DisplayName("Ability casts and cooldown rejections are counted per element and ability")
+    public void testAbilityCounters() {
+        metrics.recordAbilityCast("fire", 1);
+        metrics.recordAbilityCast("fire", 1);
+        metrics.recordAbilityCast("fire", 2);
+        metrics.recordCooldownRejection("agile", 1);
+
+        assertEquals(2, metrics.getAbilityCasts("fire", 1));
+        assertEquals(1, metrics.getAbilityCasts("fire", 2));
+        assertEquals(0, metrics.getAbilityCasts("corrupt", 1));
+        assertEquals(1, metrics.getCooldownRejections("agile", 1));
+    }
+
+    @Test
+    @DisplayName("Frozen entity gauge goes up and down")
+    public void testFrozenGauge() {
+        UUID first = UUID.randomUUID();
+        metrics.freezeStarted(first, 80L);
+        metrics.freezeStarted(UUID.randomUUID(), 80L);
+        metrics.freezeEnded(first);
+
+        assertEquals(1, metrics.getFrozenEntities());
+    }
+
+    @Test
+    @DisplayName("Gauge entries past their deadline no longer count")
+    public void testGaugesExpireWithoutEndCall() {
+        UUID playerId = UUID.randomUUID();
+        metrics.freezeStarted(playerId, 0L);
+        metrics.abilityActivated("immortal", 2, playerId, 0L);
+
+        assertEquals(0, metrics.getFrozenEntities());
+        assertEquals(0, metrics.getActiveAbilities("immortal", 2));
+    }
+
+    @Test
+    @DisplayName("A quitting player leaves both gauges")
+    public void testQuitClearsGauges() {
+        UUID playerId = UUID.randomUUID();
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        metrics.freezeStarted(playerId, 200L);
+        metrics.abilityActivated("corrupt", 2, playerId, 400L);
+
+        metrics.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+
+        assertEquals(0, metrics.getFrozenEntities());
+        assertEquals(0, metrics.getActiveAbilities("corrupt", 2));
+        assertTrue(metrics.scrape().contains("elementaldragon_active_abilities{element=\"corrupt\",ability=\"2\"} 0"));
+    }
+
+    @Test
+    @DisplayName("Scrape renders labeled counters, gauges and histograms")
+    public void testScrapeOutput() {
+        metrics.recordAbilityCast("immortal", 2);
+        metrics.abilityActivated("corrupt", 2, UUID.randomUUID(), 400L);
+        metrics.recordHudRebuild();
+        metrics.recordParticles(30);
+        metrics.recordTickTime(PluginMetrics.SUBSYSTEM_HUD, metrics.startTimer());
+
+        String text = metrics.scrape();
+
+        assertTrue(text.contains("# TYPE elementaldragon_ability_casts_total counter"));
+        assertTrue(text.contains("elementaldragon_ability_casts_total{element=\"immortal\",ability=\"2\"} 1"));
+        assertTrue(text.contains("elementaldragon_active_abilities{element=\"corrupt\",ability=\"2\"} 1"));
+        assertTrue(text.contains("elementaldragon_hud_rebuilds_total 1"));
+        assertTrue(text.contains("elementaldragon_particles_emitted_total 30"));
+        assertTrue(text.contains("elementaldragon_tick_time_seconds_bucket{subsystem=\"hud_rebuild\",le=\"+Inf\"} 1"));
+        assertTrue(text.contains("elementaldragon_tick_time_seconds_count{subsystem=\"hud_rebuild\"} 1"));
+    }
+
+    @Test
+    @DisplayName("Reset clears all metrics")
+    public void testReset() {
+        metrics.recordAbilityCast("fire", 1);
+        metrics.freezeStarted(UUID.randomUUID(), 80L);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getAbilityCasts("fire", 1));
+        assertEquals(0, metrics.getFrozenEntities());
+        assertFalse(metrics.scrape().contains("element=\"fire\""));
+    }
+
+    @Test
+    @DisplayName("Histogram counts observations and sums their duration")
+    public void testHistogram() {
+        TickTimeHistogram histogram = new TickTimeHistogram();
+        histogram.record(10_000L);
+        histogram.record(2_000_000L);
+        histogram.record(100_000_000L);
+        histogram.record(-5L);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(102_010_000L, histogram.getSumNanos());
+    }
+}
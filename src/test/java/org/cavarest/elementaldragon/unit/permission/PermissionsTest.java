@@ -0,0 +1,132 @@
+package org.cavarest.elementaldragon.unit.permission;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.cavarest.elementaldragon.permission.Capability;
+import org.cavarest.elementaldragon.permission.Permissions;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for cached permission capability bits.
+ */
+@DisplayName("Permissions Tests")
+public class PermissionsTest {
+
+    private PlayerSessions sessions;
+    private Permissions permissions;
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        sessions = new PlayerSessions();
+        permissions = new Permissions(sessions, null);
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        // Joined - the session is open
+        sessions.session(player);
+        when(player.hasPermission(anyString())).thenReturn(false);
+        when(player.hasPermission("elementaldragon.craft")).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Permissions.install(null);
+    }
+
+    @Test
+    @DisplayName("Capabilities are resolved once, then read from the cache")
+    public void testResolvedOnce() {
+        assertTrue(permissions.has(player, Capability.CRAFT));
+        assertFalse(permissions.has(player, Capability.ADMIN));
+        assertTrue(permissions.has(player, Capability.CRAFT));
+
+        verify(player, times(1)).hasPermission("elementaldragon.craft");
+        verify(player, times(Capability.values().length)).hasPermission(anyString());
+    }
+
+    @Test
+    @DisplayName("Refresh picks up permission changes")
+    public void testRefresh() {
+        assertFalse(permissions.has(player, Capability.ADMIN));
+
+        when(player.hasPermission("elementaldragon.admin")).thenReturn(true);
+        assertFalse(permissions.has(player, Capability.ADMIN));
+
+        permissions.refresh(player);
+        assertTrue(permissions.has(player, Capability.ADMIN));
+    }
+
+    @Test
+    @DisplayName("Op commands invalidate every cached set")
+    public void testOpCommandInvalidates() {
+        assertFalse(permissions.has(player, Capability.ADMIN));
+        when(player.hasPermission("elementaldragon.admin")).thenReturn(true);
+
+        permissions.onServerCommand(new ServerCommandEvent(mock(CommandSender.class), "say op"));
+        assertFalse(permissions.has(player, Capability.ADMIN));
+
+        permissions.onServerCommand(new ServerCommandEvent(mock(CommandSender.class), "op Steve"));
+        assertTrue(permissions.has(player, Capability.ADMIN));
+    }
+
+    @Test
+    @DisplayName("Players without a session are checked live and nothing is cached")
+    public void testNoSessionChecksLive() {
+        Player quit = mock(Player.class);
+        when(quit.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(quit.hasPermission("elementaldragon.craft")).thenReturn(true);
+
+        permissions.refresh(quit);
+        assertTrue(permissions.has(quit, Capability.CRAFT));
+        assertTrue(permissions.has(quit, Capability.CRAFT));
+
+        verify(quit, times(2)).hasPermission("elementaldragon.craft");
+        assertNull(sessions.find(quit));
+    }
+
+    @Test
+    @DisplayName("Unknown nodes and non-player senders are checked live")
+    public void testLiveChecks() {
+        when(player.hasPermission("other.plugin.node")).thenReturn(true);
+        assertTrue(permissions.has(player, "other.plugin.node"));
+        assertTrue(permissions.has(player, "other.plugin.node"));
+        verify(player, times(2)).hasPermission("other.plugin.node");
+
+        CommandSender console = mock(CommandSender.class);
+        when(console.hasPermission("elementaldragon.admin")).thenReturn(true);
+        assertTrue(permissions.has(console, Capability.ADMIN));
+        assertTrue(permissions.has(console, "elementaldragon.admin"));
+    }
+
+    @Test
+    @DisplayName("Without an installed cache every check is live")
+    public void testUncachedDefault() {
+        assertTrue(Permissions.get().has(player, Capability.CRAFT));
+        assertTrue(Permissions.get().has(player, Capability.CRAFT));
+        verify(player, times(2)).hasPermission("elementaldragon.craft");
+
+        Permissions.install(permissions);
+        assertSame(permissions, Permissions.get());
+    }
+
+    @Test
+    @DisplayName("Every node maps back to its capability")
+    public void testFromNode() {
+        for (Capability capability : Capability.values()) {
+            assertSame(capability, Capability.fromNode(capability.getNode()));
+        }
+        assertNull(Capability.fromNode("elementaldragon.unknown"));
+        assertNull(Capability.fromNode(null));
+    }
+}
@@ -0,0 +1,96 @@
+package org.cavarest.elementaldragon.unit.placeholder;
+
+import org.cavarest.elementaldragon.achievement.Achievement;
+import org.cavarest.elementaldragon.api.ElementalStates;
+import org.cavarest.elementaldragon.fragment.FragmentType;
+import org.cavarest.elementaldragon.lore.LorePage;
+import org.cavarest.elementaldragon.placeholder.PlaceholderCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PlaceholderAPI value cache. PlaceholderAPI itself is not
+ * on the test classpath; the expansion only delegates to this cache.
+ */
+@DisplayName("PlaceholderCache Tests")
+public class PlaceholderCacheTest {
+
+    private ElementalStates states;
+    private PlaceholderCache cache;
+    private UUID playerId;
+
+    @BeforeEach
+    public void setUp() {
+        states = new ElementalStates(null);
+        cache = new PlaceholderCache(states, null);
+        playerId = UUID.randomUUID();
+        states.track(playerId);
+    }
+
+    @Test
+    @DisplayName("Fragment, egg and progress placeholders read the snapshot")
+    public void testStateValues() {
+        assertEquals("None", cache.resolve(playerId, "fragment"));
+        assertEquals("false", cache.resolve(playerId, "has_egg"));
+
+        states.setEquippedFragment(playerId, FragmentType.BURNING);
+        states.setDragonEgg(playerId, true);
+        states.setChroniclePages(playerId, 3);
+        states.setAchievements(playerId, 2);
+
+        assertEquals(FragmentType.BURNING.getDisplayName(), cache.resolve(playerId, "fragment"));
+        assertEquals(FragmentType.BURNING.getCanonicalName(), cache.resolve(playerId, "element"));
+        assertEquals("true", cache.resolve(playerId, "has_egg"));
+        assertEquals("3", cache.resolve(playerId, "chronicle_pages"));
+        assertEquals(String.valueOf(LorePage.values().length), cache.resolve(playerId, "chronicle_total"));
+        assertEquals("2", cache.resolve(playerId, "achievements"));
+        assertEquals(String.valueOf(Achievement.values().length), cache.resolve(playerId, "achievements_total"));
+    }
+
+    @Test
+    @DisplayName("Repeated requests reuse the formatted string until the state changes")
+    public void testCachedUntilChange() {
+        states.setEquippedFragment(playerId, FragmentType.AGILITY);
+        String first = cache.resolve(playerId, "fragment");
+
+        assertSame(first, cache.resolve(playerId, "fragment"));
+
+        states.setEquippedFragment(playerId, FragmentType.IMMORTAL);
+
+        assertEquals(FragmentType.IMMORTAL.getDisplayName(), cache.resolve(playerId, "fragment"));
+    }
+
+    @Test
+    @DisplayName("Cooldown placeholders show remaining time")
+    public void testCooldownValues() {
+        long deadline = System.currentTimeMillis() + 30_000L;
+        states.setCooldownDeadlines(playerId, Map.of("fire:1", deadline));
+
+        int seconds = Integer.parseInt(cache.resolve(playerId, "cooldown_fire_1"));
+        assertTrue(seconds >= 29 && seconds <= 30);
+        assertEquals(seconds + "s", cache.resolve(playerId, "countdown_fire_1"));
+        assertEquals("0", cache.resolve(playerId, "cooldown_fire_2"));
+        assertEquals("ready", cache.resolve(playerId, "countdown_fire_2"));
+        assertEquals("§aREADY", cache.resolve(playerId, "bar_fire_2"));
+        assertEquals("false", cache.resolve(playerId, "active_fire_2"));
+    }
+
+    @Test
+    @DisplayName("Unknown placeholders and offline players resolve to null")
+    public void testUnknown() {
+        assertNull(cache.resolve(playerId, "nonsense"));
+        assertNull(cache.resolve(playerId, "cooldown_fire_x"));
+        assertNull(cache.resolve(UUID.randomUUID(), "fragment"));
+
+        states.untrack(playerId);
+
+        assertNull(cache.resolve(playerId, "fragment"));
+        assertEquals(0, cache.size());
+    }
+}
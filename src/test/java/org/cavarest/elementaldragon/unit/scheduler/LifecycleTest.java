@@ -0,0 +1,129 @@
+package org.cavarest.elementaldragon.unit.scheduler;
+
+import org.bukkit.Server;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.scheduler.Lifecycle;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the plugin lifecycle (listeners, shutdown hooks, timers).
+ */
+@DisplayName("Lifecycle Tests")
+public class LifecycleTest {
+
+    private Plugin plugin;
+    private PluginManager pluginManager;
+    private TaskScheduler scheduler;
+    private Lifecycle lifecycle;
+
+    @BeforeEach
+    public void setUp() {
+        plugin = mock(Plugin.class);
+        Server server = mock(Server.class);
+        pluginManager = mock(PluginManager.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getPluginManager()).thenReturn(pluginManager);
+        scheduler = mock(TaskScheduler.class);
+        lifecycle = new Lifecycle(plugin, scheduler, null);
+    }
+
+    @Test
+    @DisplayName("Listeners are registered with the server and counted")
+    public void testRegisterEvents() {
+        Listener listener = new Listener() { };
+
+        lifecycle.registerEvents(listener);
+
+        verify(pluginManager).registerEvents(listener, plugin);
+        assertEquals(1, lifecycle.getListenerCount());
+    }
+
+    @Test
+    @DisplayName("Shutdown hooks run last-registered first, past a failing hook")
+    public void testHooksRunInReverse() {
+        List<String> order = new ArrayList<>();
+        lifecycle.onShutdown("first", () -> order.add("first"));
+        lifecycle.onShutdown("broken", () -> {
+            throw new IllegalStateException("broken");
+        });
+        lifecycle.onShutdown("last", () -> order.add("last"));
+
+        lifecycle.close();
+
+        assertEquals(List.of("last", "first"), order);
+    }
+
+    @Test
+    @DisplayName("Close cancels remaining timers and reports those of stopped owners")
+    public void testCloseCancelsTimers() {
+        lifecycle.registerEvents(new Listener() { });
+        lifecycle.onShutdown("hud", () -> { });
+        when(scheduler.cancelTimers(Set.of("hud"))).thenReturn(2);
+
+        assertEquals(2, lifecycle.close());
+
+        verify(scheduler).cancelTimers(Set.of("hud"));
+        verify(scheduler).cancelAll();
+        assertEquals(0, lifecycle.getListenerCount());
+    }
+
+    @Test
+    @DisplayName("Hooks past the shutdown budget are skipped, and their timers not reported")
+    public void testShutdownBudget() {
+        lifecycle = new Lifecycle(plugin, scheduler, null, 20L);
+        List<String> ran = new ArrayList<>();
+        lifecycle.onShutdown("skipped", () -> ran.add("skipped"));
+        lifecycle.onShutdown("slow", () -> {
+            ran.add("slow");
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        lifecycle.close();
+
+        assertEquals(List.of("slow"), ran);
+        verify(scheduler).cancelTimers(Set.of("slow"));
+        verify(scheduler).cancelAll();
+    }
+
+    @Test
+    @DisplayName("Nothing is registered or run after close")
+    public void testClosedIgnoresRegistrations() {
+        lifecycle.close();
+        List<String> ran = new ArrayList<>();
+
+        lifecycle.onShutdown("late", () -> ran.add("late"));
+        lifecycle.registerEvents(new Listener() { });
+
+        assertEquals(0, lifecycle.close());
+        assertTrue(ran.isEmpty());
+        verify(pluginManager, never()).registerEvents(any(), any());
+    }
+
+    @Test
+    @DisplayName("A mocked plugin gets a detached lifecycle")
+    public void testDetached() {
+        Lifecycle detached = Lifecycle.of(mock(ElementalDragon.class));
+
+        detached.registerEvents(new Listener() { });
+
+        assertSame(detached, Lifecycle.of(null));
+        assertEquals(0, detached.getListenerCount());
+    }
+}
@@ -0,0 +1,120 @@
+package org.cavarest.elementaldragon.unit.scheduler;
+
+import com.tcoded.folialib.impl.PlatformScheduler;
+import com.tcoded.folialib.wrapper.task.WrappedTask;
+import org.bukkit.entity.Entity;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskScheduler delay clamping, cancelling and timer tracking.
+ */
+@DisplayName("TaskScheduler Tests")
+public class TaskSchedulerTest {
+
+    private PlatformScheduler platform;
+    private TaskScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        platform = mock(PlatformScheduler.class);
+        scheduler = new TaskScheduler(platform, false);
+    }
+
+    private WrappedTask stubGlobalTimer() {
+        WrappedTask task = mock(WrappedTask.class);
+        when(platform.runTimer(any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Zero delays and periods are clamped to one tick")
+    public void testZeroDelayClamped() {
+        Runnable task = () -> { };
+        Entity entity = mock(Entity.class);
+
+        scheduler.runGlobalLater(task, 0L);
+        scheduler.runGlobalTimer(t -> { }, 0L, 0L);
+        scheduler.runAtEntityLater(entity, task, -5L);
+
+        verify(platform).runLater(task, 1L);
+        verify(platform).runTimer(any(Runnable.class), eq(1L), eq(1L));
+        verify(platform).runAtEntityLater(entity, task, 1L);
+    }
+
+    @Test
+    @DisplayName("Positive delays are passed through unchanged")
+    public void testDelayPassedThrough() {
+        scheduler.runGlobalTimer(t -> { }, 20L, 40L);
+
+        verify(platform).runTimer(any(Runnable.class), eq(20L), eq(40L));
+    }
+
+    @Test
+    @DisplayName("Cancel stops a running task, ignores cancelled and null ones")
+    public void testCancel() {
+        WrappedTask running = mock(WrappedTask.class);
+        WrappedTask cancelled = mock(WrappedTask.class);
+        when(cancelled.isCancelled()).thenReturn(true);
+
+        scheduler.cancel(running);
+        scheduler.cancel(cancelled);
+        scheduler.cancel(null);
+
+        verify(running).cancel();
+        verify(cancelled, never()).cancel();
+    }
+
+    @Test
+    @DisplayName("Repeating tasks are tracked until cancelled")
+    public void testTimerTracking() {
+        WrappedTask task = stubGlobalTimer();
+
+        WrappedTask started = scheduler.runGlobalTimer(t -> { }, 1L, 1L);
+
+        assertSame(task, started);
+        assertEquals(1, scheduler.getActiveTimerCount());
+
+        scheduler.cancel(started);
+
+        assertEquals(0, scheduler.getActiveTimerCount());
+    }
+
+    @Test
+    @DisplayName("Self-cancelled timers drop out of the count")
+    public void testSelfCancelledTimerPruned() {
+        WrappedTask task = stubGlobalTimer();
+        scheduler.runGlobalTimer(t -> { }, 1L, 1L);
+
+        when(task.isCancelled()).thenReturn(true);
+
+        assertEquals(0, scheduler.getActiveTimerCount());
+    }
+
+    @Test
+    @DisplayName("cancelTimers reports only timers whose owner already stopped")
+    public void testCancelTimers() {
+        WrappedTask owned = stubGlobalTimer();
+        scheduler.own("hud", scheduler.runGlobalTimer(t -> { }, 1L, 1L));
+        WrappedTask effect = stubGlobalTimer();
+        scheduler.runGlobalTimer(t -> { }, 1L, 1L);
+        WrappedTask skipped = stubGlobalTimer();
+        scheduler.own("join-pipeline", scheduler.runGlobalTimer(t -> { }, 1L, 1L));
+
+        assertEquals(1, scheduler.cancelTimers(Set.of("hud")));
+
+        verify(owned).cancel();
+        verify(effect).cancel();
+        verify(skipped).cancel();
+        assertEquals(0, scheduler.getActiveTimerCount());
+        assertEquals(0, scheduler.cancelTimers(Set.of("hud")));
+    }
+}
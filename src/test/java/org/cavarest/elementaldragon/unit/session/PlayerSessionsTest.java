@@ -0,0 +1,188 @@
+package org.cavarest.elementaldragon.unit.session;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.session.PlayerSession;
+import org.cavarest.elementaldragon.session.PlayerSessions;
+import org.cavarest.elementaldragon.session.SessionKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PlayerSessions and PlayerSession.
+ */
+@DisplayName("PlayerSessions Tests")
+public class PlayerSessionsTest {
+
+    private static final SessionKey<String> NAME = SessionKey.of("test_name");
+    private static final List<String> CLOSED = new ArrayList<>();
+    private static final SessionKey<String> CLEANED = SessionKey.withCleanup("test_cleaned", CLOSED::add);
+
+    private PlayerSessions sessions;
+
+    @BeforeEach
+    public void setUp() {
+        sessions = new PlayerSessions();
+        CLOSED.clear();
+    }
+
+    @Test
+    @DisplayName("find does not open a session")
+    public void testFindDoesNotOpen() {
+        UUID playerId = UUID.randomUUID();
+
+        assertNull(sessions.find(playerId));
+        assertEquals(0, sessions.size());
+
+        PlayerSession session = sessions.session(playerId);
+        assertSame(session, sessions.find(playerId));
+        assertSame(session, sessions.session(playerId));
+        assertEquals(1, sessions.size());
+    }
+
+    @Test
+    @DisplayName("find with a key reads the player's value")
+    public void testFindValue() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        assertNull(sessions.find(player, NAME));
+        sessions.session(player).set(NAME, "Steve");
+
+        assertEquals("Steve", sessions.find(player, NAME));
+    }
+
+    @Test
+    @DisplayName("sessionIfOnline does not reopen a session for a player who quit")
+    public void testSessionIfOnline() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        assertNull(sessions.sessionIfOnline(player));
+        assertEquals(0, sessions.size());
+
+        when(player.isOnline()).thenReturn(true);
+        PlayerSession session = sessions.sessionIfOnline(player);
+        assertNotNull(session);
+        assertSame(session, sessions.find(player));
+
+        sessions.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+        when(player.isOnline()).thenReturn(false);
+
+        assertNull(sessions.sessionIfOnline(player));
+        assertNull(sessions.find(player));
+    }
+
+    @Test
+    @DisplayName("Closed slots are reused by the next session")
+    public void testSlotReuse() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        assertEquals(0, sessions.session(first).getSlot());
+        assertEquals(1, sessions.session(second).getSlot());
+
+        sessions.close(first);
+
+        assertEquals(0, sessions.session(UUID.randomUUID()).getSlot());
+        assertEquals(2, sessions.session(UUID.randomUUID()).getSlot());
+    }
+
+    @Test
+    @DisplayName("Slots grow past the initial capacity")
+    public void testManySessions() {
+        for (int i = 0; i < 200; i++) {
+            sessions.session(UUID.randomUUID()).set(NAME, "p" + i);
+        }
+
+        assertEquals(200, sessions.size());
+        assertEquals(200, sessions.values(NAME).size());
+    }
+
+    @Test
+    @DisplayName("Quit closes the session and runs cleanup")
+    public void testQuitRunsCleanup() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        PlayerSession session = sessions.session(player);
+        session.set(CLEANED, "task");
+        session.set(NAME, "Steve");
+
+        sessions.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+
+        assertTrue(session.isClosed());
+        assertNull(sessions.find(player));
+        assertNull(session.get(NAME));
+        assertEquals(List.of("task"), CLOSED);
+    }
+
+    @Test
+    @DisplayName("closeAll closes every session")
+    public void testCloseAll() {
+        sessions.session(UUID.randomUUID()).set(CLEANED, "a");
+        sessions.session(UUID.randomUUID()).set(CLEANED, "b");
+
+        sessions.closeAll();
+
+        assertEquals(0, sessions.size());
+        assertEquals(2, CLOSED.size());
+        List<PlayerSession> visited = new ArrayList<>();
+        sessions.forEach(visited::add);
+        assertTrue(visited.isEmpty());
+    }
+
+    @Test
+    @DisplayName("remove does not run cleanup")
+    public void testRemoveSkipsCleanup() {
+        PlayerSession session = sessions.session(UUID.randomUUID());
+        session.set(CLEANED, "task");
+
+        assertEquals("task", session.remove(CLEANED));
+        assertNull(session.get(CLEANED));
+        assertTrue(CLOSED.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Conditional remove only removes the expected value")
+    public void testConditionalRemove() {
+        PlayerSession session = sessions.session(UUID.randomUUID());
+        session.set(NAME, "new");
+
+        assertFalse(session.remove(NAME, "old"));
+        assertEquals("new", session.get(NAME));
+        assertTrue(session.remove(NAME, "new"));
+        assertNull(session.get(NAME));
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent creates once")
+    public void testComputeIfAbsent() {
+        PlayerSession session = sessions.session(UUID.randomUUID());
+
+        String first = session.computeIfAbsent(NAME, () -> "created");
+        String second = session.computeIfAbsent(NAME, () -> "other");
+
+        assertEquals("created", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("of() falls back to a private registry without a plugin")
+    public void testOfWithoutPlugin() {
+        ElementalDragon plugin = mock(ElementalDragon.class);
+
+        assertNotNull(PlayerSessions.of(null));
+        assertNotSame(PlayerSessions.of(plugin), PlayerSessions.of(plugin));
+
+        when(plugin.getPlayerSessions()).thenReturn(sessions);
+        assertSame(sessions, PlayerSessions.of(plugin));
+    }
+}
@@ -0,0 +1,113 @@
+package org.cavarest.elementaldragon.unit.tracking;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.cavarest.elementaldragon.ElementalDragon;
+import org.cavarest.elementaldragon.scheduler.TaskScheduler;
+import org.cavarest.elementaldragon.tracking.DragonEggTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DragonEggTracker presence caching.
+ */
+@DisplayName("DragonEggTracker Tests")
+public class DragonEggTrackerTest {
+
+    @Mock
+    private ElementalDragon plugin;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private Player player;
+
+    @Mock
+    private PlayerInventory inventory;
+
+    @Mock
+    private ItemStack offhand;
+
+    private DragonEggTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(plugin.getTaskScheduler()).thenReturn(taskScheduler);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        when(player.getInventory()).thenReturn(inventory);
+        when(inventory.getItemInOffHand()).thenReturn(offhand);
+        when(offhand.getType()).thenReturn(Material.AIR);
+        tracker = new DragonEggTracker(plugin);
+    }
+
+    @Test
+    @DisplayName("Null player has no egg")
+    public void testNullPlayer() {
+        assertFalse(tracker.hasDragonEgg(null));
+    }
+
+    @Test
+    @DisplayName("First read scans, later reads use the cached bit")
+    public void testCachedAfterFirstRead() {
+        when(inventory.contains(Material.DRAGON_EGG)).thenReturn(true);
+
+        assertTrue(tracker.hasDragonEgg(player));
+        assertTrue(tracker.hasDragonEgg(player));
+        assertTrue(tracker.hasDragonEgg(player));
+
+        verify(inventory, times(1)).contains(Material.DRAGON_EGG);
+    }
+
+    @Test
+    @DisplayName("Offhand egg counts as present")
+    public void testOffhandEgg() {
+        when(offhand.getType()).thenReturn(Material.DRAGON_EGG);
+
+        assertTrue(tracker.hasDragonEgg(player));
+    }
+
+    @Test
+    @DisplayName("Inventory change drops the bit and schedules a rescan next tick")
+    public void testInventoryChanged() {
+        when(inventory.contains(Material.DRAGON_EGG)).thenReturn(true);
+        assertTrue(tracker.hasDragonEgg(player));
+
+        when(inventory.contains(Material.DRAGON_EGG)).thenReturn(false);
+        tracker.inventoryChanged(player);
+
+        ArgumentCaptor<Runnable> rescan = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).runAtEntityLater(eq(player), rescan.capture(), eq(1L));
+        rescan.getValue().run();
+
+        assertFalse(tracker.hasDragonEgg(player));
+        verify(inventory, times(2)).contains(Material.DRAGON_EGG);
+    }
+
+    @Test
+    @DisplayName("Quit forgets the player")
+    public void testQuitForgets() {
+        when(inventory.contains(Material.DRAGON_EGG)).thenReturn(true);
+        assertTrue(tracker.hasDragonEgg(player));
+
+        tracker.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+        tracker.hasDragonEgg(player);
+
+        verify(inventory, times(2)).contains(Material.DRAGON_EGG);
+    }
+}
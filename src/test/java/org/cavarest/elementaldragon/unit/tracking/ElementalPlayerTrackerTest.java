@@ -88,6 +88,7 @@ public class ElementalPlayerTrackerTest {
     public void testGetPlayerStatusCreatesNew() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         PlayerElementalStatus status = tracker.getPlayerStatus(player);
@@ -101,6 +102,7 @@ public class ElementalPlayerTrackerTest {
     public void testGetPlayerStatusReturnsExisting() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         PlayerElementalStatus status1 = tracker.getPlayerStatus(player);
@@ -122,6 +124,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusUpdatesName() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         tracker.refreshPlayerStatus(player);
@@ -135,6 +138,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusBurningEquipped() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(FragmentType.BURNING);
@@ -153,6 +157,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusAgilityEquipped() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(FragmentType.AGILITY);
@@ -171,6 +176,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusImmortalEquipped() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(FragmentType.IMMORTAL);
@@ -189,6 +195,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusCorruptedEquipped() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(FragmentType.CORRUPTED);
@@ -207,6 +214,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusHasLightning() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(null);
@@ -227,6 +235,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusNoPowers() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(null);
@@ -247,6 +256,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusNullFragmentManager() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(plugin.getFragmentManager()).thenReturn(null);
@@ -265,6 +275,7 @@ public class ElementalPlayerTrackerTest {
     public void testRefreshPlayerStatusNullAbilityManager() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(plugin.getAbilityManager()).thenReturn(null);
@@ -293,8 +304,11 @@ public class ElementalPlayerTrackerTest {
         UUID uuid2 = UUID.randomUUID();
 
         when(player1.getUniqueId()).thenReturn(playerUuid);
+
+        when(player1.isOnline()).thenReturn(true);
         when(player1.getName()).thenReturn("Player1");
         when(player2.getUniqueId()).thenReturn(uuid2);
+        when(player2.isOnline()).thenReturn(true);
         when(player2.getName()).thenReturn("Player2");
 
         tracker.getPlayerStatus(player1);
@@ -309,6 +323,7 @@ public class ElementalPlayerTrackerTest {
     public void testGetAllPlayerStatusesReturnsCopy() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         tracker.getPlayerStatus(player);
@@ -342,6 +357,7 @@ public class ElementalPlayerTrackerTest {
     public void testGetElementCountsFire() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         when(fragmentManager.getEquippedFragment(player)).thenReturn(FragmentType.BURNING);
@@ -361,8 +377,11 @@ public class ElementalPlayerTrackerTest {
         UUID uuid2 = UUID.randomUUID();
 
         when(player1.getUniqueId()).thenReturn(playerUuid);
+
+        when(player1.isOnline()).thenReturn(true);
         when(player1.getName()).thenReturn("Player1");
         when(player2.getUniqueId()).thenReturn(uuid2);
+        when(player2.isOnline()).thenReturn(true);
         when(player2.getName()).thenReturn("Player2");
 
         // Player1 has fire and wind
@@ -486,8 +505,11 @@ public class ElementalPlayerTrackerTest {
         UUID uuid2 = UUID.randomUUID();
 
         when(player1.getUniqueId()).thenReturn(playerUuid);
+
+        when(player1.isOnline()).thenReturn(true);
         when(player1.getName()).thenReturn("Player1");
         when(player2.getUniqueId()).thenReturn(uuid2);
+        when(player2.isOnline()).thenReturn(true);
         when(player2.getName()).thenReturn("Player2");
 
         // Player1 has fire
@@ -512,6 +534,7 @@ public class ElementalPlayerTrackerTest {
     public void testPlayerStatusUpdates() {
         var player = mock(org.bukkit.entity.Player.class);
         when(player.getUniqueId()).thenReturn(playerUuid);
+        when(player.isOnline()).thenReturn(true);
         when(player.getName()).thenReturn(PLAYER_NAME);
 
         // Initially has fire
@@ -0,0 +1,93 @@
+package org.cavarest.elementaldragon.unit.visual;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.cavarest.elementaldragon.visual.ParticleFX;
+import org.cavarest.elementaldragon.visual.ParticleLod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for distance-based particle level of detail.
+ */
+@DisplayName("ParticleLod Tests")
+public class ParticleLodTest {
+
+    private World world;
+    private final List<Player> players = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        world = mock(World.class);
+        when(world.getNearbyPlayers(any(Location.class), anyDouble())).thenAnswer(inv -> players);
+    }
+
+    private void playerAt(double x, double y, double z) {
+        Player player = mock(Player.class);
+        when(player.getLocation()).thenReturn(new Location(world, x, y, z));
+        players.add(player);
+    }
+
+    @Test
+    @DisplayName("Distance bands map to levels")
+    public void testForDistance() {
+        assertEquals(ParticleLod.FULL, ParticleLod.forDistance(0.0));
+        assertEquals(ParticleLod.FULL, ParticleLod.forDistance(12.0));
+        assertEquals(ParticleLod.REDUCED, ParticleLod.forDistance(20.0));
+        assertEquals(ParticleLod.MINIMAL, ParticleLod.forDistance(30.0));
+        assertEquals(ParticleLod.NONE, ParticleLod.forDistance(40.0));
+    }
+
+    @Test
+    @DisplayName("The nearest player decides the level")
+    public void testAtNearestPlayer() {
+        Location effect = new Location(world, 0, 64, 0);
+        assertEquals(ParticleLod.NONE, ParticleLod.at(effect));
+
+        playerAt(28, 64, 0);
+        assertEquals(ParticleLod.MINIMAL, ParticleLod.at(effect));
+
+        playerAt(5, 64, 0);
+        assertEquals(ParticleLod.FULL, ParticleLod.at(effect));
+    }
+
+    @Test
+    @DisplayName("Counts scale down but never vanish for a visible level")
+    public void testScale() {
+        assertEquals(50, ParticleLod.FULL.scale(50));
+        assertEquals(25, ParticleLod.REDUCED.scale(50));
+        assertEquals(1, ParticleLod.MINIMAL.scale(2));
+        assertEquals(0, ParticleLod.NONE.scale(50));
+    }
+
+    @Test
+    @DisplayName("Lower levels spawn fewer lightning column particles")
+    public void testLightningColumnReduced() {
+        Location effect = new Location(world, 0, 64, 0);
+
+        ParticleFX.createPurpleLightningEffect(effect, ParticleLod.FULL);
+        int full = mockingDetails(world).getInvocations().size();
+        clearInvocations(world);
+
+        ParticleFX.createPurpleLightningEffect(effect, ParticleLod.MINIMAL);
+        int minimal = mockingDetails(world).getInvocations().size();
+        clearInvocations(world);
+
+        ParticleFX.createPurpleLightningEffect(effect, ParticleLod.NONE);
+        verify(world, never()).spawnParticle(any(Particle.class), any(Location.class), anyInt());
+        assertEquals(0, mockingDetails(world).getInvocations().size());
+
+        assertTrue(minimal > 0);
+        assertTrue(minimal * 5 < full, "minimal=" + minimal + " full=" + full);
+    }
+}